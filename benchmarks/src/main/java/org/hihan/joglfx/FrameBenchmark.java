@@ -0,0 +1,74 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The per-frame work of NGCanvasJOGL.renderContent (minus Prism) with the
+ * render paths of the demo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameBenchmark {
+
+    public enum Path {
+        DIRECT,
+        INDIRECT
+    }
+
+    @Param
+    public Strategy strategy;
+
+    @Param
+    public Path path;
+
+    private StubGL stub;
+
+    private GL gl;
+
+    private JOGL.State[] states;
+
+    private Consumer<GL> callback;
+
+    @Setup
+    public void setUp() {
+        stub = new StubGL();
+        gl = strategy.install(stub);
+        states = strategy.getStates(Main.RENDER_STATES);
+        Main main = new Main();
+        callback = path == Path.DIRECT ? main::directRender : main::indirectRender;
+        // The first frame creates the resources.
+        frame(new GLCalls());
+        ShaderRegistry.getDefault().finish(gl.getGL2ES2());
+    }
+
+    @TearDown
+    public void tearDown() {
+        Strategy.uninstall();
+    }
+
+    @Benchmark
+    public void frame(GLCalls calls) {
+        long callCount = stub.getCallCount();
+        JOGL.runGuarded(gl, callback, states);
+        JOGL.checkNoError(gl);
+        calls.add(stub.getCallCount() - callCount);
+    }
+}
@@ -0,0 +1,303 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Renders frames of scenes of a growing number of squares through the render
+ * paths of the demo and reports the frame times (warm-up excluded), the GL
+ * calls and the allocations per frame, as JSON and CSV. Unlike the JMH
+ * benchmarks, the frames are rendered by a real (headless) GL context by
+ * default, each frame being finished, in order to tell which path is the
+ * fastest for a given content.
+ * <p>
+ * Options (defaults between brackets):
+ * <pre>
+ * --frames N           measured frames per run [1000]
+ * --warmup N           frames rendered before measuring [200]
+ * --squares N,N...     scene sizes [1,100,10000,1000000]
+ * --paths P,P...       DIRECT, INDIRECT_RETAINED, INDIRECT_REDRAW [all]
+ * --size WxH           headless viewport [300x300]
+ * --stub               renders with the GL stub (CPU side only)
+ * --output PREFIX      writes PREFIX.json and PREFIX.csv [frame-times]
+ * </pre>
+ */
+public class FrameTimeRunner {
+
+    public enum Path {
+        /**
+         * Main.directRender: the content rendered at each frame.
+         */
+        DIRECT,
+        /**
+         * Main.indirectRender: the content rendered once into a framebuffer,
+         * then only copied.
+         */
+        INDIRECT_RETAINED,
+        /**
+         * Main.indirectRender: the content rendered into the framebuffer and
+         * copied at each frame.
+         */
+        INDIRECT_REDRAW
+    }
+
+    public static class Result {
+
+        private final Path path;
+
+        private final int squareCount;
+
+        private final long frameCount;
+
+        private final long p50;
+
+        private final long p95;
+
+        private final long p99;
+
+        private final long max;
+
+        private final long glCalls;
+
+        private final long allocatedBytes;
+
+        Result(Path path, int squareCount, LatencyHistogram frameTimes, long glCalls, long allocatedBytes) {
+            this.path = path;
+            this.squareCount = squareCount;
+            this.frameCount = frameTimes.getCount();
+            this.p50 = frameTimes.getPercentile(0.50);
+            this.p95 = frameTimes.getPercentile(0.95);
+            this.p99 = frameTimes.getPercentile(0.99);
+            this.max = frameTimes.getMax();
+            this.glCalls = glCalls;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        static String getCsvHeader() {
+            return "path,squares,frames,p50_ns,p95_ns,p99_ns,max_ns,gl_calls_per_frame,allocated_bytes_per_frame";
+        }
+
+        String toCsv() {
+            return String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%d,%d,%d,%d",
+                    path, squareCount, frameCount, p50, p95, p99, max, glCalls, allocatedBytes);
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"path\": \"%s\", \"squares\": %d, \"frames\": %d, "
+                    + "\"frameTimeNanos\": {\"p50\": %d, \"p95\": %d, \"p99\": %d, \"max\": %d}, "
+                    + "\"glCallsPerFrame\": %d, \"allocatedBytesPerFrame\": %d}",
+                    path, squareCount, frameCount, p50, p95, p99, max, glCalls, allocatedBytes);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-17s %8d squares: p50 %9.3f ms, p95 %9.3f ms, p99 %9.3f ms, %4d calls, %8d bytes",
+                    path, squareCount, p50 / 1e6, p95 / 1e6, p99 / 1e6, glCalls, allocatedBytes);
+        }
+    }
+
+    /*
+     * Where the frames are rendered.
+     */
+    private interface Target {
+
+        GL getGL();
+
+        void render(Consumer<GL> callback);
+
+        void dispose();
+    }
+
+    private static class HeadlessTarget implements Target {
+
+        private final HeadlessRenderer renderer;
+
+        HeadlessTarget(int width, int height) {
+            renderer = new HeadlessRenderer(width, height);
+        }
+
+        @Override
+        public GL getGL() {
+            return renderer.getGL();
+        }
+
+        @Override
+        public void render(Consumer<GL> callback) {
+            renderer.render(callback);
+            // The frame time includes the GPU work.
+            renderer.getGL().glFinish();
+        }
+
+        @Override
+        public void dispose() {
+            renderer.dispose();
+        }
+    }
+
+    private static class StubTarget implements Target {
+
+        private final GL gl;
+
+        StubTarget() {
+            gl = Strategy.ALL.install(new StubGL());
+        }
+
+        @Override
+        public GL getGL() {
+            return gl;
+        }
+
+        @Override
+        public void render(Consumer<GL> callback) {
+            callback.accept(gl);
+            ShaderRegistry.getDefault().finish(gl.getGL2ES2());
+            JOGL.checkNoError(gl);
+        }
+
+        @Override
+        public void dispose() {
+            Strategy.uninstall();
+        }
+    }
+
+    private int frameCount = 1000;
+
+    private int warmupCount = 200;
+
+    private int[] squareCounts = {1, 100, 10000, 1000000};
+
+    private Path[] paths = Path.values();
+
+    private int width = 300;
+
+    private int height = 300;
+
+    private boolean stub;
+
+    private String output = "frame-times";
+
+    public static void main(String[] args) throws FileNotFoundException {
+        FrameTimeRunner runner = new FrameTimeRunner();
+        runner.parse(args);
+        List<Result> results = runner.run(System.out);
+        runner.write(results);
+        System.out.println("Written " + runner.output + ".json and " + runner.output + ".csv");
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; ++i) {
+            String option = args[i];
+            if (option.equals("--stub")) {
+                stub = true;
+                continue;
+            }
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--frames":
+                    frameCount = Integer.parseInt(value);
+                    break;
+                case "--warmup":
+                    warmupCount = Integer.parseInt(value);
+                    break;
+                case "--squares":
+                    squareCounts = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--paths":
+                    paths = Arrays.stream(value.split(",")).map(Path::valueOf).toArray(Path[]::new);
+                    break;
+                case "--size":
+                    String[] size = value.split("x");
+                    width = Integer.parseInt(size[0]);
+                    height = Integer.parseInt(size[1]);
+                    break;
+                case "--output":
+                    output = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+    }
+
+    List<Result> run(PrintStream log) {
+        List<Result> results = new ArrayList<>();
+        Target target = stub ? new StubTarget() : new HeadlessTarget(width, height);
+        try {
+            for (int squareCount : squareCounts) {
+                for (Path path : paths) {
+                    Result result = run(target, path, squareCount);
+                    log.println(result);
+                    results.add(result);
+                }
+            }
+        } finally {
+            target.dispose();
+        }
+        return results;
+    }
+
+    private Result run(Target target, Path path, int squareCount) {
+        Main main = new Main();
+        main.setSquareCount(squareCount);
+        main.setFullRedraw(path == Path.INDIRECT_REDRAW);
+        Consumer<GL> callback = path == Path.DIRECT ? main::directRender : main::indirectRender;
+        Consumer<GL> frame = gl -> JOGL.runGuarded(gl, callback, Main.RENDER_STATES);
+
+        // Also creates the resources and compiles the programs.
+        for (int i = 0; i < warmupCount; ++i) {
+            target.render(frame);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        LatencyHistogram frameTimes = new LatencyHistogram();
+        long allocatedBytes = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < frameCount; ++i) {
+            long start = System.nanoTime();
+            target.render(frame);
+            frameTimes.record(System.nanoTime() - start);
+        }
+        allocatedBytes = threads.getThreadAllocatedBytes(threadId) - allocatedBytes;
+
+        // The calls are the same from a frame to the next: counted apart, not to slow down the measured ones.
+        InstrumentedGL instrumentedGL = new InstrumentedGL(target.getGL());
+        long[] counts = new long[GLStatistics.Counter.values().length];
+        target.render(gl -> frame.accept(instrumentedGL.getProxy()));
+        instrumentedGL.takeCounts(counts);
+
+        main.dispose(target.getGL());
+        GLResources.getDefault().poll(target.getGL());
+
+        return new Result(path, squareCount, frameTimes,
+                counts[GLStatistics.Counter.CALLS.ordinal()],
+                allocatedBytes / Math.max(1, frameCount));
+    }
+
+    private void write(List<Result> results) throws FileNotFoundException {
+        try (PrintStream json = new PrintStream(output + ".json")) {
+            json.println("[");
+            for (int i = 0; i < results.size(); ++i) {
+                json.print("  " + results.get(i).toJson());
+                json.println(i + 1 < results.size() ? "," : "");
+            }
+            json.println("]");
+        }
+        try (PrintStream csv = new PrintStream(output + ".csv")) {
+            csv.println(Result.getCsvHeader());
+            for (Result result : results) {
+                csv.println(result.toCsv());
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FramebufferBenchmark {
+
+    private StubGL stub;
+
+    private GL gl;
+
+    private Framebuffer framebuffer;
+
+    private FramebufferPool pool;
+
+    private Framebuffer pooledFramebuffer;
+
+    private int liveWidth = StubGL.WIDTH;
+
+    @Setup
+    public void setUp() {
+        stub = new StubGL();
+        gl = Strategy.ALL.install(stub);
+        framebuffer = new Framebuffer(gl, StubGL.WIDTH, StubGL.HEIGHT, false, false);
+        pool = new FramebufferPool(16L << 20);
+    }
+
+    @TearDown
+    public void tearDown() {
+        framebuffer.dispose(gl);
+        if (pooledFramebuffer != null) {
+            pool.release(gl, pooledFramebuffer);
+            pooledFramebuffer = null;
+        }
+        pool.clear(gl);
+        Strategy.uninstall();
+    }
+
+    @Benchmark
+    public void bind(GLCalls calls) {
+        long callCount = stub.getCallCount();
+        framebuffer.bind(gl).run();
+        calls.add(stub.getCallCount() - callCount);
+    }
+
+    @Benchmark
+    public void display(GLCalls calls) {
+        long callCount = stub.getCallCount();
+        framebuffer.display(gl);
+        calls.add(stub.getCallCount() - callCount);
+    }
+
+    /*
+     * A resize storm: the width grows by one pixel per frame.
+     */
+    @Benchmark
+    public void resize(GLCalls calls) {
+        long callCount = stub.getCallCount();
+        liveWidth = liveWidth < 2 * StubGL.WIDTH ? liveWidth + 1 : StubGL.WIDTH;
+        if (pooledFramebuffer != null) {
+            pool.release(gl, pooledFramebuffer);
+        }
+        pooledFramebuffer = pool.acquire(gl, liveWidth, StubGL.HEIGHT, false, false);
+        pooledFramebuffer.bind(gl, liveWidth, StubGL.HEIGHT).run();
+        calls.add(stub.getCallCount() - callCount);
+    }
+}
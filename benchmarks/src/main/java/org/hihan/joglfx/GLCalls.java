@@ -0,0 +1,31 @@
+package org.hihan.joglfx;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary JMH results: the GL calls reaching the stub and the number of
+ * frames rendered (GL calls per frame = glCalls / frames).
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class GLCalls {
+
+    public long glCalls;
+
+    public long frames;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        glCalls = 0;
+        frames = 0;
+    }
+
+    void add(long calls) {
+        glCalls += calls;
+        ++frames;
+    }
+}
@@ -0,0 +1,84 @@
+package org.hihan.joglfx;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of building an indexed mesh from the shuffled triangle soup of a
+ * regular grid (position and color per vertex), with and without the vertex
+ * cache optimization (whose resulting ACMR is checked by MeshBuilderTest).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MeshBuilderBenchmark {
+
+    private static final int VERTEX_SIZE = 5;
+
+    @Param({"200"})
+    public int size;
+
+    private float[] soup;
+
+    private int triangleCount;
+
+    @Setup
+    public void setUp() {
+        triangleCount = size * size * 2;
+        int[] cells = new int[size * size];
+        for (int i = 0; i < cells.length; ++i) {
+            cells[i] = i;
+        }
+        // Shuffled, a mesh exported without care having no particular order.
+        Random random = new Random(0);
+        for (int i = cells.length - 1; i > 0; --i) {
+            int j = random.nextInt(i + 1);
+            int cell = cells[i];
+            cells[i] = cells[j];
+            cells[j] = cell;
+        }
+
+        soup = new float[triangleCount * 3 * VERTEX_SIZE];
+        int offset = 0;
+        for (int cell : cells) {
+            int x = cell % size;
+            int y = cell / size;
+            int[][] corners = {{x, y}, {x + 1, y}, {x + 1, y + 1}, {x, y}, {x + 1, y + 1}, {x, y + 1}};
+            for (int[] corner : corners) {
+                soup[offset++] = corner[0] / (float) size;
+                soup[offset++] = corner[1] / (float) size;
+                soup[offset++] = corner[0] % 2;
+                soup[offset++] = corner[1] % 2;
+                soup[offset++] = 1;
+            }
+        }
+    }
+
+    @Benchmark
+    public MeshBuilder weld() {
+        MeshBuilder mesh = new MeshBuilder(VERTEX_SIZE);
+        mesh.addTriangles(soup, 0, triangleCount);
+        return mesh;
+    }
+
+    @Benchmark
+    public MeshBuilder weldAndOptimize() {
+        MeshBuilder mesh = weld();
+        mesh.optimize();
+        return mesh;
+    }
+}
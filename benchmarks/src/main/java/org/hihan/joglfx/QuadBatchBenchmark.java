@@ -0,0 +1,82 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The CPU cost of submitting a frame of quads: filling the batch from a float
+ * array, then uploading and drawing it (the stub ignoring the data).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuadBatchBenchmark {
+
+    @Param({"100000"})
+    public int count;
+
+    private StubGL stub;
+
+    private GL gl;
+
+    private QuadBatch batch;
+
+    private float[] quads;
+
+    @Setup
+    public void setUp() {
+        stub = new StubGL();
+        gl = Strategy.ALL.install(stub);
+        batch = new QuadBatch(gl.getGL3(), count);
+        ShaderRegistry.getDefault().finish(gl.getGL2ES2());
+
+        Random random = new Random(0);
+        quads = new float[count * QuadBatch.STRIDE];
+        for (int i = 0; i < quads.length; ++i) {
+            quads[i] = random.nextFloat();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        batch.dispose(gl.getGL3());
+        Strategy.uninstall();
+    }
+
+    @Benchmark
+    public void fillAndDisplay(GLCalls calls) {
+        long callCount = stub.getCallCount();
+        batch.clear();
+        batch.add(quads, 0, count);
+        batch.display(gl.getGL3());
+        calls.add(stub.getCallCount() - callCount);
+    }
+
+    @Benchmark
+    public void addOneByOneAndDisplay(GLCalls calls) {
+        long callCount = stub.getCallCount();
+        batch.clear();
+        float[] q = quads;
+        for (int i = 0; i < q.length; i += QuadBatch.STRIDE) {
+            batch.add(q[i], q[i + 1], q[i + 2], q[i + 3], q[i + 4], q[i + 5], q[i + 6], q[i + 7]);
+        }
+        batch.display(gl.getGL3());
+        calls.add(stub.getCallCount() - callCount);
+    }
+}
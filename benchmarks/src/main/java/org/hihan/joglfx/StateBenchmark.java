@@ -0,0 +1,62 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StateBenchmark {
+
+    private static final Consumer<GL> NOTHING = gl -> {
+    };
+
+    @Param
+    public Strategy strategy;
+
+    private StubGL stub;
+
+    private GL gl;
+
+    private JOGL.State[] states;
+
+    @Setup
+    public void setUp() {
+        stub = new StubGL();
+        gl = strategy.install(stub);
+        states = strategy.getStates(JOGL.PROGRAM, JOGL.BUFFERS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Strategy.uninstall();
+    }
+
+    @Benchmark
+    public void saveAndRestore(GLCalls calls) {
+        long callCount = stub.getCallCount();
+        JOGL.runGuarded(gl, NOTHING, states);
+        calls.add(stub.getCallCount() - callCount);
+    }
+
+    @Benchmark
+    public int getInt() {
+        return JOGL.getInt(gl, GL.GL_FRAMEBUFFER_BINDING);
+    }
+}
@@ -0,0 +1,51 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+
+/**
+ * The ways of saving / restoring the GL states around a callback.
+ */
+public enum Strategy {
+
+    /**
+     * All the states, queried from the GL.
+     */
+    ALL(false, false),
+    /**
+     * Only the states declared by the callback, queried from the GL.
+     */
+    MASKED(false, true),
+    /**
+     * All the states, through the shadow state (a context owned by the
+     * library, never invalidated).
+     */
+    SHADOW_ALL(true, false),
+    /**
+     * Only the declared states, through the shadow state.
+     */
+    SHADOW_MASKED(true, true);
+
+    private final boolean shadowState;
+
+    private final boolean masked;
+
+    Strategy(boolean shadowState, boolean masked) {
+        this.shadowState = shadowState;
+        this.masked = masked;
+    }
+
+    public GL install(StubGL stub) {
+        JOGL.attach(stub);
+        JOGL.setShadowStateEnabled(shadowState);
+        return JOGL.getGL();
+    }
+
+    public JOGL.State[] getStates(JOGL.State... touchedStates) {
+        return masked ? touchedStates : JOGL.getAllStates();
+    }
+
+    public static void uninstall() {
+        JOGL.setShadowStateEnabled(false);
+        JOGL.detach();
+    }
+}
@@ -0,0 +1,39 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Baseline: the cost of a single call to the stub (which allocates nothing),
+ * to be subtracted from the other results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StubBenchmark {
+
+    private GL gl;
+
+    @Setup
+    public void setUp() {
+        gl = new StubGL();
+    }
+
+    @Benchmark
+    public void call() {
+        gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, 1);
+    }
+}
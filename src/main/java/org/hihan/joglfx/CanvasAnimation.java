@@ -0,0 +1,92 @@
+package org.hihan.joglfx;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Paces the frames of an animated canvas on the JavaFX pulses: a frame is
+ * requested when due for the target frame rate and only once the previous
+ * one has been rendered. When the callback takes more than half of the frame
+ * interval (the other half being left to the rest of the UI), the frame rate
+ * is divided accordingly (frames skipped), then raised back step by step as
+ * the callback speeds up again.
+ */
+class CanvasAnimation extends AnimationTimer {
+
+    // The pulses are not exactly on time.
+    private static final long SLACK = 2_000_000L;
+
+    private static final int MAX_DIVISOR = 8;
+
+    private final CanvasJOGL canvas;
+
+    private final FrameClock clock;
+
+    private final long interval;
+
+    private int divisor = 1;
+
+    private long nextFrame = -1;
+
+    private long adaptedFrame;
+
+    CanvasAnimation(CanvasJOGL canvas, double targetFps, FrameClock.Mode mode) {
+        if (targetFps <= 0) {
+            throw new IllegalArgumentException("Invalid frame rate: " + targetFps);
+        }
+        this.canvas = canvas;
+        this.interval = Math.round(1e9 / targetFps);
+        this.clock = new FrameClock(mode, interval);
+    }
+
+    FrameClock getClock() {
+        return clock;
+    }
+
+    @Override
+    public void start() {
+        nextFrame = -1;
+        clock.pause();
+        super.start();
+    }
+
+    @Override
+    public void handle(long now) {
+        NGCanvasJOGL peer = canvas.impl_getPeer();
+        long frame = clock.getFrame();
+        if (frame > 0) {
+            // Not a frame of a previous animation of the canvas.
+            if (peer.getRenderedFrame() != frame) {
+                // The previous frame is still to be rendered.
+                return;
+            }
+            if (frame != adaptedFrame) {
+                adaptedFrame = frame;
+                adapt(peer.getCallbackNanos());
+            }
+        }
+
+        long frameInterval = interval * divisor;
+        if (nextFrame >= 0 && now < nextFrame - SLACK) {
+            return;
+        }
+        if (nextFrame < 0 || now - nextFrame > frameInterval) {
+            // Late: not to catch up with a burst of frames.
+            nextFrame = now + frameInterval;
+        } else {
+            nextFrame += frameInterval;
+        }
+
+        clock.advance(now);
+        canvas.requestAnimationFrame();
+    }
+
+    private void adapt(long callbackNanos) {
+        long budget = interval / 2;
+        int required = (int) Math.min(MAX_DIVISOR, (callbackNanos + budget - 1) / budget);
+        if (required > divisor) {
+            divisor = required;
+        } else if (required < divisor) {
+            --divisor;
+        }
+    }
+}
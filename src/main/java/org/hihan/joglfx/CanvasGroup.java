@@ -0,0 +1,90 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Canvases rendered together. Each canvas of a group is in retained mode (see
+ * {@link CanvasJOGL#setRetained(boolean)}) with its own framebuffer, viewport
+ * and dirty flag, but the first canvas of the group rendered in a pulse
+ * renders the invalidated content of all the others, the GL states touched
+ * by their callbacks being saved and restored once for all. The canvases then
+ * only copy their framebuffer.
+ * <p>
+ * The canvases all use the context of the Quantum renderer, their objects
+ * sharing the identical content through the {@link ShaderRegistry} and the
+ * {@link ResourceCache}.
+ */
+public class CanvasGroup {
+
+    // Owned by the Quantum renderer thread.
+    private final List<NGCanvasJOGL> canvases = new ArrayList<>();
+
+    private final List<NGCanvasJOGL> dirtyCanvases = new ArrayList<>();
+
+    private final Set<JOGL.State> states = new LinkedHashSet<>();
+
+    private final Consumer<GL> batchCallback = this::renderBatch;
+
+    public void add(CanvasJOGL canvas) {
+        canvas.setCanvasGroup(this);
+    }
+
+    public void remove(CanvasJOGL canvas) {
+        canvas.setCanvasGroup(null);
+    }
+
+    void attach(NGCanvasJOGL canvas) {
+        canvases.add(canvas);
+    }
+
+    void detach(NGCanvasJOGL canvas) {
+        canvases.remove(canvas);
+    }
+
+    /*
+     * Renders the content of the dirty canvases (the ones already sized by a
+     * first rendering) in a single guarded callback.
+     */
+    void renderDirtyCanvases(GL gl) {
+        for (NGCanvasJOGL canvas : canvases) {
+            if (canvas.isRetainedContentDirty()) {
+                dirtyCanvases.add(canvas);
+                states.addAll(Arrays.asList(canvas.getRetainedStates()));
+            }
+        }
+        if (dirtyCanvases.isEmpty()) {
+            return;
+        }
+        try {
+            JOGL.runGuarded(gl, batchCallback, states.toArray(new JOGL.State[states.size()]));
+        } finally {
+            dirtyCanvases.clear();
+            states.clear();
+        }
+    }
+
+    /*
+     * Each content being charged to its canvas, in its debug group, as if
+     * rendered by the canvas itself.
+     */
+    private void renderBatch(GL gl) {
+        GLErrorChecker errorChecker = GLErrorChecker.getDefault();
+        int previousCanvas = GLResources.getCurrentCanvas();
+        for (NGCanvasJOGL canvas : dirtyCanvases) {
+            GLResources.setCurrentCanvas(canvas.getId());
+            errorChecker.beginCallback(gl, canvas.getId(), canvas.getDebugGroupLabel());
+            try {
+                canvas.renderRetainedContent(gl);
+            } finally {
+                errorChecker.endCallback(gl);
+                GLResources.setCurrentCanvas(previousCanvas);
+            }
+        }
+    }
+}
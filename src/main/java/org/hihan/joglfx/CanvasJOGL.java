@@ -1,32 +1,266 @@
 package org.hihan.joglfx;
 
 import com.jogamp.opengl.GL;
-import com.sun.javafx.sg.prism.NGCanvas;
+import com.sun.javafx.scene.DirtyBits;
 import com.sun.javafx.sg.prism.NGNode;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 
+/**
+ * A canvas whose content is completed by a dirty callback issuing OpenGL
+ * calls. The canvas is only rendered again when requested (a mode changed, an
+ * invalidation, a new frame of the render thread or of the animation), an
+ * idle canvas costing nothing.
+ */
 public class CanvasJOGL extends Canvas {
 
+    // Owned by the JavaFX application thread.
+    private boolean repaintRequested;
+
+    private final AtomicBoolean repaintPending = new AtomicBoolean();
+
+    private CanvasAnimation animation;
+
+    private boolean animationStopped;
+
     public CanvasJOGL() {
+        sceneProperty().addListener((observable, oldScene, newScene) -> sceneChanged(newScene));
     }
 
     public CanvasJOGL(double width, double height) {
         super(width, height);
+        sceneProperty().addListener((observable, oldScene, newScene) -> sceneChanged(newScene));
     }
 
     @Override
     public void impl_updatePeer() {
         super.impl_updatePeer();
-        NGCanvas peer = impl_getPeer();
+        NGCanvasJOGL peer = impl_getPeer();
+        if (repaintRequested) {
+            repaintRequested = false;
+            peer.repaint();
+        }
+        if (animation != null) {
+            peer.setFrameClock(animation.getClock());
+        } else if (animationStopped) {
+            animationStopped = false;
+            peer.setFrameClock(null);
+        }
     }
 
     @Override
     protected NGNode impl_createPeer() {
-        return new NGCanvasJOGL();
+        NGCanvasJOGL peer = new NGCanvasJOGL();
+        peer.setRepaintListener(this::requestRepaintLater);
+        return peer;
     }
 
     public void setDirtyCallback(Consumer<GL> dirtyCallback) {
         ((NGCanvasJOGL) impl_getPeer()).setDirtyCallback(dirtyCallback);
+        requestRepaint();
+    }
+
+    /**
+     * Same as {@link #setDirtyCallback(Consumer)}, but only the given states
+     * (the ones touched by the callback, {@link JOGL#getAllStates()} if unknown)
+     * are saved and restored around it.
+     */
+    public void setDirtyCallback(Consumer<GL> dirtyCallback, JOGL.State... touchedStates) {
+        ((NGCanvasJOGL) impl_getPeer()).setDirtyCallback(dirtyCallback, touchedStates);
+        requestRepaint();
+    }
+
+    /**
+     * When enabled, the GL calls issued by the dirty callback are counted and
+     * the per-frame statistics published as the MBean
+     * 'org.hihan.joglfx:type=CanvasJOGL,id=...' (see {@link GLStatisticsMXBean}).
+     * The calls made by the canvas around the callback (states save / restore,
+     * retained framebuffer) are not counted, nor the ones of a threaded
+     * callback.
+     */
+    public void setInstrumentationEnabled(boolean enabled) {
+        ((NGCanvasJOGL) impl_getPeer()).setInstrumentationEnabled(enabled);
+    }
+
+    /**
+     * When enabled, the duration of the phases of each frame (CPU and GPU) is
+     * recorded in the histograms of the timer returned by
+     * {@link #getFrameTimer()}.
+     */
+    public void setTimingEnabled(boolean enabled) {
+        ((NGCanvasJOGL) impl_getPeer()).setTimingEnabled(enabled);
+    }
+
+    public FrameTimer getFrameTimer() {
+        return ((NGCanvasJOGL) impl_getPeer()).getFrameTimer();
+    }
+
+    /**
+     * In retained mode, the dirty callback renders into an offscreen buffer
+     * owned by the canvas and is only called again when the content has been
+     * invalidated (see {@link #invalidate()}) or the canvas resized. The other
+     * frames simply copy the buffer. The callback then gets this buffer bound
+     * with a matching viewport (and a depth buffer).
+     */
+    public void setRetained(boolean retained) {
+        ((NGCanvasJOGL) impl_getPeer()).setRetained(retained);
+        requestRepaint();
+    }
+
+    /**
+     * Records each frame rendered by the dirty callback (or every Nth one,
+     * depending on the recorder), whatever the mode, the copies of a retained
+     * or threaded content not being recorded again. The previous recorder, if
+     * any, is closed, as is the recorder when the canvas leaves its scene.
+     */
+    public void setFrameRecorder(FrameRecorder recorder) {
+        ((NGCanvasJOGL) impl_getPeer()).setFrameRecorder(recorder);
+    }
+
+    /**
+     * In threaded mode, the dirty callback is called by a dedicated thread
+     * (with its own GL context, sharing its objects with the JavaFX one) into
+     * an offscreen buffer with a matching viewport. As in retained mode, it is
+     * only called after an invalidation or a resize, the JavaFX frames simply
+     * copying the last completed buffer meanwhile. The callback must not rely
+     * on {@link JOGL#getGL()} nor on being called in the Quantum renderer
+     * thread.
+     */
+    public void setThreaded(boolean threaded) {
+        ((NGCanvasJOGL) impl_getPeer()).setThreaded(threaded);
+        requestRepaint();
+    }
+
+    /**
+     * Requests the dirty callback to be called again in retained or threaded
+     * mode. Can be called from any thread.
+     */
+    public void invalidate() {
+        ((NGCanvasJOGL) impl_getPeer()).invalidate();
+    }
+
+    /**
+     * Requests the dirty callback to be called again in retained mode (or in
+     * a group) for a region only: the rendering is scissored to the union of
+     * the regions invalidated since the last frame, given in pixels of the
+     * viewport with the origin at its top left corner. The callback can get
+     * this region as the GL_SCISSOR_BOX (when GL_SCISSOR_TEST is enabled) to
+     * skip what lies outside. Since Prism does not preserve the pixels of the
+     * canvas from a frame to the next, the copy to the screen stays complete.
+     * In threaded mode, the whole content is rendered again. Can be called
+     * from any thread.
+     */
+    public void invalidate(int x, int y, int width, int height) {
+        ((NGCanvasJOGL) impl_getPeer()).invalidate(x, y, width, height);
+    }
+
+    /**
+     * Makes this canvas part of the given group (or of none), in which it is
+     * rendered as in retained mode. Use {@link CanvasGroup#add(CanvasJOGL)}
+     * instead.
+     */
+    void setCanvasGroup(CanvasGroup group) {
+        ((NGCanvasJOGL) impl_getPeer()).setGroup(group);
+        requestRepaint();
+    }
+
+    /**
+     * Animates the canvas: while it is in a scene, a frame is rendered up to
+     * 'targetFps' times per second (a repaint being requested on the pulses
+     * where one is due), the dirty callback getting the time of the frame
+     * from {@link FrameClock#current()}. In retained mode (or in a group), the
+     * content is invalidated at each frame. When the callback takes more than
+     * half of the frame interval, frames are skipped to keep the UI
+     * responsive. To be called from the JavaFX application thread.
+     */
+    public void startAnimation(double targetFps, FrameClock.Mode mode) {
+        assert Platform.isFxApplicationThread();
+        CanvasAnimation newAnimation = new CanvasAnimation(this, targetFps, mode);
+        if (animation != null) {
+            animation.stop();
+        }
+        animation = newAnimation;
+        animationStopped = false;
+        updateAnimation();
+    }
+
+    public void stopAnimation() {
+        assert Platform.isFxApplicationThread();
+        if (animation != null) {
+            animation.stop();
+            animation = null;
+            animationStopped = true;
+            requestRepaint();
+        }
+    }
+
+    public boolean isAnimated() {
+        return animation != null;
+    }
+
+    /*
+     * Out of a scene, the canvas keeps no GL resource (its content being
+     * rendered again once back in a scene).
+     */
+    private void sceneChanged(Scene scene) {
+        updateAnimation();
+        if (scene == null) {
+            ((NGCanvasJOGL) impl_getPeer()).dispose();
+        }
+    }
+
+    /*
+     * The pulses are only requested while in a scene.
+     */
+    private void updateAnimation() {
+        if (animation != null) {
+            if (getScene() != null) {
+                animation.start();
+            } else {
+                animation.stop();
+            }
+        }
+    }
+
+    void requestAnimationFrame() {
+        ((NGCanvasJOGL) impl_getPeer()).invalidate();
+        requestRepaint();
+    }
+
+    /*
+     * The canvas will be rendered on the next pulse.
+     */
+    private void requestRepaint() {
+        repaintRequested = true;
+        impl_markDirty(DirtyBits.NODE_CONTENTS);
+    }
+
+    /*
+     * Same as requestRepaint(), from any thread.
+     */
+    private void requestRepaintLater() {
+        if (Platform.isFxApplicationThread()) {
+            requestRepaint();
+        } else if (repaintPending.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                repaintPending.set(false);
+                requestRepaint();
+            });
+        }
+    }
+
+    public int getCanvasId() {
+        return ((NGCanvasJOGL) impl_getPeer()).getId();
+    }
+
+    /**
+     * Returns an estimation of the video memory used by the GL objects
+     * created while rendering this canvas (see {@link GLResources}).
+     */
+    public long getVideoMemoryUsage() {
+        return GLResources.getDefault().getAllocatedBytes(getCanvasId());
     }
 }
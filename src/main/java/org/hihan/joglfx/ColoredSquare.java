@@ -1,24 +1,11 @@
 package org.hihan.joglfx;
 
-import static com.jogamp.opengl.GL.GL_ARRAY_BUFFER;
-import static com.jogamp.opengl.GL.GL_FALSE;
-import static com.jogamp.opengl.GL.GL_FLOAT;
 import static com.jogamp.opengl.GL.GL_NONE;
-import static com.jogamp.opengl.GL.GL_STATIC_DRAW;
-import static com.jogamp.opengl.GL.GL_TRIANGLES;
-import static com.jogamp.opengl.GL2ES2.GL_COMPILE_STATUS;
 import static com.jogamp.opengl.GL2ES2.GL_FRAGMENT_SHADER;
-import static com.jogamp.opengl.GL2ES2.GL_INFO_LOG_LENGTH;
-import static com.jogamp.opengl.GL2ES2.GL_LINK_STATUS;
 import static com.jogamp.opengl.GL2ES2.GL_VERTEX_SHADER;
-import static com.jogamp.opengl.GL2ES2.*;
 import com.jogamp.opengl.GL3;
-import static com.jogamp.opengl.GL3ES3.GL_GEOMETRY_SHADER;
-import com.jogamp.opengl.util.GLBuffers;
-import java.nio.ByteBuffer;
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class ColoredSquare {
 
@@ -35,9 +22,7 @@ public class ColoredSquare {
             "{",
             "   gl_Position = vec4(position, 0, 1);",
             "   outColor = color;",
-            "}")
-            .replaceAll("POSITION", String.valueOf(POSITION))
-            .replaceAll("COLOR", String.valueOf(COLOR));
+            "}");
 
     private final String fragmentShader = String.join("\n",
             "#version 330",
@@ -59,163 +44,48 @@ public class ColoredSquare {
         -R, +R, 1, 0, 1
     };
 
-    private int program;
+    // 8 bytes per vertex.
+    private static final VertexLayout VERTEX_LAYOUT = new VertexLayout()
+            .add(POSITION, 2, VertexLayout.Type.HALF_FLOAT)
+            .add(COLOR, 3, VertexLayout.Type.UNSIGNED_BYTE_NORMALIZED);
 
-    private int vbo;
+    private ShaderRegistry.Program program;
 
-    private int vao;
+    private Mesh mesh;
 
     public ColoredSquare(GL3 gl) {
         initializeProgram(gl);
-        initializeVertexBuffer(gl);
-        initializeVertexArrayObject(gl);
+        initializeMesh(gl);
     }
 
     private void initializeProgram(GL3 gl) {
-        ArrayList<Integer> shaderList = new ArrayList<>();
-
-        shaderList.add(createShader(gl, GL_VERTEX_SHADER, vertexShader));
-        shaderList.add(createShader(gl, GL_FRAGMENT_SHADER, fragmentShader));
-
-        program = createProgram(gl, shaderList);
-
-        shaderList.forEach(gl::glDeleteShader);
-    }
-
-    private int createShader(GL3 gl, int shaderType, String shaderFile) {
-        int newShader = gl.glCreateShader(shaderType);
-        String[] lines = {shaderFile};
-        IntBuffer length = newDirectIntBuffer(new int[]{lines[0].length()});
-        gl.glShaderSource(newShader, 1, lines, length);
-
-        gl.glCompileShader(newShader);
-
-        IntBuffer status = newDirectIntBuffer(1);
-        gl.glGetShaderiv(newShader, GL_COMPILE_STATUS, status);
-        if (status.get(0) == GL_FALSE) {
-
-            IntBuffer infoLogLength = newDirectIntBuffer(1);
-            gl.glGetShaderiv(newShader, GL_INFO_LOG_LENGTH, infoLogLength);
-
-            ByteBuffer bufferInfoLog = newDirectByteBuffer(infoLogLength.get(0));
-            gl.glGetShaderInfoLog(newShader, infoLogLength.get(0), null, bufferInfoLog);
-            byte[] bytes = new byte[infoLogLength.get(0)];
-            bufferInfoLog.get(bytes);
-            String infoLog = new String(bytes);
-
-            String shaderTypeName;
-            switch (shaderType) {
-                case GL_VERTEX_SHADER:
-                    shaderTypeName = "vertex";
-                    break;
-                case GL_GEOMETRY_SHADER:
-                    shaderTypeName = "geometry";
-                    break;
-                case GL_FRAGMENT_SHADER:
-                    shaderTypeName = "fragment";
-                    break;
-                default:
-                    shaderTypeName = "?";
-            }
-            throw new AssertionError("Compiler failure in " + shaderTypeName + " shader: " + infoLog);
-        }
-
-        return newShader;
-    }
-
-    private int createProgram(GL3 gl, ArrayList<Integer> shaders) {
-        int newProgram = gl.glCreateProgram();
-
-        shaders.forEach(shader -> gl.glAttachShader(newProgram, shader));
-
-        gl.glLinkProgram(newProgram);
-
-        IntBuffer status = newDirectIntBuffer(1);
-        gl.glGetProgramiv(newProgram, GL_LINK_STATUS, status);
-        if (status.get(0) == GL_FALSE) {
-
-            IntBuffer infoLogLength = newDirectIntBuffer(1);
-            gl.glGetProgramiv(newProgram, GL_INFO_LOG_LENGTH, infoLogLength);
-
-            ByteBuffer bufferInfoLog = newDirectByteBuffer(infoLogLength.get(0));
-            gl.glGetProgramInfoLog(newProgram, infoLogLength.get(0), null, bufferInfoLog);
-            byte[] bytes = new byte[infoLogLength.get(0)];
-            bufferInfoLog.get(bytes);
-            String infoLog = new String(bytes);
-
-            throw new AssertionError("Linker failure: " + infoLog);
-        }
-
-        shaders.forEach(shader -> gl.glDetachShader(newProgram, shader));
-
-        return newProgram;
+        Map<Integer, String> sources = new LinkedHashMap<>();
+        sources.put(GL_VERTEX_SHADER, vertexShader);
+        sources.put(GL_FRAGMENT_SHADER, fragmentShader);
+        Map<String, String> defines = new LinkedHashMap<>();
+        defines.put("POSITION", String.valueOf(POSITION));
+        defines.put("COLOR", String.valueOf(COLOR));
+        program = ShaderRegistry.getDefault().acquire(gl, sources, defines);
     }
 
-    private void initializeVertexBuffer(GL3 gl) {
-        FloatBuffer vertexBuffer = newDirectFloatBuffer(VERTEX_DATA);
-
-        vbo = JOGL.create(vbos -> gl.glGenBuffers(1, vbos));
-
-        gl.glBindBuffer(GL_ARRAY_BUFFER, vbo);
-        {
-            gl.glBufferData(GL_ARRAY_BUFFER, vertexBuffer.capacity() * Float.BYTES, vertexBuffer, GL_STATIC_DRAW);
-        }
-        gl.glBindBuffer(GL_ARRAY_BUFFER, GL_NONE);
-    }
-
-    private void initializeVertexArrayObject(GL3 gl) {
-        vao = JOGL.create(vaos -> gl.glGenVertexArrays(1, vaos));
-
-        gl.glBindVertexArray(vao);
-        {
-            gl.glBindBuffer(GL_ARRAY_BUFFER, vbo);
-            {
-                gl.glEnableVertexAttribArray(POSITION);
-                gl.glVertexAttribPointer(POSITION, 2, GL_FLOAT, false, 5 * 4, 0);
-
-                gl.glEnableVertexAttribArray(COLOR);
-                gl.glVertexAttribPointer(COLOR, 3, GL_FLOAT, false, 5 * 4, 2 * 4);
-            }
-            gl.glBindBuffer(GL_ARRAY_BUFFER, GL_NONE);
-        }
-        gl.glBindVertexArray(GL_NONE);
+    private void initializeMesh(GL3 gl) {
+        MeshBuilder builder = new MeshBuilder(5);
+        builder.addTriangles(VERTEX_DATA, 0, VERTEX_DATA.length / (3 * 5));
+        builder.optimize();
+        // Uploaded once for all the squares.
+        mesh = Mesh.acquire(gl, VERTEX_LAYOUT, builder);
     }
 
     public void display(GL3 gl) {
-        gl.glUseProgram(program);
+        gl.glUseProgram(program.getName());
         {
-            gl.glBindVertexArray(vao);
-            {
-                gl.glDrawArrays(GL_TRIANGLES, 0, 6);
-            }
-            gl.glBindVertexArray(GL_NONE);
+            mesh.display(gl);
         }
         gl.glUseProgram(GL_NONE);
     }
 
     public void dispose(GL3 gl) {
-        gl.glDeleteProgram(program);
-    }
-
-    private static IntBuffer newDirectIntBuffer(int size) {
-        return (IntBuffer) GLBuffers.newDirectGLBuffer(GL_INT, size);
-    }
-
-    private static IntBuffer newDirectIntBuffer(int[] ints) {
-        IntBuffer buffer = (IntBuffer) GLBuffers.newDirectGLBuffer(GL_INT, ints.length);
-        buffer.put(ints);
-        buffer.rewind();
-        return buffer;
-    }
-
-    private static FloatBuffer newDirectFloatBuffer(float[] floats) {
-        FloatBuffer buffer = (FloatBuffer) GLBuffers.newDirectGLBuffer(GL_FLOAT, floats.length);
-        buffer.put(floats);
-        buffer.rewind();
-        return buffer;
-    }
-
-    private static ByteBuffer newDirectByteBuffer(int size) {
-        return (ByteBuffer) GLBuffers.newDirectGLBuffer(GL_BYTE, size);
+        ShaderRegistry.getDefault().release(gl, program);
+        mesh.release(gl);
     }
 }
@@ -0,0 +1,172 @@
+package org.hihan.joglfx;
+
+/**
+ * The time of the frames of an animated canvas (see
+ * {@link CanvasJOGL#startAnimation(double, FrameClock.Mode)}), advanced by
+ * the JavaFX application thread each time a frame is due, then handed over to
+ * the renderer thread where the dirty callback reads it through
+ * {@link #current()}.
+ * <p>
+ * With a variable timestep, each frame advances the time by the duration
+ * elapsed since the previous one. With a fixed timestep, the time advances by
+ * whole steps (the target frame interval), the callback being expected to run
+ * {@link #getStepCount()} steps of its simulation (possibly none), then to
+ * interpolate the state by {@link #getAlpha()} of a step. In both cases, the
+ * time elapsed is capped, not to simulate a pause or a long stall.
+ * <p>
+ * A frame may be rendered more than once (Prism rendering a canvas once per
+ * dirty region), {@link #getFrame()} telling them apart.
+ */
+public class FrameClock {
+
+    public enum Mode {
+        VARIABLE,
+        FIXED
+    }
+
+    private static final long MAX_ELAPSED = 250_000_000L;
+
+    // Thread-confined, as the timer of FrameTimer.current().
+    private static final ThreadLocal<FrameClock> CURRENT = new ThreadLocal<>();
+
+    private Mode mode;
+
+    private long step;
+
+    private long lastTimestamp = -1;
+
+    private long frame;
+
+    private long time;
+
+    private long delta;
+
+    private int stepCount;
+
+    private long accumulator;
+
+    private long skippedFrames;
+
+    public FrameClock(Mode mode, long stepNanos) {
+        if (stepNanos <= 0) {
+            throw new IllegalArgumentException("Invalid step: " + stepNanos);
+        }
+        this.mode = mode;
+        this.step = stepNanos;
+    }
+
+    /**
+     * Returns the clock of the canvas being rendered by the calling thread, if
+     * animated (and not in threaded mode).
+     */
+    public static FrameClock current() {
+        return CURRENT.get();
+    }
+
+    static void setCurrent(FrameClock clock) {
+        CURRENT.set(clock);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the number of the frame, starting at 1.
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    /**
+     * Returns the animation time in seconds.
+     */
+    public double getTime() {
+        return time / 1e9;
+    }
+
+    /**
+     * Returns the time elapsed since the previous frame in seconds (a whole
+     * number of steps with a fixed timestep).
+     */
+    public double getDeltaTime() {
+        return delta / 1e9;
+    }
+
+    /**
+     * Returns the fixed step in seconds.
+     */
+    public double getStep() {
+        return step / 1e9;
+    }
+
+    /**
+     * Returns the number of fixed steps to simulate for this frame (1 with a
+     * variable timestep).
+     */
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Returns the fraction of a step elapsed after the last one simulated, in
+     * [0, 1) (0 with a variable timestep).
+     */
+    public double getAlpha() {
+        return mode == Mode.FIXED ? (double) accumulator / step : 0;
+    }
+
+    /**
+     * Returns the number of target frames skipped so far, by the frame rate
+     * back-off or because the application thread was late.
+     */
+    public long getSkippedFrames() {
+        return skippedFrames;
+    }
+
+    /*
+     * Starts a new frame at the given timestamp (in nanoseconds, as given to
+     * an AnimationTimer).
+     */
+    void advance(long now) {
+        long elapsed = lastTimestamp < 0 ? 0 : Math.min(now - lastTimestamp, MAX_ELAPSED);
+        if (lastTimestamp >= 0) {
+            long missed = Math.round((double) elapsed / step) - 1;
+            if (missed > 0) {
+                skippedFrames += missed;
+            }
+        }
+        lastTimestamp = now;
+        ++frame;
+        if (mode == Mode.FIXED) {
+            accumulator += elapsed;
+            stepCount = (int) (accumulator / step);
+            accumulator -= stepCount * step;
+            delta = stepCount * step;
+        } else {
+            stepCount = 1;
+            delta = elapsed;
+        }
+        time += delta;
+    }
+
+    /*
+     * The time elapsed until the next frame is not to be simulated (the
+     * animation being paused).
+     */
+    void pause() {
+        lastTimestamp = -1;
+    }
+
+    void set(FrameClock clock) {
+        mode = clock.mode;
+        step = clock.step;
+        lastTimestamp = clock.lastTimestamp;
+        frame = clock.frame;
+        time = clock.time;
+        delta = clock.delta;
+        stepCount = clock.stepCount;
+        accumulator = clock.accumulator;
+        skippedFrames = clock.skippedFrames;
+    }
+}
@@ -0,0 +1,196 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Records the content of a framebuffer, every frame or every Nth one, into a
+ * preallocated memory mapped file. The pixels are read asynchronously (see
+ * {@link PixelReadback}) and copied straight into the mapping, leaving the
+ * writing to the disk to the system.
+ * <p>
+ * The file (big endian) starts with a header:
+ * <pre>
+ * int magic ('JFXR'), int version, int width, int height,
+ * int capacity, int interval, int frame count, int reserved
+ * </pre>
+ * followed by an index of 'capacity' entries:
+ * <pre>
+ * long timestamp (System.nanoTime()), int width, int height
+ * </pre>
+ * then, aligned on a page, 'capacity' slots of width x height x 4 bytes, each
+ * holding the top to bottom RGBA rows of a frame. A frame can be smaller than
+ * the recording dimensions (its rows are then packed at its actual width, as
+ * given by the index), a larger one being cropped.
+ */
+public class FrameRecorder {
+
+    public static final int MAGIC = 0x4A465852;
+
+    public static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 32;
+
+    private static final int INDEX_ENTRY_SIZE = 16;
+
+    private static final int PAGE_SIZE = 4096;
+
+    // Kept under the 2 GB limit of a single mapping.
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    private final int width;
+
+    private final int height;
+
+    private final int capacity;
+
+    private final int interval;
+
+    private final RandomAccessFile file;
+
+    private final MappedByteBuffer header;
+
+    private final MappedByteBuffer[] chunks;
+
+    private final int slotsPerChunk;
+
+    private final PixelReadback readback = new PixelReadback();
+
+    private long calls;
+
+    private int capturedFrames;
+
+    private int recordedFrames;
+
+    /**
+     * Creates a recording of at most 'capacity' frames, one every 'interval'
+     * calls to {@link #capture(GL, Framebuffer, int, int)}.
+     */
+    public FrameRecorder(File path, int width, int height, int capacity, int interval) throws IOException {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Invalid interval: " + interval);
+        }
+        this.width = width;
+        this.height = height;
+        this.capacity = capacity;
+        this.interval = interval;
+
+        long slotSize = getSlotSize();
+        slotsPerChunk = (int) Math.max(1, MAX_CHUNK_SIZE / slotSize);
+        int chunkCount = (capacity + slotsPerChunk - 1) / slotsPerChunk;
+        long dataOffset = getDataOffset();
+
+        file = new RandomAccessFile(path, "rw");
+        try {
+            file.setLength(dataOffset + slotSize * capacity);
+            FileChannel channel = file.getChannel();
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, dataOffset);
+            chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; ++i) {
+                int slots = Math.min(slotsPerChunk, capacity - i * slotsPerChunk);
+                chunks[i] = channel.map(
+                        FileChannel.MapMode.READ_WRITE,
+                        dataOffset + i * slotsPerChunk * slotSize,
+                        slots * slotSize);
+            }
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(8, width);
+        header.putInt(12, height);
+        header.putInt(16, capacity);
+        header.putInt(20, interval);
+        header.putInt(24, 0);
+    }
+
+    public int getRecordedFrameCount() {
+        return recordedFrames;
+    }
+
+    public boolean isFull() {
+        return capturedFrames >= capacity;
+    }
+
+    /**
+     * Captures the lower left (liveWidth x liveHeight) part of the framebuffer
+     * if this call is one of every 'interval' ones. Returns false once the
+     * recording is full. The previous captures done by the GPU are written by
+     * the same occasion.
+     */
+    public boolean capture(GL gl, Framebuffer framebuffer, int liveWidth, int liveHeight) {
+        return capture(gl, framebuffer.getFramebufferObject(), 0, 0, liveWidth, liveHeight);
+    }
+
+    /**
+     * Same as {@link #capture(GL, Framebuffer, int, int)}, for the (liveWidth
+     * x liveHeight) part of the color attachment of a framebuffer object whose
+     * lower left corner is at (x, y).
+     */
+    public boolean capture(GL gl, int fbo, int x, int y, int liveWidth, int liveHeight) {
+        readback.poll(gl);
+        if (isFull()) {
+            return false;
+        }
+        if (calls++ % interval != 0) {
+            return true;
+        }
+
+        int frame = capturedFrames++;
+        int frameWidth = Math.min(liveWidth, width);
+        int frameHeight = Math.min(liveHeight, height);
+        int slotSize = (int) getSlotSize();
+
+        MappedByteBuffer chunk = chunks[frame / slotsPerChunk];
+        int offset = (frame % slotsPerChunk) * slotSize;
+        ByteBuffer slot = chunk.duplicate();
+        slot.position(offset);
+
+        int indexOffset = HEADER_SIZE + frame * INDEX_ENTRY_SIZE;
+        header.putLong(indexOffset, System.nanoTime());
+        header.putInt(indexOffset + 8, frameWidth);
+        header.putInt(indexOffset + 12, frameHeight);
+
+        readback.read(gl, fbo, x, y, frameWidth, frameHeight, slot)
+                .thenRun(() -> {
+                    // Completed in order, in the calling thread.
+                    recordedFrames = frame + 1;
+                    header.putInt(24, recordedFrames);
+                });
+        return true;
+    }
+
+    /**
+     * Waits for the pending captures and closes the file.
+     */
+    public void close(GL gl) {
+        readback.dispose(gl);
+        header.force();
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long getSlotSize() {
+        return (long) width * height * 4;
+    }
+
+    private long getDataOffset() {
+        long size = HEADER_SIZE + (long) capacity * INDEX_ENTRY_SIZE;
+        return (size + PAGE_SIZE - 1) / PAGE_SIZE * PAGE_SIZE;
+    }
+}
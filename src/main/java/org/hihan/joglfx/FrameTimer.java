@@ -0,0 +1,171 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import java.util.Arrays;
+
+/**
+ * The duration of the phases of a canvas frame. The CPU phases are measured
+ * with System.nanoTime(), the GPU ones with timestamp queries read back a few
+ * frames later, so as to never wait for the GPU. When the GL has no timer
+ * queries, only the CPU phases are measured.
+ * <p>
+ * The histograms can be read from any thread, everything else is for the
+ * renderer thread only.
+ */
+public class FrameTimer {
+
+    public enum Phase {
+
+        CANVAS(false),
+        SAVE(false),
+        CALLBACK(false),
+        RESTORE(false),
+        CHECK_ERROR(false),
+        GPU_CALLBACK(true),
+        GPU_DISPLAY(true);
+
+        private final boolean gpu;
+
+        Phase(boolean gpu) {
+            this.gpu = gpu;
+        }
+
+        public boolean isGpu() {
+            return gpu;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final int FIRST_GPU_PHASE = Phase.GPU_CALLBACK.ordinal();
+
+    private static final int GPU_PHASE_COUNT = PHASES.length - FIRST_GPU_PHASE;
+
+    /*
+     * Number of frames a query pair is given to complete before being reused.
+     */
+    private static final int LATENCY = 4;
+
+    // Thread-confined: only the thread rendering the canvas sees its timer.
+    private static final ThreadLocal<FrameTimer> CURRENT = new ThreadLocal<>();
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+
+    private boolean initialized;
+
+    private boolean gpuTimingAvailable;
+
+    // (begin, end) query pairs per GPU phase and slot.
+    private int[] queries;
+
+    private final boolean[] pending = new boolean[GPU_PHASE_COUNT * LATENCY];
+
+    // The frame at which each GPU phase was last begun / ended.
+    private final long[] begun = new long[GPU_PHASE_COUNT];
+
+    private final long[] ended = new long[GPU_PHASE_COUNT];
+
+    private final int[] available = new int[1];
+
+    private final long[] timestamps = new long[2];
+
+    private long frame = 1;
+
+    public FrameTimer() {
+        for (int i = 0; i < histograms.length; ++i) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Returns the timer of the canvas being rendered by the calling thread, if
+     * any.
+     */
+    public static FrameTimer current() {
+        return CURRENT.get();
+    }
+
+    static void setCurrent(FrameTimer timer) {
+        CURRENT.set(timer);
+    }
+
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public boolean isGpuTimingAvailable() {
+        return gpuTimingAvailable;
+    }
+
+    public void record(Phase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    public void beginFrame(GL gl) {
+        if (!initialized) {
+            initialized = true;
+            gpuTimingAvailable = gl.isFunctionAvailable("glQueryCounter");
+            if (gpuTimingAvailable) {
+                queries = new int[GPU_PHASE_COUNT * LATENCY * 2];
+                gl.getGL2ES2().glGenQueries(queries.length, queries, 0);
+            }
+        }
+        if (gpuTimingAvailable) {
+            collect(gl.getGL2ES2());
+        }
+    }
+
+    public void endFrame() {
+        ++frame;
+    }
+
+    public void beginGpu(GL gl, Phase phase) {
+        int p = phase.ordinal() - FIRST_GPU_PHASE;
+        if (gpuTimingAvailable && begun[p] != frame) {
+            begun[p] = frame;
+            int slot = p * LATENCY + (int) (frame % LATENCY);
+            // Not completed in time: dropped rather than waited for.
+            pending[slot] = false;
+            gl.getGL2ES2().glQueryCounter(queries[slot * 2], GL2ES2.GL_TIMESTAMP);
+        }
+    }
+
+    public void endGpu(GL gl, Phase phase) {
+        int p = phase.ordinal() - FIRST_GPU_PHASE;
+        if (gpuTimingAvailable && begun[p] == frame && ended[p] != frame) {
+            ended[p] = frame;
+            int slot = p * LATENCY + (int) (frame % LATENCY);
+            gl.getGL2ES2().glQueryCounter(queries[slot * 2 + 1], GL2ES2.GL_TIMESTAMP);
+            pending[slot] = true;
+        }
+    }
+
+    private void collect(GL2ES2 gl) {
+        for (int slot = 0; slot < pending.length; ++slot) {
+            if (pending[slot]) {
+                gl.glGetQueryObjectiv(queries[slot * 2 + 1], GL2ES2.GL_QUERY_RESULT_AVAILABLE, available, 0);
+                if (available[0] != GL.GL_FALSE) {
+                    gl.glGetQueryObjectui64v(queries[slot * 2], GL2ES2.GL_QUERY_RESULT, timestamps, 0);
+                    gl.glGetQueryObjectui64v(queries[slot * 2 + 1], GL2ES2.GL_QUERY_RESULT, timestamps, 1);
+                    histograms[FIRST_GPU_PHASE + slot / LATENCY].record(timestamps[1] - timestamps[0]);
+                    pending[slot] = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the queries, created again by the next frame if the timer is
+     * still used.
+     */
+    public void dispose(GL gl) {
+        if (queries != null) {
+            gl.getGL2ES2().glDeleteQueries(queries.length, queries, 0);
+            queries = null;
+        }
+        Arrays.fill(pending, false);
+        gpuTimingAvailable = false;
+        initialized = false;
+    }
+}
@@ -2,10 +2,13 @@ package org.hihan.joglfx;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.util.texture.Texture;
 import com.jogamp.opengl.util.texture.TextureIO;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import static org.hihan.joglfx.JOGL.getInt;
 
 public class Framebuffer {
@@ -14,6 +17,8 @@ public class Framebuffer {
 
     private final int height;
 
+    private final boolean alphaChannel;
+
     private Texture colorTexture;
 
     private final int fboTarget;
@@ -22,19 +27,65 @@ public class Framebuffer {
 
     private int rbo;
 
+    private PixelReadback readback;
+
+    // One per nesting level, reused by the later bindings at the same level.
+    private Restore[] restores = new Restore[1];
+
+    private int bindingDepth;
+
+    /*
+     * Restores the framebuffer bound before a bind(), the nested bindings
+     * having to be undone in the reverse order.
+     */
+    private final class Restore implements Runnable {
+
+        private final int depth;
+
+        private GL gl;
+
+        private int previousFbo;
+
+        Restore(int depth) {
+            this.depth = depth;
+        }
+
+        @Override
+        public void run() {
+            if (bindingDepth != depth + 1) {
+                throw new IllegalStateException("Not the innermost binding of the framebuffer " + fbo);
+            }
+            gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, previousFbo);
+            gl = null;
+            --bindingDepth;
+            RenderEvents.framebuffer("restore", fbo, previousFbo, getWidth(), getHeight());
+        }
+    }
+
     public Framebuffer(GL gl, int width, int height, boolean alphaChannel, boolean depthBuffer) {
+        RenderEvents.FramebufferEvent event = RenderEvents.beginFramebuffer();
         fboTarget = GL.GL_FRAMEBUFFER; // GL.GL_DRAW_FRAMEBUFFER
 
         this.width = width;
         this.height = height;
+        this.alphaChannel = alphaChannel;
 
         int oldFbo = getInt(gl, GL.GL_FRAMEBUFFER_BINDING);
-        fbo = JOGL.create(fbos -> gl.glGenFramebuffers(1, fbos));
+        fbo = JOGL.create(gl, GLResources.Type.FRAMEBUFFER, this);
         gl.glBindFramebuffer(fboTarget, fbo);
 
+        // Restored at the end, the texture states being left untouched.
+        int oldTexture = getInt(gl, GL.GL_TEXTURE_BINDING_2D);
+        boolean oldTextureEnabled = !gl.isGLcore() && JOGL.getBool(gl, GL.GL_TEXTURE_2D);
         colorTexture = TextureIO.newTexture(GL.GL_TEXTURE_2D);
         colorTexture.bind(gl);
-        colorTexture.enable(gl);
+        if (!gl.isGLcore()) {
+            // GL_TEXTURE_2D is not a capability in a core profile (headless).
+            colorTexture.enable(gl);
+        }
+        GLResources resources = GLResources.getDefault();
+        resources.register(gl, GLResources.Type.TEXTURE, colorTexture.getTextureObject(), this);
+        resources.setSize(gl, GLResources.Type.TEXTURE, colorTexture.getTextureObject(), (long) width * height * 4);
 
         gl.glTexImage2D(
                 GL.GL_TEXTURE_2D,
@@ -51,7 +102,10 @@ public class Framebuffer {
         colorTexture.setTexParameterf(gl, GL.GL_TEXTURE_WRAP_S, GL.GL_CLAMP_TO_EDGE);
         colorTexture.setTexParameterf(gl, GL.GL_TEXTURE_WRAP_T, GL.GL_CLAMP_TO_EDGE);
 
-        gl.glBindTexture(GL.GL_TEXTURE_2D, GL.GL_NONE);
+        gl.glBindTexture(GL.GL_TEXTURE_2D, oldTexture);
+        if (!gl.isGLcore() && !oldTextureEnabled) {
+            gl.glDisable(GL.GL_TEXTURE_2D);
+        }
 
         gl.glFramebufferTexture2D(
                 fboTarget,
@@ -61,7 +115,8 @@ public class Framebuffer {
                 0);
 
         if (depthBuffer) {
-            rbo = JOGL.create(rbos -> gl.glGenRenderbuffers(1, rbos));
+            rbo = JOGL.create(gl, GLResources.Type.RENDERBUFFER, this);
+            resources.setSize(gl, GLResources.Type.RENDERBUFFER, rbo, (long) width * height * 4);
             gl.glBindRenderbuffer(GL.GL_RENDERBUFFER, rbo);
             gl.glRenderbufferStorage(GL.GL_RENDERBUFFER, GL2.GL_DEPTH_COMPONENT, width, height);
             gl.glBindRenderbuffer(GL.GL_RENDERBUFFER, GL.GL_NONE);
@@ -79,15 +134,24 @@ public class Framebuffer {
         }
 
         gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, oldFbo);
-        System.out.format("Created framebuffer: %d (%d x %d)\n", fbo, width, height);
+        RenderEvents.endFramebuffer(event, "create", fbo, oldFbo, width, height);
     }
 
     public void dispose(GL gl) {
         if (fbo != GL.GL_NONE) {
-            JOGL.using(fbo, fbos -> gl.glDeleteFramebuffers(1, fbos));
+            if (readback != null) {
+                readback.dispose(gl);
+                readback = null;
+            }
+            JOGL.delete(gl, GLResources.Type.FRAMEBUFFER, fbo);
             fbo = GL.GL_NONE;
+            GLResources.getDefault().unregister(gl, GLResources.Type.TEXTURE, colorTexture.getTextureObject());
             colorTexture.destroy(gl);
             colorTexture = null;
+            if (rbo != GL.GL_NONE) {
+                JOGL.delete(gl, GLResources.Type.RENDERBUFFER, rbo);
+                rbo = GL.GL_NONE;
+            }
         } else {
             throw new IllegalStateException();
         }
@@ -101,35 +165,111 @@ public class Framebuffer {
         return height;
     }
 
+    public boolean hasAlphaChannel() {
+        return alphaChannel;
+    }
+
+    public boolean hasDepthBuffer() {
+        return rbo != GL.GL_NONE;
+    }
+
+    /**
+     * Returns an estimation of the video memory used (4 bytes per pixel and
+     * per attachment, whatever the actual internal format).
+     */
+    public long getSizeInBytes() {
+        return (long) width * height * (hasDepthBuffer() ? 8 : 4);
+    }
+
     public Runnable bind(GL gl) {
+        return bind(gl, width, height);
+    }
+
+    /**
+     * Same as {@link #bind(GL)}, but the viewport only covers the lower left
+     * (liveWidth x liveHeight) part of the framebuffer.
+     * <p>
+     * The returned Runnable restores the previous binding, once, the nested
+     * bindings being restored from the innermost one. It is reused by a later
+     * binding at the same nesting level and must not be kept after its run.
+     */
+    public Runnable bind(GL gl, int liveWidth, int liveHeight) {
         if (fbo != GL.GL_NONE) {
-            int oldFbo = getInt(gl, GL.GL_FRAMEBUFFER_BINDING);
+            pollReadback(gl);
+            if (bindingDepth == restores.length) {
+                restores = Arrays.copyOf(restores, bindingDepth * 2);
+            }
+            Restore restore = restores[bindingDepth];
+            if (restore == null) {
+                restore = new Restore(bindingDepth);
+                restores[bindingDepth] = restore;
+            }
+            restore.gl = gl;
+            restore.previousFbo = getInt(gl, GL.GL_FRAMEBUFFER_BINDING);
+            ++bindingDepth;
 
             gl.glBindFramebuffer(fboTarget, fbo);
-            gl.glViewport(0, 0, width, height);
+            gl.glViewport(0, 0, liveWidth, liveHeight);
+            RenderEvents.framebuffer("bind", fbo, restore.previousFbo, liveWidth, liveHeight);
 
-            return () -> {
-                System.out.format("Restoring framebuffer: %d -> %d\n", fbo, oldFbo);
-                gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, oldFbo);
-            };
+            return restore;
         } else {
             throw new IllegalStateException();
         }
     }
 
     public void display(GL glAll) {
+        display(glAll, 0, 0);
+    }
+
+    /**
+     * Copies the content into the current draw framebuffer, its lower left
+     * corner at (x, y).
+     */
+    public void display(GL glAll, int x, int y) {
+        display(glAll, x, y, width, height);
+    }
+
+    /**
+     * Copies the lower left (liveWidth x liveHeight) part of the content into
+     * the current draw framebuffer, its lower left corner at (x, y).
+     */
+    public void display(GL glAll, int x, int y, int liveWidth, int liveHeight) {
+        displayRegion(glAll, x, y, 0, 0, liveWidth, liveHeight);
+    }
+
+    /**
+     * Copies a region of the content (its origin at the lower left corner)
+     * into the current draw framebuffer, at the same place relative to (x, y),
+     * the rest of the destination being left untouched.
+     */
+    public void displayRegion(GL glAll, int x, int y, int regionX, int regionY, int regionWidth, int regionHeight) {
         if (fbo != GL.GL_NONE) {
-            GL2 gl = glAll.getGL2();
+            RenderEvents.FramebufferEvent event = RenderEvents.beginFramebuffer();
+            pollReadback(glAll);
+            GL2ES3 gl = glAll.getGL2ES3();
+            FrameTimer timer = FrameTimer.current();
+            if (timer != null) {
+                timer.beginGpu(gl, FrameTimer.Phase.GPU_DISPLAY);
+            }
             gl.glBindFramebuffer(GL.GL_READ_FRAMEBUFFER, fbo);
             gl.glBlitFramebuffer(
-                    0, 0, width, height,
-                    0, 0, width, height,
+                    regionX, regionY, regionX + regionWidth, regionY + regionHeight,
+                    x + regionX, y + regionY, x + regionX + regionWidth, y + regionY + regionHeight,
                     GL.GL_COLOR_BUFFER_BIT, GL.GL_NEAREST);
+            if (timer != null) {
+                timer.endGpu(gl, FrameTimer.Phase.GPU_DISPLAY);
+            }
+            RenderEvents.endFramebuffer(event, "blit", fbo, GL.GL_NONE, regionWidth, regionHeight);
         } else {
             throw new IllegalStateException();
         }
     }
 
+    public int getFramebufferObject() {
+        return fbo;
+    }
+
     public int getColorTextureObject() {
         return colorTexture.getTextureObject();
     }
@@ -137,4 +277,35 @@ public class Framebuffer {
     public void dumpToFile(File file) throws IOException {
         TextureIO.write(colorTexture, file);
     }
+
+    /**
+     * Asynchronous version of {@link #dumpToFile(File)}: the pixels are read
+     * without stalling, the returned future being completed once they have
+     * been written in background. The read is completed by a later bind() or
+     * display() (or an explicit {@link #pollReadback(GL)}).
+     */
+    public CompletableFuture<File> snapshot(GL gl, File file, PixelReadback.Format format) {
+        return snapshot(gl, width, height, file, format);
+    }
+
+    /**
+     * Same as {@link #snapshot(GL, File, PixelReadback.Format)} for the lower
+     * left (liveWidth x liveHeight) part only.
+     */
+    public CompletableFuture<File> snapshot(GL gl, int liveWidth, int liveHeight, File file, PixelReadback.Format format) {
+        if (fbo != GL.GL_NONE) {
+            if (readback == null) {
+                readback = new PixelReadback();
+            }
+            return readback.snapshot(gl, fbo, liveWidth, liveHeight, file, format);
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+
+    public void pollReadback(GL gl) {
+        if (readback != null && readback.isPending()) {
+            readback.poll(gl);
+        }
+    }
 }
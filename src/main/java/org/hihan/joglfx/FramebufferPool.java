@@ -0,0 +1,162 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pool of framebuffers whose dimensions are rounded up to a multiple of
+ * {@link #SIZE_CLASS} pixels, so that a resized canvas keeps using the same
+ * framebuffer most of the time (rendering into and copying back its live
+ * part only). Released framebuffers are kept for reuse and the least recently
+ * released ones disposed when the total exceeds the memory budget (or when
+ * evicted for the video memory budget of {@link GLResources}).
+ * <p>
+ * Not thread safe: a pool is to be used with a single GL context, from its
+ * thread.
+ */
+public class FramebufferPool {
+
+    public static final int SIZE_CLASS = 64;
+
+    private static final long DEFAULT_BUDGET = Long.getLong("joglfx.framebufferPoolBudget", 64L << 20);
+
+    private static FramebufferPool defaultPool;
+
+    private long budget;
+
+    private long allocatedBytes;
+
+    private final List<Framebuffer> acquired = new ArrayList<>();
+
+    // The least recently released first.
+    private final ArrayDeque<Framebuffer> released = new ArrayDeque<>();
+
+    // Created once per framebuffer, not on each release.
+    private final Map<Framebuffer, GLResources.Evictable> evictables = new IdentityHashMap<>();
+
+    public FramebufferPool(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the pool used by the canvases for the Quantum renderer context,
+     * its budget being given by the 'joglfx.framebufferPoolBudget' system
+     * property (64 MB by default).
+     */
+    public static FramebufferPool getDefault() {
+        assert JOGL.isInQuatumRendererThread();
+        if (defaultPool == null) {
+            defaultPool = new FramebufferPool(DEFAULT_BUDGET);
+        }
+        return defaultPool;
+    }
+
+    /*
+     * Replaces the default instance (created again on demand when null),
+     * so that the tests do not share it.
+     */
+    static void setDefault(FramebufferPool pool) {
+        defaultPool = pool;
+    }
+
+    /**
+     * The budget of the default pool, also given to the pools of the other
+     * contexts.
+     */
+    public static long getDefaultBudget() {
+        return DEFAULT_BUDGET;
+    }
+
+    public static int getSizeClass(int size) {
+        return Math.max(1, (size + SIZE_CLASS - 1) / SIZE_CLASS) * SIZE_CLASS;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    public void setBudget(GL gl, long budget) {
+        this.budget = budget;
+        evict(gl);
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns a framebuffer at least as large as requested, bound by the
+     * caller with its live size.
+     */
+    public Framebuffer acquire(GL gl, int width, int height, boolean alphaChannel, boolean depthBuffer) {
+        int classWidth = getSizeClass(width);
+        int classHeight = getSizeClass(height);
+
+        Framebuffer framebuffer = null;
+        Iterator<Framebuffer> i = released.descendingIterator();
+        while (i.hasNext()) {
+            Framebuffer candidate = i.next();
+            if (candidate.getWidth() == classWidth
+                    && candidate.getHeight() == classHeight
+                    && candidate.hasAlphaChannel() == alphaChannel
+                    && candidate.hasDepthBuffer() == depthBuffer) {
+                i.remove();
+                GLResources.getDefault().setEvictable(gl, GLResources.Type.FRAMEBUFFER, candidate.getFramebufferObject(), null);
+                framebuffer = candidate;
+                break;
+            }
+        }
+
+        if (framebuffer == null) {
+            framebuffer = new Framebuffer(gl, classWidth, classHeight, alphaChannel, depthBuffer);
+            allocatedBytes += framebuffer.getSizeInBytes();
+        }
+        acquired.add(framebuffer);
+        evict(gl);
+        return framebuffer;
+    }
+
+    public void release(GL gl, Framebuffer framebuffer) {
+        if (!acquired.remove(framebuffer)) {
+            throw new IllegalArgumentException("Not acquired from this pool");
+        }
+        released.addLast(framebuffer);
+        // Also evictable when the whole video memory is over budget.
+        GLResources.Evictable evictable = evictables.get(framebuffer);
+        if (evictable == null) {
+            evictable = evictingGl -> {
+                released.removeLastOccurrence(framebuffer);
+                dispose(evictingGl, framebuffer);
+            };
+            evictables.put(framebuffer, evictable);
+        }
+        GLResources.getDefault().setEvictable(gl, GLResources.Type.FRAMEBUFFER, framebuffer.getFramebufferObject(), evictable);
+        evict(gl);
+    }
+
+    /**
+     * Disposes the released framebuffers.
+     */
+    public void clear(GL gl) {
+        while (!released.isEmpty()) {
+            dispose(gl, released.removeFirst());
+        }
+    }
+
+    private void evict(GL gl) {
+        while (allocatedBytes > budget && !released.isEmpty()) {
+            dispose(gl, released.removeFirst());
+        }
+    }
+
+    private void dispose(GL gl, Framebuffer framebuffer) {
+        allocatedBytes -= framebuffer.getSizeInBytes();
+        evictables.remove(framebuffer);
+        framebuffer.dispose(gl);
+    }
+}
@@ -0,0 +1,314 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDebugListener;
+import com.jogamp.opengl.GLDebugMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Checks the GL errors of the canvas callbacks, in one of three modes:
+ * <ul>
+ * <li>SYNC: glGetError() after each callback, an AssertionError being thrown
+ * on error. As glGetError() waits for the commands queued with some drivers,
+ * this is for the debug builds.</li>
+ * <li>SAMPLED: glGetError() every Nth frame of each context only, the errors
+ * (the first one since the last check of the context, whatever the canvas)
+ * being reported instead of thrown.</li>
+ * <li>DEBUG_OUTPUT: the driver pushes its messages (GL_KHR_debug, through
+ * JOGL's ARB / AMD debug output handler) into a lock-free queue, drained and
+ * reported by a daemon thread, the rendering never waiting. Each callback is
+ * labelled by a debug group ("JOGL-FX canvas N"), which attributes the
+ * messages to the canvases. The debug output requires a context created with
+ * the debug flag: the ones of the {@link HeadlessRenderer} and of the
+ * {@link RenderThread} are, Prism's one is not, the checks falling back to
+ * SAMPLED for it.</li>
+ * </ul>
+ * The mode is given by the 'joglfx.errorCheck' system property (sync,
+ * sampled or debug), SYNC with assertions enabled and SAMPLED otherwise by
+ * default, the interval of the samples by 'joglfx.errorCheckInterval' (60
+ * frames by default). The errors are reported on the standard error and as
+ * {@link RenderEvents} (GLError).
+ */
+public class GLErrorChecker {
+
+    public enum Mode {
+        SYNC,
+        SAMPLED,
+        DEBUG_OUTPUT
+    }
+
+    private static final String GROUP_PREFIX = "JOGL-FX canvas ";
+
+    private static GLErrorChecker defaultChecker;
+
+    /*
+     * What a context supports, looked up once, and its frames checked so far
+     * (by the thread the context is current on).
+     */
+    private static class ContextState {
+
+        private final String name;
+
+        private boolean debugOutput;
+
+        private boolean debugGroups;
+
+        private long checkCount;
+
+        ContextState(GLContext context) {
+            name = context != null ? String.format("0x%08X", System.identityHashCode(context)) : "none";
+        }
+    }
+
+    private volatile Mode mode;
+
+    private volatile int sampleInterval;
+
+    private volatile boolean debugGroupsEnabled = Boolean.getBoolean("joglfx.debugGroups");
+
+    private final AtomicLong errorCount = new AtomicLong();
+
+    private final Map<GLContext, ContextState> contextStates = new WeakHashMap<>();
+
+    private final ConcurrentLinkedQueue<GLDebugMessage> messages = new ConcurrentLinkedQueue<>();
+
+    private final GLDebugListener debugListener = this::messageSent;
+
+    private volatile Thread drainer;
+
+    // Owned by the drainer thread: the debug groups open per context.
+    private final Map<GLContext, Deque<GLDebugMessage>> groups = new WeakHashMap<>();
+
+    public GLErrorChecker(Mode mode, int sampleInterval) {
+        this.mode = mode;
+        this.sampleInterval = sampleInterval;
+    }
+
+    public static synchronized GLErrorChecker getDefault() {
+        if (defaultChecker == null) {
+            defaultChecker = new GLErrorChecker(getDefaultMode(), Integer.getInteger("joglfx.errorCheckInterval", 60));
+        }
+        return defaultChecker;
+    }
+
+    private static Mode getDefaultMode() {
+        String mode = System.getProperty("joglfx.errorCheck");
+        if (mode == null) {
+            boolean assertionsEnabled = false;
+            assert assertionsEnabled = true;
+            return assertionsEnabled ? Mode.SYNC : Mode.SAMPLED;
+        }
+        switch (mode) {
+            case "sync":
+                return Mode.SYNC;
+            case "sampled":
+                return Mode.SAMPLED;
+            case "debug":
+                return Mode.DEBUG_OUTPUT;
+            default:
+                throw new IllegalArgumentException("Unknown error check mode: " + mode);
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the mode, the contexts created from now on being the only ones
+     * with a debug output.
+     */
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    public void setSampleInterval(int sampleInterval) {
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("Invalid interval: " + sampleInterval);
+        }
+        this.sampleInterval = sampleInterval;
+    }
+
+    /**
+     * When enabled, the callbacks are labelled by debug groups whatever the
+     * mode, for the capture tools (RenderDoc, apitrace...). Can also be
+     * enabled at startup with '-Djoglfx.debugGroups=true'.
+     */
+    public void setDebugGroupsEnabled(boolean enabled) {
+        debugGroupsEnabled = enabled;
+    }
+
+    /**
+     * Returns the number of errors reported so far (the SYNC ones excepted,
+     * being thrown).
+     */
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    /**
+     * To be called before creating a context: requests the debug flag in the
+     * DEBUG_OUTPUT mode.
+     */
+    public void prepareContext(GLContext context) {
+        if (mode == Mode.DEBUG_OUTPUT) {
+            context.enableGLDebugMessage(true);
+        }
+    }
+
+    /**
+     * Returns the label of the debug group of a canvas, to be given to
+     * {@link #beginCallback}.
+     */
+    public static byte[] getGroupLabel(int canvasId) {
+        return (GROUP_PREFIX + canvasId).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Opens the debug group of the canvas callback, if any (the group being
+     * closed by {@link #endCallback(GL)}).
+     */
+    public void beginCallback(GL gl, int canvasId, byte[] groupLabel) {
+        ContextState state = getContextState(gl);
+        if (state.debugGroups && (state.debugOutput || debugGroupsEnabled)) {
+            gl.getGL2ES2().glPushDebugGroup(GL2ES2.GL_DEBUG_SOURCE_APPLICATION, canvasId, groupLabel.length, groupLabel, 0);
+        }
+    }
+
+    public void endCallback(GL gl) {
+        ContextState state = getContextState(gl);
+        if (state.debugGroups && (state.debugOutput || debugGroupsEnabled)) {
+            gl.getGL2ES2().glPopDebugGroup();
+        }
+    }
+
+    /**
+     * Checks the errors of the frame, according to the mode. The sampled
+     * errors are reported for the context, the canvas having raised them
+     * being unknown.
+     */
+    public void check(GL gl) {
+        Mode currentMode = mode;
+        if (currentMode == Mode.SYNC) {
+            JOGL.checkNoError(gl);
+            return;
+        }
+        ContextState state = getContextState(gl);
+        if (currentMode == Mode.DEBUG_OUTPUT && state.debugOutput) {
+            return;
+        }
+        int interval = sampleInterval;
+        if (++state.checkCount % interval == 0) {
+            int error = gl.glGetError();
+            if (error != GL.GL_NO_ERROR) {
+                // Possibly raised by any canvas rendered in the context since the last check.
+                report(0, error, String.format("glGetError: 0x%X (context %s, within the last %d frames)", error, state.name, interval));
+            }
+        }
+    }
+
+    private synchronized ContextState getContextState(GL gl) {
+        GLContext context = gl.getContext();
+        ContextState state = contextStates.get(context);
+        if (state == null) {
+            state = new ContextState(context);
+            if (context != null) {
+                state.debugGroups = gl.isFunctionAvailable("glPushDebugGroup");
+                if (mode == Mode.DEBUG_OUTPUT) {
+                    state.debugOutput = installDebugOutput(context);
+                }
+            }
+            contextStates.put(context, state);
+        }
+        return state;
+    }
+
+    private boolean installDebugOutput(GLContext context) {
+        if (!context.isGLDebugMessageEnabled()) {
+            System.err.println("No debug output for " + context.getGLVersion() + ", glGetError sampled instead");
+            return false;
+        }
+        // The notifications are not reported, but the debug groups are tracked.
+        context.glDebugMessageControl(GL.GL_DONT_CARE, GL.GL_DONT_CARE, GL2ES2.GL_DEBUG_SEVERITY_NOTIFICATION, 0, null, 0, false);
+        context.glDebugMessageControl(GL.GL_DONT_CARE, GL2ES2.GL_DEBUG_TYPE_PUSH_GROUP, GL.GL_DONT_CARE, 0, null, 0, true);
+        context.glDebugMessageControl(GL.GL_DONT_CARE, GL2ES2.GL_DEBUG_TYPE_POP_GROUP, GL.GL_DONT_CARE, 0, null, 0, true);
+        context.addGLDebugListener(debugListener);
+        if (drainer == null) {
+            drainer = new Thread(this::drain, "JOGL Debug Output");
+            drainer.setDaemon(true);
+            drainer.start();
+        }
+        return true;
+    }
+
+    /*
+     * Called by the driver, from any thread.
+     */
+    private void messageSent(GLDebugMessage message) {
+        messages.offer(message);
+        LockSupport.unpark(drainer);
+    }
+
+    private void drain() {
+        while (true) {
+            GLDebugMessage message;
+            while ((message = messages.poll()) != null) {
+                process(message);
+            }
+            LockSupport.park(this);
+        }
+    }
+
+    private void process(GLDebugMessage message) {
+        Deque<GLDebugMessage> openGroups = groups.computeIfAbsent(message.getSource(), context -> new ArrayDeque<>());
+        int type = message.getDbgType();
+        if (type == GL2ES2.GL_DEBUG_TYPE_PUSH_GROUP) {
+            openGroups.push(message);
+        } else if (type == GL2ES2.GL_DEBUG_TYPE_POP_GROUP) {
+            openGroups.poll();
+        } else if (type == GL2ES2.GL_DEBUG_TYPE_ERROR
+                || message.getDbgSeverity() == GL2ES2.GL_DEBUG_SEVERITY_HIGH
+                || message.getDbgSeverity() == GL2ES2.GL_DEBUG_SEVERITY_MEDIUM) {
+            report(getCanvasId(openGroups), message.getDbgId(), message.toString());
+        }
+    }
+
+    /*
+     * The canvas of the innermost group of ours, the callbacks possibly
+     * opening their own ones.
+     */
+    private static int getCanvasId(Deque<GLDebugMessage> openGroups) {
+        for (GLDebugMessage group : openGroups) {
+            if (group.getDbgSource() == GL2ES2.GL_DEBUG_SOURCE_APPLICATION && group.getDbgMsg().startsWith(GROUP_PREFIX)) {
+                return group.getDbgId();
+            }
+        }
+        return 0;
+    }
+
+    /*
+     * The canvas being 0 when unknown.
+     */
+    private void report(int canvasId, int error, String message) {
+        errorCount.incrementAndGet();
+        if (canvasId != 0) {
+            System.err.format("OpenGL error in canvas %d: %s\n", canvasId, message);
+        } else {
+            System.err.format("OpenGL error: %s\n", message);
+        }
+        RenderEvents.glError(canvasId, error, message);
+    }
+}
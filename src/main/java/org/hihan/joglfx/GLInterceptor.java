@@ -0,0 +1,103 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GL3;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GL4;
+import com.jogamp.opengl.GL4ES3;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for the GL wrappers: a dynamic proxy implementing the GL
+ * interfaces of the wrapped implementation and forwarding to it whatever the
+ * subclass doesn't intercept. The getGLxxx() accessors return the proxy itself
+ * so that a wrapped GL stays wrapped when the client code casts it.
+ * <p>
+ * The compatibility profile interfaces (GL2, GL4bc...) have too many methods
+ * for a proxy class, so only the programmable pipeline ones are implemented:
+ * getGL2() and the like return the unwrapped implementation.
+ */
+public abstract class GLInterceptor implements InvocationHandler {
+
+    private static final Class<?>[] INTERFACES = {
+        GL4.class,
+        GL4ES3.class,
+        GL3.class,
+        GL3ES3.class,
+        GL2GL3.class,
+        GL2ES3.class,
+        GL2ES2.class,
+        GL.class
+    };
+
+    private final GL delegate;
+
+    private final GL proxy;
+
+    protected GLInterceptor(GL delegate) {
+        this.delegate = delegate;
+        this.proxy = (GL) Proxy.newProxyInstance(
+                GL.class.getClassLoader(),
+                getInterfaces(delegate),
+                this);
+    }
+
+    public GL getDelegate() {
+        return delegate;
+    }
+
+    public GL getProxy() {
+        return proxy;
+    }
+
+    @Override
+    public final Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            switch (name) {
+                case "equals":
+                    return target == args[0];
+                case "hashCode":
+                    return System.identityHashCode(target);
+                case "toString":
+                    return getClass().getSimpleName() + "[" + delegate + "]";
+                default:
+                    return forward(method, args);
+            }
+        } else if (name.startsWith("getGL")
+                && method.getParameterCount() == 0
+                && method.getReturnType().isInstance(proxy)) {
+            return proxy;
+        } else {
+            return intercept(method, name, args);
+        }
+    }
+
+    protected abstract Object intercept(Method method, String name, Object[] args) throws Throwable;
+
+    protected final Object forward(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Class<?>[] getInterfaces(GL delegate) {
+        List<Class<?>> interfaces = new ArrayList<>();
+        for (Class<?> candidate : INTERFACES) {
+            if (candidate.isInstance(delegate)) {
+                interfaces.add(candidate);
+            }
+        }
+        return interfaces.toArray(new Class<?>[interfaces.size()]);
+    }
+}
@@ -0,0 +1,470 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLContext;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * The registry of the GL objects created through
+ * {@link JOGL#create(GL, Type, Object)}, or registered afterwards when created
+ * by someone else (a JOGL texture for instance). Each object is recorded with
+ * its size in bytes (set by its creator, see {@link #setSize}), the canvas
+ * being rendered when it was created and its owner, the Java object
+ * responsible for deleting it.
+ * <p>
+ * Three things are done with these records:
+ * <ul>
+ * <li>the video memory used is reported per canvas (approximately, the driver
+ * overhead being unknown);</li>
+ * <li>the objects of an owner garbage collected before deleting them are
+ * reported as leaks (and deleted on the next {@link #poll(GL)} if made with
+ * the same context);</li>
+ * <li>objects flagged as evictable (released ones kept by a cache) are
+ * evicted in least recently used order while the total exceeds the budget,
+ * given by the 'joglfx.videoMemoryBudget' system property (unlimited by
+ * default).</li>
+ * </ul>
+ * Framebuffers and vertex arrays being per context, the objects are
+ * identified by their type, name and namespace: the context for these ones,
+ * the master of its share group for the others.
+ */
+public class GLResources {
+
+    public enum Type {
+        BUFFER,
+        TEXTURE,
+        RENDERBUFFER,
+        FRAMEBUFFER,
+        VERTEX_ARRAY,
+        PROGRAM;
+
+        boolean isShared() {
+            return this != FRAMEBUFFER && this != VERTEX_ARRAY;
+        }
+    }
+
+    /**
+     * Deletes an evictable object, through {@link #delete(GL, Type, int)} (or
+     * by disposing its owner, typically removing it from its cache).
+     */
+    public interface Evictable {
+
+        void evict(GL gl);
+    }
+
+    private static final long DEFAULT_BUDGET = Long.getLong("joglfx.videoMemoryBudget", Long.MAX_VALUE);
+
+    // Not boxed on each frame.
+    private static final ThreadLocal<int[]> CURRENT_CANVAS = ThreadLocal.withInitial(() -> new int[1]);
+
+    // The objects deleted by a poll, outside of the lock.
+    private static final ThreadLocal<List<Resource>> DELETED = ThreadLocal.withInitial(ArrayList::new);
+
+    private static GLResources defaultResources;
+
+    private static final class Key {
+
+        // Only changed for the lookup key.
+        private Object namespace;
+
+        private Type type;
+
+        private int name;
+
+        Key(Object namespace, Type type, int name) {
+            set(namespace, type, name);
+        }
+
+        Key set(Object namespace, Type type, int name) {
+            this.namespace = namespace;
+            this.type = type;
+            this.name = name;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return namespace == key.namespace && type == key.type && name == key.name;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(namespace) * 31 + type.hashCode()) * 31 + name;
+        }
+
+        @Override
+        public String toString() {
+            return type + " " + name;
+        }
+    }
+
+    private static final class Resource {
+
+        private final Key key;
+
+        private final int canvas;
+
+        private final Owner owner;
+
+        private long size;
+
+        private Evictable evictable;
+
+        Resource(Key key, int canvas, Owner owner) {
+            this.key = key;
+            this.canvas = canvas;
+            this.owner = owner;
+        }
+    }
+
+    /*
+     * Only a phantom reference to the owner, which must stay collectable.
+     */
+    private static final class Owner extends PhantomReference<Object> {
+
+        private final String description;
+
+        private final List<Resource> resources = new ArrayList<>();
+
+        Owner(Object owner, ReferenceQueue<Object> queue) {
+            super(owner, queue);
+            description = owner.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(owner));
+        }
+    }
+
+    private final Map<Key, Resource> resources = new HashMap<>();
+
+    // Reused under the lock to find a resource, never stored.
+    private final Key lookupKey = new Key(null, null, 0);
+
+    private final Map<Object, Owner> owners = new WeakHashMap<>();
+
+    private final ReferenceQueue<Object> collectedOwners = new ReferenceQueue<>();
+
+    // The leaked objects not yet deleted (another context needed).
+    private final List<Resource> leaked = new ArrayList<>();
+
+    // The evictable objects, the least recently used first.
+    private final LinkedHashMap<Key, Resource> evictables = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long budget;
+
+    private long allocatedBytes;
+
+    private long leakCount;
+
+    public GLResources(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the registry used by {@link JOGL#create(GL, Type, Object)}.
+     */
+    public static synchronized GLResources getDefault() {
+        if (defaultResources == null) {
+            defaultResources = new GLResources(DEFAULT_BUDGET);
+        }
+        return defaultResources;
+    }
+
+    /*
+     * Replaces the default instance (created again on demand when null),
+     * so that the tests do not share it.
+     */
+    static synchronized void setDefault(GLResources registry) {
+        defaultResources = registry;
+    }
+
+    /**
+     * Sets the canvas to which the objects created from now on by the calling
+     * thread are charged (0 for none).
+     */
+    public static void setCurrentCanvas(int canvas) {
+        CURRENT_CANVAS.get()[0] = canvas;
+    }
+
+    public static int getCurrentCanvas() {
+        return CURRENT_CANVAS.get()[0];
+    }
+
+    /**
+     * Generates an object of the given type and registers it.
+     */
+    public int create(GL gl, Type type, Object owner) {
+        int name;
+        switch (type) {
+            case BUFFER:
+                name = JOGL.create(names -> gl.glGenBuffers(1, names));
+                break;
+            case TEXTURE:
+                name = JOGL.create(names -> gl.glGenTextures(1, names));
+                break;
+            case RENDERBUFFER:
+                name = JOGL.create(names -> gl.glGenRenderbuffers(1, names));
+                break;
+            case FRAMEBUFFER:
+                name = JOGL.create(names -> gl.glGenFramebuffers(1, names));
+                break;
+            case VERTEX_ARRAY:
+                name = JOGL.create(names -> gl.getGL2ES3().glGenVertexArrays(1, names));
+                break;
+            case PROGRAM:
+                name = gl.getGL2ES2().glCreateProgram();
+                break;
+            default:
+                throw new AssertionError();
+        }
+        register(gl, type, name, owner);
+        return name;
+    }
+
+    /**
+     * Registers an object created by other means.
+     */
+    public synchronized void register(GL gl, Type type, int name, Object owner) {
+        Key key = getKey(gl, type, name);
+        Resource resource = new Resource(key, getCurrentCanvas(), owners.computeIfAbsent(
+                Objects.requireNonNull(owner), o -> new Owner(o, collectedOwners)));
+        if (resources.put(key, resource) != null) {
+            throw new IllegalStateException(key + " already registered");
+        }
+        resource.owner.resources.add(resource);
+    }
+
+    /**
+     * Deletes a registered object and forgets it.
+     */
+    public void delete(GL gl, Type type, int name) {
+        unregister(gl, type, name);
+        deleteObject(gl, type, name);
+    }
+
+    /**
+     * Forgets an object deleted by other means.
+     */
+    public synchronized void unregister(GL gl, Type type, int name) {
+        Resource resource = resources.remove(lookup(gl, type, name));
+        if (resource == null) {
+            throw new IllegalStateException(type + " " + name + " not registered");
+        }
+        forget(resource);
+    }
+
+    /**
+     * Sets the size in bytes of an object (after each new storage).
+     */
+    public synchronized void setSize(GL gl, Type type, int name, long size) {
+        Resource resource = getResource(gl, type, name);
+        allocatedBytes += size - resource.size;
+        resource.size = size;
+    }
+
+    /**
+     * Flags an object as evictable (or no longer, with a null argument), the
+     * object becoming the most recently used one.
+     */
+    public synchronized void setEvictable(GL gl, Type type, int name, Evictable evictable) {
+        Resource resource = getResource(gl, type, name);
+        resource.evictable = evictable;
+        if (evictable != null) {
+            // Moved last by the access order, if already there.
+            evictables.put(resource.key, resource);
+        } else {
+            evictables.remove(resource.key);
+        }
+    }
+
+    /**
+     * Makes an evictable object the most recently used one.
+     */
+    public synchronized void touch(GL gl, Type type, int name) {
+        evictables.get(lookup(gl, type, name));
+    }
+
+    public synchronized long getBudget() {
+        return budget;
+    }
+
+    public synchronized void setBudget(long budget) {
+        this.budget = budget;
+    }
+
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the bytes used by the objects created while rendering the
+     * given canvas (see {@link NGCanvasJOGL#getId()}).
+     */
+    public synchronized long getAllocatedBytes(int canvas) {
+        long bytes = 0;
+        for (Resource resource : resources.values()) {
+            if (resource.canvas == canvas) {
+                bytes += resource.size;
+            }
+        }
+        return bytes;
+    }
+
+    public synchronized Map<Type, Integer> getCounts() {
+        Map<Type, Integer> counts = new EnumMap<>(Type.class);
+        for (Resource resource : resources.values()) {
+            counts.merge(resource.key.type, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of objects reported as leaked so far.
+     */
+    public synchronized long getLeakCount() {
+        return leakCount;
+    }
+
+    /**
+     * Reports and deletes the objects whose owner has been collected, then
+     * evicts the least recently used evictable objects while over budget. To
+     * be called regularly (once per frame) with a current context, only the
+     * objects of its namespaces being deleted.
+     */
+    public void poll(GL gl) {
+        List<Resource> deleted = DELETED.get();
+        synchronized (this) {
+            Reference<?> reference;
+            while ((reference = collectedOwners.poll()) != null) {
+                Owner owner = (Owner) reference;
+                if (!owner.resources.isEmpty()) {
+                    List<String> names = new ArrayList<>();
+                    long size = 0;
+                    for (Resource resource : owner.resources) {
+                        names.add(resource.key.toString());
+                        size += resource.size;
+                    }
+                    leakCount += names.size();
+                    System.err.format("GL objects leaked by %s (%d bytes): %s\n",
+                            owner.description, size, String.join(", ", names));
+                    leaked.addAll(owner.resources);
+                }
+            }
+            if (leaked.isEmpty() && allocatedBytes <= budget) {
+                // Nothing to delete nor evict.
+                return;
+            }
+
+            Iterator<Resource> i = leaked.iterator();
+            while (i.hasNext()) {
+                Resource resource = i.next();
+                if (resource.key.namespace == getNamespace(gl, resource.key.type)) {
+                    i.remove();
+                    resources.remove(resource.key);
+                    forget(resource);
+                    deleted.add(resource);
+                }
+            }
+        }
+        for (int i = 0; i < deleted.size(); ++i) {
+            Resource resource = deleted.get(i);
+            deleteObject(gl, resource.key.type, resource.key.name);
+        }
+        deleted.clear();
+        evict(gl);
+    }
+
+    private void evict(GL gl) {
+        while (true) {
+            Resource resource;
+            synchronized (this) {
+                resource = null;
+                if (allocatedBytes > budget) {
+                    for (Resource candidate : evictables.values()) {
+                        if (candidate.key.namespace == getNamespace(gl, candidate.key.type)) {
+                            resource = candidate;
+                            break;
+                        }
+                    }
+                }
+                if (resource == null) {
+                    return;
+                }
+                // Not evicted twice if the owner does not delete it.
+                evictables.remove(resource.key);
+            }
+            resource.evictable.evict(gl);
+        }
+    }
+
+    private void forget(Resource resource) {
+        allocatedBytes -= resource.size;
+        evictables.remove(resource.key);
+        resource.owner.resources.remove(resource);
+    }
+
+    private Resource getResource(GL gl, Type type, int name) {
+        Resource resource = resources.get(lookup(gl, type, name));
+        if (resource == null) {
+            throw new IllegalStateException(type + " " + name + " not registered");
+        }
+        return resource;
+    }
+
+    private static Key getKey(GL gl, Type type, int name) {
+        return new Key(getNamespace(gl, type), type, name);
+    }
+
+    /*
+     * Same as getKey() without allocating, the key being only valid until the
+     * next lookup. To be called under the lock.
+     */
+    private Key lookup(GL gl, Type type, int name) {
+        return lookupKey.set(getNamespace(gl, type), type, name);
+    }
+
+    private static Object getNamespace(GL gl, Type type) {
+        GLContext context = gl.getContext();
+        if (context != null && type.isShared() && context.getSharedMaster() != null) {
+            return context.getSharedMaster();
+        }
+        return context;
+    }
+
+    private static void deleteObject(GL gl, Type type, int name) {
+        switch (type) {
+            case BUFFER:
+                JOGL.using(name, names -> gl.glDeleteBuffers(1, names));
+                break;
+            case TEXTURE:
+                JOGL.using(name, names -> gl.glDeleteTextures(1, names));
+                break;
+            case RENDERBUFFER:
+                JOGL.using(name, names -> gl.glDeleteRenderbuffers(1, names));
+                break;
+            case FRAMEBUFFER:
+                JOGL.using(name, names -> gl.glDeleteFramebuffers(1, names));
+                break;
+            case VERTEX_ARRAY:
+                JOGL.using(name, names -> gl.getGL2ES3().glDeleteVertexArrays(1, names));
+                break;
+            case PROGRAM:
+                gl.getGL2ES2().glDeleteProgram(name);
+                break;
+            default:
+                throw new AssertionError();
+        }
+    }
+}
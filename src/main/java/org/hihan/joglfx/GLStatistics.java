@@ -0,0 +1,130 @@
+package org.hihan.joglfx;
+
+/**
+ * Rolling statistics over the per-frame counts of an {@link InstrumentedGL},
+ * recorded by the renderer thread and read from any thread (JMX).
+ */
+public class GLStatistics implements GLStatisticsMXBean {
+
+    public enum Counter {
+        CALLS,
+        DRAW_CALLS,
+        STATE_CHANGES,
+        QUERIES,
+        UPLOADED_BYTES,
+        BINDS,
+        FRAMEBUFFER_SWITCHES
+    }
+
+    public static final int WINDOW_SIZE = 120;
+
+    private final long[][] history = new long[Counter.values().length][WINDOW_SIZE];
+
+    private long frameCount;
+
+    public synchronized void record(long[] counts) {
+        int index = (int) (frameCount % WINDOW_SIZE);
+        for (int i = 0; i < history.length; ++i) {
+            history[i][index] = counts[i];
+        }
+        ++frameCount;
+    }
+
+    public synchronized double getAverage(Counter counter) {
+        int size = (int) Math.min(frameCount, WINDOW_SIZE);
+        long sum = 0;
+        for (int i = 0; i < size; ++i) {
+            sum += history[counter.ordinal()][i];
+        }
+        return size > 0 ? (double) sum / size : 0;
+    }
+
+    public synchronized long getMax(Counter counter) {
+        int size = (int) Math.min(frameCount, WINDOW_SIZE);
+        long max = 0;
+        for (int i = 0; i < size; ++i) {
+            max = Math.max(max, history[counter.ordinal()][i]);
+        }
+        return max;
+    }
+
+    @Override
+    public synchronized long getFrameCount() {
+        return frameCount;
+    }
+
+    @Override
+    public int getWindowSize() {
+        return WINDOW_SIZE;
+    }
+
+    @Override
+    public double getAverageCalls() {
+        return getAverage(Counter.CALLS);
+    }
+
+    @Override
+    public long getMaxCalls() {
+        return getMax(Counter.CALLS);
+    }
+
+    @Override
+    public double getAverageDrawCalls() {
+        return getAverage(Counter.DRAW_CALLS);
+    }
+
+    @Override
+    public long getMaxDrawCalls() {
+        return getMax(Counter.DRAW_CALLS);
+    }
+
+    @Override
+    public double getAverageStateChanges() {
+        return getAverage(Counter.STATE_CHANGES);
+    }
+
+    @Override
+    public long getMaxStateChanges() {
+        return getMax(Counter.STATE_CHANGES);
+    }
+
+    @Override
+    public double getAverageQueries() {
+        return getAverage(Counter.QUERIES);
+    }
+
+    @Override
+    public long getMaxQueries() {
+        return getMax(Counter.QUERIES);
+    }
+
+    @Override
+    public double getAverageUploadedBytes() {
+        return getAverage(Counter.UPLOADED_BYTES);
+    }
+
+    @Override
+    public long getMaxUploadedBytes() {
+        return getMax(Counter.UPLOADED_BYTES);
+    }
+
+    @Override
+    public double getAverageBinds() {
+        return getAverage(Counter.BINDS);
+    }
+
+    @Override
+    public long getMaxBinds() {
+        return getMax(Counter.BINDS);
+    }
+
+    @Override
+    public double getAverageFramebufferSwitches() {
+        return getAverage(Counter.FRAMEBUFFER_SWITCHES);
+    }
+
+    @Override
+    public long getMaxFramebufferSwitches() {
+        return getMax(Counter.FRAMEBUFFER_SWITCHES);
+    }
+}
@@ -0,0 +1,40 @@
+package org.hihan.joglfx;
+
+/**
+ * The per-frame GL activity of a canvas, averaged (or maxed) over the last
+ * frames.
+ */
+public interface GLStatisticsMXBean {
+
+    long getFrameCount();
+
+    int getWindowSize();
+
+    double getAverageCalls();
+
+    long getMaxCalls();
+
+    double getAverageDrawCalls();
+
+    long getMaxDrawCalls();
+
+    double getAverageStateChanges();
+
+    long getMaxStateChanges();
+
+    double getAverageQueries();
+
+    long getMaxQueries();
+
+    double getAverageUploadedBytes();
+
+    long getMaxUploadedBytes();
+
+    double getAverageBinds();
+
+    long getMaxBinds();
+
+    double getAverageFramebufferSwitches();
+
+    long getMaxFramebufferSwitches();
+}
@@ -0,0 +1,172 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawable;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLProfile;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Renders the same callbacks as a canvas without JavaFX, into an offscreen
+ * {@link Framebuffer} of a context created through the GLDrawableFactory
+ * (a pbuffer or a surfaceless context, Mesa software rasterizers included),
+ * for regression tests, server side thumbnails or benchmarks.
+ * <p>
+ * The thread creating the renderer becomes the renderer thread (see
+ * {@link JOGL#attach(GL)}) and has to be the only one using it. The
+ * registries of shared objects ({@link ShaderRegistry}, {@link ResourceCache})
+ * being global, it is not meant to be used alongside JavaFX canvases.
+ */
+public class HeadlessRenderer {
+
+    private final GLDrawable drawable;
+
+    private final GLContext context;
+
+    private final GL gl;
+
+    private Framebuffer framebuffer;
+
+    private int width;
+
+    private int height;
+
+    private final PixelReadback readback = new PixelReadback();
+
+    /**
+     * Creates a renderer with a core profile context (OpenGL 3.x at least, as
+     * required by the shaders of the repository).
+     */
+    public HeadlessRenderer(int width, int height) {
+        this(GLProfile.get(GLProfile.GL3), width, height);
+    }
+
+    public HeadlessRenderer(GLProfile profile, int width, int height) {
+        GLCapabilities capabilities = new GLCapabilities(profile);
+        capabilities.setOnscreen(false);
+        // Rendering into our own framebuffer, the drawable size does not matter.
+        drawable = GLDrawableFactory.getFactory(profile).createOffscreenDrawable(
+                null, capabilities, null, 1, 1);
+        drawable.setRealized(true);
+        context = drawable.createContext(null);
+        GLErrorChecker.getDefault().prepareContext(context);
+        if (context.makeCurrent() == GLContext.CONTEXT_NOT_CURRENT) {
+            throw new IllegalStateException("Failed to make the headless context current");
+        }
+        gl = context.getGL();
+        JOGL.attach(gl);
+        setSize(width, height);
+    }
+
+    public GL getGL() {
+        return gl;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public Framebuffer getFramebuffer() {
+        return framebuffer;
+    }
+
+    public void setSize(int width, int height) {
+        if (framebuffer == null || width != this.width || height != this.height) {
+            if (framebuffer != null) {
+                framebuffer.dispose(gl);
+            }
+            framebuffer = new Framebuffer(gl, width, height, true, true);
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /**
+     * Renders the callback into the framebuffer (bound with a matching
+     * viewport). The programs acquired from the {@link ShaderRegistry} being
+     * compiled in background, the callback is called again once they are
+     * ready, so that no placeholder ends in the result.
+     */
+    public void render(Consumer<GL> callback) {
+        ShaderRegistry registry = ShaderRegistry.getDefault();
+        registry.finish(gl.getGL2ES2());
+        renderOnce(callback);
+        if (registry.isPending()) {
+            registry.finish(gl.getGL2ES2());
+            renderOnce(callback);
+        }
+        GLResources.getDefault().poll(gl);
+    }
+
+    private void renderOnce(Consumer<GL> callback) {
+        Runnable unbind = framebuffer.bind(gl, width, height);
+        try {
+            callback.accept(gl);
+        } finally {
+            unbind.run();
+        }
+        GLErrorChecker.getDefault().check(gl);
+    }
+
+    /**
+     * Returns the pixels rendered, as top to bottom RGBA rows.
+     */
+    public ByteBuffer readPixels() {
+        CompletableFuture<ByteBuffer> pixels = readback.read(gl, framebuffer.getFramebufferObject(), width, height);
+        readback.finish(gl);
+        return pixels.join();
+    }
+
+    /**
+     * Writes the pixels rendered into the given file.
+     */
+    public void writePixels(File file, PixelReadback.Format format) {
+        CompletableFuture<File> written = readback.snapshot(gl, framebuffer.getFramebufferObject(), width, height, file, format);
+        readback.finish(gl);
+        try {
+            written.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to write " + file, e);
+        }
+    }
+
+    public void dispose() {
+        readback.dispose(gl);
+        framebuffer.dispose(gl);
+        framebuffer = null;
+        JOGL.detach();
+        context.release();
+        context.destroy();
+        drawable.setRealized(false);
+    }
+
+    /**
+     * Renders a colored square into the PNG file given as first argument
+     * (optionally followed by the width and the height).
+     */
+    public static void main(String[] args) {
+        File file = new File(args.length > 0 ? args[0] : "square.png");
+        int width = args.length > 2 ? Integer.parseInt(args[1]) : 300;
+        int height = args.length > 2 ? Integer.parseInt(args[2]) : 300;
+        HeadlessRenderer renderer = new HeadlessRenderer(width, height);
+        ColoredSquare square = new ColoredSquare(renderer.getGL().getGL3());
+        renderer.render(gl -> {
+            gl.glClearColor(0.5f, 0.5f, 0.5f, 1);
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+            square.display(gl.getGL3());
+        });
+        renderer.writePixels(file, PixelReadback.Format.PNG);
+        square.dispose(renderer.getGL().getGL3());
+        renderer.dispose();
+    }
+}
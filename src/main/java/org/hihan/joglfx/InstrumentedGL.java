@@ -0,0 +1,104 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.hihan.joglfx.GLStatistics.Counter;
+
+/**
+ * A GL counting the calls it forwards, by kind, until the counts are taken
+ * (once per frame).
+ */
+public class InstrumentedGL extends GLInterceptor {
+
+    private static final Set<String> STATE_CHANGES = new HashSet<>(Arrays.asList(
+            "glEnable",
+            "glDisable",
+            "glEnablei",
+            "glDisablei",
+            "glActiveTexture",
+            "glUseProgram",
+            "glViewport",
+            "glScissor",
+            "glClearColor",
+            "glClearDepth",
+            "glColorMask",
+            "glDepthMask",
+            "glDepthFunc",
+            "glCullFace",
+            "glFrontFace",
+            "glPolygonMode",
+            "glPolygonOffset",
+            "glLineWidth",
+            "glBlendEquation",
+            "glBlendEquationSeparate",
+            "glBlendFunc",
+            "glBlendFuncSeparate",
+            "glBlendColor",
+            "glStencilFunc",
+            "glStencilOp",
+            "glStencilMask",
+            "glVertexAttribPointer",
+            "glEnableVertexAttribArray",
+            "glDisableVertexAttribArray",
+            "glTexParameteri",
+            "glTexParameterf"));
+
+    private final long[] counts = new long[Counter.values().length];
+
+    public InstrumentedGL(GL delegate) {
+        super(delegate);
+    }
+
+    /**
+     * Copies the counts into the given array and resets them.
+     */
+    public void takeCounts(long[] destination) {
+        System.arraycopy(counts, 0, destination, 0, counts.length);
+        Arrays.fill(counts, 0);
+    }
+
+    @Override
+    protected Object intercept(Method method, String name, Object[] args) throws Throwable {
+        if (name.startsWith("gl")) {
+            count(name, args);
+        }
+        return forward(method, args);
+    }
+
+    private void count(String name, Object[] args) {
+        ++counts[Counter.CALLS.ordinal()];
+        if (isDrawCall(name)) {
+            ++counts[Counter.DRAW_CALLS.ordinal()];
+        } else if (name.startsWith("glGet") || name.startsWith("glIs") || name.equals("glCheckFramebufferStatus")) {
+            ++counts[Counter.QUERIES.ordinal()];
+        } else if (name.startsWith("glBind")) {
+            ++counts[Counter.BINDS.ordinal()];
+            if (name.equals("glBindFramebuffer")) {
+                ++counts[Counter.FRAMEBUFFER_SWITCHES.ordinal()];
+            }
+        } else if (name.equals("glBufferData")) {
+            // glBufferData(target, size, data, usage), null data being a mere allocation.
+            if (args[2] != null) {
+                counts[Counter.UPLOADED_BYTES.ordinal()] += (Long) args[1];
+            }
+        } else if (name.equals("glBufferSubData")) {
+            // glBufferSubData(target, offset, size, data)
+            counts[Counter.UPLOADED_BYTES.ordinal()] += (Long) args[2];
+        } else if (name.startsWith("glUniform") || STATE_CHANGES.contains(name)) {
+            ++counts[Counter.STATE_CHANGES.ordinal()];
+        }
+    }
+
+    /*
+     * Not glDrawBuffer(s), which only selects the color buffers.
+     */
+    private static boolean isDrawCall(String name) {
+        return name.startsWith("glDrawArrays")
+                || name.startsWith("glDrawElements")
+                || name.startsWith("glDrawRangeElements")
+                || name.startsWith("glMultiDraw");
+    }
+}
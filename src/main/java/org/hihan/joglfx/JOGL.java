@@ -2,12 +2,17 @@ package org.hihan.joglfx;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GLContext;
 import com.jogamp.opengl.GLDrawableFactory;
 import com.jogamp.opengl.GLException;
 import java.nio.IntBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.function.Consumer;
 
 public class JOGL {
@@ -21,6 +26,14 @@ public class JOGL {
         default void reset(GL gl) {
             throw new UnsupportedOperationException();
         }
+
+        /**
+         * Returns a textual snapshot of the current value of this state, used
+         * to check that no undeclared state leaks out of a callback.
+         */
+        default String describe(GL gl) {
+            return "";
+        }
     }
 
     public static final State BLENDING = new State() {
@@ -52,6 +65,14 @@ public class JOGL {
         public void reset(GL gl) {
             gl.glDisable(GL.GL_BLEND);
         }
+
+        @Override
+        public String describe(GL gl) {
+            return "BLENDING " + getBool(gl, GL.GL_BLEND)
+                    + " " + getInt(gl, GL.GL_BLEND_EQUATION)
+                    + " " + getInt(gl, GL.GL_BLEND_SRC)
+                    + " " + getInt(gl, GL.GL_BLEND_DST);
+        }
     };
 
     public static final State CLEAR_COLOR = new State() {
@@ -67,12 +88,23 @@ public class JOGL {
         public void restore(GL gl) {
             gl.glClearColor(clearColor[0], clearColor[1], clearColor[2], clearColor[3]);
         }
+
+        @Override
+        public String describe(GL gl) {
+            float[] values = new float[4];
+            gl.glGetFloatv(GL.GL_COLOR_CLEAR_VALUE, values, 0);
+            return "CLEAR_COLOR " + Arrays.toString(values);
+        }
     };
 
     public static final State TRANSFORM = new State() {
 
         @Override
         public void save(GL gl) {
+            if (!gl.isGL2()) {
+                // No matrix stack in the programmable pipeline.
+                return;
+            }
             GL2 gl2 = gl.getGL2();
             gl2.glMatrixMode(GL2.GL_MODELVIEW);
             gl2.glPushMatrix();
@@ -82,6 +114,9 @@ public class JOGL {
 
         @Override
         public void restore(GL gl) {
+            if (!gl.isGL2()) {
+                return;
+            }
             GL2 gl2 = gl.getGL2();
             gl2.glMatrixMode(GL2.GL_MODELVIEW);
             gl2.glPopMatrix();
@@ -91,12 +126,27 @@ public class JOGL {
 
         @Override
         public void reset(GL gl) {
+            if (!gl.isGL2()) {
+                return;
+            }
             GL2 gl2 = gl.getGL2();
             gl2.glMatrixMode(GL2.GL_MODELVIEW);
             gl2.glLoadIdentity();
             gl2.glMatrixMode(GL2.GL_PROJECTION);
             gl2.glLoadIdentity();
         }
+
+        @Override
+        public String describe(GL gl) {
+            if (!gl.isGL2()) {
+                return "TRANSFORM";
+            }
+            float[] modelView = new float[16];
+            float[] projection = new float[16];
+            gl.glGetFloatv(GL2.GL_MODELVIEW_MATRIX, modelView, 0);
+            gl.glGetFloatv(GL2.GL_PROJECTION_MATRIX, projection, 0);
+            return "TRANSFORM " + Arrays.toString(modelView) + " " + Arrays.toString(projection);
+        }
     };
 
     public static final State PROGRAM = new State() {
@@ -105,17 +155,22 @@ public class JOGL {
 
         @Override
         public void save(GL gl) {
-            currentProgram = getInt(gl, GL2.GL_CURRENT_PROGRAM);
+            currentProgram = getInt(gl, GL2ES2.GL_CURRENT_PROGRAM);
         }
 
         @Override
         public void restore(GL gl) {
-            gl.getGL2().glUseProgram(currentProgram);
+            gl.getGL2ES2().glUseProgram(currentProgram);
         }
 
         @Override
         public void reset(GL gl) {
-            gl.getGL2().glUseProgram(GL.GL_NONE);
+            gl.getGL2ES2().glUseProgram(GL.GL_NONE);
+        }
+
+        @Override
+        public String describe(GL gl) {
+            return "PROGRAM " + getInt(gl, GL2ES2.GL_CURRENT_PROGRAM);
         }
     };
 
@@ -141,6 +196,11 @@ public class JOGL {
         public void reset(GL gl) {
             gl.glDisable(GL.GL_DEPTH_TEST);
         }
+
+        @Override
+        public String describe(GL gl) {
+            return "DEPTH_TEST " + getBool(gl, GL.GL_DEPTH_TEST) + " " + getInt(gl, GL.GL_DEPTH_FUNC);
+        }
     };
 
     public static final State CULLING = new State() {
@@ -165,6 +225,11 @@ public class JOGL {
         public void reset(GL gl) {
             gl.glDisable(GL.GL_CULL_FACE);
         }
+
+        @Override
+        public String describe(GL gl) {
+            return "CULLING " + getBool(gl, GL.GL_CULL_FACE) + " " + getInt(gl, GL.GL_CULL_FACE_MODE);
+        }
     };
 
     public static class TextureState implements State {
@@ -205,6 +270,17 @@ public class JOGL {
             gl.glBindTexture(GL.GL_TEXTURE_2D, GL.GL_NONE);
             gl.glActiveTexture(oldActiveTexture);
         }
+
+        @Override
+        public String describe(GL gl) {
+            int oldActiveTexture = getInt(gl, GL.GL_ACTIVE_TEXTURE);
+            gl.glActiveTexture(GL.GL_TEXTURE0 + index);
+            String description = "TEXTURE_" + index
+                    + " " + getBool(gl, GL.GL_TEXTURE_2D)
+                    + " " + getInt(gl, GL.GL_TEXTURE_BINDING_2D);
+            gl.glActiveTexture(oldActiveTexture);
+            return description;
+        }
     }
 
     public static final State TEXTURE_0 = new TextureState(0);
@@ -228,6 +304,44 @@ public class JOGL {
         public void restore(GL gl) {
             gl.glViewport(viewport[0], viewport[1], viewport[2], viewport[3]);
         }
+
+        @Override
+        public String describe(GL gl) {
+            int[] values = new int[4];
+            gl.glGetIntegerv(GL.GL_VIEWPORT, values, 0);
+            return "VIEWPORT " + Arrays.toString(values);
+        }
+    };
+
+    public static final State SCISSOR = new State() {
+
+        private boolean scissorTestEnabled;
+
+        private final int[] scissorBox = new int[4];
+
+        @Override
+        public void save(GL gl) {
+            scissorTestEnabled = getBool(gl, GL.GL_SCISSOR_TEST);
+            gl.glGetIntegerv(GL.GL_SCISSOR_BOX, scissorBox, 0);
+        }
+
+        @Override
+        public void restore(GL gl) {
+            setEnabled(gl, GL.GL_SCISSOR_TEST, scissorTestEnabled);
+            gl.glScissor(scissorBox[0], scissorBox[1], scissorBox[2], scissorBox[3]);
+        }
+
+        @Override
+        public void reset(GL gl) {
+            gl.glDisable(GL.GL_SCISSOR_TEST);
+        }
+
+        @Override
+        public String describe(GL gl) {
+            int[] values = new int[4];
+            gl.glGetIntegerv(GL.GL_SCISSOR_BOX, values, 0);
+            return "SCISSOR " + getBool(gl, GL.GL_SCISSOR_TEST) + " " + Arrays.toString(values);
+        }
     };
 
     public static final State BUFFERS = new State() {
@@ -245,34 +359,153 @@ public class JOGL {
             fbo = getInt(gl, GL.GL_FRAMEBUFFER_BINDING);
             vbo = getInt(gl, GL.GL_ARRAY_BUFFER_BINDING);
             ibo = getInt(gl, GL.GL_ELEMENT_ARRAY_BUFFER_BINDING);
-            vao = getInt(gl, GL2.GL_VERTEX_ARRAY_BINDING);
+            vao = getInt(gl, GL2ES3.GL_VERTEX_ARRAY_BINDING);
         }
 
         @Override
         public void restore(GL gl) {
             gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, fbo);
             gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vbo);
+            gl.getGL2ES3().glBindVertexArray(vao);
+            // Bound after the VAO since it is part of its state.
             gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, ibo);
-            gl.getGL2().glBindVertexArray(vao);
         }
+
+        @Override
+        public String describe(GL gl) {
+            return "BUFFERS " + getInt(gl, GL.GL_FRAMEBUFFER_BINDING)
+                    + " " + getInt(gl, GL.GL_ARRAY_BUFFER_BINDING)
+                    + " " + getInt(gl, GL.GL_ELEMENT_ARRAY_BUFFER_BINDING)
+                    + " " + getInt(gl, GL2ES3.GL_VERTEX_ARRAY_BINDING);
+        }
+    };
+
+    public static final Deque<State> savedStates = new ArrayDeque<>();
+
+    private static final State[] ALL_STATES = {
+        VIEWPORT,
+        SCISSOR,
+        TRANSFORM,
+        PROGRAM,
+        CLEAR_COLOR,
+        DEPTH_TEST,
+        CULLING,
+        BLENDING,
+        TEXTURE_0,
+        TEXTURE_1,
+        TEXTURE_2,
+        TEXTURE_3,
+        BUFFERS
     };
 
-    public static final Deque<State> savedStates = new LinkedList<>();
+    private static volatile boolean stateLeakCheckEnabled = Boolean.getBoolean("joglfx.checkStateLeaks");
 
     public static void saveAllStates() {
-        saveStates(
-                VIEWPORT,
-                TRANSFORM,
-                PROGRAM,
-                CLEAR_COLOR,
-                DEPTH_TEST,
-                CULLING,
-                BLENDING,
-                TEXTURE_0,
-                TEXTURE_1,
-                TEXTURE_2,
-                TEXTURE_3,
-                BUFFERS);
+        saveStates(ALL_STATES);
+    }
+
+    /**
+     * All the states above, for a callback which could touch anything (a new
+     * array each time).
+     */
+    public static State[] getAllStates() {
+        return ALL_STATES.clone();
+    }
+
+    /**
+     * When enabled, the states not declared by a callback are compared before
+     * and after it in order to detect leaks (see
+     * {@link #runGuarded(GL, Consumer, State...)}). Can also be enabled at
+     * startup with '-Djoglfx.checkStateLeaks=true'.
+     */
+    public static void setStateLeakCheckEnabled(boolean enabled) {
+        stateLeakCheckEnabled = enabled;
+    }
+
+    public static boolean isStateLeakCheckEnabled() {
+        return stateLeakCheckEnabled;
+    }
+
+    /**
+     * Runs the callback, saving and restoring the given states around it
+     * ({@link #getAllStates()} when the callback could touch anything).
+     */
+    public static void runGuarded(GL gl, Consumer<GL> callback, State... states) {
+        runGuarded(gl, callback, null, states);
+    }
+
+    /**
+     * Same as {@link #runGuarded(GL, Consumer, State...)}, the duration of
+     * the phases being recorded by the given timer (if not null).
+     */
+    public static void runGuarded(GL gl, Consumer<GL> callback, FrameTimer timer, State... states) {
+        if (states.length == 0) {
+            throw new IllegalArgumentException("No state given (JOGL.getAllStates() for all of them)");
+        }
+        List<State> undeclaredStates = null;
+        List<String> undeclaredValues = null;
+        if (stateLeakCheckEnabled) {
+            undeclaredStates = new ArrayList<>(Arrays.asList(ALL_STATES));
+            undeclaredStates.removeAll(Arrays.asList(states));
+            undeclaredValues = describe(gl, undeclaredStates);
+        }
+
+        if (timer != null) {
+            long start = System.nanoTime();
+            saveStatesTraced(states);
+            long saved = System.nanoTime();
+            long called;
+            try {
+                timer.beginGpu(gl, FrameTimer.Phase.GPU_CALLBACK);
+                callback.accept(gl);
+                timer.endGpu(gl, FrameTimer.Phase.GPU_CALLBACK);
+            } finally {
+                called = System.nanoTime();
+                restoreAllStatesTraced();
+            }
+            long restored = System.nanoTime();
+            timer.record(FrameTimer.Phase.SAVE, saved - start);
+            timer.record(FrameTimer.Phase.CALLBACK, called - saved);
+            timer.record(FrameTimer.Phase.RESTORE, restored - called);
+        } else {
+            saveStatesTraced(states);
+            try {
+                callback.accept(gl);
+            } finally {
+                restoreAllStatesTraced();
+            }
+        }
+
+        if (undeclaredStates != null) {
+            List<String> values = describe(gl, undeclaredStates);
+            for (int i = 0; i < values.size(); ++i) {
+                if (!values.get(i).equals(undeclaredValues.get(i))) {
+                    throw new IllegalStateException("Undeclared state leaked: "
+                            + undeclaredValues.get(i) + " -> " + values.get(i));
+                }
+            }
+        }
+    }
+
+    private static void saveStatesTraced(State[] states) {
+        RenderEvents.StatesEvent event = RenderEvents.beginStates();
+        saveStates(states);
+        RenderEvents.endStates(event, "save", states.length);
+    }
+
+    private static void restoreAllStatesTraced() {
+        RenderEvents.StatesEvent event = RenderEvents.beginStates();
+        int stateCount = savedStates.size();
+        restoreAllStates();
+        RenderEvents.endStates(event, "restore", stateCount);
+    }
+
+    private static List<String> describe(GL gl, List<State> states) {
+        List<String> values = new ArrayList<>(states.size());
+        for (State state : states) {
+            values.add(state.describe(gl));
+        }
+        return values;
     }
 
     public static void resetStates(State... states) {
@@ -311,7 +544,17 @@ public class JOGL {
 
     private static GLContext glContext;
 
-    public static GL getGL() {
+    private static GL attachedGL;
+
+    private static volatile boolean shadowStateEnabled = Boolean.getBoolean("joglfx.shadowState");
+
+    private static ShadowStateGL shadowState;
+
+    /**
+     * Returns the context of the Quantum renderer (Prism's one, wrapped by
+     * JOGL), with which other contexts can share their objects.
+     */
+    public static GLContext getGLContext() {
         checkIsInQuantumRendererThread();
         if (glContext == null) {
             try {
@@ -321,7 +564,67 @@ public class JOGL {
             }
             glContext.makeCurrent();
         }
-        return glContext.getGL();
+        return glContext;
+    }
+
+    public static GL getGL() {
+        checkIsInQuantumRendererThread();
+        if (attachedGL == null) {
+            // Prism's context, used by Prism between our frames: a shadow would be stale each time.
+            return getGLContext().getGL();
+        }
+        if (shadowStateEnabled) {
+            if (shadowState == null || shadowState.getDelegate() != attachedGL) {
+                shadowState = new ShadowStateGL(attachedGL);
+            }
+            return shadowState.getProxy();
+        } else {
+            return attachedGL;
+        }
+    }
+
+    /**
+     * Makes the given GL the one returned by {@link #getGL()} and the calling
+     * thread the renderer thread, for running the render code outside of
+     * JavaFX (benchmarks using a stub GL for instance).
+     */
+    public static void attach(GL gl) {
+        attachedGL = gl;
+        rendererThread = Thread.currentThread();
+    }
+
+    public static void detach() {
+        attachedGL = null;
+        rendererThread = null;
+    }
+
+    /**
+     * When enabled, the GLs of the contexts owned by the library (the one
+     * attached, see {@link #attach(GL)}, and those of the render threads) keep
+     * a shadow copy of the saved states (see {@link ShadowStateGL}). The
+     * Prism context is never shadowed, Prism using it between our frames. Can
+     * also be enabled at startup with '-Djoglfx.shadowState=true'.
+     */
+    public static void setShadowStateEnabled(boolean enabled) {
+        shadowStateEnabled = enabled;
+    }
+
+    public static boolean isShadowStateEnabled() {
+        return shadowStateEnabled;
+    }
+
+    public static ShadowStateGL getShadowState() {
+        return shadowStateEnabled ? shadowState : null;
+    }
+
+    /**
+     * To be called each time the attached context may have been used by
+     * someone else than us, behind the GL returned by {@link #getGL()}.
+     */
+    public static void invalidateShadowState() {
+        if (shadowState != null) {
+            shadowState.invalidate();
+        }
     }
 
     public static void checkIsInQuantumRendererThread() {
@@ -330,12 +633,24 @@ public class JOGL {
         }
     }
 
+    private static volatile Thread rendererThread;
+
     public static boolean isInQuatumRendererThread() {
-        return Thread.currentThread().getName().contains("Quantum");
+        Thread thread = Thread.currentThread();
+        if (thread == rendererThread) {
+            return true;
+        } else if (thread.getName().contains("Quantum")) {
+            rendererThread = thread;
+            return true;
+        } else {
+            return false;
+        }
     }
 
     public static int getInt(GL gl, int parameter) {
-        return create(values -> gl.glGetIntegerv(parameter, values));
+        int[] values = SCRATCH.get().values;
+        gl.glGetIntegerv(parameter, values, 0);
+        return values[0];
     }
 
     public static boolean getBool(GL gl, int parameter) {
@@ -351,18 +666,76 @@ public class JOGL {
     }
 
     public static void using(int target, Consumer<IntBuffer> action) {
-        action.accept(IntBuffer.wrap(new int[]{target}));
+        Scratch scratch = SCRATCH.get();
+        IntBuffer buffer = scratch.acquire();
+        try {
+            buffer.put(0, target);
+            action.accept(buffer);
+        } finally {
+            scratch.release();
+        }
     }
 
     public static int create(Consumer<IntBuffer> action) {
-        IntBuffer buffer = IntBuffer.allocate(1);
-        action.accept(buffer);
-        return buffer.get();
+        Scratch scratch = SCRATCH.get();
+        IntBuffer buffer = scratch.acquire();
+        try {
+            buffer.put(0, 0);
+            action.accept(buffer);
+            return buffer.get(0);
+        } finally {
+            scratch.release();
+        }
+    }
+
+    /**
+     * Generates a GL object registered in {@link GLResources#getDefault()} on
+     * behalf of its owner, which is expected to delete it with
+     * {@link #delete(GL, GLResources.Type, int)}.
+     */
+    public static int create(GL gl, GLResources.Type type, Object owner) {
+        return GLResources.getDefault().create(gl, type, owner);
+    }
+
+    public static void delete(GL gl, GLResources.Type type, int name) {
+        GLResources.getDefault().delete(gl, type, name);
+    }
+
+    /*
+     * Per-thread buffers reused by the helpers above in order to keep the
+     * render loop free of allocations. The IntBuffers are handed out as a
+     * stack since an action could itself call create / using.
+     */
+    private static class Scratch {
+
+        // Large enough for any glGetIntegerv query (a 4x4 matrix at most).
+        private final int[] values = new int[16];
+
+        private IntBuffer[] buffers = new IntBuffer[0];
+
+        private int depth;
+
+        private IntBuffer acquire() {
+            if (depth == buffers.length) {
+                buffers = Arrays.copyOf(buffers, depth + 1);
+                buffers[depth] = IntBuffer.allocate(1);
+            }
+            IntBuffer buffer = buffers[depth++];
+            buffer.clear();
+            return buffer;
+        }
+
+        private void release() {
+            --depth;
+        }
     }
 
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     public static void checkNoError(GL gl) {
         int error = gl.glGetError();
         if (error != GL.GL_NO_ERROR) {
+            RenderEvents.glError(error);
             throw new AssertionError("OpenGL error: " + error);
         }
     }
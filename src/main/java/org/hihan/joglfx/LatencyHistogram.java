@@ -0,0 +1,97 @@
+package org.hihan.joglfx;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds, in the spirit of
+ * HdrHistogram: each power of two is split into 32 linear buckets, which
+ * bounds the relative error of the reported values to about 3%. Values are
+ * recorded by a single thread in practice, but can be read from any thread.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray((64 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT);
+
+    private final AtomicLong totalCount = new AtomicLong();
+
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(getIndex(value));
+        totalCount.incrementAndGet();
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value (in nanoseconds) below which the given fraction (0.5
+     * for the median, 0.99...) of the recorded values fall.
+     */
+    public long getPercentile(double fraction) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(fraction * count));
+        long cumulatedCount = 0;
+        for (int i = 0; i < counts.length(); ++i) {
+            cumulatedCount += counts.get(i);
+            if (cumulatedCount >= target) {
+                return Math.min(getHighestValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); ++i) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50 %.3f ms, p99 %.3f ms, max %.3f ms (%d samples)",
+                getPercentile(0.5) / 1e6,
+                getPercentile(0.99) / 1e6,
+                getMax() / 1e6,
+                getCount());
+    }
+
+    private static int getIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        } else {
+            int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+            return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+        }
+    }
+
+    private static long getHighestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        } else {
+            int shift = index / SUB_BUCKET_COUNT - 1;
+            long subBucket = index % SUB_BUCKET_COUNT;
+            return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.hihan.joglfx;
 
 import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3;
 import javafx.application.Application;
 import static javafx.application.Application.launch;
 import javafx.application.Platform;
@@ -13,6 +14,16 @@ import javafx.stage.Stage;
 
 public class Main extends Application {
 
+    /*
+     * The states touched by the render methods.
+     */
+    static final JOGL.State[] RENDER_STATES = {
+        JOGL.VIEWPORT,
+        JOGL.PROGRAM,
+        JOGL.CLEAR_COLOR,
+        JOGL.BUFFERS
+    };
+
     public static void main(String[] args) {
         //Native.setLibraryPath();
         launch(args);
@@ -22,14 +33,26 @@ public class Main extends Application {
 
     private ColoredSquare square;
 
+    private int squareCount = 1;
+
+    private QuadBatch squares;
+
+    private boolean fullRedraw;
+
     private Framebuffer framebuffer;
 
+    private int framebufferWidth;
+
+    private int framebufferHeight;
+
+    private final int[] viewport = new int[4];
+
     @Override
     public void start(Stage primaryStage) {
 
         Group root = new Group();
         canvas = new CanvasJOGL(300, 300);
-        canvas.setDirtyCallback(this::render);
+        canvas.setDirtyCallback(this::render, RENDER_STATES);
         drawShapes(canvas.getGraphicsContext2D());
         root.getChildren().add(canvas);
 
@@ -43,63 +66,119 @@ public class Main extends Application {
         indirectRender(gl);
     }
 
-    private void directRender(GL gl) {
+    void directRender(GL gl) {
         assert JOGL.isInQuatumRendererThread();
 
-        if (square == null) {
-            square = new ColoredSquare(gl.getGL3());
-        }
-
         // Render the content.
-        square.display(gl.getGL3());
+        renderContent(gl.getGL3());
     }
 
-    private void indirectRender(GL gl) {
+    void indirectRender(GL gl) {
         assert JOGL.isInQuatumRendererThread();
 
-        if (square == null) {
-            square = new ColoredSquare(gl.getGL3());
-        }
-
-        if (updateFramebuffer(gl)) {
+        if (updateFramebuffer(gl) || fullRedraw) {
             // Render off-screen first.
-            Runnable revert = framebuffer.bind(gl);
+            Runnable revert = framebuffer.bind(gl, framebufferWidth, framebufferHeight);
 
             // Clear the off-screen buffer.
             gl.glClearColor(0.5f, 0.5f, 0.5f, 1);
             gl.glClear(GL.GL_COLOR_BUFFER_BIT);
 
             // Render the content.
-            square.display(gl.getGL3());
+            renderContent(gl.getGL3());
 
             // Then copy back the result into the default framebuffer.
             revert.run();
-            framebuffer.display(gl);
+            framebuffer.display(gl, 0, 0, framebufferWidth, framebufferHeight);
         } else {
             // Copy back the result into the default framebuffer.
-            framebuffer.display(gl);
+            framebuffer.display(gl, 0, 0, framebufferWidth, framebufferHeight);
+        }
+    }
+
+    /**
+     * Sets the number of squares rendered: the colored square alone (by
+     * default) or a grid of smaller ones drawn as a single batch. Used to
+     * compare the render paths with heavier contents.
+     */
+    void setSquareCount(int squareCount) {
+        this.squareCount = squareCount;
+    }
+
+    /**
+     * When enabled, the indirect render path renders its content again at
+     * each frame instead of only when resized.
+     */
+    void setFullRedraw(boolean fullRedraw) {
+        this.fullRedraw = fullRedraw;
+    }
+
+    void dispose(GL gl) {
+        if (square != null) {
+            square.dispose(gl.getGL3());
+            square = null;
+        }
+        if (squares != null) {
+            squares.dispose(gl.getGL3());
+            squares = null;
+        }
+        if (framebuffer != null) {
+            FramebufferPool.getDefault().release(gl, framebuffer);
+            framebuffer = null;
+        }
+    }
+
+    private void renderContent(GL3 gl) {
+        if (squareCount == 1) {
+            if (square == null) {
+                square = new ColoredSquare(gl);
+            }
+            square.display(gl);
+        } else {
+            if (squares == null) {
+                squares = createSquares(gl, squareCount);
+            }
+            squares.display(gl);
         }
     }
 
+    /*
+     * A grid of squares filling the viewport, colored as the corners of the
+     * colored square.
+     */
+    private static QuadBatch createSquares(GL3 gl, int count) {
+        float[][] colors = {{1, 0, 0}, {0, 1, 0}, {0, 0, 1}, {1, 0, 1}};
+        int side = (int) Math.ceil(Math.sqrt(count));
+        float cell = 2f / side;
+        float size = cell * 0.75f;
+        QuadBatch batch = new QuadBatch(gl, count);
+        for (int i = 0; i < count; ++i) {
+            float[] color = colors[i % colors.length];
+            float x = -1 + (i % side) * cell + (cell - size) / 2;
+            float y = -1 + (i / side) * cell + (cell - size) / 2;
+            batch.add(x, y, size, size, color[0], color[1], color[2], 1);
+        }
+        return batch;
+    }
+
     private boolean updateFramebuffer(GL gl) {
-        int[] viewport = new int[4];
         gl.glGetIntegerv(GL.GL_VIEWPORT, viewport, 0);
         int width = viewport[2];
         int height = viewport[3];
 
-        if (framebuffer != null) {
-            if (framebuffer.getWidth() != width || framebuffer.getHeight() != height) {
-                framebuffer.dispose(gl);
-                framebuffer = null;
-            }
+        if (framebuffer != null && framebufferWidth == width && framebufferHeight == height) {
+            return false;
         }
 
-        if (framebuffer == null) {
-            framebuffer = new Framebuffer(gl, width, height, false, false);
-            return true;
-        } else {
-            return false;
+        // Most of the time, the same framebuffer is given back by the pool.
+        FramebufferPool pool = FramebufferPool.getDefault();
+        if (framebuffer != null) {
+            pool.release(gl, framebuffer);
         }
+        framebuffer = pool.acquire(gl, width, height, false, false);
+        framebufferWidth = width;
+        framebufferHeight = height;
+        return true;
     }
 
     /**
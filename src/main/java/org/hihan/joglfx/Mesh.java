@@ -0,0 +1,120 @@
+package org.hihan.joglfx;
+
+import static com.jogamp.opengl.GL.GL_ARRAY_BUFFER;
+import static com.jogamp.opengl.GL.GL_ELEMENT_ARRAY_BUFFER;
+import static com.jogamp.opengl.GL.GL_NONE;
+import static com.jogamp.opengl.GL.GL_STATIC_DRAW;
+import static com.jogamp.opengl.GL.GL_TRIANGLES;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import static org.hihan.joglfx.GLResources.Type.BUFFER;
+import static org.hihan.joglfx.GLResources.Type.VERTEX_ARRAY;
+
+/**
+ * An immutable indexed triangle mesh: a vertex buffer and an index buffer
+ * shared through the {@link ResourceCache} (the same content acquired by many
+ * canvases being only uploaded once), and a vertex array of its own, vertex
+ * arrays being neither shared between contexts nor by the users of a mesh.
+ */
+public class Mesh {
+
+    /*
+     * The cached part, in the objects shared by the contexts.
+     */
+    private static class Buffers implements ResourceCache.Resource {
+
+        private final int vbo;
+
+        private final int ibo;
+
+        private final int indexCount;
+
+        private final int indexType;
+
+        Buffers(GL3 gl, ByteBuffer vertices, Buffer indices, int indexCount, int indexType, long indexSize) {
+            this.indexCount = indexCount;
+            this.indexType = indexType;
+            GLResources resources = GLResources.getDefault();
+
+            vbo = JOGL.create(gl, BUFFER, this);
+            gl.glBindBuffer(GL_ARRAY_BUFFER, vbo);
+            {
+                resources.setSize(gl, BUFFER, vbo, vertices.remaining());
+                gl.glBufferData(GL_ARRAY_BUFFER, vertices.remaining(), vertices, GL_STATIC_DRAW);
+            }
+
+            // Uploaded through the array target, the element one being part of the vertex array state.
+            ibo = JOGL.create(gl, BUFFER, this);
+            gl.glBindBuffer(GL_ARRAY_BUFFER, ibo);
+            {
+                resources.setSize(gl, BUFFER, ibo, indexSize);
+                gl.glBufferData(GL_ARRAY_BUFFER, indexSize, indices, GL_STATIC_DRAW);
+            }
+            gl.glBindBuffer(GL_ARRAY_BUFFER, GL_NONE);
+        }
+
+        @Override
+        public void dispose(GL gl) {
+            JOGL.delete(gl, BUFFER, vbo);
+            JOGL.delete(gl, BUFFER, ibo);
+        }
+    }
+
+    private final Buffers buffers;
+
+    private final int vao;
+
+    private Mesh(GL3 gl, VertexLayout layout, Buffers buffers) {
+        this.buffers = buffers;
+
+        vao = JOGL.create(gl, VERTEX_ARRAY, this);
+        gl.glBindVertexArray(vao);
+        {
+            gl.glBindBuffer(GL_ARRAY_BUFFER, buffers.vbo);
+            layout.setup(gl, 0);
+
+            // Part of the vertex array state.
+            gl.glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, buffers.ibo);
+        }
+        gl.glBindVertexArray(GL_NONE);
+        gl.glBindBuffer(GL_ARRAY_BUFFER, GL_NONE);
+        gl.glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, GL_NONE);
+    }
+
+    /**
+     * Returns a mesh of the builder vertices packed with the given layout, its
+     * buffers being uploaded unless already in the default cache. To be
+     * released with {@link #release(GL)} in the same context.
+     */
+    public static Mesh acquire(GL3 gl, VertexLayout layout, MeshBuilder builder) {
+        ByteBuffer vertices = layout.pack(builder.getVertices(), 0, builder.getVertexCount());
+        Buffer indices = builder.getIndexBuffer();
+        String key = ResourceCache.getKey("mesh(" + layout + ")", vertices, indices);
+        Buffers buffers = ResourceCache.getDefault().acquire(gl, key, g -> new Buffers(
+                g.getGL3(), vertices, indices,
+                builder.getIndexCount(), builder.getIndexType(), builder.getIndexBufferSize()));
+        return new Mesh(gl, layout, buffers);
+    }
+
+    public void release(GL gl) {
+        JOGL.delete(gl, VERTEX_ARRAY, vao);
+        ResourceCache.getDefault().release(gl, buffers);
+    }
+
+    public int getIndexCount() {
+        return buffers.indexCount;
+    }
+
+    /**
+     * Draws the triangles with the current program.
+     */
+    public void display(GL3 gl) {
+        gl.glBindVertexArray(vao);
+        {
+            gl.glDrawElements(GL_TRIANGLES, buffers.indexCount, buffers.indexType, 0);
+        }
+        gl.glBindVertexArray(GL_NONE);
+    }
+}
@@ -0,0 +1,455 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.util.GLBuffers;
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+
+/**
+ * Builds indexed triangle meshes on the CPU: identical vertices (same float
+ * bits for all their attributes) are welded through an open addressing hash
+ * table, and the triangles can be reordered for the post-transform vertex
+ * cache (Tom Forsyth's linear-speed algorithm), the vertices being then
+ * renumbered in order of first use. The indices are 16-bit when possible.
+ */
+public class MeshBuilder {
+
+    /*
+     * The size of the simulated cache, greater than most actual ones.
+     */
+    public static final int CACHE_SIZE = 32;
+
+    private static final float CACHE_DECAY_POWER = 1.5f;
+
+    private static final float LAST_TRIANGLE_SCORE = 0.75f;
+
+    private static final float VALENCE_BOOST_SCALE = 2.0f;
+
+    private static final float VALENCE_BOOST_POWER = -0.5f;
+
+    private static final int MAX_VALENCE = 64;
+
+    private static final float[] CACHE_SCORES = new float[CACHE_SIZE];
+
+    private static final float[] VALENCE_SCORES = new float[MAX_VALENCE];
+
+    static {
+        for (int position = 0; position < CACHE_SIZE; ++position) {
+            if (position < 3) {
+                CACHE_SCORES[position] = LAST_TRIANGLE_SCORE;
+            } else {
+                float scaler = 1f / (CACHE_SIZE - 3);
+                CACHE_SCORES[position] = (float) Math.pow(1 - (position - 3) * scaler, CACHE_DECAY_POWER);
+            }
+        }
+        for (int valence = 1; valence < MAX_VALENCE; ++valence) {
+            VALENCE_SCORES[valence] = VALENCE_BOOST_SCALE * (float) Math.pow(valence, VALENCE_BOOST_POWER);
+        }
+    }
+
+    private final int vertexSize;
+
+    private float[] vertices;
+
+    private int vertexCount;
+
+    private int[] indices;
+
+    private int indexCount;
+
+    // Vertex index + 1 (0 for an empty slot).
+    private int[] table;
+
+    public MeshBuilder(int vertexSize) {
+        this.vertexSize = vertexSize;
+        vertices = new float[vertexSize * 64];
+        indices = new int[3 * 64];
+        table = new int[128];
+    }
+
+    public int getVertexSize() {
+        return vertexSize;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public int getIndexCount() {
+        return indexCount;
+    }
+
+    public int getTriangleCount() {
+        return indexCount / 3;
+    }
+
+    /**
+     * Adds the vertex whose 'vertexSize' attributes start at 'offset' in the
+     * array, unless an identical one has already been added, and returns its
+     * index.
+     */
+    public int addVertex(float[] data, int offset) {
+        int mask = table.length - 1;
+        int slot = hash(data, offset) & mask;
+        while (table[slot] != 0) {
+            int index = table[slot] - 1;
+            if (equals(vertices, index * vertexSize, data, offset)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (vertexCount * vertexSize == vertices.length) {
+            vertices = Arrays.copyOf(vertices, vertices.length * 2);
+        }
+        System.arraycopy(data, offset, vertices, vertexCount * vertexSize, vertexSize);
+        int index = vertexCount++;
+        table[slot] = index + 1;
+        // Kept at most half full.
+        if (vertexCount * 2 > table.length) {
+            rehash();
+        }
+        return index;
+    }
+
+    public void addTriangle(int a, int b, int c) {
+        if (indexCount + 3 > indices.length) {
+            indices = Arrays.copyOf(indices, indices.length * 2);
+        }
+        indices[indexCount++] = a;
+        indices[indexCount++] = b;
+        indices[indexCount++] = c;
+    }
+
+    /**
+     * Adds the triangles of an unindexed soup: 'triangleCount' x 3 vertices of
+     * 'vertexSize' floats.
+     */
+    public void addTriangles(float[] data, int offset, int triangleCount) {
+        for (int t = 0; t < triangleCount; ++t) {
+            int base = offset + t * 3 * vertexSize;
+            addTriangle(
+                    addVertex(data, base),
+                    addVertex(data, base + vertexSize),
+                    addVertex(data, base + 2 * vertexSize));
+        }
+    }
+
+    /**
+     * Reorders the triangles for the vertex cache, then the vertices in order
+     * of first use.
+     */
+    public void optimize() {
+        int triangleCount = getTriangleCount();
+        if (triangleCount == 0) {
+            return;
+        }
+        int[] order = new ForsythOptimizer(indices, triangleCount, vertexCount).run();
+        int[] reordered = new int[indexCount];
+        for (int t = 0; t < triangleCount; ++t) {
+            System.arraycopy(indices, order[t] * 3, reordered, t * 3, 3);
+        }
+
+        int[] remap = new int[vertexCount];
+        Arrays.fill(remap, -1);
+        float[] remapped = new float[vertices.length];
+        int next = 0;
+        for (int i = 0; i < indexCount; ++i) {
+            int vertex = reordered[i];
+            if (remap[vertex] < 0) {
+                System.arraycopy(vertices, vertex * vertexSize, remapped, next * vertexSize, vertexSize);
+                remap[vertex] = next++;
+            }
+            reordered[i] = remap[vertex];
+        }
+        // Unreferenced vertices are kept at the end.
+        for (int vertex = 0; vertex < vertexCount; ++vertex) {
+            if (remap[vertex] < 0) {
+                System.arraycopy(vertices, vertex * vertexSize, remapped, next * vertexSize, vertexSize);
+                remap[vertex] = next++;
+            }
+        }
+
+        indices = reordered;
+        vertices = remapped;
+        rehash();
+    }
+
+    /**
+     * Returns the average number of vertex cache misses per triangle (ACMR)
+     * for a FIFO cache of the given size: 3 without any reuse, about 0.5 for
+     * a well ordered regular grid.
+     */
+    public float getAverageCacheMissRatio(int cacheSize) {
+        int[] cache = new int[cacheSize];
+        Arrays.fill(cache, -1);
+        int head = 0;
+        int misses = 0;
+        for (int i = 0; i < indexCount; ++i) {
+            int vertex = indices[i];
+            boolean hit = false;
+            for (int cached : cache) {
+                if (cached == vertex) {
+                    hit = true;
+                    break;
+                }
+            }
+            if (!hit) {
+                ++misses;
+                cache[head] = vertex;
+                head = (head + 1) % cacheSize;
+            }
+        }
+        return indexCount > 0 ? misses / (float) getTriangleCount() : 0;
+    }
+
+    /**
+     * Returns GL_UNSIGNED_SHORT if the indices fit in 16 bits,
+     * GL_UNSIGNED_INT otherwise.
+     */
+    public int getIndexType() {
+        return vertexCount <= 0x10000 ? GL.GL_UNSIGNED_SHORT : GL.GL_UNSIGNED_INT;
+    }
+
+    /**
+     * Returns the vertex attributes (the array may be larger than needed), to
+     * be packed by a {@link VertexLayout} for instance.
+     */
+    public float[] getVertices() {
+        return vertices;
+    }
+
+    public FloatBuffer getVertexBuffer() {
+        return GLBuffers.newDirectFloatBuffer(vertices, 0, vertexCount * vertexSize);
+    }
+
+    /**
+     * Returns the indices as a direct ShortBuffer or IntBuffer, depending on
+     * {@link #getIndexType()}.
+     */
+    public Buffer getIndexBuffer() {
+        if (getIndexType() == GL.GL_UNSIGNED_SHORT) {
+            ShortBuffer buffer = GLBuffers.newDirectShortBuffer(indexCount);
+            for (int i = 0; i < indexCount; ++i) {
+                buffer.put((short) indices[i]);
+            }
+            buffer.flip();
+            return buffer;
+        } else {
+            IntBuffer buffer = GLBuffers.newDirectIntBuffer(indexCount);
+            buffer.put(indices, 0, indexCount);
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    public int getIndexBufferSize() {
+        return indexCount * (getIndexType() == GL.GL_UNSIGNED_SHORT ? Short.BYTES : Integer.BYTES);
+    }
+
+    private void rehash() {
+        int size = table.length;
+        while (vertexCount * 2 > size) {
+            size *= 2;
+        }
+        table = new int[size];
+        int mask = size - 1;
+        for (int index = 0; index < vertexCount; ++index) {
+            int slot = hash(vertices, index * vertexSize) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index + 1;
+        }
+    }
+
+    private int hash(float[] data, int offset) {
+        int hash = 0;
+        for (int i = 0; i < vertexSize; ++i) {
+            hash = hash * 31 + Float.floatToIntBits(data[offset + i]);
+        }
+        // Spreads the bits, the low ones only being used.
+        return hash ^ (hash >>> 16) ^ (hash >>> 7);
+    }
+
+    private boolean equals(float[] a, int aOffset, float[] b, int bOffset) {
+        for (int i = 0; i < vertexSize; ++i) {
+            if (Float.floatToIntBits(a[aOffset + i]) != Float.floatToIntBits(b[bOffset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * https://tomforsyth1000.github.io/papers/fast_vert_cache_opt.html
+     */
+    private static class ForsythOptimizer {
+
+        private final int[] indices;
+
+        private final int triangleCount;
+
+        // The triangles of each vertex (CSR layout).
+        private final int[] vertexTriangleOffsets;
+
+        private final int[] vertexTriangles;
+
+        // The triangles of each vertex not yet added.
+        private final int[] remaining;
+
+        private final int[] cachePositions;
+
+        private final float[] vertexScores;
+
+        private final float[] triangleScores;
+
+        private final boolean[] added;
+
+        private final int[] cache = new int[CACHE_SIZE + 3];
+
+        private final int[] previousCache = new int[CACHE_SIZE];
+
+        private int cacheCount;
+
+        ForsythOptimizer(int[] indices, int triangleCount, int vertexCount) {
+            this.indices = indices;
+            this.triangleCount = triangleCount;
+
+            remaining = new int[vertexCount];
+            for (int i = 0; i < triangleCount * 3; ++i) {
+                ++remaining[indices[i]];
+            }
+            vertexTriangleOffsets = new int[vertexCount + 1];
+            for (int v = 0; v < vertexCount; ++v) {
+                vertexTriangleOffsets[v + 1] = vertexTriangleOffsets[v] + remaining[v];
+            }
+            vertexTriangles = new int[triangleCount * 3];
+            int[] fill = Arrays.copyOf(vertexTriangleOffsets, vertexCount);
+            for (int t = 0; t < triangleCount; ++t) {
+                for (int k = 0; k < 3; ++k) {
+                    int v = indices[t * 3 + k];
+                    vertexTriangles[fill[v]++] = t;
+                }
+            }
+
+            cachePositions = new int[vertexCount];
+            Arrays.fill(cachePositions, -1);
+            vertexScores = new float[vertexCount];
+            for (int v = 0; v < vertexCount; ++v) {
+                vertexScores[v] = score(v);
+            }
+            triangleScores = new float[triangleCount];
+            for (int t = 0; t < triangleCount; ++t) {
+                triangleScores[t] = vertexScores[indices[t * 3]]
+                        + vertexScores[indices[t * 3 + 1]]
+                        + vertexScores[indices[t * 3 + 2]];
+            }
+            added = new boolean[triangleCount];
+        }
+
+        int[] run() {
+            int[] order = new int[triangleCount];
+            int best = findBestTriangle();
+            int scanStart = 0;
+            for (int n = 0; n < triangleCount; ++n) {
+                if (best < 0) {
+                    // Nothing left around the cache: restarts from the first
+                    // remaining triangle (a full scan would be quadratic).
+                    while (added[scanStart]) {
+                        ++scanStart;
+                    }
+                    best = scanStart;
+                }
+                order[n] = best;
+                added[best] = true;
+                for (int k = 0; k < 3; ++k) {
+                    int v = indices[best * 3 + k];
+                    --remaining[v];
+                    removeTriangle(v, best);
+                }
+                updateCache(best);
+                best = -1;
+                float bestScore = -1;
+                for (int i = 0; i < cacheCount; ++i) {
+                    int v = cache[i];
+                    for (int j = vertexTriangleOffsets[v]; j < vertexTriangleOffsets[v] + remaining[v]; ++j) {
+                        int t = vertexTriangles[j];
+                        if (triangleScores[t] > bestScore) {
+                            bestScore = triangleScores[t];
+                            best = t;
+                        }
+                    }
+                }
+            }
+            return order;
+        }
+
+        private int findBestTriangle() {
+            int best = -1;
+            float bestScore = -1;
+            for (int t = 0; t < triangleCount; ++t) {
+                if (triangleScores[t] > bestScore) {
+                    bestScore = triangleScores[t];
+                    best = t;
+                }
+            }
+            return best;
+        }
+
+        /*
+         * Keeps the triangles not yet added of a vertex at the beginning of its
+         * list.
+         */
+        private void removeTriangle(int v, int t) {
+            int start = vertexTriangleOffsets[v];
+            int end = start + remaining[v];
+            for (int j = start; j <= end; ++j) {
+                if (vertexTriangles[j] == t) {
+                    vertexTriangles[j] = vertexTriangles[end];
+                    vertexTriangles[end] = t;
+                    break;
+                }
+            }
+        }
+
+        private void updateCache(int t) {
+            // The vertices of the triangle first, then the former content.
+            int previousCount = cacheCount;
+            System.arraycopy(cache, 0, previousCache, 0, previousCount);
+            int count = 0;
+            for (int k = 0; k < 3; ++k) {
+                cache[count++] = indices[t * 3 + k];
+            }
+            for (int i = 0; i < previousCount; ++i) {
+                int v = previousCache[i];
+                if (v != cache[0] && v != cache[1] && v != cache[2]) {
+                    cache[count++] = v;
+                }
+            }
+            cacheCount = Math.min(count, CACHE_SIZE);
+            for (int i = 0; i < count; ++i) {
+                int v = cache[i];
+                cachePositions[v] = i < CACHE_SIZE ? i : -1;
+                float oldScore = vertexScores[v];
+                vertexScores[v] = score(v);
+                float delta = vertexScores[v] - oldScore;
+                for (int j = vertexTriangleOffsets[v]; j < vertexTriangleOffsets[v] + remaining[v]; ++j) {
+                    triangleScores[vertexTriangles[j]] += delta;
+                }
+            }
+        }
+
+        private float score(int v) {
+            if (remaining[v] == 0) {
+                return -1;
+            }
+            int position = cachePositions[v];
+            float score = position >= 0 ? CACHE_SCORES[position] : 0;
+            return score + VALENCE_SCORES[Math.min(remaining[v], MAX_VALENCE - 1)];
+        }
+    }
+}
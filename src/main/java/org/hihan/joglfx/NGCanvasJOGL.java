@@ -5,38 +5,667 @@ import com.sun.javafx.sg.prism.NGCanvas;
 import com.sun.javafx.tk.RenderJob;
 import com.sun.javafx.tk.Toolkit;
 import com.sun.prism.Graphics;
-import java.util.Optional;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import static org.hihan.joglfx.JOGL.getInt;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 public class NGCanvasJOGL extends NGCanvas {
 
+    private static final AtomicInteger CANVAS_COUNT = new AtomicInteger();
+
+    private final int id = CANVAS_COUNT.incrementAndGet();
+
+    private final byte[] debugGroupLabel = GLErrorChecker.getGroupLabel(id);
+
     private Consumer<GL> dirtyCallback;
 
+    private JOGL.State[] touchedStates = JOGL.getAllStates();
+
+    private JOGL.State[] retainedStates = JOGL.getAllStates();
+
+    private final Consumer<GL> retainedCallback = this::renderRetained;
+
+    private final Consumer<GL> countedCallback = this::renderCallback;
+
+    private boolean retained;
+
+    private volatile boolean contentDirty = true;
+
+    private final Object damageLock = new Object();
+
+    // Partial invalidations (when the content is not dirty as a whole).
+    private volatile boolean damaged;
+
+    private int damageMinX;
+
+    private int damageMinY;
+
+    private int damageMaxX;
+
+    private int damageMaxY;
+
+    private final int[] damage = new int[4];
+
+    private Framebuffer retainedFramebuffer;
+
+    private int retainedWidth;
+
+    private int retainedHeight;
+
+    // Whether the retained content has been rendered since its last capture.
+    private boolean contentRendered;
+
+    private FrameRecorder recorder;
+
+    // The copy of the viewport captured in direct mode.
+    private Framebuffer captureFramebuffer;
+
+    private FrameRecorder closedRecorder;
+
+    private final int[] viewport = new int[4];
+
+    private CanvasGroup group;
+
+    private static final JOGL.State[] THREADED_STATES = {JOGL.BUFFERS};
+
+    private final Consumer<GL> threadedCallback = this::renderThreaded;
+
+    private boolean threaded;
+
+    private volatile RenderThread renderThread;
+
+    private InstrumentedGL instrumentedGL;
+
+    private GLStatistics statistics;
+
+    // Unregistered while out of a scene.
+    private boolean registered;
+
+    private long[] counts;
+
+    private volatile FrameTimer timer;
+
+    // The timers replaced, whose queries are deleted on the next frame.
+    private final List<FrameTimer> disposedTimers = new ArrayList<>();
+
+    private volatile Runnable repaintListener;
+
+    // A snapshot of the clock of the animation, if any.
+    private FrameClock clock;
+
+    private volatile long renderedFrame;
+
+    private volatile long callbackNanos;
+
+    public int getId() {
+        return id;
+    }
+
+    byte[] getDebugGroupLabel() {
+        return debugGroupLabel;
+    }
+
+    /**
+     * Sets the listener notified (from any thread) when the canvas has to be
+     * rendered again, after an invalidation or a new frame of the render
+     * thread.
+     */
+    public void setRepaintListener(Runnable repaintListener) {
+        this.repaintListener = repaintListener;
+    }
+
+    /**
+     * Marks the canvas to be rendered by Prism on the next pulse. To be
+     * called while synchronizing the peer.
+     */
+    public void repaint() {
+        geometryChanged();
+    }
+
+    /**
+     * Copies the clock of the animation (or clears it when null). To be called
+     * while synchronizing the peer.
+     */
+    public void setFrameClock(FrameClock frameClock) {
+        if (frameClock == null) {
+            clock = null;
+            renderedFrame = 0;
+        } else {
+            if (clock == null) {
+                clock = new FrameClock(frameClock.getMode(), 1);
+            } else if (frameClock.getFrame() < clock.getFrame()) {
+                // A new animation: the frames rendered were the previous one's.
+                renderedFrame = 0;
+            }
+            clock.set(frameClock);
+        }
+    }
+
+    /*
+     * The number of the last animation frame rendered.
+     */
+    long getRenderedFrame() {
+        return renderedFrame;
+    }
+
+    /*
+     * The duration of the last rendering of an animation frame.
+     */
+    long getCallbackNanos() {
+        return callbackNanos;
+    }
+
+    private void notifyRepaint() {
+        Runnable listener = repaintListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
     public void setDirtyCallback(Consumer<GL> dirtyCallback) {
-        Toolkit.getToolkit().addRenderJob(
-                new RenderJob(() -> this.dirtyCallback = dirtyCallback));
+        setDirtyCallback(dirtyCallback, JOGL.getAllStates());
+    }
+
+    public void setDirtyCallback(Consumer<GL> dirtyCallback, JOGL.State... touchedStates) {
+        if (touchedStates.length == 0) {
+            throw new IllegalArgumentException("No touched state given (JOGL.getAllStates() for all of them)");
+        }
+        JOGL.State[] states = touchedStates.clone();
+        JOGL.State[] statesWhenRetained = getRetainedStates(states);
+        Toolkit.getToolkit().addRenderJob(new RenderJob(() -> {
+            this.dirtyCallback = dirtyCallback;
+            this.touchedStates = states;
+            this.retainedStates = statesWhenRetained;
+            contentDirty = true;
+            if (renderThread != null) {
+                renderThread.setCallback(dirtyCallback);
+            }
+        }));
+    }
+
+    /*
+     * The retained rendering touches the viewport, the scissor (partial
+     * rendering) and the framebuffer binding in addition to the states touched
+     * by the callback.
+     */
+    private static JOGL.State[] getRetainedStates(JOGL.State[] states) {
+        Set<JOGL.State> retainedStates = new LinkedHashSet<>(Arrays.asList(states));
+        retainedStates.add(JOGL.VIEWPORT);
+        retainedStates.add(JOGL.SCISSOR);
+        retainedStates.add(JOGL.BUFFERS);
+        return retainedStates.toArray(new JOGL.State[retainedStates.size()]);
+    }
+
+    public void setRetained(boolean retained) {
+        Toolkit.getToolkit().addRenderJob(new RenderJob(() -> {
+            this.retained = retained;
+            contentDirty = true;
+        }));
+    }
+
+    public void setFrameRecorder(FrameRecorder recorder) {
+        Toolkit.getToolkit().addRenderJob(new RenderJob(() -> {
+            if (this.recorder != null && this.recorder != recorder) {
+                // Closed on the next frame, with a GL at hand.
+                closedRecorder = this.recorder;
+            }
+            this.recorder = recorder;
+        }));
+    }
+
+    public void setGroup(CanvasGroup group) {
+        Toolkit.getToolkit().addRenderJob(new RenderJob(() -> {
+            if (this.group != null) {
+                this.group.detach(this);
+            }
+            this.group = group;
+            if (group != null) {
+                group.attach(this);
+            }
+            contentDirty = true;
+        }));
+    }
+
+    public void setThreaded(boolean threaded) {
+        Toolkit.getToolkit().addRenderJob(new RenderJob(() -> {
+            this.threaded = threaded;
+        }));
+    }
+
+    public void invalidate() {
+        contentDirty = true;
+        RenderThread thread = renderThread;
+        if (thread != null) {
+            // Repainted once the frame is completed.
+            thread.invalidate();
+        } else {
+            notifyRepaint();
+        }
+    }
+
+    /**
+     * Invalidates a region only, in pixels of the viewport given to the
+     * callback, the origin being at its top left corner. Can be called from
+     * any thread.
+     */
+    public void invalidate(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        synchronized (damageLock) {
+            if (damaged) {
+                damageMinX = Math.min(damageMinX, x);
+                damageMinY = Math.min(damageMinY, y);
+                damageMaxX = Math.max(damageMaxX, x + width);
+                damageMaxY = Math.max(damageMaxY, y + height);
+            } else {
+                damageMinX = x;
+                damageMinY = y;
+                damageMaxX = x + width;
+                damageMaxY = y + height;
+                damaged = true;
+            }
+        }
+        RenderThread thread = renderThread;
+        if (thread != null) {
+            // Always fully rendered.
+            thread.invalidate();
+        } else {
+            notifyRepaint();
+        }
+    }
+
+    public void setInstrumentationEnabled(boolean enabled) {
+        Toolkit.getToolkit().addRenderJob(new RenderJob(() -> {
+            if (enabled && statistics == null) {
+                statistics = new GLStatistics();
+                counts = new long[GLStatistics.Counter.values().length];
+                register(statistics);
+            } else if (!enabled && statistics != null) {
+                if (registered) {
+                    unregister();
+                }
+                statistics = null;
+                instrumentedGL = null;
+            }
+        }));
+    }
+
+    public FrameTimer getFrameTimer() {
+        return timer;
+    }
+
+    public void setTimingEnabled(boolean enabled) {
+        FrameTimer newTimer = enabled ? new FrameTimer() : null;
+        Toolkit.getToolkit().addRenderJob(new RenderJob(() -> {
+            if (timer != null) {
+                // The queries are deleted on the next frame, with a GL at hand.
+                disposedTimers.add(timer);
+            }
+            timer = newTimer;
+        }));
+    }
+
+    /**
+     * Releases the GL resources of the canvas (its framebuffer, render thread,
+     * timer queries and recorder) and unregisters its statistics, the canvas
+     * having left its scene. Whatever is still needed is created again by the
+     * next frame.
+     */
+    public void dispose() {
+        Toolkit.getToolkit().addRenderJob(new RenderJob(() -> {
+            if (registered) {
+                unregister();
+            }
+            instrumentedGL = null;
+            if (retainedFramebuffer == null && captureFramebuffer == null && renderThread == null && timer == null
+                    && disposedTimers.isEmpty() && recorder == null && closedRecorder == null) {
+                // Nothing to delete, not even a context to get.
+                return;
+            }
+            GL gl = JOGL.getGL();
+            if (retainedFramebuffer != null) {
+                FramebufferPool.getDefault().release(gl, retainedFramebuffer);
+                retainedFramebuffer = null;
+                contentDirty = true;
+            }
+            if (captureFramebuffer != null) {
+                FramebufferPool.getDefault().release(gl, captureFramebuffer);
+                captureFramebuffer = null;
+            }
+            if (renderThread != null) {
+                renderThread.dispose(gl);
+                renderThread = null;
+            }
+            if (timer != null) {
+                timer.dispose(gl);
+            }
+            for (int i = 0; i < disposedTimers.size(); ++i) {
+                disposedTimers.get(i).dispose(gl);
+            }
+            disposedTimers.clear();
+            if (recorder != null) {
+                recorder.close(gl);
+                recorder = null;
+            }
+            if (closedRecorder != null) {
+                closedRecorder.close(gl);
+                closedRecorder = null;
+            }
+        }));
+    }
+
+    private ObjectName getObjectName() throws JMException {
+        return new ObjectName("org.hihan.joglfx:type=CanvasJOGL,id=" + id);
+    }
+
+    private void register(GLStatistics statistics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(statistics, getObjectName());
+            registered = true;
+        } catch (JMException e) {
+            throw new RuntimeException("Failed to register the statistics of canvas " + id, e);
+        }
+    }
+
+    private void unregister() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.unregisterMBean(getObjectName());
+            registered = false;
+        } catch (JMException e) {
+            throw new RuntimeException("Failed to unregister the statistics of canvas " + id, e);
+        }
     }
 
     @Override
     protected void renderContent(Graphics g) {
+        FrameTimer frameTimer = timer;
+        long start = frameTimer != null ? System.nanoTime() : 0;
+
         // Standar Canvas rendering.
         super.renderContent(g);
 
-        geometryChanged();
-        Optional.ofNullable(dirtyCallback).ifPresent(callback -> {
+        if (frameTimer != null) {
+            frameTimer.record(FrameTimer.Phase.CANVAS, System.nanoTime() - start);
+        }
+
+        Consumer<GL> callback = dirtyCallback;
+        if (callback != null) {
+            RenderEvents.FrameEvent frameEvent = RenderEvents.beginFrame();
             GL gl = JOGL.getGL();
 
-            System.out.println("FBO: " + getInt(gl, GL.GL_FRAMEBUFFER_BINDING));
+            ShaderRegistry.getDefault().poll(gl.getGL2ES2());
+
+            // Leaks and evictions (the objects created from now on being charged to this canvas).
+            GLResources.getDefault().poll(gl);
+            GLResources.setCurrentCanvas(id);
+
+            if (statistics != null && !registered) {
+                // Back in a scene.
+                register(statistics);
+            }
+
+            if (!disposedTimers.isEmpty()) {
+                for (int i = 0; i < disposedTimers.size(); ++i) {
+                    disposedTimers.get(i).dispose(gl);
+                }
+                disposedTimers.clear();
+            }
+
+            if (closedRecorder != null) {
+                closedRecorder.close(gl);
+                closedRecorder = null;
+            }
+
+            if (!retained && group == null && retainedFramebuffer != null) {
+                FramebufferPool.getDefault().release(gl, retainedFramebuffer);
+                retainedFramebuffer = null;
+            }
+
+            boolean direct = !threaded && !retained && group == null;
+            if ((!direct || recorder == null) && captureFramebuffer != null) {
+                FramebufferPool.getDefault().release(gl, captureFramebuffer);
+                captureFramebuffer = null;
+            }
+
+            if (threaded && renderThread == null) {
+                renderThread = new RenderThread(callback);
+                renderThread.setFrameListener(this::notifyRepaint);
+            } else if (!threaded && renderThread != null) {
+                renderThread.dispose(gl);
+                renderThread = null;
+            }
 
-            JOGL.saveAllStates();
+            Consumer<GL> frameCallback;
+            JOGL.State[] states;
+            String mode;
+            if (threaded) {
+                frameCallback = threadedCallback;
+                states = THREADED_STATES;
+                mode = "threaded";
+            } else if (retained || group != null) {
+                if (group != null) {
+                    // The first canvas of the group rendered in the pulse renders them all.
+                    group.renderDirtyCanvases(gl);
+                }
+                frameCallback = retainedCallback;
+                states = retainedStates;
+                mode = group != null ? "group" : "retained";
+            } else {
+                frameCallback = statistics != null ? countedCallback : callback;
+                states = touchedStates;
+                mode = "direct";
+            }
+
+            if (frameTimer != null) {
+                frameTimer.beginFrame(gl);
+                FrameTimer.setCurrent(frameTimer);
+            }
+            FrameClock.setCurrent(threaded ? null : clock);
+            GLErrorChecker errorChecker = GLErrorChecker.getDefault();
+            errorChecker.beginCallback(gl, id, debugGroupLabel);
+            long callbackStart = System.nanoTime();
             try {
-                callback.accept(gl);
+                JOGL.runGuarded(gl, frameCallback, frameTimer, states);
+                if (direct && recorder != null) {
+                    captureDirect(gl);
+                }
+                if (statistics != null) {
+                    // What the callback did, possibly while rendering the group of another canvas.
+                    if (instrumentedGL != null) {
+                        instrumentedGL.takeCounts(counts);
+                    }
+                    statistics.record(counts);
+                }
             } finally {
-                JOGL.restoreAllStates();
+                errorChecker.endCallback(gl);
+                FrameTimer.setCurrent(null);
+                FrameClock.setCurrent(null);
+                GLResources.setCurrentCanvas(0);
+            }
+            if (clock != null) {
+                callbackNanos = System.nanoTime() - callbackStart;
+            }
+
+            if (frameTimer != null) {
+                long checkStart = System.nanoTime();
+                errorChecker.check(gl);
+                frameTimer.record(FrameTimer.Phase.CHECK_ERROR, System.nanoTime() - checkStart);
+                frameTimer.endFrame();
+            } else {
+                errorChecker.check(gl);
+            }
+            RenderEvents.endFrame(frameEvent, id, mode, clock != null ? clock.getFrame() : 0);
+        }
+
+        if (clock != null) {
+            renderedFrame = clock.getFrame();
+        }
+    }
+
+    /*
+     * Renders the callback into an offscreen framebuffer (from the default
+     * pool) when the content has been invalidated or the viewport resized,
+     * then copies it into the current framebuffer.
+     */
+    private void renderRetained(GL gl) {
+        gl.glGetIntegerv(GL.GL_VIEWPORT, viewport, 0);
+        int width = viewport[2];
+        int height = viewport[3];
+
+        if (retainedFramebuffer == null || retainedWidth != width || retainedHeight != height) {
+            FramebufferPool pool = FramebufferPool.getDefault();
+            if (retainedFramebuffer != null) {
+                pool.release(gl, retainedFramebuffer);
+            }
+            retainedFramebuffer = pool.acquire(gl, width, height, false, true);
+            retainedWidth = width;
+            retainedHeight = height;
+            contentDirty = true;
+        }
+
+        renderRetainedContent(gl);
+
+        retainedFramebuffer.display(gl, viewport[0], viewport[1], width, height);
+
+        // Clean frames are not captured again.
+        if (recorder != null && contentRendered) {
+            recorder.capture(gl, retainedFramebuffer, width, height);
+        }
+        contentRendered = false;
+    }
+
+    /*
+     * Captures the viewport of the current draw framebuffer (the callback
+     * having just rendered into it), through a copy resolving it when
+     * multisampled. The copy keeps the same coordinates, a multisampled
+     * source not allowing any offset.
+     */
+    private void captureDirect(GL gl) {
+        gl.glGetIntegerv(GL.GL_VIEWPORT, viewport, 0);
+        int right = viewport[0] + viewport[2];
+        int top = viewport[1] + viewport[3];
+        if (captureFramebuffer == null
+                || captureFramebuffer.getWidth() != FramebufferPool.getSizeClass(right)
+                || captureFramebuffer.getHeight() != FramebufferPool.getSizeClass(top)) {
+            FramebufferPool pool = FramebufferPool.getDefault();
+            if (captureFramebuffer != null) {
+                pool.release(gl, captureFramebuffer);
             }
+            captureFramebuffer = pool.acquire(gl, right, top, false, false);
+        }
+        int drawFbo = JOGL.getInt(gl, GL.GL_DRAW_FRAMEBUFFER_BINDING);
+        int readFbo = JOGL.getInt(gl, GL.GL_READ_FRAMEBUFFER_BINDING);
+        gl.glBindFramebuffer(GL.GL_READ_FRAMEBUFFER, drawFbo);
+        gl.glBindFramebuffer(GL.GL_DRAW_FRAMEBUFFER, captureFramebuffer.getFramebufferObject());
+        gl.getGL2ES3().glBlitFramebuffer(
+                viewport[0], viewport[1], right, top,
+                viewport[0], viewport[1], right, top,
+                GL.GL_COLOR_BUFFER_BIT, GL.GL_NEAREST);
+        gl.glBindFramebuffer(GL.GL_DRAW_FRAMEBUFFER, drawFbo);
+        gl.glBindFramebuffer(GL.GL_READ_FRAMEBUFFER, readFbo);
+        recorder.capture(gl, captureFramebuffer.getFramebufferObject(), viewport[0], viewport[1], viewport[2], viewport[3]);
+    }
+
+    boolean isRetainedContentDirty() {
+        return (contentDirty || damaged) && retainedFramebuffer != null && renderThread == null && dirtyCallback != null;
+    }
+
+    JOGL.State[] getRetainedStates() {
+        return retainedStates;
+    }
+
+    /*
+     * Renders the callback into the retained framebuffer (already sized) if
+     * the content has been invalidated, scissored to the union of the damaged
+     * regions when only partially invalidated.
+     */
+    void renderRetainedContent(GL gl) {
+        // Reset first, not to lose an invalidation made during the rendering.
+        boolean partial = takeDamage(damage);
+        if (contentDirty) {
+            contentDirty = false;
+            partial = false;
+        } else if (!partial) {
+            return;
+        }
+
+        Runnable unbind = retainedFramebuffer.bind(gl, retainedWidth, retainedHeight);
+        // Possibly rendered by another canvas of the group.
+        FrameClock previousClock = FrameClock.current();
+        FrameClock.setCurrent(clock);
+        try {
+            if (partial) {
+                int minX = Math.max(0, damage[0]);
+                int minY = Math.max(0, damage[1]);
+                int maxX = Math.min(retainedWidth, damage[2]);
+                int maxY = Math.min(retainedHeight, damage[3]);
+                if (maxX <= minX || maxY <= minY) {
+                    return;
+                }
+                gl.glEnable(GL.GL_SCISSOR_TEST);
+                // Bottom left origin.
+                gl.glScissor(minX, retainedHeight - maxY, maxX - minX, maxY - minY);
+            }
+            renderCallback(gl);
+            contentRendered = true;
+        } finally {
+            FrameClock.setCurrent(previousClock);
+            if (partial) {
+                gl.glDisable(GL.GL_SCISSOR_TEST);
+            }
+            unbind.run();
+        }
+    }
+
+    /*
+     * Calls the dirty callback, through a GL counting its calls when
+     * instrumented (only the calls of the callback being counted).
+     */
+    private void renderCallback(GL gl) {
+        if (statistics != null) {
+            if (instrumentedGL == null || instrumentedGL.getDelegate() != gl) {
+                instrumentedGL = new InstrumentedGL(gl);
+            }
+            dirtyCallback.accept(instrumentedGL.getProxy());
+        } else {
+            dirtyCallback.accept(gl);
+        }
+    }
+
+    private boolean takeDamage(int[] region) {
+        synchronized (damageLock) {
+            if (!damaged) {
+                return false;
+            }
+            region[0] = damageMinX;
+            region[1] = damageMinY;
+            region[2] = damageMaxX;
+            region[3] = damageMaxY;
+            damaged = false;
+            return true;
+        }
+    }
 
-            JOGL.checkNoError(gl);
-        });
+    /*
+     * The callback being rendered by the render thread, only copies its last
+     * frame.
+     */
+    private void renderThreaded(GL gl) {
+        gl.glGetIntegerv(GL.GL_VIEWPORT, viewport, 0);
+        renderThread.setSize(viewport[2], viewport[3]);
+        if (renderThread.display(gl, viewport[0], viewport[1]) && recorder != null) {
+            renderThread.capture(gl, recorder);
+        }
     }
 }
@@ -0,0 +1,252 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3ES3;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+
+/**
+ * Asynchronous reads of framebuffer pixels: glReadPixels() into a ring of
+ * pixel buffer objects returns immediately, the buffers being mapped a frame
+ * or two later (once their fence has been signaled) by {@link #poll(GL)}. The
+ * pixels are then copied and handed to a background thread for encoding.
+ */
+public class PixelReadback {
+
+    public enum Format {
+        /*
+         * Top to bottom RGBA rows, without any header.
+         */
+        RAW,
+        PNG
+    }
+
+    private static final int RING_SIZE = 3;
+
+    private static final ExecutorService ENCODER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JOGL Snapshot Encoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static class Request {
+
+        int pbo;
+
+        int capacity;
+
+        long fence;
+
+        int width;
+
+        int height;
+
+        ByteBuffer destination;
+
+        CompletableFuture<ByteBuffer> pixels;
+    }
+
+    private final Request[] requests = new Request[RING_SIZE];
+
+    private int next;
+
+    public PixelReadback() {
+        for (int i = 0; i < requests.length; ++i) {
+            requests[i] = new Request();
+        }
+    }
+
+    /**
+     * Reads the lower left (width x height) part of the color attachment of
+     * the given framebuffer object. The future is completed with top to
+     * bottom RGBA rows by a later call to {@link #poll(GL)}.
+     */
+    public CompletableFuture<ByteBuffer> read(GL gl, int fbo, int width, int height) {
+        return read(gl, fbo, width, height, null);
+    }
+
+    /**
+     * Same as {@link #read(GL, int, int, int)}, the pixels being copied into
+     * the given buffer (from its position) instead of a new one.
+     */
+    public CompletableFuture<ByteBuffer> read(GL gl, int fbo, int width, int height, ByteBuffer destination) {
+        return read(gl, fbo, 0, 0, width, height, destination);
+    }
+
+    /**
+     * Same as {@link #read(GL, int, int, int, ByteBuffer)}, for the part whose
+     * lower left corner is at (x, y).
+     */
+    public CompletableFuture<ByteBuffer> read(GL gl, int fbo, int x, int y, int width, int height, ByteBuffer destination) {
+        GL2ES3 gl3 = gl.getGL2ES3();
+        Request request = requests[next];
+        next = (next + 1) % requests.length;
+        if (request.pixels != null) {
+            // The ring is full: the oldest read has to be completed now.
+            complete(gl, request, true);
+        }
+
+        int size = width * height * 4;
+        if (request.pbo == GL.GL_NONE) {
+            request.pbo = JOGL.create(gl, GLResources.Type.BUFFER, this);
+        }
+        int oldPbo = JOGL.getInt(gl, GL2ES3.GL_PIXEL_PACK_BUFFER_BINDING);
+        int oldFbo = JOGL.getInt(gl, GL.GL_READ_FRAMEBUFFER_BINDING);
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, request.pbo);
+        if (request.capacity < size) {
+            gl.glBufferData(GL2ES3.GL_PIXEL_PACK_BUFFER, size, null, GL2ES3.GL_STREAM_READ);
+            request.capacity = size;
+            GLResources.getDefault().setSize(gl, GLResources.Type.BUFFER, request.pbo, size);
+        }
+        gl.glBindFramebuffer(GL.GL_READ_FRAMEBUFFER, fbo);
+        gl3.glReadBuffer(GL.GL_COLOR_ATTACHMENT0);
+        gl.glReadPixels(x, y, width, height, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, 0L);
+        gl.glBindFramebuffer(GL.GL_READ_FRAMEBUFFER, oldFbo);
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, oldPbo);
+
+        request.fence = gl.getGL3ES3().glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        request.width = width;
+        request.height = height;
+        request.destination = destination;
+        request.pixels = new CompletableFuture<>();
+        return request.pixels;
+    }
+
+    /**
+     * Same as {@link #read(GL, int, int, int)}, the pixels being then encoded
+     * into the given file in background.
+     */
+    public CompletableFuture<File> snapshot(GL gl, int fbo, int width, int height, File file, Format format) {
+        return read(gl, fbo, width, height).thenApplyAsync(
+                pixels -> write(pixels, width, height, file, format),
+                ENCODER);
+    }
+
+    public boolean isPending() {
+        for (Request request : requests) {
+            if (request.pixels != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Completes the reads done by the GPU, without waiting for the others.
+     */
+    public void poll(GL gl) {
+        for (int i = 0; i < requests.length; ++i) {
+            // Oldest first.
+            Request request = requests[(next + i) % requests.length];
+            if (request.pixels != null) {
+                complete(gl, request, false);
+            }
+        }
+    }
+
+    /**
+     * Completes the pending reads, waiting for them.
+     */
+    public void finish(GL gl) {
+        for (int i = 0; i < requests.length; ++i) {
+            Request request = requests[(next + i) % requests.length];
+            if (request.pixels != null) {
+                complete(gl, request, true);
+            }
+        }
+    }
+
+    /**
+     * Completes the pending reads (waiting for them) and deletes the buffers.
+     */
+    public void dispose(GL gl) {
+        finish(gl);
+        for (Request request : requests) {
+            if (request.pbo != GL.GL_NONE) {
+                JOGL.delete(gl, GLResources.Type.BUFFER, request.pbo);
+                request.pbo = GL.GL_NONE;
+                request.capacity = 0;
+            }
+        }
+    }
+
+    private static void complete(GL gl, Request request, boolean wait) {
+        GL3ES3 gl3 = gl.getGL3ES3();
+        int status = gl3.glClientWaitSync(
+                request.fence,
+                wait ? GL3ES3.GL_SYNC_FLUSH_COMMANDS_BIT : 0,
+                wait ? Long.MAX_VALUE : 0);
+        if (status == GL3ES3.GL_TIMEOUT_EXPIRED) {
+            return;
+        }
+        gl3.glDeleteSync(request.fence);
+        request.fence = 0;
+
+        CompletableFuture<ByteBuffer> pixels = request.pixels;
+        ByteBuffer destination = request.destination;
+        request.pixels = null;
+        request.destination = null;
+        if (status == GL3ES3.GL_WAIT_FAILED) {
+            pixels.completeExceptionally(new IllegalStateException("Failed to wait for the pixels"));
+            return;
+        }
+
+        int rowSize = request.width * 4;
+        int size = rowSize * request.height;
+        ByteBuffer copy = destination != null ? destination.slice() : ByteBuffer.allocate(size);
+        int oldPbo = JOGL.getInt(gl, GL2ES3.GL_PIXEL_PACK_BUFFER_BINDING);
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, request.pbo);
+        ByteBuffer mapped = gl.glMapBufferRange(GL2ES3.GL_PIXEL_PACK_BUFFER, 0, size, GL.GL_MAP_READ_BIT);
+        if (mapped != null) {
+            // Flipped, GL rows being bottom to top.
+            for (int y = request.height - 1; y >= 0; --y) {
+                mapped.limit((y + 1) * rowSize).position(y * rowSize);
+                copy.put(mapped);
+            }
+            copy.flip();
+            gl.glUnmapBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER);
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, oldPbo);
+
+        if (mapped != null) {
+            pixels.complete(copy);
+        } else {
+            pixels.completeExceptionally(new IllegalStateException("Failed to map the pixel buffer"));
+        }
+    }
+
+    private static File write(ByteBuffer pixels, int width, int height, File file, Format format) {
+        try (OutputStream output = new FileOutputStream(file)) {
+            switch (format) {
+                case RAW:
+                    output.write(pixels.array(), pixels.arrayOffset(), pixels.remaining());
+                    break;
+                case PNG:
+                    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                    int[] row = new int[width];
+                    for (int y = 0; y < height; ++y) {
+                        for (int x = 0; x < width; ++x) {
+                            int rgba = pixels.getInt();
+                            row[x] = (rgba >>> 8) | (rgba << 24);
+                        }
+                        image.setRGB(0, y, width, 1, row, 0, width);
+                    }
+                    ImageIO.write(image, "png", output);
+                    break;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,288 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A disk cache of linked programs: the binary retrieved with
+ * glGetProgramBinary() after a first compilation is stored under a hash of
+ * the shader sources, the defines and the driver (vendor, renderer and
+ * version), to be given back to glProgramBinary() afterwards. The shaders are
+ * compiled from source when the driver has no program binary support, or
+ * rejects a stored binary (which is then removed).
+ * <p>
+ * The defines are inserted after the '#version' line of each shader.
+ */
+public class ProgramCache {
+
+    private static final int MAGIC = 0x4A465850;
+
+    private static ProgramCache defaultCache;
+
+    private final File directory;
+
+    private long hits;
+
+    private long misses;
+
+    /**
+     * Creates a cache storing its binaries in the given directory, or only
+     * compiling the programs if null.
+     */
+    public ProgramCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the cache whose directory is given by the 'joglfx.programCache'
+     * system property ('~/.joglfx/programs' by default, an empty value
+     * disabling the cache).
+     */
+    public static synchronized ProgramCache getDefault() {
+        if (defaultCache == null) {
+            String path = System.getProperty("joglfx.programCache",
+                    new File(System.getProperty("user.home"), ".joglfx/programs").getPath());
+            defaultCache = new ProgramCache(path.isEmpty() ? null : new File(path));
+        }
+        return defaultCache;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Returns a new program made of the given shaders (sources by shader type).
+     */
+    public int getProgram(GL2ES2 gl, Map<Integer, String> sources) {
+        return getProgram(gl, sources, Collections.emptyMap());
+    }
+
+    /**
+     * Same as {@link #getProgram(GL2ES2, Map)}, the given macros being defined
+     * in each shader.
+     */
+    public int getProgram(GL2ES2 gl, Map<Integer, String> sources, Map<String, String> defines) {
+        Map<Integer, String> definedSources = new TreeMap<>();
+        sources.forEach((type, source) -> definedSources.put(type, ShaderPreprocessor.define(source, defines)));
+
+        int program = loadProgram(gl, definedSources);
+        if (program != GL.GL_NONE) {
+            return program;
+        }
+
+        List<Integer> shaders = new ArrayList<>();
+        try {
+            definedSources.forEach((type, source) -> shaders.add(Shaders.createShader(gl, type, source)));
+            program = gl.glCreateProgram();
+            if (isEnabled(gl)) {
+                gl.glProgramParameteri(program, GL2ES3.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL.GL_TRUE);
+            }
+            for (int shader : shaders) {
+                gl.glAttachShader(program, shader);
+            }
+            gl.glLinkProgram(program);
+            for (int shader : shaders) {
+                gl.glDetachShader(program, shader);
+            }
+            if (!Shaders.isLinked(gl, program)) {
+                String infoLog = Shaders.getProgramInfoLog(gl, program);
+                gl.glDeleteProgram(program);
+                throw new AssertionError("Linker failure: " + infoLog);
+            }
+            storeProgram(gl, program, definedSources);
+            return program;
+        } finally {
+            shaders.forEach(gl::glDeleteShader);
+        }
+    }
+
+    /**
+     * Returns whether binaries can be loaded and stored with the given GL.
+     */
+    public boolean isEnabled(GL2ES2 gl) {
+        return directory != null && isBinarySupported(gl);
+    }
+
+    /**
+     * Returns a new program loaded from the binary stored for the given
+     * (preprocessed) sources, or GL_NONE if there is none (or an invalid one).
+     */
+    public int loadProgram(GL2ES2 gl, Map<Integer, String> sources) {
+        if (isEnabled(gl)) {
+            int program = load(gl, getFile(gl, sources));
+            if (program != GL.GL_NONE) {
+                synchronized (this) {
+                    ++hits;
+                }
+                return program;
+            }
+        }
+        synchronized (this) {
+            ++misses;
+        }
+        return GL.GL_NONE;
+    }
+
+    /**
+     * Stores the binary of the given program, linked from the given sources
+     * with the GL_PROGRAM_BINARY_RETRIEVABLE_HINT parameter set.
+     */
+    public void storeProgram(GL2ES2 gl, int program, Map<Integer, String> sources) {
+        if (isEnabled(gl)) {
+            store(gl, program, getFile(gl, sources));
+        }
+    }
+
+    private File getFile(GL gl, Map<Integer, String> sources) {
+        return new File(directory, getKey(gl, new TreeMap<>(sources)) + ".bin");
+    }
+
+    /**
+     * Removes all the stored binaries.
+     */
+    public void clear() {
+        File[] files = directory != null ? directory.listFiles((dir, name) -> name.endsWith(".bin")) : null;
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    private static boolean isBinarySupported(GL2ES2 gl) {
+        return (gl.isGL4ES3() || gl.isExtensionAvailable("GL_ARB_get_program_binary"))
+                && JOGL.getInt(gl, GL2ES2.GL_NUM_PROGRAM_BINARY_FORMATS) > 0;
+    }
+
+    private static boolean isFormatSupported(GL2ES2 gl, int format) {
+        int[] formats = new int[JOGL.getInt(gl, GL2ES2.GL_NUM_PROGRAM_BINARY_FORMATS)];
+        gl.glGetIntegerv(GL2ES2.GL_PROGRAM_BINARY_FORMATS, formats, 0);
+        for (int supported : formats) {
+            if (supported == format) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getKey(GL gl, Map<Integer, String> sources) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, gl.glGetString(GL.GL_VENDOR));
+            update(digest, gl.glGetString(GL.GL_RENDERER));
+            update(digest, gl.glGetString(GL.GL_VERSION));
+            sources.forEach((type, source) -> {
+                update(digest, String.valueOf(type));
+                update(digest, source);
+            });
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static int load(GL2ES2 gl, File file) {
+        if (!file.isFile()) {
+            return GL.GL_NONE;
+        }
+        int format;
+        byte[] binary;
+        try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+            if (input.readInt() != MAGIC) {
+                file.delete();
+                return GL.GL_NONE;
+            }
+            format = input.readInt();
+            binary = new byte[input.readInt()];
+            input.readFully(binary);
+        } catch (IOException e) {
+            file.delete();
+            return GL.GL_NONE;
+        }
+        if (!isFormatSupported(gl, format)) {
+            file.delete();
+            return GL.GL_NONE;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(binary.length);
+        buffer.put(binary).flip();
+        int program = gl.glCreateProgram();
+        gl.glProgramBinary(program, format, buffer, binary.length);
+        if (Shaders.isLinked(gl, program)) {
+            return program;
+        } else {
+            // Typically after a driver update not changing its version string.
+            gl.glDeleteProgram(program);
+            // Not to be blamed on the next callback checked.
+            while (gl.glGetError() != GL.GL_NO_ERROR) {
+            }
+            file.delete();
+            return GL.GL_NONE;
+        }
+    }
+
+    private static void store(GL2ES2 gl, int program, File file) {
+        int length = JOGL.create(value -> gl.glGetProgramiv(program, GL2ES2.GL_PROGRAM_BINARY_LENGTH, value));
+        if (length <= 0) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        int[] values = new int[2];
+        gl.glGetProgramBinary(program, length, values, 0, values, 1, buffer);
+        byte[] binary = new byte[values[0]];
+        buffer.get(binary);
+
+        // Written aside first, not to leave a truncated binary behind.
+        File directory = file.getParentFile();
+        File temporary = new File(directory, file.getName() + ".tmp");
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            return;
+        }
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(temporary))) {
+            output.writeInt(MAGIC);
+            output.writeInt(values[1]);
+            output.writeInt(binary.length);
+            output.write(binary);
+        } catch (IOException e) {
+            temporary.delete();
+            return;
+        }
+        if (!temporary.renameTo(file)) {
+            temporary.delete();
+        }
+    }
+}
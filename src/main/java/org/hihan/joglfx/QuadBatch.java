@@ -0,0 +1,217 @@
+package org.hihan.joglfx;
+
+import static com.jogamp.opengl.GL.GL_ARRAY_BUFFER;
+import static com.jogamp.opengl.GL.GL_FLOAT;
+import static com.jogamp.opengl.GL.GL_NONE;
+import static com.jogamp.opengl.GL.GL_STATIC_DRAW;
+import static com.jogamp.opengl.GL.GL_TRIANGLE_STRIP;
+import static com.jogamp.opengl.GL2ES2.GL_FRAGMENT_SHADER;
+import static com.jogamp.opengl.GL2ES2.GL_STREAM_DRAW;
+import static com.jogamp.opengl.GL2ES2.GL_VERTEX_SHADER;
+import com.jogamp.opengl.GL3;
+import com.jogamp.opengl.util.GLBuffers;
+import java.nio.FloatBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import static org.hihan.joglfx.GLResources.Type.BUFFER;
+import static org.hihan.joglfx.GLResources.Type.VERTEX_ARRAY;
+
+/**
+ * Colored rectangles drawn in a single instanced call: a unit quad is
+ * stretched by each instance attributes (x, y, width, height, red, green,
+ * blue, alpha), given as floats. The coordinates are transformed by a scale
+ * and an offset (normalized device coordinates by default).
+ */
+public class QuadBatch {
+
+    public static final int CORNER = 0;
+
+    public static final int RECTANGLE = 1;
+
+    public static final int COLOR = 2;
+
+    /*
+     * Floats per quad.
+     */
+    public static final int STRIDE = 8;
+
+    private static final String VERTEX_SHADER = String.join("\n",
+            "#version 330",
+            "layout(location = CORNER) in vec2 corner;",
+            "layout(location = RECTANGLE) in vec4 rectangle;",
+            "layout(location = COLOR) in vec4 color;",
+            "uniform vec4 transform;",
+            "out vec4 outColor;",
+            "void main()",
+            "{",
+            "   vec2 position = rectangle.xy + corner * rectangle.zw;",
+            "   gl_Position = vec4(position * transform.xy + transform.zw, 0, 1);",
+            "   outColor = color;",
+            "}");
+
+    private static final String FRAGMENT_SHADER = String.join("\n",
+            "#version 330",
+            "in vec4 outColor;",
+            "out vec4 outputColor;",
+            "void main()",
+            "{",
+            "   outputColor = outColor;",
+            "}");
+
+    private static final float[] QUAD = {
+        0, 0,
+        1, 0,
+        0, 1,
+        1, 1
+    };
+
+    private final ShaderRegistry.Program program;
+
+    private int transformLocation = -1;
+
+    private final float[] transform = {1, 1, 0, 0};
+
+    private final int quadVbo;
+
+    private final int instanceVbo;
+
+    private final int vao;
+
+    private long instanceVboSize;
+
+    private FloatBuffer instances;
+
+    private int locationProgram = GL_NONE;
+
+    public QuadBatch(GL3 gl, int initialCapacity) {
+        Map<Integer, String> sources = new LinkedHashMap<>();
+        sources.put(GL_VERTEX_SHADER, VERTEX_SHADER);
+        sources.put(GL_FRAGMENT_SHADER, FRAGMENT_SHADER);
+        Map<String, String> defines = new LinkedHashMap<>();
+        defines.put("CORNER", String.valueOf(CORNER));
+        defines.put("RECTANGLE", String.valueOf(RECTANGLE));
+        defines.put("COLOR", String.valueOf(COLOR));
+        program = ShaderRegistry.getDefault().acquire(gl, sources, defines);
+
+        instances = GLBuffers.newDirectFloatBuffer(Math.max(1, initialCapacity) * STRIDE);
+
+        quadVbo = JOGL.create(gl, BUFFER, this);
+        GLResources.getDefault().setSize(gl, BUFFER, quadVbo, QUAD.length * Float.BYTES);
+        gl.glBindBuffer(GL_ARRAY_BUFFER, quadVbo);
+        gl.glBufferData(GL_ARRAY_BUFFER, QUAD.length * Float.BYTES, GLBuffers.newDirectFloatBuffer(QUAD), GL_STATIC_DRAW);
+
+        instanceVbo = JOGL.create(gl, BUFFER, this);
+
+        vao = JOGL.create(gl, VERTEX_ARRAY, this);
+        gl.glBindVertexArray(vao);
+        {
+            gl.glBindBuffer(GL_ARRAY_BUFFER, quadVbo);
+            gl.glEnableVertexAttribArray(CORNER);
+            gl.glVertexAttribPointer(CORNER, 2, GL_FLOAT, false, 0, 0);
+
+            gl.glBindBuffer(GL_ARRAY_BUFFER, instanceVbo);
+            gl.glEnableVertexAttribArray(RECTANGLE);
+            gl.glVertexAttribPointer(RECTANGLE, 4, GL_FLOAT, false, STRIDE * Float.BYTES, 0);
+            gl.glVertexAttribDivisor(RECTANGLE, 1);
+            gl.glEnableVertexAttribArray(COLOR);
+            gl.glVertexAttribPointer(COLOR, 4, GL_FLOAT, false, STRIDE * Float.BYTES, 4 * Float.BYTES);
+            gl.glVertexAttribDivisor(COLOR, 1);
+        }
+        gl.glBindVertexArray(GL_NONE);
+        gl.glBindBuffer(GL_ARRAY_BUFFER, GL_NONE);
+    }
+
+    /**
+     * Sets the transformation of the coordinates: (x * scaleX + offsetX,
+     * y * scaleY + offsetY) in normalized device coordinates.
+     */
+    public void setTransform(float scaleX, float scaleY, float offsetX, float offsetY) {
+        transform[0] = scaleX;
+        transform[1] = scaleY;
+        transform[2] = offsetX;
+        transform[3] = offsetY;
+    }
+
+    /**
+     * Sets a transformation mapping pixel coordinates (origin at the top left)
+     * to normalized device coordinates for the given viewport dimensions.
+     */
+    public void setPixelTransform(int width, int height) {
+        setTransform(2f / width, -2f / height, -1, 1);
+    }
+
+    public int getCount() {
+        return instances.position() / STRIDE;
+    }
+
+    public void clear() {
+        instances.clear();
+    }
+
+    public void add(float x, float y, float width, float height, float red, float green, float blue, float alpha) {
+        ensureCapacity(1);
+        instances.put(x).put(y).put(width).put(height).put(red).put(green).put(blue).put(alpha);
+    }
+
+    /**
+     * Adds 'count' quads whose {@link #STRIDE} attributes are given from
+     * 'offset' in the array.
+     */
+    public void add(float[] quads, int offset, int count) {
+        ensureCapacity(count);
+        instances.put(quads, offset, count * STRIDE);
+    }
+
+    public void display(GL3 gl) {
+        int count = getCount();
+        if (count == 0) {
+            return;
+        }
+
+        gl.glBindBuffer(GL_ARRAY_BUFFER, instanceVbo);
+        instances.flip();
+        long size = (long) instances.limit() * Float.BYTES;
+        if (size != instanceVboSize) {
+            instanceVboSize = size;
+            GLResources.getDefault().setSize(gl, BUFFER, instanceVbo, size);
+        }
+        // A new storage each time, not to wait for the previous draw to be done with it.
+        gl.glBufferData(GL_ARRAY_BUFFER, size, instances, GL_STREAM_DRAW);
+        // Back to the appending position.
+        instances.position(instances.limit()).limit(instances.capacity());
+        gl.glBindBuffer(GL_ARRAY_BUFFER, GL_NONE);
+
+        int name = program.getName();
+        gl.glUseProgram(name);
+        {
+            if (locationProgram != name) {
+                locationProgram = name;
+                transformLocation = gl.glGetUniformLocation(name, "transform");
+            }
+            gl.glUniform4fv(transformLocation, 1, transform, 0);
+            gl.glBindVertexArray(vao);
+            {
+                gl.glDrawArraysInstanced(GL_TRIANGLE_STRIP, 0, 4, count);
+            }
+            gl.glBindVertexArray(GL_NONE);
+        }
+        gl.glUseProgram(GL_NONE);
+    }
+
+    public void dispose(GL3 gl) {
+        ShaderRegistry.getDefault().release(gl, program);
+        JOGL.delete(gl, VERTEX_ARRAY, vao);
+        JOGL.delete(gl, BUFFER, quadVbo);
+        JOGL.delete(gl, BUFFER, instanceVbo);
+    }
+
+    private void ensureCapacity(int count) {
+        if (instances.remaining() < count * STRIDE) {
+            int capacity = Math.max(instances.capacity() * 2, instances.position() + count * STRIDE);
+            FloatBuffer larger = GLBuffers.newDirectFloatBuffer(capacity);
+            instances.flip();
+            larger.put(instances);
+            instances = larger;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package org.hihan.joglfx;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The Java Flight Recorder events of the render path, in the "JOGL-FX"
+ * category. They are recorded by starting a recording with them enabled (the
+ * 'profile' settings enabling all of them for instance):
+ * <pre>
+ * java -XX:StartFlightRecording=settings=profile,filename=render.jfr ...
+ * </pre>
+ * Not recording, an event costs a check: its allocation is removed by the
+ * JIT (the events never escaping), begin() and commit() doing nothing. On a
+ * JDK without the jdk.jfr API (before 8u262), nothing is created at all.
+ */
+final class RenderEvents {
+
+    static final boolean AVAILABLE = isAvailable();
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Name("org.hihan.joglfx.Frame")
+    @Label("Canvas Frame")
+    @Description("The OpenGL part of the rendering of a canvas")
+    @Category("JOGL-FX")
+    @StackTrace(false)
+    static class FrameEvent extends Event {
+
+        @Label("Canvas Id")
+        int canvasId;
+
+        @Label("Mode")
+        String mode;
+
+        @Label("Animation Frame")
+        long animationFrame;
+    }
+
+    @Name("org.hihan.joglfx.States")
+    @Label("GL States Save / Restore")
+    @Category("JOGL-FX")
+    @StackTrace(false)
+    static class StatesEvent extends Event {
+
+        @Label("Canvas Id")
+        int canvasId;
+
+        @Label("Operation")
+        String operation;
+
+        @Label("State Count")
+        int stateCount;
+    }
+
+    @Name("org.hihan.joglfx.Framebuffer")
+    @Label("Framebuffer")
+    @Description("Creation, binding, restoration of the previous binding or copy (blit) of a framebuffer")
+    @Category("JOGL-FX")
+    @StackTrace(false)
+    static class FramebufferEvent extends Event {
+
+        @Label("Canvas Id")
+        int canvasId;
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Framebuffer")
+        int framebuffer;
+
+        @Label("Other Framebuffer")
+        @Description("The framebuffer bound before a bind, or bound again by a restore")
+        int otherFramebuffer;
+
+        @Label("Width")
+        int width;
+
+        @Label("Height")
+        int height;
+    }
+
+    @Name("org.hihan.joglfx.ShaderCompile")
+    @Label("Shader Compile")
+    @Description("The build of a program, from its submission to its completion (or its load from the binary cache)")
+    @Category("JOGL-FX")
+    static class ShaderCompileEvent extends Event {
+
+        @Label("Program")
+        int program;
+
+        @Label("Shader Count")
+        int shaderCount;
+
+        @Label("From Cache")
+        boolean fromCache;
+
+        @Label("Compile Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long compileTime;
+
+        @Label("Success")
+        boolean success;
+
+        @Label("Error")
+        String error;
+    }
+
+    @Name("org.hihan.joglfx.GLError")
+    @Label("GL Error")
+    @Category("JOGL-FX")
+    static class GLErrorEvent extends Event {
+
+        @Label("Canvas Id")
+        int canvasId;
+
+        @Label("Error")
+        int error;
+
+        @Label("Message")
+        String message;
+    }
+
+    static FrameEvent beginFrame() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        FrameEvent event = new FrameEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endFrame(FrameEvent event, int canvasId, String mode, long animationFrame) {
+        if (event != null && event.shouldCommit()) {
+            event.canvasId = canvasId;
+            event.mode = mode;
+            event.animationFrame = animationFrame;
+            event.commit();
+        }
+    }
+
+    static StatesEvent beginStates() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        StatesEvent event = new StatesEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endStates(StatesEvent event, String operation, int stateCount) {
+        if (event != null && event.shouldCommit()) {
+            event.canvasId = GLResources.getCurrentCanvas();
+            event.operation = operation;
+            event.stateCount = stateCount;
+            event.commit();
+        }
+    }
+
+    static FramebufferEvent beginFramebuffer() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        FramebufferEvent event = new FramebufferEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endFramebuffer(FramebufferEvent event, String operation, int framebuffer, int otherFramebuffer, int width, int height) {
+        if (event != null && event.shouldCommit()) {
+            event.canvasId = GLResources.getCurrentCanvas();
+            event.operation = operation;
+            event.framebuffer = framebuffer;
+            event.otherFramebuffer = otherFramebuffer;
+            event.width = width;
+            event.height = height;
+            event.commit();
+        }
+    }
+
+    /*
+     * An instant framebuffer event.
+     */
+    static void framebuffer(String operation, int framebuffer, int otherFramebuffer, int width, int height) {
+        endFramebuffer(beginFramebuffer(), operation, framebuffer, otherFramebuffer, width, height);
+    }
+
+    static ShaderCompileEvent beginShaderCompile() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        ShaderCompileEvent event = new ShaderCompileEvent();
+        event.begin();
+        return event;
+    }
+
+    /*
+     * The compile time is given since an asynchronous compilation spans
+     * several frames.
+     */
+    static void endShaderCompile(ShaderCompileEvent event, int program, int shaderCount, boolean fromCache, long compileTime, String error) {
+        if (event != null && event.shouldCommit()) {
+            event.program = program;
+            event.shaderCount = shaderCount;
+            event.fromCache = fromCache;
+            event.compileTime = compileTime;
+            event.success = error == null;
+            event.error = error;
+            event.commit();
+        }
+    }
+
+    static void glError(int error) {
+        glError(GLResources.getCurrentCanvas(), error, null);
+    }
+
+    /*
+     * The error is the code given by glGetError() or the id of a debug
+     * output message.
+     */
+    static void glError(int canvasId, int error, String message) {
+        if (AVAILABLE) {
+            GLErrorEvent event = new GLErrorEvent();
+            if (event.shouldCommit()) {
+                event.canvasId = canvasId;
+                event.error = error;
+                event.message = message;
+                event.commit();
+            }
+        }
+    }
+
+    private RenderEvents() {
+    }
+}
@@ -0,0 +1,334 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawable;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLProfile;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A thread rendering a callback with its own GL context, shared with the
+ * Quantum renderer one. The frames are rendered into a ring of three
+ * framebuffers handed over without locking (triple buffering): the Quantum
+ * renderer only copies the last completed one, so that a slow callback never
+ * stalls the JavaFX rendering.
+ * <p>
+ * As a framebuffer object cannot be shared, the Quantum renderer reads the
+ * (shared) color texture of each framebuffer through its own framebuffer
+ * object. Each side waits for the fence inserted by the other one before
+ * using a framebuffer, on the GPU (glWaitSync), never on the CPU.
+ */
+public class RenderThread {
+
+    private static final int FRESH = 4;
+
+    private static final int INDEX = 3;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /*
+     * A framebuffer of the ring.
+     */
+    private static class Slot {
+
+        // Written by the render thread.
+        Framebuffer framebuffer;
+
+        int generation;
+
+        int liveWidth;
+
+        int liveHeight;
+
+        long renderedFence;
+
+        // Written by the Quantum renderer thread.
+        long displayedFence;
+
+        int displayFbo;
+
+        int displayGeneration;
+    }
+
+    private final Slot[] slots = {new Slot(), new Slot(), new Slot()};
+
+    // The slot last published, possibly FRESH (not yet displayed).
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    // Owned by the render thread.
+    private int back = 0;
+
+    // Owned by the Quantum renderer thread.
+    private int front = 2;
+
+    private final GLContext sharedContext;
+
+    private final Thread thread;
+
+    private final Object lock = new Object();
+
+    private volatile Consumer<GL> callback;
+
+    private boolean dirty = true;
+
+    private boolean running = true;
+
+    private int requestedWidth;
+
+    private int requestedHeight;
+
+    private volatile Throwable failure;
+
+    private volatile Runnable frameListener;
+
+    private final int canvas;
+
+    private final byte[] debugGroupLabel;
+
+    public RenderThread(Consumer<GL> callback) {
+        this.callback = callback;
+        sharedContext = JOGL.getGLContext();
+        // The objects created by the callback are charged to the same canvas.
+        canvas = GLResources.getCurrentCanvas();
+        debugGroupLabel = GLErrorChecker.getGroupLabel(canvas);
+        thread = new Thread(this::run, "JOGL Render Thread " + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void setCallback(Consumer<GL> callback) {
+        this.callback = callback;
+        invalidate();
+    }
+
+    /**
+     * Sets the listener notified by the render thread each time a frame has
+     * been completed.
+     */
+    public void setFrameListener(Runnable frameListener) {
+        this.frameListener = frameListener;
+    }
+
+    /**
+     * Requests a new frame to be rendered. Can be called from any thread.
+     */
+    public void invalidate() {
+        synchronized (lock) {
+            dirty = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Sets the size of the frames to come, a new frame being requested if it
+     * changes.
+     */
+    public void setSize(int width, int height) {
+        synchronized (lock) {
+            if (width != requestedWidth || height != requestedHeight) {
+                requestedWidth = width;
+                requestedHeight = height;
+                dirty = true;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Copies the last completed frame (if any) into the current draw
+     * framebuffer, its lower left corner at (x, y). Returns true if this
+     * frame had not been displayed yet. To be called by the Quantum renderer
+     * thread.
+     */
+    public boolean display(GL gl, int x, int y) {
+        assert JOGL.isInQuatumRendererThread();
+        if (failure != null) {
+            throw new IllegalStateException("The render thread has failed", failure);
+        }
+
+        boolean fresh = (middle.get() & FRESH) != 0;
+        if (fresh) {
+            Slot previous = slots[front];
+            if (previous.framebuffer != null) {
+                // Not to be rendered into before our last copy is done.
+                previous.displayedFence = gl.getGL3ES3().glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+                gl.glFlush();
+            }
+            front = middle.getAndSet(front) & INDEX;
+        }
+
+        Slot slot = slots[front];
+        if (slot.framebuffer == null) {
+            return false;
+        }
+
+        GL3ES3 gl3 = gl.getGL3ES3();
+        if (slot.renderedFence != 0) {
+            gl3.glWaitSync(slot.renderedFence, 0, GL2ES3.GL_TIMEOUT_IGNORED);
+            gl3.glDeleteSync(slot.renderedFence);
+            slot.renderedFence = 0;
+        }
+
+        if (slot.displayFbo == GL.GL_NONE || slot.displayGeneration != slot.generation) {
+            int oldFbo = JOGL.getInt(gl, GL.GL_READ_FRAMEBUFFER_BINDING);
+            if (slot.displayFbo == GL.GL_NONE) {
+                slot.displayFbo = JOGL.create(gl, GLResources.Type.FRAMEBUFFER, this);
+            }
+            gl.glBindFramebuffer(GL.GL_READ_FRAMEBUFFER, slot.displayFbo);
+            gl.glFramebufferTexture2D(
+                    GL.GL_READ_FRAMEBUFFER,
+                    GL.GL_COLOR_ATTACHMENT0,
+                    GL.GL_TEXTURE_2D,
+                    slot.framebuffer.getColorTextureObject(),
+                    0);
+            gl.glBindFramebuffer(GL.GL_READ_FRAMEBUFFER, oldFbo);
+            slot.displayGeneration = slot.generation;
+        }
+
+        gl.glBindFramebuffer(GL.GL_READ_FRAMEBUFFER, slot.displayFbo);
+        gl3.glBlitFramebuffer(
+                0, 0, slot.liveWidth, slot.liveHeight,
+                x, y, x + slot.liveWidth, y + slot.liveHeight,
+                GL.GL_COLOR_BUFFER_BIT, GL.GL_NEAREST);
+        return fresh;
+    }
+
+    /**
+     * Captures the frame last displayed. To be called by the Quantum renderer
+     * thread.
+     */
+    public void capture(GL gl, FrameRecorder recorder) {
+        assert JOGL.isInQuatumRendererThread();
+        Slot slot = slots[front];
+        if (slot.displayFbo != GL.GL_NONE) {
+            recorder.capture(gl, slot.displayFbo, 0, 0, slot.liveWidth, slot.liveHeight);
+        }
+    }
+
+    /**
+     * Stops the thread, which releases its resources on its own. To be called
+     * by the Quantum renderer thread.
+     */
+    public void dispose(GL gl) {
+        assert JOGL.isInQuatumRendererThread();
+        for (Slot slot : slots) {
+            if (slot.displayFbo != GL.GL_NONE) {
+                JOGL.delete(gl, GLResources.Type.FRAMEBUFFER, slot.displayFbo);
+                slot.displayFbo = GL.GL_NONE;
+            }
+        }
+        // Makes sure these deletions are done before the textures are.
+        gl.glFinish();
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+        }
+    }
+
+    private void run() {
+        GLProfile profile = sharedContext.getGLDrawable().getGLProfile();
+        GLCapabilities capabilities = new GLCapabilities(profile);
+        capabilities.setOnscreen(false);
+        GLDrawable drawable = GLDrawableFactory.getFactory(profile).createOffscreenDrawable(
+                null, capabilities, null, 1, 1);
+        drawable.setRealized(true);
+        GLContext context = drawable.createContext(sharedContext);
+        GLErrorChecker.getDefault().prepareContext(context);
+        context.makeCurrent();
+        // Our own context, which can be shadowed without ever being invalidated.
+        GL gl = JOGL.isShadowStateEnabled() ? new ShadowStateGL(context.getGL()).getProxy() : context.getGL();
+        GLResources.setCurrentCanvas(canvas);
+        FramebufferPool pool = new FramebufferPool(FramebufferPool.getDefaultBudget());
+        try {
+            int width;
+            int height;
+            while ((width = awaitFrameRequest()) >= 0) {
+                synchronized (lock) {
+                    height = requestedHeight;
+                }
+                render(gl, pool, width, height);
+                Runnable listener = frameListener;
+                if (listener != null) {
+                    listener.run();
+                }
+                GLResources.getDefault().poll(gl);
+            }
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            for (Slot slot : slots) {
+                if (slot.framebuffer != null) {
+                    pool.release(gl, slot.framebuffer);
+                    slot.framebuffer = null;
+                }
+            }
+            pool.clear(gl);
+            context.release();
+            context.destroy();
+            drawable.setRealized(false);
+        }
+    }
+
+    /*
+     * Returns the width of the requested frame, or -1 when stopped.
+     */
+    private int awaitFrameRequest() throws InterruptedException {
+        synchronized (lock) {
+            while (running && (!dirty || requestedWidth <= 0 || requestedHeight <= 0)) {
+                lock.wait();
+            }
+            dirty = false;
+            return running ? requestedWidth : -1;
+        }
+    }
+
+    private void render(GL gl, FramebufferPool pool, int width, int height) {
+        Slot slot = slots[back];
+        GL3ES3 gl3 = gl.getGL3ES3();
+
+        if (slot.displayedFence != 0) {
+            gl3.glWaitSync(slot.displayedFence, 0, GL2ES3.GL_TIMEOUT_IGNORED);
+            gl3.glDeleteSync(slot.displayedFence);
+            slot.displayedFence = 0;
+        }
+        if (slot.renderedFence != 0) {
+            // Never displayed.
+            gl3.glDeleteSync(slot.renderedFence);
+            slot.renderedFence = 0;
+        }
+
+        if (slot.framebuffer == null
+                || slot.framebuffer.getWidth() != FramebufferPool.getSizeClass(width)
+                || slot.framebuffer.getHeight() != FramebufferPool.getSizeClass(height)) {
+            if (slot.framebuffer != null) {
+                pool.release(gl, slot.framebuffer);
+            }
+            slot.framebuffer = pool.acquire(gl, width, height, false, true);
+            ++slot.generation;
+        }
+        slot.liveWidth = width;
+        slot.liveHeight = height;
+
+        Runnable unbind = slot.framebuffer.bind(gl, width, height);
+        GLErrorChecker errorChecker = GLErrorChecker.getDefault();
+        errorChecker.beginCallback(gl, canvas, debugGroupLabel);
+        try {
+            callback.accept(gl);
+        } finally {
+            errorChecker.endCallback(gl);
+            unbind.run();
+        }
+        errorChecker.check(gl);
+
+        slot.renderedFence = gl3.glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        // Fences are only visible to other contexts once flushed.
+        gl.glFlush();
+
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+}
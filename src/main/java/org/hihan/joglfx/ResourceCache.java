@@ -0,0 +1,153 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The GL resources (meshes, textures...) shared by the canvases and their
+ * objects, keyed by a hash of their content (see {@link #getKey}): the same
+ * content acquired by many users is only uploaded once and disposed once
+ * released by all of them. The programs are shared the same way by the
+ * {@link ShaderRegistry}.
+ * <p>
+ * The resources are only usable with the context they have been created with
+ * and the ones sharing its objects (vertex arrays and framebuffers aside).
+ */
+public class ResourceCache {
+
+    public interface Resource {
+
+        void dispose(GL gl);
+    }
+
+    private static ResourceCache defaultCache;
+
+    private static class Entry {
+
+        private final String key;
+
+        private final Resource resource;
+
+        private int references;
+
+        Entry(String key, Resource resource) {
+            this.key = key;
+            this.resource = resource;
+        }
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private final Map<Resource, Entry> entriesByResource = new IdentityHashMap<>();
+
+    /**
+     * Returns the cache of the Quantum renderer context, shared by all the
+     * canvases.
+     */
+    public static synchronized ResourceCache getDefault() {
+        if (defaultCache == null) {
+            defaultCache = new ResourceCache();
+        }
+        return defaultCache;
+    }
+
+    /*
+     * Replaces the default instance (created again on demand when null),
+     * so that the tests do not share it.
+     */
+    static synchronized void setDefault(ResourceCache cache) {
+        defaultCache = cache;
+    }
+
+    /**
+     * Returns the resource of the given key, created by the factory if not
+     * already in the cache.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T extends Resource> T acquire(GL gl, String key, Function<GL, T> factory) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(key, factory.apply(gl));
+            entries.put(key, entry);
+            entriesByResource.put(entry.resource, entry);
+        }
+        ++entry.references;
+        return (T) entry.resource;
+    }
+
+    public synchronized void release(GL gl, Resource resource) {
+        Entry entry = entriesByResource.get(resource);
+        if (entry == null) {
+            throw new IllegalStateException("Resource already released");
+        }
+        if (--entry.references == 0) {
+            entries.remove(entry.key);
+            entriesByResource.remove(resource);
+            entry.resource.dispose(gl);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a key made of the kind of the resource (the creation parameters
+     * not in the content included) and a SHA-256 of its content, the data
+     * between the position and the limit of each buffer (left unchanged).
+     */
+    public static String getKey(String kind, Buffer... contents) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] scratch = new byte[8];
+            for (Buffer content : contents) {
+                if (content instanceof ByteBuffer) {
+                    digest.update(((ByteBuffer) content).duplicate());
+                } else if (content instanceof ShortBuffer) {
+                    ShortBuffer shorts = (ShortBuffer) content;
+                    for (int i = shorts.position(); i < shorts.limit(); ++i) {
+                        update(digest, scratch, shorts.get(i), Short.BYTES);
+                    }
+                } else if (content instanceof IntBuffer) {
+                    IntBuffer ints = (IntBuffer) content;
+                    for (int i = ints.position(); i < ints.limit(); ++i) {
+                        update(digest, scratch, ints.get(i), Integer.BYTES);
+                    }
+                } else if (content instanceof FloatBuffer) {
+                    FloatBuffer floats = (FloatBuffer) content;
+                    for (int i = floats.position(); i < floats.limit(); ++i) {
+                        update(digest, scratch, Float.floatToRawIntBits(floats.get(i)), Float.BYTES);
+                    }
+                } else {
+                    throw new IllegalArgumentException("Unsupported buffer: " + content.getClass());
+                }
+                // Not to mistake [ab][c] for [a][bc].
+                update(digest, scratch, content.remaining(), Long.BYTES);
+            }
+            StringBuilder key = new StringBuilder(kind).append(':');
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, byte[] scratch, long value, int size) {
+        for (int i = 0; i < size; ++i) {
+            scratch[i] = (byte) (value >>> (8 * i));
+        }
+        digest.update(scratch, 0, size);
+    }
+}
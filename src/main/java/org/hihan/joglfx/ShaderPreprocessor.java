@@ -0,0 +1,114 @@
+package org.hihan.joglfx;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Expands the '#include "name"' directives of a shader source (recursively,
+ * each file being included once at most) and defines the given macros right
+ * after its '#version' line. The other directives (#define, #if...) are left
+ * to the GLSL compiler.
+ */
+public class ShaderPreprocessor {
+
+    private static final Pattern INCLUDE = Pattern.compile("^\\s*#\\s*include\\s+[\"<]([^\">]+)[\">]\\s*$");
+
+    private static final Pattern VERSION = Pattern.compile("^\\s*#\\s*version\\b.*$");
+
+    private final Function<String, String> includeResolver;
+
+    /**
+     * Creates a preprocessor resolving the includes with the given function
+     * (returning null for an unknown name).
+     */
+    public ShaderPreprocessor(Function<String, String> includeResolver) {
+        this.includeResolver = includeResolver;
+    }
+
+    /**
+     * Returns a resolver loading the includes as resources of the given class
+     * loader, relative to the given root.
+     */
+    public static Function<String, String> getResourceResolver(ClassLoader loader, String root) {
+        return name -> {
+            try (InputStream input = loader.getResourceAsStream(root + name)) {
+                if (input == null) {
+                    return null;
+                }
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = input.read(buffer)) >= 0) {
+                    output.write(buffer, 0, read);
+                }
+                return new String(output.toByteArray(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    public String process(String source, Map<String, String> defines) {
+        StringBuilder output = new StringBuilder();
+        expand(source, output, new ArrayDeque<>(), new HashSet<>());
+        return define(output.toString(), defines);
+    }
+
+    private void expand(String source, StringBuilder output, Deque<String> stack, Set<String> includedNames) {
+        for (String line : source.split("\n", -1)) {
+            Matcher matcher = INCLUDE.matcher(line);
+            if (matcher.matches()) {
+                String name = matcher.group(1);
+                if (stack.contains(name)) {
+                    throw new IllegalArgumentException("Recursive include: " + stack + " -> " + name);
+                }
+                if (includedNames.add(name)) {
+                    String included = includeResolver.apply(name);
+                    if (included == null) {
+                        throw new IllegalArgumentException("Unknown include: " + name);
+                    }
+                    stack.push(name);
+                    expand(included, output, stack, includedNames);
+                    stack.pop();
+                }
+            } else {
+                output.append(line).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Inserts the definition of the given macros after the '#version' line
+     * of the source (or at its beginning if there is none).
+     */
+    public static String define(String source, Map<String, String> defines) {
+        if (defines.isEmpty()) {
+            return source;
+        }
+        StringBuilder lines = new StringBuilder();
+        new TreeMap<>(defines).forEach((name, value) -> lines.append("#define ").append(name).append(' ').append(value).append('\n'));
+        int offset = 0;
+        for (String line : source.split("\n", -1)) {
+            int next = offset + line.length() + 1;
+            if (VERSION.matcher(line).matches()) {
+                return next > source.length()
+                        ? source + '\n' + lines
+                        : source.substring(0, next) + lines + source.substring(next);
+            }
+            offset = next;
+        }
+        return lines + source;
+    }
+}
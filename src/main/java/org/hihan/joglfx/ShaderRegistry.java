@@ -0,0 +1,281 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The programs shared by the canvases and their objects. A program is
+ * acquired from its shader sources (preprocessed, see
+ * {@link ShaderPreprocessor}) and defines, the same sources giving the same
+ * program, which is deleted once released by all its users.
+ * <p>
+ * The compilation of a new program is only submitted by
+ * {@link #acquire(GL2ES2, Map, Map)}: its status is polled on later frames
+ * by {@link #poll(GL2ES2)} (called before each canvas callback), a placeholder
+ * program being used meanwhile. With GL_KHR_parallel_shader_compile (or its
+ * ARB variant) the driver compiles in background and the polling never
+ * blocks. Without it, querying the status waits for the compilation, so a
+ * single program is completed per poll.
+ */
+public class ShaderRegistry {
+
+    // From GL_KHR_parallel_shader_compile, unknown to JOGL 2.3.
+    private static final int GL_COMPLETION_STATUS_KHR = 0x91B1;
+
+    private static final String PLACEHOLDER_VERTEX_SHADER = String.join("\n",
+            "#version 330",
+            "layout(location = 0) in vec4 position;",
+            "void main()",
+            "{",
+            "   gl_Position = position;",
+            "}");
+
+    private static final String PLACEHOLDER_FRAGMENT_SHADER = String.join("\n",
+            "#version 330",
+            "out vec4 outputColor;",
+            "void main()",
+            "{",
+            "   outputColor = vec4(0.5, 0.5, 0.5, 1);",
+            "}");
+
+    private static ShaderRegistry defaultRegistry;
+
+    public class Program {
+
+        private final Map<Integer, String> sources;
+
+        private int name;
+
+        private int[] shaders;
+
+        private int references;
+
+        private boolean ready;
+
+        private String error;
+
+        // When submitted, for the compile time.
+        private long submitTime;
+
+        private Program(Map<Integer, String> sources) {
+            this.sources = sources;
+        }
+
+        /**
+         * Returns the program to use: the placeholder until this one is ready.
+         */
+        public int getName() {
+            return ready ? name : placeholder;
+        }
+
+        public boolean isReady() {
+            return ready;
+        }
+
+        /**
+         * Returns the compilation or link error of this program, if any (the
+         * placeholder being then used for good).
+         */
+        public String getError() {
+            return error;
+        }
+    }
+
+    private final ShaderPreprocessor preprocessor;
+
+    private final ProgramCache cache;
+
+    private final Map<Map<Integer, String>, Program> programs = new HashMap<>();
+
+    private final List<Program> pending = new ArrayList<>();
+
+    private int placeholder;
+
+    private Boolean parallelCompilation;
+
+    public ShaderRegistry(ShaderPreprocessor preprocessor, ProgramCache cache) {
+        this.preprocessor = preprocessor;
+        this.cache = cache;
+    }
+
+    /**
+     * Returns the registry of the Quantum renderer context (and the ones
+     * sharing its objects), resolving the includes as resources of the
+     * 'shaders/' directory with the default program cache.
+     */
+    public static synchronized ShaderRegistry getDefault() {
+        if (defaultRegistry == null) {
+            defaultRegistry = new ShaderRegistry(
+                    new ShaderPreprocessor(ShaderPreprocessor.getResourceResolver(
+                            ShaderRegistry.class.getClassLoader(), "shaders/")),
+                    ProgramCache.getDefault());
+        }
+        return defaultRegistry;
+    }
+
+    /*
+     * Replaces the default instance (created again on demand when null),
+     * so that the tests do not share it.
+     */
+    static synchronized void setDefault(ShaderRegistry registry) {
+        defaultRegistry = registry;
+    }
+
+    public Program acquire(GL2ES2 gl, Map<Integer, String> sources) {
+        return acquire(gl, sources, Collections.emptyMap());
+    }
+
+    public synchronized Program acquire(GL2ES2 gl, Map<Integer, String> sources, Map<String, String> defines) {
+        Map<Integer, String> processedSources = new TreeMap<>();
+        sources.forEach((type, source) -> processedSources.put(type, preprocessor.process(source, defines)));
+
+        Program program = programs.get(processedSources);
+        if (program == null) {
+            program = new Program(processedSources);
+            programs.put(processedSources, program);
+            submit(gl, program);
+        }
+        ++program.references;
+        return program;
+    }
+
+    public synchronized void release(GL2ES2 gl, Program program) {
+        if (program.references <= 0) {
+            throw new IllegalStateException("Program already released");
+        }
+        if (--program.references == 0) {
+            programs.remove(program.sources);
+            pending.remove(program);
+            deleteShaders(gl, program);
+            JOGL.delete(gl, GLResources.Type.PROGRAM, program.name);
+            program.name = GL.GL_NONE;
+        }
+    }
+
+    public synchronized boolean isPending() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Completes the programs whose compilation is done.
+     */
+    public synchronized void poll(GL2ES2 gl) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        boolean parallel = isParallelCompilationAvailable(gl);
+        Iterator<Program> i = pending.iterator();
+        while (i.hasNext()) {
+            Program program = i.next();
+            if (parallel && JOGL.create(status -> gl.glGetProgramiv(program.name, GL_COMPLETION_STATUS_KHR, status)) == GL.GL_FALSE) {
+                continue;
+            }
+            i.remove();
+            complete(gl, program);
+            if (!parallel) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Completes all the pending programs, waiting for them (for a loading
+     * screen or a benchmark).
+     */
+    public synchronized void finish(GL2ES2 gl) {
+        for (Program program : pending) {
+            complete(gl, program);
+        }
+        pending.clear();
+    }
+
+    private void submit(GL2ES2 gl, Program program) {
+        if (placeholder == GL.GL_NONE) {
+            Map<Integer, String> sources = new LinkedHashMap<>();
+            sources.put(GL2ES2.GL_VERTEX_SHADER, PLACEHOLDER_VERTEX_SHADER);
+            sources.put(GL2ES2.GL_FRAGMENT_SHADER, PLACEHOLDER_FRAGMENT_SHADER);
+            placeholder = cache.getProgram(gl, sources);
+            GLResources.getDefault().register(gl, GLResources.Type.PROGRAM, placeholder, this);
+        }
+
+        RenderEvents.ShaderCompileEvent cacheEvent = RenderEvents.beginShaderCompile();
+        long loadStart = System.nanoTime();
+        program.name = cache.loadProgram(gl, program.sources);
+        if (program.name != GL.GL_NONE) {
+            GLResources.getDefault().register(gl, GLResources.Type.PROGRAM, program.name, program);
+            program.ready = true;
+            RenderEvents.endShaderCompile(cacheEvent, program.name, program.sources.size(), true, System.nanoTime() - loadStart, null);
+            return;
+        }
+        program.submitTime = loadStart;
+
+        // No status queried here, it would wait for the compilation.
+        program.shaders = new int[program.sources.size()];
+        int index = 0;
+        for (Map.Entry<Integer, String> entry : program.sources.entrySet()) {
+            int shader = gl.glCreateShader(entry.getKey());
+            String source = entry.getValue();
+            gl.glShaderSource(shader, 1, new String[]{source}, new int[]{source.length()}, 0);
+            gl.glCompileShader(shader);
+            program.shaders[index++] = shader;
+        }
+        program.name = JOGL.create(gl, GLResources.Type.PROGRAM, program);
+        if (cache.isEnabled(gl)) {
+            gl.glProgramParameteri(program.name, GL2ES3.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL.GL_TRUE);
+        }
+        for (int shader : program.shaders) {
+            gl.glAttachShader(program.name, shader);
+        }
+        gl.glLinkProgram(program.name);
+        pending.add(program);
+    }
+
+    private void complete(GL2ES2 gl, Program program) {
+        RenderEvents.ShaderCompileEvent event = RenderEvents.beginShaderCompile();
+        if (Shaders.isLinked(gl, program.name)) {
+            program.ready = true;
+            cache.storeProgram(gl, program.name, program.sources);
+        } else {
+            StringBuilder error = new StringBuilder();
+            for (int shader : program.shaders) {
+                if (!Shaders.isCompiled(gl, shader)) {
+                    error.append(Shaders.getShaderInfoLog(gl, shader)).append('\n');
+                }
+            }
+            error.append(Shaders.getProgramInfoLog(gl, program.name));
+            // Reported by the program itself and the compile event.
+            program.error = error.toString();
+        }
+        RenderEvents.endShaderCompile(event, program.name, program.shaders.length, false, System.nanoTime() - program.submitTime, program.error);
+        deleteShaders(gl, program);
+    }
+
+    private static void deleteShaders(GL2ES2 gl, Program program) {
+        if (program.shaders != null) {
+            for (int shader : program.shaders) {
+                if (program.name != GL.GL_NONE) {
+                    gl.glDetachShader(program.name, shader);
+                }
+                gl.glDeleteShader(shader);
+            }
+            program.shaders = null;
+        }
+    }
+
+    private boolean isParallelCompilationAvailable(GL2ES2 gl) {
+        if (parallelCompilation == null) {
+            parallelCompilation = gl.isExtensionAvailable("GL_KHR_parallel_shader_compile")
+                    || gl.isExtensionAvailable("GL_ARB_parallel_shader_compile");
+        }
+        return parallelCompilation;
+    }
+}
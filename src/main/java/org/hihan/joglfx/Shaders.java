@@ -0,0 +1,99 @@
+package org.hihan.joglfx;
+
+import static com.jogamp.opengl.GL.GL_FALSE;
+import static com.jogamp.opengl.GL2ES2.GL_COMPILE_STATUS;
+import static com.jogamp.opengl.GL2ES2.GL_FRAGMENT_SHADER;
+import static com.jogamp.opengl.GL2ES2.GL_INFO_LOG_LENGTH;
+import static com.jogamp.opengl.GL2ES2.GL_LINK_STATUS;
+import static com.jogamp.opengl.GL2ES2.GL_VERTEX_SHADER;
+import com.jogamp.opengl.GL2ES2;
+import static com.jogamp.opengl.GL3ES3.GL_GEOMETRY_SHADER;
+import java.util.List;
+
+/**
+ * Shader compilation and program linking helpers.
+ */
+public class Shaders {
+
+    public static int createShader(GL2ES2 gl, int shaderType, String source) {
+        int newShader = gl.glCreateShader(shaderType);
+        String[] lines = {source};
+        int[] length = {source.length()};
+        gl.glShaderSource(newShader, 1, lines, length, 0);
+
+        gl.glCompileShader(newShader);
+
+        if (!isCompiled(gl, newShader)) {
+            String infoLog = getShaderInfoLog(gl, newShader);
+            gl.glDeleteShader(newShader);
+            throw new AssertionError("Compiler failure in " + getShaderTypeName(shaderType) + " shader: " + infoLog);
+        }
+
+        return newShader;
+    }
+
+    public static boolean isCompiled(GL2ES2 gl, int shader) {
+        return JOGL.create(status -> gl.glGetShaderiv(shader, GL_COMPILE_STATUS, status)) != GL_FALSE;
+    }
+
+    public static String getShaderInfoLog(GL2ES2 gl, int shader) {
+        int infoLogLength = JOGL.create(length -> gl.glGetShaderiv(shader, GL_INFO_LOG_LENGTH, length));
+        byte[] bytes = new byte[Math.max(1, infoLogLength)];
+        gl.glGetShaderInfoLog(shader, bytes.length, null, 0, bytes, 0);
+        return toString(bytes);
+    }
+
+    /**
+     * Creates a program from the given shaders, which are detached once the
+     * program is linked.
+     */
+    public static int createProgram(GL2ES2 gl, List<Integer> shaders) {
+        int newProgram = gl.glCreateProgram();
+
+        shaders.forEach(shader -> gl.glAttachShader(newProgram, shader));
+
+        gl.glLinkProgram(newProgram);
+
+        if (!isLinked(gl, newProgram)) {
+            String infoLog = getProgramInfoLog(gl, newProgram);
+            gl.glDeleteProgram(newProgram);
+            throw new AssertionError("Linker failure: " + infoLog);
+        }
+
+        shaders.forEach(shader -> gl.glDetachShader(newProgram, shader));
+
+        return newProgram;
+    }
+
+    public static boolean isLinked(GL2ES2 gl, int program) {
+        return JOGL.create(status -> gl.glGetProgramiv(program, GL_LINK_STATUS, status)) != GL_FALSE;
+    }
+
+    public static String getProgramInfoLog(GL2ES2 gl, int program) {
+        int infoLogLength = JOGL.create(length -> gl.glGetProgramiv(program, GL_INFO_LOG_LENGTH, length));
+        byte[] bytes = new byte[Math.max(1, infoLogLength)];
+        gl.glGetProgramInfoLog(program, bytes.length, null, 0, bytes, 0);
+        return toString(bytes);
+    }
+
+    public static String getShaderTypeName(int shaderType) {
+        switch (shaderType) {
+            case GL_VERTEX_SHADER:
+                return "vertex";
+            case GL_GEOMETRY_SHADER:
+                return "geometry";
+            case GL_FRAGMENT_SHADER:
+                return "fragment";
+            default:
+                return "?";
+        }
+    }
+
+    private static String toString(byte[] bytes) {
+        int length = 0;
+        while (length < bytes.length && bytes[length] != 0) {
+            ++length;
+        }
+        return new String(bytes, 0, length);
+    }
+}
@@ -0,0 +1,386 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import java.lang.reflect.Method;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A GL keeping a CPU-side copy (a shadow) of the states saved by
+ * {@link JOGL.State}. Queries on these states are answered from the shadow and
+ * calls setting a state to its current value are dropped, which turns most of
+ * a save / restore cycle into plain field accesses.
+ * <p>
+ * The shadow is filled lazily (a parameter is queried once, the first time it
+ * is needed) and must be invalidated each time some foreign code may have used
+ * the context behind our back. Since Prism uses its context between each of
+ * our frames, the shadow would then query everything again on each frame:
+ * it is only used for the contexts owned by the library (see
+ * {@link JOGL#setShadowStateEnabled(boolean)}).
+ */
+public class ShadowStateGL extends GLInterceptor {
+
+    /*
+     * Tracked parameters with their number of values.
+     */
+    private static final Map<Integer, Integer> PARAMETERS = new HashMap<>();
+
+    /*
+     * Tracked parameters which depend on the active texture unit.
+     */
+    private static final Set<Integer> TEXTURE_UNIT_PARAMETERS = new HashSet<>();
+
+    /*
+     * Tracked parameters stored as float bits.
+     */
+    private static final Set<Integer> FLOAT_PARAMETERS = new HashSet<>();
+
+    static {
+        for (int parameter : new int[]{
+            GL2ES2.GL_CURRENT_PROGRAM,
+            GL2ES3.GL_VERTEX_ARRAY_BINDING,
+            GL.GL_FRAMEBUFFER_BINDING,
+            GL.GL_READ_FRAMEBUFFER_BINDING,
+            GL.GL_ARRAY_BUFFER_BINDING,
+            GL.GL_ELEMENT_ARRAY_BUFFER_BINDING,
+            GL.GL_BLEND,
+            GL.GL_BLEND_EQUATION,
+            GL.GL_BLEND_SRC,
+            GL.GL_BLEND_DST,
+            GL.GL_DEPTH_TEST,
+            GL.GL_DEPTH_FUNC,
+            GL.GL_CULL_FACE,
+            GL.GL_CULL_FACE_MODE,
+            GL.GL_SCISSOR_TEST,
+            GL.GL_ACTIVE_TEXTURE,
+            GL.GL_TEXTURE_2D,
+            GL.GL_TEXTURE_BINDING_2D}) {
+            PARAMETERS.put(parameter, 1);
+        }
+        PARAMETERS.put(GL.GL_VIEWPORT, 4);
+        PARAMETERS.put(GL.GL_SCISSOR_BOX, 4);
+        PARAMETERS.put(GL.GL_COLOR_CLEAR_VALUE, 4);
+
+        TEXTURE_UNIT_PARAMETERS.add(GL.GL_TEXTURE_2D);
+        TEXTURE_UNIT_PARAMETERS.add(GL.GL_TEXTURE_BINDING_2D);
+
+        FLOAT_PARAMETERS.add(GL.GL_COLOR_CLEAR_VALUE);
+    }
+
+    /*
+     * Known values, keyed by (texture unit + 1) << 32 | parameter for the
+     * per-unit ones and by the parameter alone for the others.
+     */
+    private final Map<Long, int[]> values = new HashMap<>();
+
+    /*
+     * glActiveTexture is deferred until something depending on it is issued.
+     */
+    private boolean deviceActiveTextureKnown;
+
+    private int deviceActiveTexture;
+
+    private long elidedCallCount;
+
+    private long servedQueryCount;
+
+    public ShadowStateGL(GL delegate) {
+        super(delegate);
+    }
+
+    public void invalidate() {
+        values.clear();
+        deviceActiveTextureKnown = false;
+    }
+
+    public long getElidedCallCount() {
+        return elidedCallCount;
+    }
+
+    public long getServedQueryCount() {
+        return servedQueryCount;
+    }
+
+    public void resetCounters() {
+        elidedCallCount = 0;
+        servedQueryCount = 0;
+    }
+
+    @Override
+    protected Object intercept(Method method, String name, Object[] args) throws Throwable {
+        switch (name) {
+            case "glGetIntegerv":
+            case "glGetFloatv": {
+                int parameter = (Integer) args[0];
+                boolean floats = name.equals("glGetFloatv");
+                if (PARAMETERS.containsKey(parameter) && floats == FLOAT_PARAMETERS.contains(parameter)) {
+                    return query(method, args, parameter);
+                }
+                break;
+            }
+            case "glIsEnabled": {
+                int capability = (Integer) args[0];
+                if (PARAMETERS.containsKey(capability)) {
+                    long key = key(capability);
+                    int[] value = values.get(key);
+                    if (value != null) {
+                        ++servedQueryCount;
+                        return value[0] == 1;
+                    } else {
+                        flushActiveTexture();
+                        boolean enabled = (Boolean) forward(method, args);
+                        values.put(key, new int[]{enabled ? 1 : 0});
+                        return enabled;
+                    }
+                }
+                break;
+            }
+            case "glEnable":
+            case "glDisable": {
+                int capability = (Integer) args[0];
+                if (PARAMETERS.containsKey(capability)) {
+                    return set(method, args, new int[]{name.equals("glEnable") ? 1 : 0}, key(capability));
+                }
+                break;
+            }
+            case "glUseProgram":
+                return set(method, args, new int[]{(Integer) args[0]}, key(GL2ES2.GL_CURRENT_PROGRAM));
+            case "glBindVertexArray": {
+                long key = key(GL2ES3.GL_VERTEX_ARRAY_BINDING);
+                int[] value = {(Integer) args[0]};
+                if (!Arrays.equals(values.get(key), value)) {
+                    // The element array binding is part of the VAO state.
+                    forget(GL.GL_ELEMENT_ARRAY_BUFFER_BINDING);
+                }
+                return set(method, args, value, key);
+            }
+            case "glBindFramebuffer": {
+                int target = (Integer) args[0];
+                int[] value = {(Integer) args[1]};
+                switch (target) {
+                    case GL.GL_FRAMEBUFFER:
+                        return set(method, args, value, key(GL.GL_FRAMEBUFFER_BINDING), key(GL.GL_READ_FRAMEBUFFER_BINDING));
+                    case GL.GL_DRAW_FRAMEBUFFER:
+                        return set(method, args, value, key(GL.GL_FRAMEBUFFER_BINDING));
+                    case GL.GL_READ_FRAMEBUFFER:
+                        return set(method, args, value, key(GL.GL_READ_FRAMEBUFFER_BINDING));
+                }
+                break;
+            }
+            case "glBindBuffer": {
+                int target = (Integer) args[0];
+                int[] value = {(Integer) args[1]};
+                switch (target) {
+                    case GL.GL_ARRAY_BUFFER:
+                        return set(method, args, value, key(GL.GL_ARRAY_BUFFER_BINDING));
+                    case GL.GL_ELEMENT_ARRAY_BUFFER:
+                        return set(method, args, value, key(GL.GL_ELEMENT_ARRAY_BUFFER_BINDING));
+                }
+                break;
+            }
+            case "glBindTexture": {
+                int target = (Integer) args[0];
+                if (target == GL.GL_TEXTURE_2D) {
+                    return set(method, args, new int[]{(Integer) args[1]}, key(GL.GL_TEXTURE_BINDING_2D));
+                }
+                break;
+            }
+            case "glActiveTexture": {
+                long key = key(GL.GL_ACTIVE_TEXTURE);
+                int[] value = {(Integer) args[0]};
+                if (Arrays.equals(values.get(key), value)) {
+                    ++elidedCallCount;
+                } else {
+                    values.put(key, value);
+                }
+                return null;
+            }
+            case "glBlendEquation":
+                return set(method, args, new int[]{(Integer) args[0]}, key(GL.GL_BLEND_EQUATION));
+            case "glBlendEquationSeparate":
+                forget(GL.GL_BLEND_EQUATION);
+                break;
+            case "glBlendFunc": {
+                int[] src = {(Integer) args[0]};
+                int[] dst = {(Integer) args[1]};
+                if (Arrays.equals(values.get(key(GL.GL_BLEND_SRC)), src)
+                        && Arrays.equals(values.get(key(GL.GL_BLEND_DST)), dst)) {
+                    ++elidedCallCount;
+                    return null;
+                } else {
+                    flushActiveTexture();
+                    forward(method, args);
+                    values.put(key(GL.GL_BLEND_SRC), src);
+                    values.put(key(GL.GL_BLEND_DST), dst);
+                    return null;
+                }
+            }
+            case "glBlendFuncSeparate":
+                forget(GL.GL_BLEND_SRC, GL.GL_BLEND_DST);
+                break;
+            case "glDepthFunc":
+                return set(method, args, new int[]{(Integer) args[0]}, key(GL.GL_DEPTH_FUNC));
+            case "glCullFace":
+                return set(method, args, new int[]{(Integer) args[0]}, key(GL.GL_CULL_FACE_MODE));
+            case "glViewport":
+                return set(method, args, new int[]{
+                    (Integer) args[0],
+                    (Integer) args[1],
+                    (Integer) args[2],
+                    (Integer) args[3]}, key(GL.GL_VIEWPORT));
+            case "glScissor":
+                return set(method, args, new int[]{
+                    (Integer) args[0],
+                    (Integer) args[1],
+                    (Integer) args[2],
+                    (Integer) args[3]}, key(GL.GL_SCISSOR_BOX));
+            case "glClearColor":
+                return set(method, args, new int[]{
+                    Float.floatToRawIntBits((Float) args[0]),
+                    Float.floatToRawIntBits((Float) args[1]),
+                    Float.floatToRawIntBits((Float) args[2]),
+                    Float.floatToRawIntBits((Float) args[3])}, key(GL.GL_COLOR_CLEAR_VALUE));
+            case "glDeleteFramebuffers":
+                forget(GL.GL_FRAMEBUFFER_BINDING, GL.GL_READ_FRAMEBUFFER_BINDING);
+                break;
+            case "glDeleteBuffers":
+                forget(GL.GL_ARRAY_BUFFER_BINDING, GL.GL_ELEMENT_ARRAY_BUFFER_BINDING);
+                break;
+            case "glDeleteVertexArrays":
+                forget(GL2ES3.GL_VERTEX_ARRAY_BINDING, GL.GL_ELEMENT_ARRAY_BUFFER_BINDING);
+                break;
+            case "glDeleteTextures":
+                forget(GL.GL_TEXTURE_BINDING_2D);
+                break;
+        }
+        flushActiveTexture();
+        return forward(method, args);
+    }
+
+    private Object query(Method method, Object[] args, int parameter) throws Throwable {
+        long key = key(parameter);
+        int[] value = values.get(key);
+        if (value != null) {
+            ++servedQueryCount;
+            write(args, value);
+        } else {
+            flushActiveTexture();
+            forward(method, args);
+            values.put(key, read(args, PARAMETERS.get(parameter)));
+            if (parameter == GL.GL_ACTIVE_TEXTURE) {
+                deviceActiveTexture = values.get(key)[0];
+                deviceActiveTextureKnown = true;
+            }
+        }
+        return null;
+    }
+
+    private Object set(Method method, Object[] args, int[] value, long... keys) throws Throwable {
+        boolean unchanged = true;
+        for (long key : keys) {
+            unchanged &= Arrays.equals(values.get(key), value);
+        }
+        if (unchanged) {
+            ++elidedCallCount;
+            return null;
+        } else {
+            flushActiveTexture();
+            Object result = forward(method, args);
+            for (long key : keys) {
+                values.put(key, value);
+            }
+            return result;
+        }
+    }
+
+    private void forget(int... parameters) {
+        for (int parameter : parameters) {
+            values.keySet().removeIf(key -> key.intValue() == parameter);
+        }
+    }
+
+    private void flushActiveTexture() {
+        int[] activeTexture = values.get(key(GL.GL_ACTIVE_TEXTURE));
+        if (activeTexture != null && (!deviceActiveTextureKnown || deviceActiveTexture != activeTexture[0])) {
+            getDelegate().glActiveTexture(activeTexture[0]);
+            deviceActiveTexture = activeTexture[0];
+            deviceActiveTextureKnown = true;
+        }
+    }
+
+    private long key(int parameter) {
+        if (TEXTURE_UNIT_PARAMETERS.contains(parameter)) {
+            long unit = getActiveTexture() - GL.GL_TEXTURE0;
+            return ((unit + 1) << 32) | parameter;
+        } else {
+            return parameter;
+        }
+    }
+
+    private int getActiveTexture() {
+        int[] activeTexture = values.get((long) GL.GL_ACTIVE_TEXTURE);
+        if (activeTexture == null) {
+            activeTexture = new int[1];
+            getDelegate().glGetIntegerv(GL.GL_ACTIVE_TEXTURE, activeTexture, 0);
+            values.put((long) GL.GL_ACTIVE_TEXTURE, activeTexture);
+            deviceActiveTexture = activeTexture[0];
+            deviceActiveTextureKnown = true;
+        }
+        return activeTexture[0];
+    }
+
+    private static int[] read(Object[] args, int size) {
+        int[] value = new int[size];
+        Object destination = args[1];
+        if (destination instanceof IntBuffer) {
+            IntBuffer buffer = (IntBuffer) destination;
+            for (int i = 0; i < size; ++i) {
+                value[i] = buffer.get(buffer.position() + i);
+            }
+        } else if (destination instanceof FloatBuffer) {
+            FloatBuffer buffer = (FloatBuffer) destination;
+            for (int i = 0; i < size; ++i) {
+                value[i] = Float.floatToRawIntBits(buffer.get(buffer.position() + i));
+            }
+        } else if (destination instanceof int[]) {
+            System.arraycopy((int[]) destination, (Integer) args[2], value, 0, size);
+        } else {
+            float[] array = (float[]) destination;
+            int offset = (Integer) args[2];
+            for (int i = 0; i < size; ++i) {
+                value[i] = Float.floatToRawIntBits(array[offset + i]);
+            }
+        }
+        return value;
+    }
+
+    private static void write(Object[] args, int[] value) {
+        Object destination = args[1];
+        if (destination instanceof IntBuffer) {
+            IntBuffer buffer = (IntBuffer) destination;
+            for (int i = 0; i < value.length; ++i) {
+                buffer.put(buffer.position() + i, value[i]);
+            }
+        } else if (destination instanceof FloatBuffer) {
+            FloatBuffer buffer = (FloatBuffer) destination;
+            for (int i = 0; i < value.length; ++i) {
+                buffer.put(buffer.position() + i, Float.intBitsToFloat(value[i]));
+            }
+        } else if (destination instanceof int[]) {
+            System.arraycopy(value, 0, (int[]) destination, (Integer) args[2], value.length);
+        } else {
+            float[] array = (float[]) destination;
+            int offset = (Integer) args[2];
+            for (int i = 0; i < value.length; ++i) {
+                array[offset + i] = Float.intBitsToFloat(value[i]);
+            }
+        }
+    }
+}
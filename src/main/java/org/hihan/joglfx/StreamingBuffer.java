@@ -0,0 +1,219 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GL4;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * A buffer for data updated every frame. With glBufferStorage() (GL 4.4 or
+ * GL_ARB_buffer_storage), it is made of three regions of a single persistently
+ * mapped buffer, written in turn by the CPU while the GPU reads the previous
+ * ones, each region being protected by a fence. Otherwise, the data written
+ * into a CPU side buffer is uploaded into a new storage (orphaning) each time.
+ * <p>
+ * A frame goes as follow:
+ * <pre>
+ * FloatBuffer data = buffer.beginFloats(gl); // or begin() for bytes
+ * data.put(...);
+ * long offset = buffer.end(gl, data.position() * Float.BYTES);
+ * // Draw calls sourcing the data from 'offset' in the buffer.
+ * </pre>
+ */
+public class StreamingBuffer {
+
+    private static final int REGION_COUNT = 3;
+
+    // One second, a region is not supposed to be used longer than a frame.
+    private static final long FENCE_TIMEOUT = 1000000000L;
+
+    private final int target;
+
+    private final int regionSize;
+
+    private final boolean persistent;
+
+    private int buffer;
+
+    private final ByteBuffer[] regions = new ByteBuffer[REGION_COUNT];
+
+    private final FloatBuffer[] floatRegions = new FloatBuffer[REGION_COUNT];
+
+    private final long[] fences = new long[REGION_COUNT];
+
+    private int current = -1;
+
+    private long stallCount;
+
+    /**
+     * Creates a buffer for the given target (GL_ARRAY_BUFFER...) whose frames
+     * contain at most 'regionSize' bytes.
+     */
+    public StreamingBuffer(GL gl, int target, int regionSize) {
+        this.target = target;
+        this.regionSize = regionSize;
+        persistent = isBufferStorageAvailable(gl);
+
+        buffer = JOGL.create(gl, GLResources.Type.BUFFER, this);
+        GLResources.getDefault().setSize(gl, GLResources.Type.BUFFER, buffer, persistent ? (long) regionSize * REGION_COUNT : regionSize);
+        int oldBuffer = getBinding(gl);
+        gl.glBindBuffer(target, buffer);
+        if (persistent) {
+            int flags = GL.GL_MAP_WRITE_BIT | GL4.GL_MAP_PERSISTENT_BIT | GL4.GL_MAP_COHERENT_BIT;
+            long size = (long) regionSize * REGION_COUNT;
+            ((GL4) gl).glBufferStorage(target, size, null, flags);
+            ByteBuffer mapping = gl.glMapBufferRange(target, 0, size, flags);
+            if (mapping == null) {
+                gl.glBindBuffer(target, oldBuffer);
+                JOGL.delete(gl, GLResources.Type.BUFFER, buffer);
+                throw new IllegalStateException("Failed to map the buffer storage");
+            }
+            mapping.order(ByteOrder.nativeOrder());
+            for (int i = 0; i < REGION_COUNT; ++i) {
+                mapping.limit((i + 1) * regionSize).position(i * regionSize);
+                regions[i] = mapping.slice().order(ByteOrder.nativeOrder());
+            }
+        } else {
+            ByteBuffer region = ByteBuffer.allocateDirect(regionSize).order(ByteOrder.nativeOrder());
+            for (int i = 0; i < REGION_COUNT; ++i) {
+                regions[i] = region;
+            }
+        }
+        for (int i = 0; i < REGION_COUNT; ++i) {
+            floatRegions[i] = regions[i].asFloatBuffer();
+        }
+        gl.glBindBuffer(target, oldBuffer);
+    }
+
+    /*
+     * The version of the context rather than its profile, a GL4 profile
+     * starting at GL 4.0.
+     */
+    private static boolean isBufferStorageAvailable(GL gl) {
+        return gl instanceof GL4
+                && (gl.isExtensionAvailable("GL_ARB_buffer_storage") || gl.isExtensionAvailable("GL_VERSION_4_4"));
+    }
+
+    public int getBufferObject() {
+        return buffer;
+    }
+
+    public int getRegionSize() {
+        return regionSize;
+    }
+
+    public boolean isPersistent() {
+        return persistent;
+    }
+
+    /**
+     * Returns the number of times the CPU had to wait for the GPU to be done
+     * with a region.
+     */
+    public long getStallCount() {
+        return stallCount;
+    }
+
+    /**
+     * Returns the (cleared) bytes to write the data of the frame into.
+     */
+    public ByteBuffer begin(GL gl) {
+        ByteBuffer region = regions[next(gl)];
+        region.clear();
+        return region;
+    }
+
+    /**
+     * Same as {@link #begin(GL)} for floats.
+     */
+    public FloatBuffer beginFloats(GL gl) {
+        FloatBuffer region = floatRegions[next(gl)];
+        region.clear();
+        return region;
+    }
+
+    /**
+     * Makes the first 'size' bytes written available to the GPU and returns
+     * their offset in the buffer.
+     */
+    public long end(GL gl, int size) {
+        if (persistent) {
+            // Coherent mapping: nothing to flush.
+            return (long) current * regionSize;
+        } else {
+            ByteBuffer region = regions[current];
+            region.clear().limit(size);
+            int oldBuffer = getBinding(gl);
+            gl.glBindBuffer(target, buffer);
+            gl.glBufferData(target, regionSize, null, GL2ES2.GL_STREAM_DRAW);
+            gl.glBufferSubData(target, 0, size, region);
+            gl.glBindBuffer(target, oldBuffer);
+            return 0;
+        }
+    }
+
+    public void dispose(GL gl) {
+        if (persistent) {
+            GL3ES3 gl3 = gl.getGL3ES3();
+            for (int i = 0; i < REGION_COUNT; ++i) {
+                if (fences[i] != 0) {
+                    gl3.glDeleteSync(fences[i]);
+                    fences[i] = 0;
+                }
+            }
+            int oldBuffer = getBinding(gl);
+            gl.glBindBuffer(target, buffer);
+            gl.glUnmapBuffer(target);
+            gl.glBindBuffer(target, oldBuffer);
+        }
+        JOGL.delete(gl, GLResources.Type.BUFFER, buffer);
+        buffer = GL.GL_NONE;
+    }
+
+    private int next(GL gl) {
+        if (persistent) {
+            GL3ES3 gl3 = gl.getGL3ES3();
+            if (current >= 0) {
+                // After the draw calls reading the current region.
+                fences[current] = gl3.glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+            }
+            current = (current + 1) % REGION_COUNT;
+            long fence = fences[current];
+            if (fence != 0) {
+                int status = gl3.glClientWaitSync(fence, 0, 0);
+                if (status == GL3ES3.GL_TIMEOUT_EXPIRED) {
+                    ++stallCount;
+                    // Never reused before the GPU is done with it, however long it takes.
+                    do {
+                        status = gl3.glClientWaitSync(fence, GL3ES3.GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT);
+                    } while (status == GL3ES3.GL_TIMEOUT_EXPIRED);
+                }
+                gl3.glDeleteSync(fence);
+                fences[current] = 0;
+                if (status == GL3ES3.GL_WAIT_FAILED) {
+                    throw new IllegalStateException("Waiting for the region " + current + " failed");
+                }
+            }
+        } else {
+            current = 0;
+        }
+        return current;
+    }
+
+    private int getBinding(GL gl) {
+        switch (target) {
+            case GL.GL_ARRAY_BUFFER:
+                return JOGL.getInt(gl, GL.GL_ARRAY_BUFFER_BINDING);
+            case GL.GL_ELEMENT_ARRAY_BUFFER:
+                return JOGL.getInt(gl, GL.GL_ELEMENT_ARRAY_BUFFER_BINDING);
+            case GL2ES3.GL_UNIFORM_BUFFER:
+                return JOGL.getInt(gl, GL2ES3.GL_UNIFORM_BUFFER_BINDING);
+            default:
+                return GL.GL_NONE;
+        }
+    }
+}
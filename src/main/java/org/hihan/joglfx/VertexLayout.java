@@ -0,0 +1,298 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.util.GLBuffers;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The description of interleaved vertex attributes, some of them stored in a
+ * compact format, their offsets and the stride being computed (each attribute
+ * aligned on 4 bytes). The vertex data are given as floats, then packed in
+ * the described format.
+ * <p>
+ * For instance, a 2D position as half floats and a RGB color as normalized
+ * bytes take 8 bytes per vertex instead of 20:
+ * <pre>
+ * VertexLayout layout = new VertexLayout()
+ *         .add(POSITION, 2, VertexLayout.Type.HALF_FLOAT)
+ *         .add(COLOR, 3, VertexLayout.Type.UNSIGNED_BYTE_NORMALIZED);
+ * </pre>
+ */
+public class VertexLayout {
+
+    public enum Type {
+
+        FLOAT(GL.GL_FLOAT, Float.BYTES, false),
+        HALF_FLOAT(GL.GL_HALF_FLOAT, Short.BYTES, false),
+        /*
+         * [0, 1] mapped to [0, 255].
+         */
+        UNSIGNED_BYTE_NORMALIZED(GL.GL_UNSIGNED_BYTE, Byte.BYTES, true),
+        /*
+         * [-1, 1] mapped to 10 bits for x, y and z, 2 for w, all packed in an
+         * int (3 or 4 components, a normal typically). Always described as 4
+         * components to GL, w being 0 when not given.
+         */
+        INT_2_10_10_10_REV(GL3ES3.GL_INT_2_10_10_10_REV, 0, true);
+
+        private final int glType;
+
+        private final int componentSize;
+
+        private final boolean normalized;
+
+        Type(int glType, int componentSize, boolean normalized) {
+            this.glType = glType;
+            this.componentSize = componentSize;
+            this.normalized = normalized;
+        }
+
+        public int getGLType() {
+            return glType;
+        }
+
+        public boolean isNormalized() {
+            return normalized;
+        }
+
+        int getSize(int componentCount) {
+            return this == INT_2_10_10_10_REV ? Integer.BYTES : componentCount * componentSize;
+        }
+    }
+
+    public static class Attribute {
+
+        private final int location;
+
+        private final int componentCount;
+
+        private final Type type;
+
+        private final int offset;
+
+        private Attribute(int location, int componentCount, Type type, int offset) {
+            this.location = location;
+            this.componentCount = componentCount;
+            this.type = type;
+            this.offset = offset;
+        }
+
+        public int getLocation() {
+            return location;
+        }
+
+        public int getComponentCount() {
+            return componentCount;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+    }
+
+    private final List<Attribute> attributes = new ArrayList<>();
+
+    private int stride;
+
+    private int floatCount;
+
+    /**
+     * Appends an attribute of 1 to 4 components (3 or 4 for
+     * INT_2_10_10_10_REV).
+     */
+    public VertexLayout add(int location, int componentCount, Type type) {
+        if (componentCount < 1 || componentCount > 4 || (type == Type.INT_2_10_10_10_REV && componentCount < 3)) {
+            throw new IllegalArgumentException(componentCount + " components for " + type);
+        }
+        attributes.add(new Attribute(location, componentCount, type, stride));
+        stride += align(type.getSize(componentCount));
+        floatCount += componentCount;
+        return this;
+    }
+
+    public List<Attribute> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns the size in bytes of a vertex.
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Returns the number of floats of a vertex given to {@link #pack}.
+     */
+    public int getFloatCount() {
+        return floatCount;
+    }
+
+    /**
+     * Returns a description of the attributes, such as
+     * "0:2:HALF_FLOAT,1:3:UNSIGNED_BYTE_NORMALIZED".
+     */
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder();
+        for (Attribute attribute : attributes) {
+            if (description.length() > 0) {
+                description.append(',');
+            }
+            description.append(attribute.location)
+                    .append(':').append(attribute.componentCount)
+                    .append(':').append(attribute.type);
+        }
+        return description.toString();
+    }
+
+    /**
+     * Enables and describes the attributes for the GL_ARRAY_BUFFER currently
+     * bound (in the currently bound vertex array), starting at the given
+     * offset in bytes.
+     */
+    public void setup(GL2ES2 gl, long baseOffset) {
+        for (Attribute attribute : attributes) {
+            // GL only accepts a size of 4 (or GL_BGRA) for the packed type.
+            int size = attribute.type == Type.INT_2_10_10_10_REV ? 4 : attribute.componentCount;
+            gl.glEnableVertexAttribArray(attribute.location);
+            gl.glVertexAttribPointer(
+                    attribute.location,
+                    size,
+                    attribute.type.glType,
+                    attribute.type.normalized,
+                    stride,
+                    baseOffset + attribute.offset);
+        }
+    }
+
+    /**
+     * Packs the 'vertexCount' vertices of {@link #getFloatCount()} floats
+     * starting at 'offset' in the array into a new direct buffer (flipped).
+     */
+    public ByteBuffer pack(float[] data, int offset, int vertexCount) {
+        ByteBuffer buffer = GLBuffers.newDirectByteBuffer(vertexCount * stride);
+        pack(data, offset, vertexCount, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Packs the vertices at the position of the buffer (in native order),
+     * which is advanced past them.
+     */
+    public void pack(float[] data, int offset, int vertexCount, ByteBuffer buffer) {
+        int start = buffer.position();
+        int source = offset;
+        for (int v = 0; v < vertexCount; ++v) {
+            int vertex = start + v * stride;
+            for (Attribute attribute : attributes) {
+                int target = vertex + attribute.offset;
+                int n = attribute.componentCount;
+                switch (attribute.type) {
+                    case FLOAT:
+                        for (int c = 0; c < n; ++c) {
+                            buffer.putFloat(target + c * Float.BYTES, data[source + c]);
+                        }
+                        break;
+                    case HALF_FLOAT:
+                        for (int c = 0; c < n; ++c) {
+                            buffer.putShort(target + c * Short.BYTES, toHalfFloat(data[source + c]));
+                        }
+                        break;
+                    case UNSIGNED_BYTE_NORMALIZED:
+                        for (int c = 0; c < n; ++c) {
+                            buffer.put(target + c, toUnsignedByte(data[source + c]));
+                        }
+                        break;
+                    case INT_2_10_10_10_REV:
+                        float w = n == 4 ? data[source + 3] : 0;
+                        buffer.putInt(target, toInt2101010Rev(data[source], data[source + 1], data[source + 2], w));
+                        break;
+                    default:
+                        throw new AssertionError();
+                }
+                source += n;
+            }
+        }
+        buffer.position(start + vertexCount * stride);
+    }
+
+    /**
+     * Converts to IEEE 754 binary16, rounding to nearest even (the overflows
+     * giving infinities and the smallest values subnormals).
+     */
+    public static short toHalfFloat(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = (bits >>> 23) & 0xFF;
+        int mantissa = bits & 0x7FFFFF;
+
+        if (exponent == 0xFF) {
+            // Infinity or NaN (kept quiet).
+            return (short) (sign | 0x7C00 | (mantissa != 0 ? 0x200 : 0));
+        }
+        int halfExponent = exponent - 127 + 15;
+        if (halfExponent >= 0x1F) {
+            return (short) (sign | 0x7C00);
+        }
+        if (halfExponent <= 0) {
+            if (halfExponent < -10) {
+                return (short) sign;
+            }
+            // Subnormal: the implicit bit made explicit, then shifted.
+            mantissa |= 0x800000;
+            int shift = 14 - halfExponent;
+            int half = mantissa >> shift;
+            int remainder = mantissa & ((1 << shift) - 1);
+            int halfway = 1 << (shift - 1);
+            if (remainder > halfway || (remainder == halfway && (half & 1) != 0)) {
+                ++half;
+            }
+            return (short) (sign | half);
+        }
+        int half = (halfExponent << 10) | (mantissa >> 13);
+        int remainder = mantissa & 0x1FFF;
+        if (remainder > 0x1000 || (remainder == 0x1000 && (half & 1) != 0)) {
+            // May carry into the exponent, up to infinity, as expected.
+            ++half;
+        }
+        return (short) (sign | half);
+    }
+
+    public static byte toUnsignedByte(float value) {
+        return (byte) Math.round(Math.max(0, Math.min(1, value)) * 255);
+    }
+
+    /**
+     * Packs signed normalized components: x, y and z on 10 bits each (from
+     * the least significant ones), then w on 2 bits.
+     */
+    public static int toInt2101010Rev(float x, float y, float z, float w) {
+        return (toSignedNormalized(x, 511) & 0x3FF)
+                | (toSignedNormalized(y, 511) & 0x3FF) << 10
+                | (toSignedNormalized(z, 511) & 0x3FF) << 20
+                | (toSignedNormalized(w, 1) & 0x3) << 30;
+    }
+
+    /*
+     * Rounded half away from zero, so that -x gives the opposite of x.
+     */
+    private static int toSignedNormalized(float value, int max) {
+        float clamped = Math.max(-1, Math.min(1, value));
+        int magnitude = Math.round(Math.abs(clamped) * max);
+        return clamped < 0 ? -magnitude : magnitude;
+    }
+
+    private static int align(int size) {
+        return (size + 3) & ~3;
+    }
+}
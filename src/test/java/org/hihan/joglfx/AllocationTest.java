@@ -0,0 +1,109 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.lang.management.ManagementFactory;
+import java.util.function.Consumer;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the per-frame path (states save / restore, framebuffer binding
+ * and copy, resource polling and bookkeeping) doesn't allocate anything once
+ * warmed up, the JIT having removed the allocations of the (not recorded)
+ * events.
+ */
+public class AllocationTest {
+
+    private static final int ROUNDS = 100;
+
+    private static final int FRAMES = 10000;
+
+    private com.sun.management.ThreadMXBean threads;
+
+    private StubGL stub;
+
+    private Framebuffer framebuffer;
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        TestDefaults.reset();
+        stub = new StubGL();
+        JOGL.attach(stub);
+        framebuffer = new Framebuffer(stub, StubGL.WIDTH, StubGL.HEIGHT, false, false);
+    }
+
+    @After
+    public void tearDown() {
+        if (framebuffer != null) {
+            framebuffer.dispose(stub);
+        }
+        TestDefaults.release(stub);
+        JOGL.detach();
+    }
+
+    @Test
+    public void framesDoNotAllocate() {
+        Consumer<GL> callback = gl -> {
+            Runnable unbind = framebuffer.bind(gl, StubGL.WIDTH, StubGL.HEIGHT);
+            gl.glClearColor(0.5f, 0.5f, 0.5f, 1);
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT);
+            unbind.run();
+            framebuffer.display(gl);
+        };
+        assertEquals(0, measure(() -> {
+            GLResources.getDefault().poll(stub);
+            JOGL.runGuarded(stub, callback, Main.RENDER_STATES);
+        }));
+    }
+
+    @Test
+    public void resourceUpdatesDoNotAllocate() {
+        GLResources resources = GLResources.getDefault();
+        int buffer = JOGL.create(stub, GLResources.Type.BUFFER, this);
+        GLResources.Evictable evictable = gl -> JOGL.delete(gl, GLResources.Type.BUFFER, buffer);
+        // Only the first flagging adds an entry.
+        resources.setEvictable(stub, GLResources.Type.BUFFER, buffer, evictable);
+        try {
+            assertEquals(0, measure(() -> {
+                // Not a cached Integer.
+                GLResources.setCurrentCanvas(1000);
+                resources.setSize(stub, GLResources.Type.BUFFER, buffer, 1024);
+                resources.setEvictable(stub, GLResources.Type.BUFFER, buffer, evictable);
+                resources.touch(stub, GLResources.Type.BUFFER, buffer);
+                resources.poll(stub);
+                GLResources.setCurrentCanvas(0);
+            }));
+        } finally {
+            JOGL.delete(stub, GLResources.Type.BUFFER, buffer);
+        }
+    }
+
+    /*
+     * Returns the bytes allocated per frame by the first round of frames not
+     * allocating anything (or the least allocating one), the JIT needing a few
+     * rounds to compile the code.
+     */
+    private long measure(Runnable frame) {
+        long id = Thread.currentThread().getId();
+        long overhead = threads.getThreadAllocatedBytes(id);
+        overhead = threads.getThreadAllocatedBytes(id) - overhead;
+        long bytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS && bytes > 0; ++round) {
+            long start = threads.getThreadAllocatedBytes(id);
+            for (int i = 0; i < FRAMES; ++i) {
+                frame.run();
+            }
+            bytes = Math.min(bytes, (threads.getThreadAllocatedBytes(id) - start - overhead) / FRAMES);
+        }
+        return bytes;
+    }
+}
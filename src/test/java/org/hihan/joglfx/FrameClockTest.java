@@ -0,0 +1,135 @@
+package org.hihan.joglfx;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class FrameClockTest {
+
+    private static final long STEP = 10_000_000L;
+
+    private static final double EPSILON = 1e-9;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAnInvalidStep() {
+        new FrameClock(FrameClock.Mode.FIXED, 0);
+    }
+
+    @Test
+    public void theFirstFrameStartsAtZero() {
+        FrameClock clock = new FrameClock(FrameClock.Mode.VARIABLE, STEP);
+        assertEquals(0, clock.getFrame());
+        clock.advance(123_456_789L);
+
+        assertEquals(1, clock.getFrame());
+        assertEquals(0, clock.getTime(), EPSILON);
+        assertEquals(0, clock.getDeltaTime(), EPSILON);
+        assertEquals(1, clock.getStepCount());
+    }
+
+    @Test
+    public void aVariableTimestepAdvancesByTheElapsedTime() {
+        FrameClock clock = new FrameClock(FrameClock.Mode.VARIABLE, STEP);
+        clock.advance(0);
+        clock.advance(15_000_000L);
+        clock.advance(20_000_000L);
+
+        assertEquals(3, clock.getFrame());
+        assertEquals(0.005, clock.getDeltaTime(), EPSILON);
+        assertEquals(0.020, clock.getTime(), EPSILON);
+        assertEquals(1, clock.getStepCount());
+        assertEquals(0, clock.getAlpha(), EPSILON);
+    }
+
+    @Test
+    public void aFixedTimestepAdvancesByWholeSteps() {
+        FrameClock clock = new FrameClock(FrameClock.Mode.FIXED, STEP);
+        clock.advance(0);
+        clock.advance(25_000_000L);
+
+        assertEquals(2, clock.getStepCount());
+        assertEquals(0.020, clock.getDeltaTime(), EPSILON);
+        assertEquals(0.5, clock.getAlpha(), EPSILON);
+
+        // The remainder is carried over.
+        clock.advance(30_000_000L);
+        assertEquals(1, clock.getStepCount());
+        assertEquals(0.030, clock.getTime(), EPSILON);
+        assertEquals(0, clock.getAlpha(), EPSILON);
+
+        clock.advance(34_000_000L);
+        assertEquals(0, clock.getStepCount());
+        assertEquals(0, clock.getDeltaTime(), EPSILON);
+        assertEquals(0.4, clock.getAlpha(), EPSILON);
+    }
+
+    @Test
+    public void theElapsedTimeIsCapped() {
+        FrameClock clock = new FrameClock(FrameClock.Mode.VARIABLE, STEP);
+        clock.advance(0);
+        clock.advance(10_000_000_000L);
+
+        assertEquals(0.25, clock.getDeltaTime(), EPSILON);
+    }
+
+    @Test
+    public void theLateFramesAreCountedAsSkipped() {
+        FrameClock clock = new FrameClock(FrameClock.Mode.VARIABLE, STEP);
+        clock.advance(0);
+        clock.advance(STEP);
+        assertEquals(0, clock.getSkippedFrames());
+
+        clock.advance(4 * STEP);
+        assertEquals(2, clock.getSkippedFrames());
+    }
+
+    @Test
+    public void aPauseIsNotSimulated() {
+        FrameClock clock = new FrameClock(FrameClock.Mode.FIXED, STEP);
+        clock.advance(0);
+        clock.advance(STEP);
+        clock.pause();
+        clock.advance(60 * STEP);
+
+        assertEquals(3, clock.getFrame());
+        assertEquals(0, clock.getStepCount());
+        assertEquals(0.010, clock.getTime(), EPSILON);
+        assertEquals(0, clock.getSkippedFrames());
+    }
+
+    @Test
+    public void aCopyContinuesLikeTheOriginal() {
+        FrameClock clock = new FrameClock(FrameClock.Mode.FIXED, STEP);
+        clock.advance(0);
+        clock.advance(15_000_000L);
+        FrameClock copy = new FrameClock(FrameClock.Mode.VARIABLE, 1);
+        copy.set(clock);
+
+        clock.advance(30_000_000L);
+        copy.advance(30_000_000L);
+        assertEquals(FrameClock.Mode.FIXED, copy.getMode());
+        assertEquals(clock.getFrame(), copy.getFrame());
+        assertEquals(clock.getTime(), copy.getTime(), EPSILON);
+        assertEquals(clock.getStepCount(), copy.getStepCount());
+        assertEquals(clock.getAlpha(), copy.getAlpha(), EPSILON);
+    }
+
+    @Test
+    public void theCurrentClockIsConfinedToItsThread() throws InterruptedException {
+        FrameClock clock = new FrameClock(FrameClock.Mode.VARIABLE, STEP);
+        FrameClock.setCurrent(clock);
+        try {
+            FrameClock[] seen = new FrameClock[1];
+            Thread thread = new Thread(() -> seen[0] = FrameClock.current());
+            thread.start();
+            thread.join();
+
+            assertNull(seen[0]);
+            assertSame(clock, FrameClock.current());
+        } finally {
+            FrameClock.setCurrent(null);
+        }
+    }
+}
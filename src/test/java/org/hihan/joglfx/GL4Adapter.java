@@ -0,0 +1,5744 @@
+package org.hihan.joglfx;
+
+import com.jogamp.common.nio.PointerBuffer;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GL2ES1;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GL3;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GL3bc;
+import com.jogamp.opengl.GL4;
+import com.jogamp.opengl.GL4ES3;
+import com.jogamp.opengl.GL4bc;
+import com.jogamp.opengl.GLArrayData;
+import com.jogamp.opengl.GLBufferStorage;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLES1;
+import com.jogamp.opengl.GLES2;
+import com.jogamp.opengl.GLES3;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLUniformData;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * An empty implementation of GL4 (generated from the interface of JOGL 2.3.2):
+ * the GL functions do nothing but report their call to {@link #called(String)}
+ * and return zero, false or null. The getGLxxx() accessors return this object
+ * for the interfaces it implements and the isGLxxx() ones return false. Meant
+ * to be extended by stubs overriding the functions they care about, like the
+ * listener adapters of AWT.
+ */
+public abstract class GL4Adapter implements GL4 {
+
+    /**
+     * Invoked by each GL function with its name (a constant string).
+     */
+    protected abstract void called(String name);
+
+    @Override
+    public int getBoundBuffer(int arg0) {
+        return 0;
+    }
+
+    @Override
+    public int getBoundFramebuffer(int arg0) {
+        return 0;
+    }
+
+    @Override
+    public GLBufferStorage getBufferStorage(int arg0) {
+        return null;
+    }
+
+    @Override
+    public GLContext getContext() {
+        return null;
+    }
+
+    @Override
+    public int getDefaultDrawFramebuffer() {
+        return 0;
+    }
+
+    @Override
+    public int getDefaultReadBuffer() {
+        return 0;
+    }
+
+    @Override
+    public int getDefaultReadFramebuffer() {
+        return 0;
+    }
+
+    @Override
+    public GL getDownstreamGL() {
+        throw new GLException("No downstream GL");
+    }
+
+    @Override
+    public Object getExtension(String arg0) {
+        return null;
+    }
+
+    @Override
+    public GL getGL() {
+        return this;
+    }
+
+    @Override
+    public GL2 getGL2() {
+        throw new GLException("Not a GL2 implementation");
+    }
+
+    @Override
+    public GL2ES1 getGL2ES1() {
+        throw new GLException("Not a GL2ES1 implementation");
+    }
+
+    @Override
+    public GL2ES2 getGL2ES2() {
+        return this;
+    }
+
+    @Override
+    public GL2ES3 getGL2ES3() {
+        return this;
+    }
+
+    @Override
+    public GL2GL3 getGL2GL3() {
+        return this;
+    }
+
+    @Override
+    public GL3 getGL3() {
+        return this;
+    }
+
+    @Override
+    public GL3ES3 getGL3ES3() {
+        return this;
+    }
+
+    @Override
+    public GL3bc getGL3bc() {
+        throw new GLException("Not a GL3bc implementation");
+    }
+
+    @Override
+    public GL4 getGL4() {
+        return this;
+    }
+
+    @Override
+    public GL4ES3 getGL4ES3() {
+        return this;
+    }
+
+    @Override
+    public GL4bc getGL4bc() {
+        throw new GLException("Not a GL4bc implementation");
+    }
+
+    @Override
+    public GLES1 getGLES1() {
+        throw new GLException("Not a GLES1 implementation");
+    }
+
+    @Override
+    public GLES2 getGLES2() {
+        throw new GLException("Not a GLES2 implementation");
+    }
+
+    @Override
+    public GLES3 getGLES3() {
+        throw new GLException("Not a GLES3 implementation");
+    }
+
+    @Override
+    public GLProfile getGLProfile() {
+        throw new GLException("Not a GLProfile implementation");
+    }
+
+    @Override
+    public int getMaxRenderbufferSamples() {
+        return 0;
+    }
+
+    @Override
+    public Object getPlatformGLExtensions() {
+        return null;
+    }
+
+    @Override
+    public GL getRootGL() {
+        return this;
+    }
+
+    @Override
+    public int getSwapInterval() {
+        return 0;
+    }
+
+    @Override
+    public boolean hasBasicFBOSupport() {
+        return false;
+    }
+
+    @Override
+    public boolean hasFullFBOSupport() {
+        return false;
+    }
+
+    @Override
+    public boolean hasGLSL() {
+        return false;
+    }
+
+    @Override
+    public boolean isExtensionAvailable(String arg0) {
+        return false;
+    }
+
+    @Override
+    public boolean isFunctionAvailable(String arg0) {
+        return false;
+    }
+
+    @Override
+    public boolean isGL() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL2() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL2ES1() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL2ES2() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL2ES3() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL2GL3() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL3() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL3ES3() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL3bc() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL3core() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL4() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL4ES3() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL4bc() {
+        return false;
+    }
+
+    @Override
+    public boolean isGL4core() {
+        return false;
+    }
+
+    @Override
+    public boolean isGLES() {
+        return false;
+    }
+
+    @Override
+    public boolean isGLES1() {
+        return false;
+    }
+
+    @Override
+    public boolean isGLES2() {
+        return false;
+    }
+
+    @Override
+    public boolean isGLES2Compatible() {
+        return false;
+    }
+
+    @Override
+    public boolean isGLES3() {
+        return false;
+    }
+
+    @Override
+    public boolean isGLES31Compatible() {
+        return false;
+    }
+
+    @Override
+    public boolean isGLES32Compatible() {
+        return false;
+    }
+
+    @Override
+    public boolean isGLES3Compatible() {
+        return false;
+    }
+
+    @Override
+    public boolean isGLcore() {
+        return false;
+    }
+
+    @Override
+    public boolean isNPOTTextureAvailable() {
+        return false;
+    }
+
+    @Override
+    public boolean isPBOPackBound() {
+        return false;
+    }
+
+    @Override
+    public boolean isPBOUnpackBound() {
+        return false;
+    }
+
+    @Override
+    public boolean isTextureFormatBGRA8888Available() {
+        return false;
+    }
+
+    @Override
+    public boolean isVBOArrayBound() {
+        return false;
+    }
+
+    @Override
+    public boolean isVBOElementArrayBound() {
+        return false;
+    }
+
+    @Override
+    public GLBufferStorage mapBuffer(int arg0, int arg1) {
+        return null;
+    }
+
+    @Override
+    public GLBufferStorage mapBufferRange(int arg0, long arg1, long arg2, int arg3) {
+        return null;
+    }
+
+    @Override
+    public GLBufferStorage mapNamedBuffer(int arg0, int arg1) {
+        return null;
+    }
+
+    @Override
+    public GLBufferStorage mapNamedBufferRange(int arg0, long arg1, long arg2, int arg3) {
+        return null;
+    }
+
+    @Override
+    public void setSwapInterval(int arg0) {
+    }
+
+    @Override
+    public void glActiveShaderProgram(int arg0, int arg1) {
+        called("glActiveShaderProgram");
+    }
+
+    @Override
+    public void glActiveTexture(int arg0) {
+        called("glActiveTexture");
+    }
+
+    @Override
+    public void glApplyFramebufferAttachmentCMAAINTEL() {
+        called("glApplyFramebufferAttachmentCMAAINTEL");
+    }
+
+    @Override
+    public void glAttachShader(int arg0, int arg1) {
+        called("glAttachShader");
+    }
+
+    @Override
+    public void glBeginConditionalRender(int arg0, int arg1) {
+        called("glBeginConditionalRender");
+    }
+
+    @Override
+    public void glBeginQuery(int arg0, int arg1) {
+        called("glBeginQuery");
+    }
+
+    @Override
+    public void glBeginQueryIndexed(int arg0, int arg1, int arg2) {
+        called("glBeginQueryIndexed");
+    }
+
+    @Override
+    public void glBeginTransformFeedback(int arg0) {
+        called("glBeginTransformFeedback");
+    }
+
+    @Override
+    public void glBindAttribLocation(int arg0, int arg1, String arg2) {
+        called("glBindAttribLocation");
+    }
+
+    @Override
+    public void glBindBuffer(int arg0, int arg1) {
+        called("glBindBuffer");
+    }
+
+    @Override
+    public void glBindBufferBase(int arg0, int arg1, int arg2) {
+        called("glBindBufferBase");
+    }
+
+    @Override
+    public void glBindBufferRange(int arg0, int arg1, int arg2, long arg3, long arg4) {
+        called("glBindBufferRange");
+    }
+
+    @Override
+    public void glBindBuffersBase(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glBindBuffersBase");
+    }
+
+    @Override
+    public void glBindBuffersBase(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glBindBuffersBase");
+    }
+
+    @Override
+    public void glBindBuffersRange(int arg0, int arg1, int arg2, int[] arg3, int arg4, PointerBuffer arg5, PointerBuffer arg6) {
+        called("glBindBuffersRange");
+    }
+
+    @Override
+    public void glBindBuffersRange(int arg0, int arg1, int arg2, IntBuffer arg3, PointerBuffer arg4, PointerBuffer arg5) {
+        called("glBindBuffersRange");
+    }
+
+    @Override
+    public void glBindFragDataLocation(int arg0, int arg1, String arg2) {
+        called("glBindFragDataLocation");
+    }
+
+    @Override
+    public void glBindFragDataLocationIndexed(int arg0, int arg1, int arg2, String arg3) {
+        called("glBindFragDataLocationIndexed");
+    }
+
+    @Override
+    public void glBindFramebuffer(int arg0, int arg1) {
+        called("glBindFramebuffer");
+    }
+
+    @Override
+    public void glBindImageTexture(int arg0, int arg1, int arg2, boolean arg3, int arg4, int arg5, int arg6) {
+        called("glBindImageTexture");
+    }
+
+    @Override
+    public void glBindImageTextures(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glBindImageTextures");
+    }
+
+    @Override
+    public void glBindImageTextures(int arg0, int arg1, IntBuffer arg2) {
+        called("glBindImageTextures");
+    }
+
+    @Override
+    public void glBindProgramPipeline(int arg0) {
+        called("glBindProgramPipeline");
+    }
+
+    @Override
+    public void glBindRenderbuffer(int arg0, int arg1) {
+        called("glBindRenderbuffer");
+    }
+
+    @Override
+    public void glBindSampler(int arg0, int arg1) {
+        called("glBindSampler");
+    }
+
+    @Override
+    public void glBindSamplers(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glBindSamplers");
+    }
+
+    @Override
+    public void glBindSamplers(int arg0, int arg1, IntBuffer arg2) {
+        called("glBindSamplers");
+    }
+
+    @Override
+    public void glBindTexture(int arg0, int arg1) {
+        called("glBindTexture");
+    }
+
+    @Override
+    public void glBindTextureUnit(int arg0, int arg1) {
+        called("glBindTextureUnit");
+    }
+
+    @Override
+    public void glBindTextures(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glBindTextures");
+    }
+
+    @Override
+    public void glBindTextures(int arg0, int arg1, IntBuffer arg2) {
+        called("glBindTextures");
+    }
+
+    @Override
+    public void glBindTransformFeedback(int arg0, int arg1) {
+        called("glBindTransformFeedback");
+    }
+
+    @Override
+    public void glBindVertexArray(int arg0) {
+        called("glBindVertexArray");
+    }
+
+    @Override
+    public void glBindVertexBuffer(int arg0, int arg1, long arg2, int arg3) {
+        called("glBindVertexBuffer");
+    }
+
+    @Override
+    public void glBindVertexBuffers(int arg0, int arg1, int[] arg2, int arg3, PointerBuffer arg4, int[] arg5, int arg6) {
+        called("glBindVertexBuffers");
+    }
+
+    @Override
+    public void glBindVertexBuffers(int arg0, int arg1, IntBuffer arg2, PointerBuffer arg3, IntBuffer arg4) {
+        called("glBindVertexBuffers");
+    }
+
+    @Override
+    public void glBlendBarrier() {
+        called("glBlendBarrier");
+    }
+
+    @Override
+    public void glBlendColor(float arg0, float arg1, float arg2, float arg3) {
+        called("glBlendColor");
+    }
+
+    @Override
+    public void glBlendEquation(int arg0) {
+        called("glBlendEquation");
+    }
+
+    @Override
+    public void glBlendEquationSeparate(int arg0, int arg1) {
+        called("glBlendEquationSeparate");
+    }
+
+    @Override
+    public void glBlendEquationSeparatei(int arg0, int arg1, int arg2) {
+        called("glBlendEquationSeparatei");
+    }
+
+    @Override
+    public void glBlendEquationi(int arg0, int arg1) {
+        called("glBlendEquationi");
+    }
+
+    @Override
+    public void glBlendFunc(int arg0, int arg1) {
+        called("glBlendFunc");
+    }
+
+    @Override
+    public void glBlendFuncSeparate(int arg0, int arg1, int arg2, int arg3) {
+        called("glBlendFuncSeparate");
+    }
+
+    @Override
+    public void glBlendFuncSeparatei(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glBlendFuncSeparatei");
+    }
+
+    @Override
+    public void glBlendFunci(int arg0, int arg1, int arg2) {
+        called("glBlendFunci");
+    }
+
+    @Override
+    public void glBlitFramebuffer(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9) {
+        called("glBlitFramebuffer");
+    }
+
+    @Override
+    public void glBlitNamedFramebuffer(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, int arg10, int arg11) {
+        called("glBlitNamedFramebuffer");
+    }
+
+    @Override
+    public void glBufferAddressRangeNV(int arg0, int arg1, long arg2, long arg3) {
+        called("glBufferAddressRangeNV");
+    }
+
+    @Override
+    public void glBufferData(int arg0, long arg1, Buffer arg2, int arg3) {
+        called("glBufferData");
+    }
+
+    @Override
+    public void glBufferPageCommitmentARB(int arg0, long arg1, long arg2, boolean arg3) {
+        called("glBufferPageCommitmentARB");
+    }
+
+    @Override
+    public void glBufferStorage(int arg0, long arg1, Buffer arg2, int arg3) {
+        called("glBufferStorage");
+    }
+
+    @Override
+    public void glBufferSubData(int arg0, long arg1, long arg2, Buffer arg3) {
+        called("glBufferSubData");
+    }
+
+    @Override
+    public int glCheckFramebufferStatus(int arg0) {
+        called("glCheckFramebufferStatus");
+        return 0;
+    }
+
+    @Override
+    public int glCheckNamedFramebufferStatus(int arg0, int arg1) {
+        called("glCheckNamedFramebufferStatus");
+        return 0;
+    }
+
+    @Override
+    public void glClampColor(int arg0, int arg1) {
+        called("glClampColor");
+    }
+
+    @Override
+    public void glClear(int arg0) {
+        called("glClear");
+    }
+
+    @Override
+    public void glClearBufferData(int arg0, int arg1, int arg2, int arg3, Buffer arg4) {
+        called("glClearBufferData");
+    }
+
+    @Override
+    public void glClearBufferSubData(int arg0, int arg1, long arg2, long arg3, int arg4, int arg5, Buffer arg6) {
+        called("glClearBufferSubData");
+    }
+
+    @Override
+    public void glClearBufferfi(int arg0, int arg1, float arg2, int arg3) {
+        called("glClearBufferfi");
+    }
+
+    @Override
+    public void glClearBufferfv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glClearBufferfv");
+    }
+
+    @Override
+    public void glClearBufferfv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glClearBufferfv");
+    }
+
+    @Override
+    public void glClearBufferiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glClearBufferiv");
+    }
+
+    @Override
+    public void glClearBufferiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glClearBufferiv");
+    }
+
+    @Override
+    public void glClearBufferuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glClearBufferuiv");
+    }
+
+    @Override
+    public void glClearBufferuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glClearBufferuiv");
+    }
+
+    @Override
+    public void glClearColor(float arg0, float arg1, float arg2, float arg3) {
+        called("glClearColor");
+    }
+
+    @Override
+    public void glClearDepth(double arg0) {
+        called("glClearDepth");
+    }
+
+    @Override
+    public void glClearDepthf(float arg0) {
+        called("glClearDepthf");
+    }
+
+    @Override
+    public void glClearNamedBufferData(int arg0, int arg1, int arg2, int arg3, Buffer arg4) {
+        called("glClearNamedBufferData");
+    }
+
+    @Override
+    public void glClearNamedBufferSubData(int arg0, int arg1, long arg2, long arg3, int arg4, int arg5, Buffer arg6) {
+        called("glClearNamedBufferSubData");
+    }
+
+    @Override
+    public void glClearNamedFramebufferfi(int arg0, int arg1, float arg2, int arg3) {
+        called("glClearNamedFramebufferfi");
+    }
+
+    @Override
+    public void glClearNamedFramebufferfv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        called("glClearNamedFramebufferfv");
+    }
+
+    @Override
+    public void glClearNamedFramebufferfv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        called("glClearNamedFramebufferfv");
+    }
+
+    @Override
+    public void glClearNamedFramebufferiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glClearNamedFramebufferiv");
+    }
+
+    @Override
+    public void glClearNamedFramebufferiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glClearNamedFramebufferiv");
+    }
+
+    @Override
+    public void glClearNamedFramebufferuiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glClearNamedFramebufferuiv");
+    }
+
+    @Override
+    public void glClearNamedFramebufferuiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glClearNamedFramebufferuiv");
+    }
+
+    @Override
+    public void glClearStencil(int arg0) {
+        called("glClearStencil");
+    }
+
+    @Override
+    public void glClearTexImage(int arg0, int arg1, int arg2, int arg3, Buffer arg4) {
+        called("glClearTexImage");
+    }
+
+    @Override
+    public void glClearTexSubImage(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, Buffer arg10) {
+        called("glClearTexSubImage");
+    }
+
+    @Override
+    public int glClientWaitSync(long arg0, int arg1, long arg2) {
+        called("glClientWaitSync");
+        return 0;
+    }
+
+    @Override
+    public void glClipControl(int arg0, int arg1) {
+        called("glClipControl");
+    }
+
+    @Override
+    public void glColorFormatNV(int arg0, int arg1, int arg2) {
+        called("glColorFormatNV");
+    }
+
+    @Override
+    public void glColorMask(boolean arg0, boolean arg1, boolean arg2, boolean arg3) {
+        called("glColorMask");
+    }
+
+    @Override
+    public void glColorMaski(int arg0, boolean arg1, boolean arg2, boolean arg3, boolean arg4) {
+        called("glColorMaski");
+    }
+
+    @Override
+    public void glCompileShader(int arg0) {
+        called("glCompileShader");
+    }
+
+    @Override
+    public void glCompileShaderIncludeARB(int arg0, int arg1, String[] arg2, int[] arg3, int arg4) {
+        called("glCompileShaderIncludeARB");
+    }
+
+    @Override
+    public void glCompileShaderIncludeARB(int arg0, int arg1, String[] arg2, IntBuffer arg3) {
+        called("glCompileShaderIncludeARB");
+    }
+
+    @Override
+    public void glCompressedTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        called("glCompressedTexImage1D");
+    }
+
+    @Override
+    public void glCompressedTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        called("glCompressedTexImage1D");
+    }
+
+    @Override
+    public void glCompressedTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, Buffer arg7) {
+        called("glCompressedTexImage2D");
+    }
+
+    @Override
+    public void glCompressedTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, long arg7) {
+        called("glCompressedTexImage2D");
+    }
+
+    @Override
+    public void glCompressedTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        called("glCompressedTexImage3D");
+    }
+
+    @Override
+    public void glCompressedTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        called("glCompressedTexImage3D");
+    }
+
+    @Override
+    public void glCompressedTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        called("glCompressedTexSubImage1D");
+    }
+
+    @Override
+    public void glCompressedTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        called("glCompressedTexSubImage1D");
+    }
+
+    @Override
+    public void glCompressedTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        called("glCompressedTexSubImage2D");
+    }
+
+    @Override
+    public void glCompressedTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        called("glCompressedTexSubImage2D");
+    }
+
+    @Override
+    public void glCompressedTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, Buffer arg10) {
+        called("glCompressedTexSubImage3D");
+    }
+
+    @Override
+    public void glCompressedTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, long arg10) {
+        called("glCompressedTexSubImage3D");
+    }
+
+    @Override
+    public void glCompressedTextureSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        called("glCompressedTextureSubImage1D");
+    }
+
+    @Override
+    public void glCompressedTextureSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        called("glCompressedTextureSubImage2D");
+    }
+
+    @Override
+    public void glCompressedTextureSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, Buffer arg10) {
+        called("glCompressedTextureSubImage3D");
+    }
+
+    @Override
+    public void glCopyBufferSubData(int arg0, int arg1, long arg2, long arg3, long arg4) {
+        called("glCopyBufferSubData");
+    }
+
+    @Override
+    public void glCopyImageSubData(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, int arg10, int arg11, int arg12, int arg13, int arg14) {
+        called("glCopyImageSubData");
+    }
+
+    @Override
+    public void glCopyNamedBufferSubData(int arg0, int arg1, long arg2, long arg3, long arg4) {
+        called("glCopyNamedBufferSubData");
+    }
+
+    @Override
+    public void glCopyTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6) {
+        called("glCopyTexImage1D");
+    }
+
+    @Override
+    public void glCopyTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        called("glCopyTexImage2D");
+    }
+
+    @Override
+    public void glCopyTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        called("glCopyTexSubImage1D");
+    }
+
+    @Override
+    public void glCopyTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        called("glCopyTexSubImage2D");
+    }
+
+    @Override
+    public void glCopyTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8) {
+        called("glCopyTexSubImage3D");
+    }
+
+    @Override
+    public void glCopyTextureSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        called("glCopyTextureSubImage1D");
+    }
+
+    @Override
+    public void glCopyTextureSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        called("glCopyTextureSubImage2D");
+    }
+
+    @Override
+    public void glCopyTextureSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8) {
+        called("glCopyTextureSubImage3D");
+    }
+
+    @Override
+    public void glCreateBuffers(int arg0, int[] arg1, int arg2) {
+        called("glCreateBuffers");
+    }
+
+    @Override
+    public void glCreateBuffers(int arg0, IntBuffer arg1) {
+        called("glCreateBuffers");
+    }
+
+    @Override
+    public void glCreateFramebuffers(int arg0, int[] arg1, int arg2) {
+        called("glCreateFramebuffers");
+    }
+
+    @Override
+    public void glCreateFramebuffers(int arg0, IntBuffer arg1) {
+        called("glCreateFramebuffers");
+    }
+
+    @Override
+    public int glCreateProgram() {
+        called("glCreateProgram");
+        return 0;
+    }
+
+    @Override
+    public void glCreateProgramPipelines(int arg0, int[] arg1, int arg2) {
+        called("glCreateProgramPipelines");
+    }
+
+    @Override
+    public void glCreateProgramPipelines(int arg0, IntBuffer arg1) {
+        called("glCreateProgramPipelines");
+    }
+
+    @Override
+    public void glCreateQueries(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glCreateQueries");
+    }
+
+    @Override
+    public void glCreateQueries(int arg0, int arg1, IntBuffer arg2) {
+        called("glCreateQueries");
+    }
+
+    @Override
+    public void glCreateRenderbuffers(int arg0, int[] arg1, int arg2) {
+        called("glCreateRenderbuffers");
+    }
+
+    @Override
+    public void glCreateRenderbuffers(int arg0, IntBuffer arg1) {
+        called("glCreateRenderbuffers");
+    }
+
+    @Override
+    public void glCreateSamplers(int arg0, int[] arg1, int arg2) {
+        called("glCreateSamplers");
+    }
+
+    @Override
+    public void glCreateSamplers(int arg0, IntBuffer arg1) {
+        called("glCreateSamplers");
+    }
+
+    @Override
+    public int glCreateShader(int arg0) {
+        called("glCreateShader");
+        return 0;
+    }
+
+    @Override
+    public int glCreateShaderProgramv(int arg0, int arg1, String[] arg2) {
+        called("glCreateShaderProgramv");
+        return 0;
+    }
+
+    @Override
+    public long glCreateSyncFromCLeventARB(long arg0, long arg1, int arg2) {
+        called("glCreateSyncFromCLeventARB");
+        return 0L;
+    }
+
+    @Override
+    public void glCreateTextures(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glCreateTextures");
+    }
+
+    @Override
+    public void glCreateTextures(int arg0, int arg1, IntBuffer arg2) {
+        called("glCreateTextures");
+    }
+
+    @Override
+    public void glCreateTransformFeedbacks(int arg0, int[] arg1, int arg2) {
+        called("glCreateTransformFeedbacks");
+    }
+
+    @Override
+    public void glCreateTransformFeedbacks(int arg0, IntBuffer arg1) {
+        called("glCreateTransformFeedbacks");
+    }
+
+    @Override
+    public void glCreateVertexArrays(int arg0, int[] arg1, int arg2) {
+        called("glCreateVertexArrays");
+    }
+
+    @Override
+    public void glCreateVertexArrays(int arg0, IntBuffer arg1) {
+        called("glCreateVertexArrays");
+    }
+
+    @Override
+    public void glCullFace(int arg0) {
+        called("glCullFace");
+    }
+
+    @Override
+    public void glDebugMessageControl(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, boolean arg6) {
+        called("glDebugMessageControl");
+    }
+
+    @Override
+    public void glDebugMessageControl(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, boolean arg5) {
+        called("glDebugMessageControl");
+    }
+
+    @Override
+    public void glDebugMessageEnableAMD(int arg0, int arg1, int arg2, int[] arg3, int arg4, boolean arg5) {
+        called("glDebugMessageEnableAMD");
+    }
+
+    @Override
+    public void glDebugMessageEnableAMD(int arg0, int arg1, int arg2, IntBuffer arg3, boolean arg4) {
+        called("glDebugMessageEnableAMD");
+    }
+
+    @Override
+    public void glDebugMessageInsert(int arg0, int arg1, int arg2, int arg3, int arg4, String arg5) {
+        called("glDebugMessageInsert");
+    }
+
+    @Override
+    public void glDebugMessageInsertAMD(int arg0, int arg1, int arg2, int arg3, String arg4) {
+        called("glDebugMessageInsertAMD");
+    }
+
+    @Override
+    public void glDeleteBuffers(int arg0, int[] arg1, int arg2) {
+        called("glDeleteBuffers");
+    }
+
+    @Override
+    public void glDeleteBuffers(int arg0, IntBuffer arg1) {
+        called("glDeleteBuffers");
+    }
+
+    @Override
+    public void glDeleteFramebuffers(int arg0, int[] arg1, int arg2) {
+        called("glDeleteFramebuffers");
+    }
+
+    @Override
+    public void glDeleteFramebuffers(int arg0, IntBuffer arg1) {
+        called("glDeleteFramebuffers");
+    }
+
+    @Override
+    public void glDeleteNamedStringARB(int arg0, String arg1) {
+        called("glDeleteNamedStringARB");
+    }
+
+    @Override
+    public void glDeleteProgram(int arg0) {
+        called("glDeleteProgram");
+    }
+
+    @Override
+    public void glDeleteProgramPipelines(int arg0, int[] arg1, int arg2) {
+        called("glDeleteProgramPipelines");
+    }
+
+    @Override
+    public void glDeleteProgramPipelines(int arg0, IntBuffer arg1) {
+        called("glDeleteProgramPipelines");
+    }
+
+    @Override
+    public void glDeleteQueries(int arg0, int[] arg1, int arg2) {
+        called("glDeleteQueries");
+    }
+
+    @Override
+    public void glDeleteQueries(int arg0, IntBuffer arg1) {
+        called("glDeleteQueries");
+    }
+
+    @Override
+    public void glDeleteRenderbuffers(int arg0, int[] arg1, int arg2) {
+        called("glDeleteRenderbuffers");
+    }
+
+    @Override
+    public void glDeleteRenderbuffers(int arg0, IntBuffer arg1) {
+        called("glDeleteRenderbuffers");
+    }
+
+    @Override
+    public void glDeleteSamplers(int arg0, int[] arg1, int arg2) {
+        called("glDeleteSamplers");
+    }
+
+    @Override
+    public void glDeleteSamplers(int arg0, IntBuffer arg1) {
+        called("glDeleteSamplers");
+    }
+
+    @Override
+    public void glDeleteShader(int arg0) {
+        called("glDeleteShader");
+    }
+
+    @Override
+    public void glDeleteSync(long arg0) {
+        called("glDeleteSync");
+    }
+
+    @Override
+    public void glDeleteTextures(int arg0, int[] arg1, int arg2) {
+        called("glDeleteTextures");
+    }
+
+    @Override
+    public void glDeleteTextures(int arg0, IntBuffer arg1) {
+        called("glDeleteTextures");
+    }
+
+    @Override
+    public void glDeleteTransformFeedbacks(int arg0, int[] arg1, int arg2) {
+        called("glDeleteTransformFeedbacks");
+    }
+
+    @Override
+    public void glDeleteTransformFeedbacks(int arg0, IntBuffer arg1) {
+        called("glDeleteTransformFeedbacks");
+    }
+
+    @Override
+    public void glDeleteVertexArrays(int arg0, int[] arg1, int arg2) {
+        called("glDeleteVertexArrays");
+    }
+
+    @Override
+    public void glDeleteVertexArrays(int arg0, IntBuffer arg1) {
+        called("glDeleteVertexArrays");
+    }
+
+    @Override
+    public void glDepthFunc(int arg0) {
+        called("glDepthFunc");
+    }
+
+    @Override
+    public void glDepthMask(boolean arg0) {
+        called("glDepthMask");
+    }
+
+    @Override
+    public void glDepthRange(double arg0, double arg1) {
+        called("glDepthRange");
+    }
+
+    @Override
+    public void glDepthRangeArrayv(int arg0, int arg1, double[] arg2, int arg3) {
+        called("glDepthRangeArrayv");
+    }
+
+    @Override
+    public void glDepthRangeArrayv(int arg0, int arg1, DoubleBuffer arg2) {
+        called("glDepthRangeArrayv");
+    }
+
+    @Override
+    public void glDepthRangeIndexed(int arg0, double arg1, double arg2) {
+        called("glDepthRangeIndexed");
+    }
+
+    @Override
+    public void glDepthRangef(float arg0, float arg1) {
+        called("glDepthRangef");
+    }
+
+    @Override
+    public void glDetachShader(int arg0, int arg1) {
+        called("glDetachShader");
+    }
+
+    @Override
+    public void glDisable(int arg0) {
+        called("glDisable");
+    }
+
+    @Override
+    public void glDisableClientState(int arg0) {
+        called("glDisableClientState");
+    }
+
+    @Override
+    public void glDisableVertexArrayAttrib(int arg0, int arg1) {
+        called("glDisableVertexArrayAttrib");
+    }
+
+    @Override
+    public void glDisableVertexAttribArray(int arg0) {
+        called("glDisableVertexAttribArray");
+    }
+
+    @Override
+    public void glDisablei(int arg0, int arg1) {
+        called("glDisablei");
+    }
+
+    @Override
+    public void glDispatchCompute(int arg0, int arg1, int arg2) {
+        called("glDispatchCompute");
+    }
+
+    @Override
+    public void glDispatchComputeGroupSizeARB(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        called("glDispatchComputeGroupSizeARB");
+    }
+
+    @Override
+    public void glDispatchComputeIndirect(long arg0) {
+        called("glDispatchComputeIndirect");
+    }
+
+    @Override
+    public void glDrawArrays(int arg0, int arg1, int arg2) {
+        called("glDrawArrays");
+    }
+
+    @Override
+    public void glDrawArraysIndirect(int arg0, Buffer arg1) {
+        called("glDrawArraysIndirect");
+    }
+
+    @Override
+    public void glDrawArraysIndirect(int arg0, long arg1) {
+        called("glDrawArraysIndirect");
+    }
+
+    @Override
+    public void glDrawArraysInstanced(int arg0, int arg1, int arg2, int arg3) {
+        called("glDrawArraysInstanced");
+    }
+
+    @Override
+    public void glDrawArraysInstancedBaseInstance(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glDrawArraysInstancedBaseInstance");
+    }
+
+    @Override
+    public void glDrawBuffer(int arg0) {
+        called("glDrawBuffer");
+    }
+
+    @Override
+    public void glDrawBuffers(int arg0, int[] arg1, int arg2) {
+        called("glDrawBuffers");
+    }
+
+    @Override
+    public void glDrawBuffers(int arg0, IntBuffer arg1) {
+        called("glDrawBuffers");
+    }
+
+    @Override
+    public void glDrawElements(int arg0, int arg1, int arg2, long arg3) {
+        called("glDrawElements");
+    }
+
+    @Override
+    public void glDrawElementsBaseVertex(int arg0, int arg1, int arg2, Buffer arg3, int arg4) {
+        called("glDrawElementsBaseVertex");
+    }
+
+    @Override
+    public void glDrawElementsBaseVertex(int arg0, int arg1, int arg2, long arg3, int arg4) {
+        called("glDrawElementsBaseVertex");
+    }
+
+    @Override
+    public void glDrawElementsIndirect(int arg0, int arg1, Buffer arg2) {
+        called("glDrawElementsIndirect");
+    }
+
+    @Override
+    public void glDrawElementsIndirect(int arg0, int arg1, long arg2) {
+        called("glDrawElementsIndirect");
+    }
+
+    @Override
+    public void glDrawElementsInstanced(int arg0, int arg1, int arg2, long arg3, int arg4) {
+        called("glDrawElementsInstanced");
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseInstance(int arg0, int arg1, int arg2, long arg3, int arg4, int arg5) {
+        called("glDrawElementsInstancedBaseInstance");
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertex(int arg0, int arg1, int arg2, Buffer arg3, int arg4, int arg5) {
+        called("glDrawElementsInstancedBaseVertex");
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertex(int arg0, int arg1, int arg2, long arg3, int arg4, int arg5) {
+        called("glDrawElementsInstancedBaseVertex");
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertexBaseInstance(int arg0, int arg1, int arg2, long arg3, int arg4, int arg5, int arg6) {
+        called("glDrawElementsInstancedBaseVertexBaseInstance");
+    }
+
+    @Override
+    public void glDrawRangeElements(int arg0, int arg1, int arg2, int arg3, int arg4, long arg5) {
+        called("glDrawRangeElements");
+    }
+
+    @Override
+    public void glDrawRangeElementsBaseVertex(int arg0, int arg1, int arg2, int arg3, int arg4, Buffer arg5, int arg6) {
+        called("glDrawRangeElementsBaseVertex");
+    }
+
+    @Override
+    public void glDrawRangeElementsBaseVertex(int arg0, int arg1, int arg2, int arg3, int arg4, long arg5, int arg6) {
+        called("glDrawRangeElementsBaseVertex");
+    }
+
+    @Override
+    public void glDrawTransformFeedback(int arg0, int arg1) {
+        called("glDrawTransformFeedback");
+    }
+
+    @Override
+    public void glDrawTransformFeedbackInstanced(int arg0, int arg1, int arg2) {
+        called("glDrawTransformFeedbackInstanced");
+    }
+
+    @Override
+    public void glDrawTransformFeedbackStream(int arg0, int arg1, int arg2) {
+        called("glDrawTransformFeedbackStream");
+    }
+
+    @Override
+    public void glDrawTransformFeedbackStreamInstanced(int arg0, int arg1, int arg2, int arg3) {
+        called("glDrawTransformFeedbackStreamInstanced");
+    }
+
+    @Override
+    public void glEdgeFlagFormatNV(int arg0) {
+        called("glEdgeFlagFormatNV");
+    }
+
+    @Override
+    public void glEnable(int arg0) {
+        called("glEnable");
+    }
+
+    @Override
+    public void glEnableClientState(int arg0) {
+        called("glEnableClientState");
+    }
+
+    @Override
+    public void glEnableVertexArrayAttrib(int arg0, int arg1) {
+        called("glEnableVertexArrayAttrib");
+    }
+
+    @Override
+    public void glEnableVertexAttribArray(int arg0) {
+        called("glEnableVertexAttribArray");
+    }
+
+    @Override
+    public void glEnablei(int arg0, int arg1) {
+        called("glEnablei");
+    }
+
+    @Override
+    public void glEndConditionalRender() {
+        called("glEndConditionalRender");
+    }
+
+    @Override
+    public void glEndQuery(int arg0) {
+        called("glEndQuery");
+    }
+
+    @Override
+    public void glEndQueryIndexed(int arg0, int arg1) {
+        called("glEndQueryIndexed");
+    }
+
+    @Override
+    public void glEndTransformFeedback() {
+        called("glEndTransformFeedback");
+    }
+
+    @Override
+    public long glFenceSync(int arg0, int arg1) {
+        called("glFenceSync");
+        return 0L;
+    }
+
+    @Override
+    public void glFinish() {
+        called("glFinish");
+    }
+
+    @Override
+    public void glFlush() {
+        called("glFlush");
+    }
+
+    @Override
+    public void glFlushMappedBufferRange(int arg0, long arg1, long arg2) {
+        called("glFlushMappedBufferRange");
+    }
+
+    @Override
+    public void glFlushMappedNamedBufferRange(int arg0, long arg1, long arg2) {
+        called("glFlushMappedNamedBufferRange");
+    }
+
+    @Override
+    public void glFogCoordFormatNV(int arg0, int arg1) {
+        called("glFogCoordFormatNV");
+    }
+
+    @Override
+    public void glFramebufferParameteri(int arg0, int arg1, int arg2) {
+        called("glFramebufferParameteri");
+    }
+
+    @Override
+    public void glFramebufferRenderbuffer(int arg0, int arg1, int arg2, int arg3) {
+        called("glFramebufferRenderbuffer");
+    }
+
+    @Override
+    public void glFramebufferTexture(int arg0, int arg1, int arg2, int arg3) {
+        called("glFramebufferTexture");
+    }
+
+    @Override
+    public void glFramebufferTexture1D(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glFramebufferTexture1D");
+    }
+
+    @Override
+    public void glFramebufferTexture2D(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glFramebufferTexture2D");
+    }
+
+    @Override
+    public void glFramebufferTexture3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        called("glFramebufferTexture3D");
+    }
+
+    @Override
+    public void glFramebufferTextureARB(int arg0, int arg1, int arg2, int arg3) {
+        called("glFramebufferTextureARB");
+    }
+
+    @Override
+    public void glFramebufferTextureEXT(int arg0, int arg1, int arg2, int arg3) {
+        called("glFramebufferTextureEXT");
+    }
+
+    @Override
+    public void glFramebufferTextureFaceARB(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glFramebufferTextureFaceARB");
+    }
+
+    @Override
+    public void glFramebufferTextureLayer(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glFramebufferTextureLayer");
+    }
+
+    @Override
+    public void glFramebufferTextureLayerARB(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glFramebufferTextureLayerARB");
+    }
+
+    @Override
+    public void glFrontFace(int arg0) {
+        called("glFrontFace");
+    }
+
+    @Override
+    public void glGenBuffers(int arg0, int[] arg1, int arg2) {
+        called("glGenBuffers");
+    }
+
+    @Override
+    public void glGenBuffers(int arg0, IntBuffer arg1) {
+        called("glGenBuffers");
+    }
+
+    @Override
+    public void glGenFramebuffers(int arg0, int[] arg1, int arg2) {
+        called("glGenFramebuffers");
+    }
+
+    @Override
+    public void glGenFramebuffers(int arg0, IntBuffer arg1) {
+        called("glGenFramebuffers");
+    }
+
+    @Override
+    public void glGenProgramPipelines(int arg0, int[] arg1, int arg2) {
+        called("glGenProgramPipelines");
+    }
+
+    @Override
+    public void glGenProgramPipelines(int arg0, IntBuffer arg1) {
+        called("glGenProgramPipelines");
+    }
+
+    @Override
+    public void glGenQueries(int arg0, int[] arg1, int arg2) {
+        called("glGenQueries");
+    }
+
+    @Override
+    public void glGenQueries(int arg0, IntBuffer arg1) {
+        called("glGenQueries");
+    }
+
+    @Override
+    public void glGenRenderbuffers(int arg0, int[] arg1, int arg2) {
+        called("glGenRenderbuffers");
+    }
+
+    @Override
+    public void glGenRenderbuffers(int arg0, IntBuffer arg1) {
+        called("glGenRenderbuffers");
+    }
+
+    @Override
+    public void glGenSamplers(int arg0, int[] arg1, int arg2) {
+        called("glGenSamplers");
+    }
+
+    @Override
+    public void glGenSamplers(int arg0, IntBuffer arg1) {
+        called("glGenSamplers");
+    }
+
+    @Override
+    public void glGenTextures(int arg0, int[] arg1, int arg2) {
+        called("glGenTextures");
+    }
+
+    @Override
+    public void glGenTextures(int arg0, IntBuffer arg1) {
+        called("glGenTextures");
+    }
+
+    @Override
+    public void glGenTransformFeedbacks(int arg0, int[] arg1, int arg2) {
+        called("glGenTransformFeedbacks");
+    }
+
+    @Override
+    public void glGenTransformFeedbacks(int arg0, IntBuffer arg1) {
+        called("glGenTransformFeedbacks");
+    }
+
+    @Override
+    public void glGenVertexArrays(int arg0, int[] arg1, int arg2) {
+        called("glGenVertexArrays");
+    }
+
+    @Override
+    public void glGenVertexArrays(int arg0, IntBuffer arg1) {
+        called("glGenVertexArrays");
+    }
+
+    @Override
+    public void glGenerateMipmap(int arg0) {
+        called("glGenerateMipmap");
+    }
+
+    @Override
+    public void glGenerateTextureMipmap(int arg0) {
+        called("glGenerateTextureMipmap");
+    }
+
+    @Override
+    public void glGetActiveAtomicCounterBufferiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetActiveAtomicCounterBufferiv");
+    }
+
+    @Override
+    public void glGetActiveAtomicCounterBufferiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetActiveAtomicCounterBufferiv");
+    }
+
+    @Override
+    public void glGetActiveAttrib(int arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6, int[] arg7, int arg8, byte[] arg9, int arg10) {
+        called("glGetActiveAttrib");
+    }
+
+    @Override
+    public void glGetActiveAttrib(int arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        called("glGetActiveAttrib");
+    }
+
+    @Override
+    public void glGetActiveSubroutineName(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, byte[] arg6, int arg7) {
+        called("glGetActiveSubroutineName");
+    }
+
+    @Override
+    public void glGetActiveSubroutineName(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, ByteBuffer arg5) {
+        called("glGetActiveSubroutineName");
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformName(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, byte[] arg6, int arg7) {
+        called("glGetActiveSubroutineUniformName");
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformName(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, ByteBuffer arg5) {
+        called("glGetActiveSubroutineUniformName");
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformiv(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5) {
+        called("glGetActiveSubroutineUniformiv");
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformiv(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4) {
+        called("glGetActiveSubroutineUniformiv");
+    }
+
+    @Override
+    public void glGetActiveUniform(int arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6, int[] arg7, int arg8, byte[] arg9, int arg10) {
+        called("glGetActiveUniform");
+    }
+
+    @Override
+    public void glGetActiveUniform(int arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        called("glGetActiveUniform");
+    }
+
+    @Override
+    public void glGetActiveUniformBlockName(int arg0, int arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        called("glGetActiveUniformBlockName");
+    }
+
+    @Override
+    public void glGetActiveUniformBlockName(int arg0, int arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        called("glGetActiveUniformBlockName");
+    }
+
+    @Override
+    public void glGetActiveUniformBlockiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetActiveUniformBlockiv");
+    }
+
+    @Override
+    public void glGetActiveUniformBlockiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetActiveUniformBlockiv");
+    }
+
+    @Override
+    public void glGetActiveUniformName(int arg0, int arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        called("glGetActiveUniformName");
+    }
+
+    @Override
+    public void glGetActiveUniformName(int arg0, int arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        called("glGetActiveUniformName");
+    }
+
+    @Override
+    public void glGetActiveUniformsiv(int arg0, int arg1, int[] arg2, int arg3, int arg4, int[] arg5, int arg6) {
+        called("glGetActiveUniformsiv");
+    }
+
+    @Override
+    public void glGetActiveUniformsiv(int arg0, int arg1, IntBuffer arg2, int arg3, IntBuffer arg4) {
+        called("glGetActiveUniformsiv");
+    }
+
+    @Override
+    public void glGetAttachedShaders(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5) {
+        called("glGetAttachedShaders");
+    }
+
+    @Override
+    public void glGetAttachedShaders(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3) {
+        called("glGetAttachedShaders");
+    }
+
+    @Override
+    public int glGetAttribLocation(int arg0, String arg1) {
+        called("glGetAttribLocation");
+        return 0;
+    }
+
+    @Override
+    public void glGetBooleani_v(int arg0, int arg1, byte[] arg2, int arg3) {
+        called("glGetBooleani_v");
+    }
+
+    @Override
+    public void glGetBooleani_v(int arg0, int arg1, ByteBuffer arg2) {
+        called("glGetBooleani_v");
+    }
+
+    @Override
+    public void glGetBooleanv(int arg0, byte[] arg1, int arg2) {
+        called("glGetBooleanv");
+    }
+
+    @Override
+    public void glGetBooleanv(int arg0, ByteBuffer arg1) {
+        called("glGetBooleanv");
+    }
+
+    @Override
+    public void glGetBufferParameteri64v(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glGetBufferParameteri64v");
+    }
+
+    @Override
+    public void glGetBufferParameteri64v(int arg0, int arg1, LongBuffer arg2) {
+        called("glGetBufferParameteri64v");
+    }
+
+    @Override
+    public void glGetBufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetBufferParameteriv");
+    }
+
+    @Override
+    public void glGetBufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetBufferParameteriv");
+    }
+
+    @Override
+    public void glGetBufferParameterui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glGetBufferParameterui64vNV");
+    }
+
+    @Override
+    public void glGetBufferParameterui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        called("glGetBufferParameterui64vNV");
+    }
+
+    @Override
+    public void glGetBufferSubData(int arg0, long arg1, long arg2, Buffer arg3) {
+        called("glGetBufferSubData");
+    }
+
+    @Override
+    public void glGetCompressedTexImage(int arg0, int arg1, Buffer arg2) {
+        called("glGetCompressedTexImage");
+    }
+
+    @Override
+    public void glGetCompressedTexImage(int arg0, int arg1, long arg2) {
+        called("glGetCompressedTexImage");
+    }
+
+    @Override
+    public void glGetCompressedTextureImage(int arg0, int arg1, int arg2, Buffer arg3) {
+        called("glGetCompressedTextureImage");
+    }
+
+    @Override
+    public void glGetCompressedTextureSubImage(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, Buffer arg9) {
+        called("glGetCompressedTextureSubImage");
+    }
+
+    @Override
+    public int glGetDebugMessageLog(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5, int[] arg6, int arg7, int[] arg8, int arg9, int[] arg10, int arg11, byte[] arg12, int arg13) {
+        called("glGetDebugMessageLog");
+        return 0;
+    }
+
+    @Override
+    public int glGetDebugMessageLog(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, IntBuffer arg6, ByteBuffer arg7) {
+        called("glGetDebugMessageLog");
+        return 0;
+    }
+
+    @Override
+    public int glGetDebugMessageLogAMD(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5, int[] arg6, int arg7, int[] arg8, int arg9, byte[] arg10, int arg11) {
+        called("glGetDebugMessageLogAMD");
+        return 0;
+    }
+
+    @Override
+    public int glGetDebugMessageLogAMD(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        called("glGetDebugMessageLogAMD");
+        return 0;
+    }
+
+    @Override
+    public void glGetDoublei_v(int arg0, int arg1, double[] arg2, int arg3) {
+        called("glGetDoublei_v");
+    }
+
+    @Override
+    public void glGetDoublei_v(int arg0, int arg1, DoubleBuffer arg2) {
+        called("glGetDoublei_v");
+    }
+
+    @Override
+    public void glGetDoublev(int arg0, double[] arg1, int arg2) {
+        called("glGetDoublev");
+    }
+
+    @Override
+    public void glGetDoublev(int arg0, DoubleBuffer arg1) {
+        called("glGetDoublev");
+    }
+
+    @Override
+    public int glGetError() {
+        called("glGetError");
+        return 0;
+    }
+
+    @Override
+    public void glGetFloati_v(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glGetFloati_v");
+    }
+
+    @Override
+    public void glGetFloati_v(int arg0, int arg1, FloatBuffer arg2) {
+        called("glGetFloati_v");
+    }
+
+    @Override
+    public void glGetFloatv(int arg0, float[] arg1, int arg2) {
+        called("glGetFloatv");
+    }
+
+    @Override
+    public void glGetFloatv(int arg0, FloatBuffer arg1) {
+        called("glGetFloatv");
+    }
+
+    @Override
+    public int glGetFragDataIndex(int arg0, String arg1) {
+        called("glGetFragDataIndex");
+        return 0;
+    }
+
+    @Override
+    public int glGetFragDataLocation(int arg0, String arg1) {
+        called("glGetFragDataLocation");
+        return 0;
+    }
+
+    @Override
+    public void glGetFramebufferAttachmentParameteriv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetFramebufferAttachmentParameteriv");
+    }
+
+    @Override
+    public void glGetFramebufferAttachmentParameteriv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetFramebufferAttachmentParameteriv");
+    }
+
+    @Override
+    public void glGetFramebufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetFramebufferParameteriv");
+    }
+
+    @Override
+    public void glGetFramebufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetFramebufferParameteriv");
+    }
+
+    @Override
+    public int glGetGraphicsResetStatus() {
+        called("glGetGraphicsResetStatus");
+        return 0;
+    }
+
+    @Override
+    public long glGetImageHandleARB(int arg0, int arg1, boolean arg2, int arg3, int arg4) {
+        called("glGetImageHandleARB");
+        return 0L;
+    }
+
+    @Override
+    public void glGetInteger64i_v(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glGetInteger64i_v");
+    }
+
+    @Override
+    public void glGetInteger64i_v(int arg0, int arg1, LongBuffer arg2) {
+        called("glGetInteger64i_v");
+    }
+
+    @Override
+    public void glGetInteger64v(int arg0, long[] arg1, int arg2) {
+        called("glGetInteger64v");
+    }
+
+    @Override
+    public void glGetInteger64v(int arg0, LongBuffer arg1) {
+        called("glGetInteger64v");
+    }
+
+    @Override
+    public void glGetIntegeri_v(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetIntegeri_v");
+    }
+
+    @Override
+    public void glGetIntegeri_v(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetIntegeri_v");
+    }
+
+    @Override
+    public void glGetIntegerui64i_vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glGetIntegerui64i_vNV");
+    }
+
+    @Override
+    public void glGetIntegerui64i_vNV(int arg0, int arg1, LongBuffer arg2) {
+        called("glGetIntegerui64i_vNV");
+    }
+
+    @Override
+    public void glGetIntegerui64vNV(int arg0, long[] arg1, int arg2) {
+        called("glGetIntegerui64vNV");
+    }
+
+    @Override
+    public void glGetIntegerui64vNV(int arg0, LongBuffer arg1) {
+        called("glGetIntegerui64vNV");
+    }
+
+    @Override
+    public void glGetIntegerv(int arg0, int[] arg1, int arg2) {
+        called("glGetIntegerv");
+    }
+
+    @Override
+    public void glGetIntegerv(int arg0, IntBuffer arg1) {
+        called("glGetIntegerv");
+    }
+
+    @Override
+    public void glGetInternalformati64v(int arg0, int arg1, int arg2, int arg3, long[] arg4, int arg5) {
+        called("glGetInternalformati64v");
+    }
+
+    @Override
+    public void glGetInternalformati64v(int arg0, int arg1, int arg2, int arg3, LongBuffer arg4) {
+        called("glGetInternalformati64v");
+    }
+
+    @Override
+    public void glGetInternalformativ(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5) {
+        called("glGetInternalformativ");
+    }
+
+    @Override
+    public void glGetInternalformativ(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4) {
+        called("glGetInternalformativ");
+    }
+
+    @Override
+    public void glGetMultisamplefv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glGetMultisamplefv");
+    }
+
+    @Override
+    public void glGetMultisamplefv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glGetMultisamplefv");
+    }
+
+    @Override
+    public void glGetNamedBufferParameteri64v(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glGetNamedBufferParameteri64v");
+    }
+
+    @Override
+    public void glGetNamedBufferParameteri64v(int arg0, int arg1, LongBuffer arg2) {
+        called("glGetNamedBufferParameteri64v");
+    }
+
+    @Override
+    public void glGetNamedBufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetNamedBufferParameteriv");
+    }
+
+    @Override
+    public void glGetNamedBufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetNamedBufferParameteriv");
+    }
+
+    @Override
+    public void glGetNamedBufferParameterui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glGetNamedBufferParameterui64vNV");
+    }
+
+    @Override
+    public void glGetNamedBufferParameterui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        called("glGetNamedBufferParameterui64vNV");
+    }
+
+    @Override
+    public void glGetNamedBufferPointerv(int arg0, int arg1, PointerBuffer arg2) {
+        called("glGetNamedBufferPointerv");
+    }
+
+    @Override
+    public void glGetNamedBufferSubData(int arg0, long arg1, long arg2, Buffer arg3) {
+        called("glGetNamedBufferSubData");
+    }
+
+    @Override
+    public void glGetNamedFramebufferAttachmentParameteriv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetNamedFramebufferAttachmentParameteriv");
+    }
+
+    @Override
+    public void glGetNamedFramebufferAttachmentParameteriv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetNamedFramebufferAttachmentParameteriv");
+    }
+
+    @Override
+    public void glGetNamedFramebufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetNamedFramebufferParameteriv");
+    }
+
+    @Override
+    public void glGetNamedFramebufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetNamedFramebufferParameteriv");
+    }
+
+    @Override
+    public void glGetNamedRenderbufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetNamedRenderbufferParameteriv");
+    }
+
+    @Override
+    public void glGetNamedRenderbufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetNamedRenderbufferParameteriv");
+    }
+
+    @Override
+    public void glGetNamedStringARB(int arg0, String arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        called("glGetNamedStringARB");
+    }
+
+    @Override
+    public void glGetNamedStringARB(int arg0, String arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        called("glGetNamedStringARB");
+    }
+
+    @Override
+    public void glGetNamedStringivARB(int arg0, String arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetNamedStringivARB");
+    }
+
+    @Override
+    public void glGetNamedStringivARB(int arg0, String arg1, int arg2, IntBuffer arg3) {
+        called("glGetNamedStringivARB");
+    }
+
+    @Override
+    public void glGetObjectLabel(int arg0, int arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        called("glGetObjectLabel");
+    }
+
+    @Override
+    public void glGetObjectLabel(int arg0, int arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        called("glGetObjectLabel");
+    }
+
+    @Override
+    public void glGetObjectPtrLabel(Buffer arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        called("glGetObjectPtrLabel");
+    }
+
+    @Override
+    public void glGetObjectPtrLabel(Buffer arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        called("glGetObjectPtrLabel");
+    }
+
+    @Override
+    public void glGetProgramBinary(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5, Buffer arg6) {
+        called("glGetProgramBinary");
+    }
+
+    @Override
+    public void glGetProgramBinary(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3, Buffer arg4) {
+        called("glGetProgramBinary");
+    }
+
+    @Override
+    public void glGetProgramInfoLog(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        called("glGetProgramInfoLog");
+    }
+
+    @Override
+    public void glGetProgramInfoLog(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        called("glGetProgramInfoLog");
+    }
+
+    @Override
+    public void glGetProgramInterfaceiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetProgramInterfaceiv");
+    }
+
+    @Override
+    public void glGetProgramInterfaceiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetProgramInterfaceiv");
+    }
+
+    @Override
+    public void glGetProgramPipelineInfoLog(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        called("glGetProgramPipelineInfoLog");
+    }
+
+    @Override
+    public void glGetProgramPipelineInfoLog(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        called("glGetProgramPipelineInfoLog");
+    }
+
+    @Override
+    public void glGetProgramPipelineiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetProgramPipelineiv");
+    }
+
+    @Override
+    public void glGetProgramPipelineiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetProgramPipelineiv");
+    }
+
+    @Override
+    public int glGetProgramResourceIndex(int arg0, int arg1, byte[] arg2, int arg3) {
+        called("glGetProgramResourceIndex");
+        return 0;
+    }
+
+    @Override
+    public int glGetProgramResourceIndex(int arg0, int arg1, ByteBuffer arg2) {
+        called("glGetProgramResourceIndex");
+        return 0;
+    }
+
+    @Override
+    public int glGetProgramResourceLocation(int arg0, int arg1, byte[] arg2, int arg3) {
+        called("glGetProgramResourceLocation");
+        return 0;
+    }
+
+    @Override
+    public int glGetProgramResourceLocation(int arg0, int arg1, ByteBuffer arg2) {
+        called("glGetProgramResourceLocation");
+        return 0;
+    }
+
+    @Override
+    public int glGetProgramResourceLocationIndex(int arg0, int arg1, byte[] arg2, int arg3) {
+        called("glGetProgramResourceLocationIndex");
+        return 0;
+    }
+
+    @Override
+    public int glGetProgramResourceLocationIndex(int arg0, int arg1, ByteBuffer arg2) {
+        called("glGetProgramResourceLocationIndex");
+        return 0;
+    }
+
+    @Override
+    public void glGetProgramResourceName(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, byte[] arg6, int arg7) {
+        called("glGetProgramResourceName");
+    }
+
+    @Override
+    public void glGetProgramResourceName(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, ByteBuffer arg5) {
+        called("glGetProgramResourceName");
+    }
+
+    @Override
+    public void glGetProgramResourceiv(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, int arg6, int[] arg7, int arg8, int[] arg9, int arg10) {
+        called("glGetProgramResourceiv");
+    }
+
+    @Override
+    public void glGetProgramResourceiv(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, int arg5, IntBuffer arg6, IntBuffer arg7) {
+        called("glGetProgramResourceiv");
+    }
+
+    @Override
+    public void glGetProgramStageiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetProgramStageiv");
+    }
+
+    @Override
+    public void glGetProgramStageiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetProgramStageiv");
+    }
+
+    @Override
+    public void glGetProgramiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetProgramiv");
+    }
+
+    @Override
+    public void glGetProgramiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetProgramiv");
+    }
+
+    @Override
+    public void glGetQueryBufferObjecti64v(int arg0, int arg1, int arg2, long arg3) {
+        called("glGetQueryBufferObjecti64v");
+    }
+
+    @Override
+    public void glGetQueryBufferObjectiv(int arg0, int arg1, int arg2, long arg3) {
+        called("glGetQueryBufferObjectiv");
+    }
+
+    @Override
+    public void glGetQueryBufferObjectui64v(int arg0, int arg1, int arg2, long arg3) {
+        called("glGetQueryBufferObjectui64v");
+    }
+
+    @Override
+    public void glGetQueryBufferObjectuiv(int arg0, int arg1, int arg2, long arg3) {
+        called("glGetQueryBufferObjectuiv");
+    }
+
+    @Override
+    public void glGetQueryIndexediv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetQueryIndexediv");
+    }
+
+    @Override
+    public void glGetQueryIndexediv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetQueryIndexediv");
+    }
+
+    @Override
+    public void glGetQueryObjecti64v(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glGetQueryObjecti64v");
+    }
+
+    @Override
+    public void glGetQueryObjecti64v(int arg0, int arg1, LongBuffer arg2) {
+        called("glGetQueryObjecti64v");
+    }
+
+    @Override
+    public void glGetQueryObjectiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetQueryObjectiv");
+    }
+
+    @Override
+    public void glGetQueryObjectiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetQueryObjectiv");
+    }
+
+    @Override
+    public void glGetQueryObjectui64v(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glGetQueryObjectui64v");
+    }
+
+    @Override
+    public void glGetQueryObjectui64v(int arg0, int arg1, LongBuffer arg2) {
+        called("glGetQueryObjectui64v");
+    }
+
+    @Override
+    public void glGetQueryObjectuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetQueryObjectuiv");
+    }
+
+    @Override
+    public void glGetQueryObjectuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetQueryObjectuiv");
+    }
+
+    @Override
+    public void glGetQueryiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetQueryiv");
+    }
+
+    @Override
+    public void glGetQueryiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetQueryiv");
+    }
+
+    @Override
+    public void glGetRenderbufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetRenderbufferParameteriv");
+    }
+
+    @Override
+    public void glGetRenderbufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetRenderbufferParameteriv");
+    }
+
+    @Override
+    public void glGetSamplerParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetSamplerParameterIiv");
+    }
+
+    @Override
+    public void glGetSamplerParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetSamplerParameterIiv");
+    }
+
+    @Override
+    public void glGetSamplerParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetSamplerParameterIuiv");
+    }
+
+    @Override
+    public void glGetSamplerParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetSamplerParameterIuiv");
+    }
+
+    @Override
+    public void glGetSamplerParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glGetSamplerParameterfv");
+    }
+
+    @Override
+    public void glGetSamplerParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glGetSamplerParameterfv");
+    }
+
+    @Override
+    public void glGetSamplerParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetSamplerParameteriv");
+    }
+
+    @Override
+    public void glGetSamplerParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetSamplerParameteriv");
+    }
+
+    @Override
+    public void glGetShaderInfoLog(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        called("glGetShaderInfoLog");
+    }
+
+    @Override
+    public void glGetShaderInfoLog(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        called("glGetShaderInfoLog");
+    }
+
+    @Override
+    public void glGetShaderPrecisionFormat(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5) {
+        called("glGetShaderPrecisionFormat");
+    }
+
+    @Override
+    public void glGetShaderPrecisionFormat(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3) {
+        called("glGetShaderPrecisionFormat");
+    }
+
+    @Override
+    public void glGetShaderSource(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        called("glGetShaderSource");
+    }
+
+    @Override
+    public void glGetShaderSource(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        called("glGetShaderSource");
+    }
+
+    @Override
+    public void glGetShaderiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetShaderiv");
+    }
+
+    @Override
+    public void glGetShaderiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetShaderiv");
+    }
+
+    @Override
+    public String glGetString(int arg0) {
+        called("glGetString");
+        return null;
+    }
+
+    @Override
+    public String glGetStringi(int arg0, int arg1) {
+        called("glGetStringi");
+        return null;
+    }
+
+    @Override
+    public int glGetSubroutineIndex(int arg0, int arg1, String arg2) {
+        called("glGetSubroutineIndex");
+        return 0;
+    }
+
+    @Override
+    public int glGetSubroutineUniformLocation(int arg0, int arg1, String arg2) {
+        called("glGetSubroutineUniformLocation");
+        return 0;
+    }
+
+    @Override
+    public void glGetSynciv(long arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6) {
+        called("glGetSynciv");
+    }
+
+    @Override
+    public void glGetSynciv(long arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4) {
+        called("glGetSynciv");
+    }
+
+    @Override
+    public void glGetTexImage(int arg0, int arg1, int arg2, int arg3, Buffer arg4) {
+        called("glGetTexImage");
+    }
+
+    @Override
+    public void glGetTexImage(int arg0, int arg1, int arg2, int arg3, long arg4) {
+        called("glGetTexImage");
+    }
+
+    @Override
+    public void glGetTexLevelParameterfv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        called("glGetTexLevelParameterfv");
+    }
+
+    @Override
+    public void glGetTexLevelParameterfv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        called("glGetTexLevelParameterfv");
+    }
+
+    @Override
+    public void glGetTexLevelParameteriv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetTexLevelParameteriv");
+    }
+
+    @Override
+    public void glGetTexLevelParameteriv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetTexLevelParameteriv");
+    }
+
+    @Override
+    public void glGetTexParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetTexParameterIiv");
+    }
+
+    @Override
+    public void glGetTexParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetTexParameterIiv");
+    }
+
+    @Override
+    public void glGetTexParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetTexParameterIuiv");
+    }
+
+    @Override
+    public void glGetTexParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetTexParameterIuiv");
+    }
+
+    @Override
+    public void glGetTexParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glGetTexParameterfv");
+    }
+
+    @Override
+    public void glGetTexParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glGetTexParameterfv");
+    }
+
+    @Override
+    public void glGetTexParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetTexParameteriv");
+    }
+
+    @Override
+    public void glGetTexParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetTexParameteriv");
+    }
+
+    @Override
+    public long glGetTextureHandleARB(int arg0) {
+        called("glGetTextureHandleARB");
+        return 0L;
+    }
+
+    @Override
+    public void glGetTextureImage(int arg0, int arg1, int arg2, int arg3, int arg4, Buffer arg5) {
+        called("glGetTextureImage");
+    }
+
+    @Override
+    public void glGetTextureLevelParameterfv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        called("glGetTextureLevelParameterfv");
+    }
+
+    @Override
+    public void glGetTextureLevelParameterfv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        called("glGetTextureLevelParameterfv");
+    }
+
+    @Override
+    public void glGetTextureLevelParameteriv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetTextureLevelParameteriv");
+    }
+
+    @Override
+    public void glGetTextureLevelParameteriv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetTextureLevelParameteriv");
+    }
+
+    @Override
+    public void glGetTextureParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetTextureParameterIiv");
+    }
+
+    @Override
+    public void glGetTextureParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetTextureParameterIiv");
+    }
+
+    @Override
+    public void glGetTextureParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetTextureParameterIuiv");
+    }
+
+    @Override
+    public void glGetTextureParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetTextureParameterIuiv");
+    }
+
+    @Override
+    public void glGetTextureParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glGetTextureParameterfv");
+    }
+
+    @Override
+    public void glGetTextureParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glGetTextureParameterfv");
+    }
+
+    @Override
+    public void glGetTextureParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetTextureParameteriv");
+    }
+
+    @Override
+    public void glGetTextureParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetTextureParameteriv");
+    }
+
+    @Override
+    public long glGetTextureSamplerHandleARB(int arg0, int arg1) {
+        called("glGetTextureSamplerHandleARB");
+        return 0L;
+    }
+
+    @Override
+    public void glGetTextureSubImage(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, int arg10, Buffer arg11) {
+        called("glGetTextureSubImage");
+    }
+
+    @Override
+    public void glGetTransformFeedbackVarying(int arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6, int[] arg7, int arg8, byte[] arg9, int arg10) {
+        called("glGetTransformFeedbackVarying");
+    }
+
+    @Override
+    public void glGetTransformFeedbackVarying(int arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        called("glGetTransformFeedbackVarying");
+    }
+
+    @Override
+    public void glGetTransformFeedbacki64_v(int arg0, int arg1, int arg2, long[] arg3, int arg4) {
+        called("glGetTransformFeedbacki64_v");
+    }
+
+    @Override
+    public void glGetTransformFeedbacki64_v(int arg0, int arg1, int arg2, LongBuffer arg3) {
+        called("glGetTransformFeedbacki64_v");
+    }
+
+    @Override
+    public void glGetTransformFeedbacki_v(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetTransformFeedbacki_v");
+    }
+
+    @Override
+    public void glGetTransformFeedbacki_v(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetTransformFeedbacki_v");
+    }
+
+    @Override
+    public void glGetTransformFeedbackiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetTransformFeedbackiv");
+    }
+
+    @Override
+    public void glGetTransformFeedbackiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetTransformFeedbackiv");
+    }
+
+    @Override
+    public int glGetUniformBlockIndex(int arg0, String arg1) {
+        called("glGetUniformBlockIndex");
+        return 0;
+    }
+
+    @Override
+    public void glGetUniformIndices(int arg0, int arg1, String[] arg2, int[] arg3, int arg4) {
+        called("glGetUniformIndices");
+    }
+
+    @Override
+    public void glGetUniformIndices(int arg0, int arg1, String[] arg2, IntBuffer arg3) {
+        called("glGetUniformIndices");
+    }
+
+    @Override
+    public int glGetUniformLocation(int arg0, String arg1) {
+        called("glGetUniformLocation");
+        return 0;
+    }
+
+    @Override
+    public void glGetUniformSubroutineuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetUniformSubroutineuiv");
+    }
+
+    @Override
+    public void glGetUniformSubroutineuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetUniformSubroutineuiv");
+    }
+
+    @Override
+    public void glGetUniformdv(int arg0, int arg1, double[] arg2, int arg3) {
+        called("glGetUniformdv");
+    }
+
+    @Override
+    public void glGetUniformdv(int arg0, int arg1, DoubleBuffer arg2) {
+        called("glGetUniformdv");
+    }
+
+    @Override
+    public void glGetUniformfv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glGetUniformfv");
+    }
+
+    @Override
+    public void glGetUniformfv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glGetUniformfv");
+    }
+
+    @Override
+    public void glGetUniformiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetUniformiv");
+    }
+
+    @Override
+    public void glGetUniformiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetUniformiv");
+    }
+
+    @Override
+    public void glGetUniformui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glGetUniformui64vNV");
+    }
+
+    @Override
+    public void glGetUniformui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        called("glGetUniformui64vNV");
+    }
+
+    @Override
+    public void glGetUniformuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetUniformuiv");
+    }
+
+    @Override
+    public void glGetUniformuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetUniformuiv");
+    }
+
+    @Override
+    public void glGetVertexArrayIndexed64iv(int arg0, int arg1, int arg2, long[] arg3, int arg4) {
+        called("glGetVertexArrayIndexed64iv");
+    }
+
+    @Override
+    public void glGetVertexArrayIndexed64iv(int arg0, int arg1, int arg2, LongBuffer arg3) {
+        called("glGetVertexArrayIndexed64iv");
+    }
+
+    @Override
+    public void glGetVertexArrayIndexediv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetVertexArrayIndexediv");
+    }
+
+    @Override
+    public void glGetVertexArrayIndexediv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetVertexArrayIndexediv");
+    }
+
+    @Override
+    public void glGetVertexArrayiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetVertexArrayiv");
+    }
+
+    @Override
+    public void glGetVertexArrayiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetVertexArrayiv");
+    }
+
+    @Override
+    public void glGetVertexAttribIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetVertexAttribIiv");
+    }
+
+    @Override
+    public void glGetVertexAttribIiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetVertexAttribIiv");
+    }
+
+    @Override
+    public void glGetVertexAttribIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetVertexAttribIuiv");
+    }
+
+    @Override
+    public void glGetVertexAttribIuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetVertexAttribIuiv");
+    }
+
+    @Override
+    public void glGetVertexAttribLdv(int arg0, int arg1, double[] arg2, int arg3) {
+        called("glGetVertexAttribLdv");
+    }
+
+    @Override
+    public void glGetVertexAttribLdv(int arg0, int arg1, DoubleBuffer arg2) {
+        called("glGetVertexAttribLdv");
+    }
+
+    @Override
+    public void glGetVertexAttribLui64vARB(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glGetVertexAttribLui64vARB");
+    }
+
+    @Override
+    public void glGetVertexAttribLui64vARB(int arg0, int arg1, LongBuffer arg2) {
+        called("glGetVertexAttribLui64vARB");
+    }
+
+    @Override
+    public void glGetVertexAttribdv(int arg0, int arg1, double[] arg2, int arg3) {
+        called("glGetVertexAttribdv");
+    }
+
+    @Override
+    public void glGetVertexAttribdv(int arg0, int arg1, DoubleBuffer arg2) {
+        called("glGetVertexAttribdv");
+    }
+
+    @Override
+    public void glGetVertexAttribfv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glGetVertexAttribfv");
+    }
+
+    @Override
+    public void glGetVertexAttribfv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glGetVertexAttribfv");
+    }
+
+    @Override
+    public void glGetVertexAttribiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glGetVertexAttribiv");
+    }
+
+    @Override
+    public void glGetVertexAttribiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glGetVertexAttribiv");
+    }
+
+    @Override
+    public void glGetnCompressedTexImage(int arg0, int arg1, int arg2, Buffer arg3) {
+        called("glGetnCompressedTexImage");
+    }
+
+    @Override
+    public void glGetnTexImage(int arg0, int arg1, int arg2, int arg3, int arg4, Buffer arg5) {
+        called("glGetnTexImage");
+    }
+
+    @Override
+    public void glGetnUniformdv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        called("glGetnUniformdv");
+    }
+
+    @Override
+    public void glGetnUniformdv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        called("glGetnUniformdv");
+    }
+
+    @Override
+    public void glGetnUniformfv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        called("glGetnUniformfv");
+    }
+
+    @Override
+    public void glGetnUniformfv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        called("glGetnUniformfv");
+    }
+
+    @Override
+    public void glGetnUniformiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetnUniformiv");
+    }
+
+    @Override
+    public void glGetnUniformiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetnUniformiv");
+    }
+
+    @Override
+    public void glGetnUniformuiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glGetnUniformuiv");
+    }
+
+    @Override
+    public void glGetnUniformuiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glGetnUniformuiv");
+    }
+
+    @Override
+    public void glHint(int arg0, int arg1) {
+        called("glHint");
+    }
+
+    @Override
+    public long glImportSyncEXT(int arg0, long arg1, int arg2) {
+        called("glImportSyncEXT");
+        return 0L;
+    }
+
+    @Override
+    public void glIndexFormatNV(int arg0, int arg1) {
+        called("glIndexFormatNV");
+    }
+
+    @Override
+    public void glInvalidateBufferData(int arg0) {
+        called("glInvalidateBufferData");
+    }
+
+    @Override
+    public void glInvalidateBufferSubData(int arg0, long arg1, long arg2) {
+        called("glInvalidateBufferSubData");
+    }
+
+    @Override
+    public void glInvalidateFramebuffer(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glInvalidateFramebuffer");
+    }
+
+    @Override
+    public void glInvalidateFramebuffer(int arg0, int arg1, IntBuffer arg2) {
+        called("glInvalidateFramebuffer");
+    }
+
+    @Override
+    public void glInvalidateNamedFramebufferData(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glInvalidateNamedFramebufferData");
+    }
+
+    @Override
+    public void glInvalidateNamedFramebufferData(int arg0, int arg1, IntBuffer arg2) {
+        called("glInvalidateNamedFramebufferData");
+    }
+
+    @Override
+    public void glInvalidateNamedFramebufferSubData(int arg0, int arg1, int[] arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        called("glInvalidateNamedFramebufferSubData");
+    }
+
+    @Override
+    public void glInvalidateNamedFramebufferSubData(int arg0, int arg1, IntBuffer arg2, int arg3, int arg4, int arg5, int arg6) {
+        called("glInvalidateNamedFramebufferSubData");
+    }
+
+    @Override
+    public void glInvalidateSubFramebuffer(int arg0, int arg1, int[] arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        called("glInvalidateSubFramebuffer");
+    }
+
+    @Override
+    public void glInvalidateSubFramebuffer(int arg0, int arg1, IntBuffer arg2, int arg3, int arg4, int arg5, int arg6) {
+        called("glInvalidateSubFramebuffer");
+    }
+
+    @Override
+    public void glInvalidateTexImage(int arg0, int arg1) {
+        called("glInvalidateTexImage");
+    }
+
+    @Override
+    public void glInvalidateTexSubImage(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        called("glInvalidateTexSubImage");
+    }
+
+    @Override
+    public boolean glIsBuffer(int arg0) {
+        called("glIsBuffer");
+        return false;
+    }
+
+    @Override
+    public boolean glIsBufferResidentNV(int arg0) {
+        called("glIsBufferResidentNV");
+        return false;
+    }
+
+    @Override
+    public boolean glIsEnabled(int arg0) {
+        called("glIsEnabled");
+        return false;
+    }
+
+    @Override
+    public boolean glIsEnabledi(int arg0, int arg1) {
+        called("glIsEnabledi");
+        return false;
+    }
+
+    @Override
+    public boolean glIsFramebuffer(int arg0) {
+        called("glIsFramebuffer");
+        return false;
+    }
+
+    @Override
+    public boolean glIsImageHandleResidentARB(long arg0) {
+        called("glIsImageHandleResidentARB");
+        return false;
+    }
+
+    @Override
+    public boolean glIsNamedBufferResidentNV(int arg0) {
+        called("glIsNamedBufferResidentNV");
+        return false;
+    }
+
+    @Override
+    public boolean glIsNamedStringARB(int arg0, String arg1) {
+        called("glIsNamedStringARB");
+        return false;
+    }
+
+    @Override
+    public boolean glIsProgram(int arg0) {
+        called("glIsProgram");
+        return false;
+    }
+
+    @Override
+    public boolean glIsProgramPipeline(int arg0) {
+        called("glIsProgramPipeline");
+        return false;
+    }
+
+    @Override
+    public boolean glIsQuery(int arg0) {
+        called("glIsQuery");
+        return false;
+    }
+
+    @Override
+    public boolean glIsRenderbuffer(int arg0) {
+        called("glIsRenderbuffer");
+        return false;
+    }
+
+    @Override
+    public boolean glIsSampler(int arg0) {
+        called("glIsSampler");
+        return false;
+    }
+
+    @Override
+    public boolean glIsShader(int arg0) {
+        called("glIsShader");
+        return false;
+    }
+
+    @Override
+    public boolean glIsSync(long arg0) {
+        called("glIsSync");
+        return false;
+    }
+
+    @Override
+    public boolean glIsTexture(int arg0) {
+        called("glIsTexture");
+        return false;
+    }
+
+    @Override
+    public boolean glIsTextureHandleResidentARB(long arg0) {
+        called("glIsTextureHandleResidentARB");
+        return false;
+    }
+
+    @Override
+    public boolean glIsTransformFeedback(int arg0) {
+        called("glIsTransformFeedback");
+        return false;
+    }
+
+    @Override
+    public boolean glIsVertexArray(int arg0) {
+        called("glIsVertexArray");
+        return false;
+    }
+
+    @Override
+    public void glLineWidth(float arg0) {
+        called("glLineWidth");
+    }
+
+    @Override
+    public void glLinkProgram(int arg0) {
+        called("glLinkProgram");
+    }
+
+    @Override
+    public void glLogicOp(int arg0) {
+        called("glLogicOp");
+    }
+
+    @Override
+    public void glMakeBufferNonResidentNV(int arg0) {
+        called("glMakeBufferNonResidentNV");
+    }
+
+    @Override
+    public void glMakeBufferResidentNV(int arg0, int arg1) {
+        called("glMakeBufferResidentNV");
+    }
+
+    @Override
+    public void glMakeImageHandleNonResidentARB(long arg0) {
+        called("glMakeImageHandleNonResidentARB");
+    }
+
+    @Override
+    public void glMakeImageHandleResidentARB(long arg0, int arg1) {
+        called("glMakeImageHandleResidentARB");
+    }
+
+    @Override
+    public void glMakeNamedBufferNonResidentNV(int arg0) {
+        called("glMakeNamedBufferNonResidentNV");
+    }
+
+    @Override
+    public void glMakeNamedBufferResidentNV(int arg0, int arg1) {
+        called("glMakeNamedBufferResidentNV");
+    }
+
+    @Override
+    public void glMakeTextureHandleNonResidentARB(long arg0) {
+        called("glMakeTextureHandleNonResidentARB");
+    }
+
+    @Override
+    public void glMakeTextureHandleResidentARB(long arg0) {
+        called("glMakeTextureHandleResidentARB");
+    }
+
+    @Override
+    public ByteBuffer glMapBuffer(int arg0, int arg1) {
+        called("glMapBuffer");
+        return null;
+    }
+
+    @Override
+    public ByteBuffer glMapBufferRange(int arg0, long arg1, long arg2, int arg3) {
+        called("glMapBufferRange");
+        return null;
+    }
+
+    @Override
+    public ByteBuffer glMapNamedBuffer(int arg0, int arg1) {
+        called("glMapNamedBuffer");
+        return null;
+    }
+
+    @Override
+    public ByteBuffer glMapNamedBufferRange(int arg0, long arg1, long arg2, int arg3) {
+        called("glMapNamedBufferRange");
+        return null;
+    }
+
+    @Override
+    public void glMemoryBarrier(int arg0) {
+        called("glMemoryBarrier");
+    }
+
+    @Override
+    public void glMemoryBarrierByRegion(int arg0) {
+        called("glMemoryBarrierByRegion");
+    }
+
+    @Override
+    public void glMinSampleShading(float arg0) {
+        called("glMinSampleShading");
+    }
+
+    @Override
+    public void glMultiDrawArrays(int arg0, int[] arg1, int arg2, int[] arg3, int arg4, int arg5) {
+        called("glMultiDrawArrays");
+    }
+
+    @Override
+    public void glMultiDrawArrays(int arg0, IntBuffer arg1, IntBuffer arg2, int arg3) {
+        called("glMultiDrawArrays");
+    }
+
+    @Override
+    public void glMultiDrawArraysIndirect(int arg0, long arg1, int arg2, int arg3) {
+        called("glMultiDrawArraysIndirect");
+    }
+
+    @Override
+    public void glMultiDrawArraysIndirectAMD(int arg0, Buffer arg1, int arg2, int arg3) {
+        called("glMultiDrawArraysIndirectAMD");
+    }
+
+    @Override
+    public void glMultiDrawArraysIndirectCountARB(int arg0, long arg1, long arg2, int arg3, int arg4) {
+        called("glMultiDrawArraysIndirectCountARB");
+    }
+
+    @Override
+    public void glMultiDrawElements(int arg0, IntBuffer arg1, int arg2, PointerBuffer arg3, int arg4) {
+        called("glMultiDrawElements");
+    }
+
+    @Override
+    public void glMultiDrawElementsBaseVertex(int arg0, IntBuffer arg1, int arg2, PointerBuffer arg3, int arg4, IntBuffer arg5) {
+        called("glMultiDrawElementsBaseVertex");
+    }
+
+    @Override
+    public void glMultiDrawElementsIndirect(int arg0, int arg1, Buffer arg2, int arg3, int arg4) {
+        called("glMultiDrawElementsIndirect");
+    }
+
+    @Override
+    public void glMultiDrawElementsIndirectAMD(int arg0, int arg1, Buffer arg2, int arg3, int arg4) {
+        called("glMultiDrawElementsIndirectAMD");
+    }
+
+    @Override
+    public void glMultiDrawElementsIndirectCountARB(int arg0, int arg1, long arg2, long arg3, int arg4, int arg5) {
+        called("glMultiDrawElementsIndirectCountARB");
+    }
+
+    @Override
+    public void glNamedBufferData(int arg0, long arg1, Buffer arg2, int arg3) {
+        called("glNamedBufferData");
+    }
+
+    @Override
+    public void glNamedBufferPageCommitmentARB(int arg0, long arg1, long arg2, boolean arg3) {
+        called("glNamedBufferPageCommitmentARB");
+    }
+
+    @Override
+    public void glNamedBufferPageCommitmentEXT(int arg0, long arg1, long arg2, boolean arg3) {
+        called("glNamedBufferPageCommitmentEXT");
+    }
+
+    @Override
+    public void glNamedBufferStorage(int arg0, long arg1, Buffer arg2, int arg3) {
+        called("glNamedBufferStorage");
+    }
+
+    @Override
+    public void glNamedBufferSubData(int arg0, long arg1, long arg2, Buffer arg3) {
+        called("glNamedBufferSubData");
+    }
+
+    @Override
+    public void glNamedFramebufferDrawBuffer(int arg0, int arg1) {
+        called("glNamedFramebufferDrawBuffer");
+    }
+
+    @Override
+    public void glNamedFramebufferDrawBuffers(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glNamedFramebufferDrawBuffers");
+    }
+
+    @Override
+    public void glNamedFramebufferDrawBuffers(int arg0, int arg1, IntBuffer arg2) {
+        called("glNamedFramebufferDrawBuffers");
+    }
+
+    @Override
+    public void glNamedFramebufferParameteri(int arg0, int arg1, int arg2) {
+        called("glNamedFramebufferParameteri");
+    }
+
+    @Override
+    public void glNamedFramebufferReadBuffer(int arg0, int arg1) {
+        called("glNamedFramebufferReadBuffer");
+    }
+
+    @Override
+    public void glNamedFramebufferRenderbuffer(int arg0, int arg1, int arg2, int arg3) {
+        called("glNamedFramebufferRenderbuffer");
+    }
+
+    @Override
+    public void glNamedFramebufferTexture(int arg0, int arg1, int arg2, int arg3) {
+        called("glNamedFramebufferTexture");
+    }
+
+    @Override
+    public void glNamedFramebufferTextureLayer(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glNamedFramebufferTextureLayer");
+    }
+
+    @Override
+    public void glNamedRenderbufferStorage(int arg0, int arg1, int arg2, int arg3) {
+        called("glNamedRenderbufferStorage");
+    }
+
+    @Override
+    public void glNamedRenderbufferStorageMultisample(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glNamedRenderbufferStorageMultisample");
+    }
+
+    @Override
+    public void glNamedStringARB(int arg0, int arg1, String arg2, int arg3, String arg4) {
+        called("glNamedStringARB");
+    }
+
+    @Override
+    public void glNormalFormatNV(int arg0, int arg1) {
+        called("glNormalFormatNV");
+    }
+
+    @Override
+    public void glObjectLabel(int arg0, int arg1, int arg2, byte[] arg3, int arg4) {
+        called("glObjectLabel");
+    }
+
+    @Override
+    public void glObjectLabel(int arg0, int arg1, int arg2, ByteBuffer arg3) {
+        called("glObjectLabel");
+    }
+
+    @Override
+    public void glObjectPtrLabel(Buffer arg0, int arg1, byte[] arg2, int arg3) {
+        called("glObjectPtrLabel");
+    }
+
+    @Override
+    public void glObjectPtrLabel(Buffer arg0, int arg1, ByteBuffer arg2) {
+        called("glObjectPtrLabel");
+    }
+
+    @Override
+    public void glPatchParameterfv(int arg0, float[] arg1, int arg2) {
+        called("glPatchParameterfv");
+    }
+
+    @Override
+    public void glPatchParameterfv(int arg0, FloatBuffer arg1) {
+        called("glPatchParameterfv");
+    }
+
+    @Override
+    public void glPatchParameteri(int arg0, int arg1) {
+        called("glPatchParameteri");
+    }
+
+    @Override
+    public void glPauseTransformFeedback() {
+        called("glPauseTransformFeedback");
+    }
+
+    @Override
+    public void glPixelStoref(int arg0, float arg1) {
+        called("glPixelStoref");
+    }
+
+    @Override
+    public void glPixelStorei(int arg0, int arg1) {
+        called("glPixelStorei");
+    }
+
+    @Override
+    public void glPointParameterf(int arg0, float arg1) {
+        called("glPointParameterf");
+    }
+
+    @Override
+    public void glPointParameterfv(int arg0, float[] arg1, int arg2) {
+        called("glPointParameterfv");
+    }
+
+    @Override
+    public void glPointParameterfv(int arg0, FloatBuffer arg1) {
+        called("glPointParameterfv");
+    }
+
+    @Override
+    public void glPointParameteri(int arg0, int arg1) {
+        called("glPointParameteri");
+    }
+
+    @Override
+    public void glPointParameteriv(int arg0, int[] arg1, int arg2) {
+        called("glPointParameteriv");
+    }
+
+    @Override
+    public void glPointParameteriv(int arg0, IntBuffer arg1) {
+        called("glPointParameteriv");
+    }
+
+    @Override
+    public void glPointSize(float arg0) {
+        called("glPointSize");
+    }
+
+    @Override
+    public void glPolygonMode(int arg0, int arg1) {
+        called("glPolygonMode");
+    }
+
+    @Override
+    public void glPolygonOffset(float arg0, float arg1) {
+        called("glPolygonOffset");
+    }
+
+    @Override
+    public void glPopDebugGroup() {
+        called("glPopDebugGroup");
+    }
+
+    @Override
+    public void glPrimitiveBoundingBox(float arg0, float arg1, float arg2, float arg3, float arg4, float arg5, float arg6, float arg7) {
+        called("glPrimitiveBoundingBox");
+    }
+
+    @Override
+    public void glPrimitiveRestartIndex(int arg0) {
+        called("glPrimitiveRestartIndex");
+    }
+
+    @Override
+    public void glProgramBinary(int arg0, int arg1, Buffer arg2, int arg3) {
+        called("glProgramBinary");
+    }
+
+    @Override
+    public void glProgramParameteri(int arg0, int arg1, int arg2) {
+        called("glProgramParameteri");
+    }
+
+    @Override
+    public void glProgramParameteriARB(int arg0, int arg1, int arg2) {
+        called("glProgramParameteriARB");
+    }
+
+    @Override
+    public void glProgramUniform1d(int arg0, int arg1, double arg2) {
+        called("glProgramUniform1d");
+    }
+
+    @Override
+    public void glProgramUniform1dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        called("glProgramUniform1dv");
+    }
+
+    @Override
+    public void glProgramUniform1dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        called("glProgramUniform1dv");
+    }
+
+    @Override
+    public void glProgramUniform1f(int arg0, int arg1, float arg2) {
+        called("glProgramUniform1f");
+    }
+
+    @Override
+    public void glProgramUniform1fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        called("glProgramUniform1fv");
+    }
+
+    @Override
+    public void glProgramUniform1fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        called("glProgramUniform1fv");
+    }
+
+    @Override
+    public void glProgramUniform1i(int arg0, int arg1, int arg2) {
+        called("glProgramUniform1i");
+    }
+
+    @Override
+    public void glProgramUniform1iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glProgramUniform1iv");
+    }
+
+    @Override
+    public void glProgramUniform1iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glProgramUniform1iv");
+    }
+
+    @Override
+    public void glProgramUniform1ui(int arg0, int arg1, int arg2) {
+        called("glProgramUniform1ui");
+    }
+
+    @Override
+    public void glProgramUniform1uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glProgramUniform1uiv");
+    }
+
+    @Override
+    public void glProgramUniform1uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glProgramUniform1uiv");
+    }
+
+    @Override
+    public void glProgramUniform2d(int arg0, int arg1, double arg2, double arg3) {
+        called("glProgramUniform2d");
+    }
+
+    @Override
+    public void glProgramUniform2dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        called("glProgramUniform2dv");
+    }
+
+    @Override
+    public void glProgramUniform2dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        called("glProgramUniform2dv");
+    }
+
+    @Override
+    public void glProgramUniform2f(int arg0, int arg1, float arg2, float arg3) {
+        called("glProgramUniform2f");
+    }
+
+    @Override
+    public void glProgramUniform2fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        called("glProgramUniform2fv");
+    }
+
+    @Override
+    public void glProgramUniform2fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        called("glProgramUniform2fv");
+    }
+
+    @Override
+    public void glProgramUniform2i(int arg0, int arg1, int arg2, int arg3) {
+        called("glProgramUniform2i");
+    }
+
+    @Override
+    public void glProgramUniform2iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glProgramUniform2iv");
+    }
+
+    @Override
+    public void glProgramUniform2iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glProgramUniform2iv");
+    }
+
+    @Override
+    public void glProgramUniform2ui(int arg0, int arg1, int arg2, int arg3) {
+        called("glProgramUniform2ui");
+    }
+
+    @Override
+    public void glProgramUniform2uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glProgramUniform2uiv");
+    }
+
+    @Override
+    public void glProgramUniform2uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glProgramUniform2uiv");
+    }
+
+    @Override
+    public void glProgramUniform3d(int arg0, int arg1, double arg2, double arg3, double arg4) {
+        called("glProgramUniform3d");
+    }
+
+    @Override
+    public void glProgramUniform3dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        called("glProgramUniform3dv");
+    }
+
+    @Override
+    public void glProgramUniform3dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        called("glProgramUniform3dv");
+    }
+
+    @Override
+    public void glProgramUniform3f(int arg0, int arg1, float arg2, float arg3, float arg4) {
+        called("glProgramUniform3f");
+    }
+
+    @Override
+    public void glProgramUniform3fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        called("glProgramUniform3fv");
+    }
+
+    @Override
+    public void glProgramUniform3fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        called("glProgramUniform3fv");
+    }
+
+    @Override
+    public void glProgramUniform3i(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glProgramUniform3i");
+    }
+
+    @Override
+    public void glProgramUniform3iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glProgramUniform3iv");
+    }
+
+    @Override
+    public void glProgramUniform3iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glProgramUniform3iv");
+    }
+
+    @Override
+    public void glProgramUniform3ui(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glProgramUniform3ui");
+    }
+
+    @Override
+    public void glProgramUniform3uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glProgramUniform3uiv");
+    }
+
+    @Override
+    public void glProgramUniform3uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glProgramUniform3uiv");
+    }
+
+    @Override
+    public void glProgramUniform4d(int arg0, int arg1, double arg2, double arg3, double arg4, double arg5) {
+        called("glProgramUniform4d");
+    }
+
+    @Override
+    public void glProgramUniform4dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        called("glProgramUniform4dv");
+    }
+
+    @Override
+    public void glProgramUniform4dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        called("glProgramUniform4dv");
+    }
+
+    @Override
+    public void glProgramUniform4f(int arg0, int arg1, float arg2, float arg3, float arg4, float arg5) {
+        called("glProgramUniform4f");
+    }
+
+    @Override
+    public void glProgramUniform4fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        called("glProgramUniform4fv");
+    }
+
+    @Override
+    public void glProgramUniform4fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        called("glProgramUniform4fv");
+    }
+
+    @Override
+    public void glProgramUniform4i(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        called("glProgramUniform4i");
+    }
+
+    @Override
+    public void glProgramUniform4iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glProgramUniform4iv");
+    }
+
+    @Override
+    public void glProgramUniform4iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glProgramUniform4iv");
+    }
+
+    @Override
+    public void glProgramUniform4ui(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        called("glProgramUniform4ui");
+    }
+
+    @Override
+    public void glProgramUniform4uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        called("glProgramUniform4uiv");
+    }
+
+    @Override
+    public void glProgramUniform4uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        called("glProgramUniform4uiv");
+    }
+
+    @Override
+    public void glProgramUniformHandleui64ARB(int arg0, int arg1, long arg2) {
+        called("glProgramUniformHandleui64ARB");
+    }
+
+    @Override
+    public void glProgramUniformHandleui64vARB(int arg0, int arg1, int arg2, long[] arg3, int arg4) {
+        called("glProgramUniformHandleui64vARB");
+    }
+
+    @Override
+    public void glProgramUniformHandleui64vARB(int arg0, int arg1, int arg2, LongBuffer arg3) {
+        called("glProgramUniformHandleui64vARB");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        called("glProgramUniformMatrix2dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        called("glProgramUniformMatrix2dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        called("glProgramUniformMatrix2fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        called("glProgramUniformMatrix2fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        called("glProgramUniformMatrix2x3dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        called("glProgramUniformMatrix2x3dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        called("glProgramUniformMatrix2x3fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        called("glProgramUniformMatrix2x3fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        called("glProgramUniformMatrix2x4dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        called("glProgramUniformMatrix2x4dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        called("glProgramUniformMatrix2x4fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        called("glProgramUniformMatrix2x4fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        called("glProgramUniformMatrix3dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        called("glProgramUniformMatrix3dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        called("glProgramUniformMatrix3fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        called("glProgramUniformMatrix3fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        called("glProgramUniformMatrix3x2dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        called("glProgramUniformMatrix3x2dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        called("glProgramUniformMatrix3x2fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        called("glProgramUniformMatrix3x2fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        called("glProgramUniformMatrix3x4dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        called("glProgramUniformMatrix3x4dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        called("glProgramUniformMatrix3x4fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        called("glProgramUniformMatrix3x4fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        called("glProgramUniformMatrix4dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        called("glProgramUniformMatrix4dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        called("glProgramUniformMatrix4fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        called("glProgramUniformMatrix4fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        called("glProgramUniformMatrix4x2dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        called("glProgramUniformMatrix4x2dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        called("glProgramUniformMatrix4x2fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        called("glProgramUniformMatrix4x2fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        called("glProgramUniformMatrix4x3dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        called("glProgramUniformMatrix4x3dv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        called("glProgramUniformMatrix4x3fv");
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        called("glProgramUniformMatrix4x3fv");
+    }
+
+    @Override
+    public void glProgramUniformui64NV(int arg0, int arg1, long arg2) {
+        called("glProgramUniformui64NV");
+    }
+
+    @Override
+    public void glProgramUniformui64vNV(int arg0, int arg1, int arg2, long[] arg3, int arg4) {
+        called("glProgramUniformui64vNV");
+    }
+
+    @Override
+    public void glProgramUniformui64vNV(int arg0, int arg1, int arg2, LongBuffer arg3) {
+        called("glProgramUniformui64vNV");
+    }
+
+    @Override
+    public void glProvokingVertex(int arg0) {
+        called("glProvokingVertex");
+    }
+
+    @Override
+    public void glPushDebugGroup(int arg0, int arg1, int arg2, byte[] arg3, int arg4) {
+        called("glPushDebugGroup");
+    }
+
+    @Override
+    public void glPushDebugGroup(int arg0, int arg1, int arg2, ByteBuffer arg3) {
+        called("glPushDebugGroup");
+    }
+
+    @Override
+    public void glQueryCounter(int arg0, int arg1) {
+        called("glQueryCounter");
+    }
+
+    @Override
+    public void glReadBuffer(int arg0) {
+        called("glReadBuffer");
+    }
+
+    @Override
+    public void glReadPixels(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        called("glReadPixels");
+    }
+
+    @Override
+    public void glReadPixels(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        called("glReadPixels");
+    }
+
+    @Override
+    public void glReadnPixels(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, Buffer arg7) {
+        called("glReadnPixels");
+    }
+
+    @Override
+    public void glReleaseShaderCompiler() {
+        called("glReleaseShaderCompiler");
+    }
+
+    @Override
+    public void glRenderbufferStorage(int arg0, int arg1, int arg2, int arg3) {
+        called("glRenderbufferStorage");
+    }
+
+    @Override
+    public void glRenderbufferStorageMultisample(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glRenderbufferStorageMultisample");
+    }
+
+    @Override
+    public void glResumeTransformFeedback() {
+        called("glResumeTransformFeedback");
+    }
+
+    @Override
+    public void glSampleCoverage(float arg0, boolean arg1) {
+        called("glSampleCoverage");
+    }
+
+    @Override
+    public void glSampleMaski(int arg0, int arg1) {
+        called("glSampleMaski");
+    }
+
+    @Override
+    public void glSamplerParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glSamplerParameterIiv");
+    }
+
+    @Override
+    public void glSamplerParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glSamplerParameterIiv");
+    }
+
+    @Override
+    public void glSamplerParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glSamplerParameterIuiv");
+    }
+
+    @Override
+    public void glSamplerParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glSamplerParameterIuiv");
+    }
+
+    @Override
+    public void glSamplerParameterf(int arg0, int arg1, float arg2) {
+        called("glSamplerParameterf");
+    }
+
+    @Override
+    public void glSamplerParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glSamplerParameterfv");
+    }
+
+    @Override
+    public void glSamplerParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glSamplerParameterfv");
+    }
+
+    @Override
+    public void glSamplerParameteri(int arg0, int arg1, int arg2) {
+        called("glSamplerParameteri");
+    }
+
+    @Override
+    public void glSamplerParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glSamplerParameteriv");
+    }
+
+    @Override
+    public void glSamplerParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glSamplerParameteriv");
+    }
+
+    @Override
+    public void glScissor(int arg0, int arg1, int arg2, int arg3) {
+        called("glScissor");
+    }
+
+    @Override
+    public void glScissorArrayv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glScissorArrayv");
+    }
+
+    @Override
+    public void glScissorArrayv(int arg0, int arg1, IntBuffer arg2) {
+        called("glScissorArrayv");
+    }
+
+    @Override
+    public void glScissorIndexed(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glScissorIndexed");
+    }
+
+    @Override
+    public void glScissorIndexedv(int arg0, int[] arg1, int arg2) {
+        called("glScissorIndexedv");
+    }
+
+    @Override
+    public void glScissorIndexedv(int arg0, IntBuffer arg1) {
+        called("glScissorIndexedv");
+    }
+
+    @Override
+    public void glSecondaryColorFormatNV(int arg0, int arg1, int arg2) {
+        called("glSecondaryColorFormatNV");
+    }
+
+    @Override
+    public void glSetMultisamplefvAMD(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glSetMultisamplefvAMD");
+    }
+
+    @Override
+    public void glSetMultisamplefvAMD(int arg0, int arg1, FloatBuffer arg2) {
+        called("glSetMultisamplefvAMD");
+    }
+
+    @Override
+    public void glShaderBinary(int arg0, int[] arg1, int arg2, int arg3, Buffer arg4, int arg5) {
+        called("glShaderBinary");
+    }
+
+    @Override
+    public void glShaderBinary(int arg0, IntBuffer arg1, int arg2, Buffer arg3, int arg4) {
+        called("glShaderBinary");
+    }
+
+    @Override
+    public void glShaderSource(int arg0, int arg1, String[] arg2, int[] arg3, int arg4) {
+        called("glShaderSource");
+    }
+
+    @Override
+    public void glShaderSource(int arg0, int arg1, String[] arg2, IntBuffer arg3) {
+        called("glShaderSource");
+    }
+
+    @Override
+    public void glShaderStorageBlockBinding(int arg0, int arg1, int arg2) {
+        called("glShaderStorageBlockBinding");
+    }
+
+    @Override
+    public void glStencilFunc(int arg0, int arg1, int arg2) {
+        called("glStencilFunc");
+    }
+
+    @Override
+    public void glStencilFuncSeparate(int arg0, int arg1, int arg2, int arg3) {
+        called("glStencilFuncSeparate");
+    }
+
+    @Override
+    public void glStencilMask(int arg0) {
+        called("glStencilMask");
+    }
+
+    @Override
+    public void glStencilMaskSeparate(int arg0, int arg1) {
+        called("glStencilMaskSeparate");
+    }
+
+    @Override
+    public void glStencilOp(int arg0, int arg1, int arg2) {
+        called("glStencilOp");
+    }
+
+    @Override
+    public void glStencilOpSeparate(int arg0, int arg1, int arg2, int arg3) {
+        called("glStencilOpSeparate");
+    }
+
+    @Override
+    public void glStencilOpValueAMD(int arg0, int arg1) {
+        called("glStencilOpValueAMD");
+    }
+
+    @Override
+    public void glTessellationFactorAMD(float arg0) {
+        called("glTessellationFactorAMD");
+    }
+
+    @Override
+    public void glTessellationModeAMD(int arg0) {
+        called("glTessellationModeAMD");
+    }
+
+    @Override
+    public void glTexBuffer(int arg0, int arg1, int arg2) {
+        called("glTexBuffer");
+    }
+
+    @Override
+    public void glTexBufferRange(int arg0, int arg1, int arg2, long arg3, long arg4) {
+        called("glTexBufferRange");
+    }
+
+    @Override
+    public void glTexCoordFormatNV(int arg0, int arg1, int arg2) {
+        called("glTexCoordFormatNV");
+    }
+
+    @Override
+    public void glTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, Buffer arg7) {
+        called("glTexImage1D");
+    }
+
+    @Override
+    public void glTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, long arg7) {
+        called("glTexImage1D");
+    }
+
+    @Override
+    public void glTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        called("glTexImage2D");
+    }
+
+    @Override
+    public void glTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        called("glTexImage2D");
+    }
+
+    @Override
+    public void glTexImage2DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, boolean arg5) {
+        called("glTexImage2DMultisample");
+    }
+
+    @Override
+    public void glTexImage2DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        called("glTexImage2DMultisampleCoverageNV");
+    }
+
+    @Override
+    public void glTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, Buffer arg9) {
+        called("glTexImage3D");
+    }
+
+    @Override
+    public void glTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, long arg9) {
+        called("glTexImage3D");
+    }
+
+    @Override
+    public void glTexImage3DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        called("glTexImage3DMultisample");
+    }
+
+    @Override
+    public void glTexImage3DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, boolean arg7) {
+        called("glTexImage3DMultisampleCoverageNV");
+    }
+
+    @Override
+    public void glTexPageCommitmentARB(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, boolean arg8) {
+        called("glTexPageCommitmentARB");
+    }
+
+    @Override
+    public void glTexParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glTexParameterIiv");
+    }
+
+    @Override
+    public void glTexParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glTexParameterIiv");
+    }
+
+    @Override
+    public void glTexParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glTexParameterIuiv");
+    }
+
+    @Override
+    public void glTexParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glTexParameterIuiv");
+    }
+
+    @Override
+    public void glTexParameterf(int arg0, int arg1, float arg2) {
+        called("glTexParameterf");
+    }
+
+    @Override
+    public void glTexParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glTexParameterfv");
+    }
+
+    @Override
+    public void glTexParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glTexParameterfv");
+    }
+
+    @Override
+    public void glTexParameteri(int arg0, int arg1, int arg2) {
+        called("glTexParameteri");
+    }
+
+    @Override
+    public void glTexParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glTexParameteriv");
+    }
+
+    @Override
+    public void glTexParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glTexParameteriv");
+    }
+
+    @Override
+    public void glTexStorage1D(int arg0, int arg1, int arg2, int arg3) {
+        called("glTexStorage1D");
+    }
+
+    @Override
+    public void glTexStorage2D(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glTexStorage2D");
+    }
+
+    @Override
+    public void glTexStorage2DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, boolean arg5) {
+        called("glTexStorage2DMultisample");
+    }
+
+    @Override
+    public void glTexStorage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        called("glTexStorage3D");
+    }
+
+    @Override
+    public void glTexStorage3DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        called("glTexStorage3DMultisample");
+    }
+
+    @Override
+    public void glTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        called("glTexSubImage1D");
+    }
+
+    @Override
+    public void glTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        called("glTexSubImage1D");
+    }
+
+    @Override
+    public void glTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        called("glTexSubImage2D");
+    }
+
+    @Override
+    public void glTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        called("glTexSubImage2D");
+    }
+
+    @Override
+    public void glTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, Buffer arg10) {
+        called("glTexSubImage3D");
+    }
+
+    @Override
+    public void glTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, long arg10) {
+        called("glTexSubImage3D");
+    }
+
+    @Override
+    public void glTextureBarrier() {
+        called("glTextureBarrier");
+    }
+
+    @Override
+    public void glTextureBuffer(int arg0, int arg1, int arg2) {
+        called("glTextureBuffer");
+    }
+
+    @Override
+    public void glTextureBufferRange(int arg0, int arg1, int arg2, long arg3, long arg4) {
+        called("glTextureBufferRange");
+    }
+
+    @Override
+    public void glTextureImage2DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, boolean arg7) {
+        called("glTextureImage2DMultisampleCoverageNV");
+    }
+
+    @Override
+    public void glTextureImage2DMultisampleNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        called("glTextureImage2DMultisampleNV");
+    }
+
+    @Override
+    public void glTextureImage3DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, boolean arg8) {
+        called("glTextureImage3DMultisampleCoverageNV");
+    }
+
+    @Override
+    public void glTextureImage3DMultisampleNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, boolean arg7) {
+        called("glTextureImage3DMultisampleNV");
+    }
+
+    @Override
+    public void glTextureParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glTextureParameterIiv");
+    }
+
+    @Override
+    public void glTextureParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glTextureParameterIiv");
+    }
+
+    @Override
+    public void glTextureParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glTextureParameterIuiv");
+    }
+
+    @Override
+    public void glTextureParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glTextureParameterIuiv");
+    }
+
+    @Override
+    public void glTextureParameterf(int arg0, int arg1, float arg2) {
+        called("glTextureParameterf");
+    }
+
+    @Override
+    public void glTextureParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glTextureParameterfv");
+    }
+
+    @Override
+    public void glTextureParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glTextureParameterfv");
+    }
+
+    @Override
+    public void glTextureParameteri(int arg0, int arg1, int arg2) {
+        called("glTextureParameteri");
+    }
+
+    @Override
+    public void glTextureParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glTextureParameteriv");
+    }
+
+    @Override
+    public void glTextureParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        called("glTextureParameteriv");
+    }
+
+    @Override
+    public void glTextureStorage1D(int arg0, int arg1, int arg2, int arg3) {
+        called("glTextureStorage1D");
+    }
+
+    @Override
+    public void glTextureStorage1DEXT(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glTextureStorage1DEXT");
+    }
+
+    @Override
+    public void glTextureStorage2D(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glTextureStorage2D");
+    }
+
+    @Override
+    public void glTextureStorage2DEXT(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        called("glTextureStorage2DEXT");
+    }
+
+    @Override
+    public void glTextureStorage2DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, boolean arg5) {
+        called("glTextureStorage2DMultisample");
+    }
+
+    @Override
+    public void glTextureStorage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        called("glTextureStorage3D");
+    }
+
+    @Override
+    public void glTextureStorage3DEXT(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6) {
+        called("glTextureStorage3DEXT");
+    }
+
+    @Override
+    public void glTextureStorage3DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        called("glTextureStorage3DMultisample");
+    }
+
+    @Override
+    public void glTextureSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        called("glTextureSubImage1D");
+    }
+
+    @Override
+    public void glTextureSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        called("glTextureSubImage1D");
+    }
+
+    @Override
+    public void glTextureSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        called("glTextureSubImage2D");
+    }
+
+    @Override
+    public void glTextureSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        called("glTextureSubImage2D");
+    }
+
+    @Override
+    public void glTextureSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, Buffer arg10) {
+        called("glTextureSubImage3D");
+    }
+
+    @Override
+    public void glTextureSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, long arg10) {
+        called("glTextureSubImage3D");
+    }
+
+    @Override
+    public void glTextureView(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        called("glTextureView");
+    }
+
+    @Override
+    public void glTransformFeedbackBufferBase(int arg0, int arg1, int arg2) {
+        called("glTransformFeedbackBufferBase");
+    }
+
+    @Override
+    public void glTransformFeedbackBufferRange(int arg0, int arg1, int arg2, long arg3, long arg4) {
+        called("glTransformFeedbackBufferRange");
+    }
+
+    @Override
+    public void glTransformFeedbackVaryings(int arg0, int arg1, String[] arg2, int arg3) {
+        called("glTransformFeedbackVaryings");
+    }
+
+    @Override
+    public void glUniform(GLUniformData arg0) {
+        called("glUniform");
+    }
+
+    @Override
+    public void glUniform1d(int arg0, double arg1) {
+        called("glUniform1d");
+    }
+
+    @Override
+    public void glUniform1dv(int arg0, int arg1, double[] arg2, int arg3) {
+        called("glUniform1dv");
+    }
+
+    @Override
+    public void glUniform1dv(int arg0, int arg1, DoubleBuffer arg2) {
+        called("glUniform1dv");
+    }
+
+    @Override
+    public void glUniform1f(int arg0, float arg1) {
+        called("glUniform1f");
+    }
+
+    @Override
+    public void glUniform1fv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glUniform1fv");
+    }
+
+    @Override
+    public void glUniform1fv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glUniform1fv");
+    }
+
+    @Override
+    public void glUniform1i(int arg0, int arg1) {
+        called("glUniform1i");
+    }
+
+    @Override
+    public void glUniform1iv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glUniform1iv");
+    }
+
+    @Override
+    public void glUniform1iv(int arg0, int arg1, IntBuffer arg2) {
+        called("glUniform1iv");
+    }
+
+    @Override
+    public void glUniform1ui(int arg0, int arg1) {
+        called("glUniform1ui");
+    }
+
+    @Override
+    public void glUniform1uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glUniform1uiv");
+    }
+
+    @Override
+    public void glUniform1uiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glUniform1uiv");
+    }
+
+    @Override
+    public void glUniform2d(int arg0, double arg1, double arg2) {
+        called("glUniform2d");
+    }
+
+    @Override
+    public void glUniform2dv(int arg0, int arg1, double[] arg2, int arg3) {
+        called("glUniform2dv");
+    }
+
+    @Override
+    public void glUniform2dv(int arg0, int arg1, DoubleBuffer arg2) {
+        called("glUniform2dv");
+    }
+
+    @Override
+    public void glUniform2f(int arg0, float arg1, float arg2) {
+        called("glUniform2f");
+    }
+
+    @Override
+    public void glUniform2fv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glUniform2fv");
+    }
+
+    @Override
+    public void glUniform2fv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glUniform2fv");
+    }
+
+    @Override
+    public void glUniform2i(int arg0, int arg1, int arg2) {
+        called("glUniform2i");
+    }
+
+    @Override
+    public void glUniform2iv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glUniform2iv");
+    }
+
+    @Override
+    public void glUniform2iv(int arg0, int arg1, IntBuffer arg2) {
+        called("glUniform2iv");
+    }
+
+    @Override
+    public void glUniform2ui(int arg0, int arg1, int arg2) {
+        called("glUniform2ui");
+    }
+
+    @Override
+    public void glUniform2uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glUniform2uiv");
+    }
+
+    @Override
+    public void glUniform2uiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glUniform2uiv");
+    }
+
+    @Override
+    public void glUniform3d(int arg0, double arg1, double arg2, double arg3) {
+        called("glUniform3d");
+    }
+
+    @Override
+    public void glUniform3dv(int arg0, int arg1, double[] arg2, int arg3) {
+        called("glUniform3dv");
+    }
+
+    @Override
+    public void glUniform3dv(int arg0, int arg1, DoubleBuffer arg2) {
+        called("glUniform3dv");
+    }
+
+    @Override
+    public void glUniform3f(int arg0, float arg1, float arg2, float arg3) {
+        called("glUniform3f");
+    }
+
+    @Override
+    public void glUniform3fv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glUniform3fv");
+    }
+
+    @Override
+    public void glUniform3fv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glUniform3fv");
+    }
+
+    @Override
+    public void glUniform3i(int arg0, int arg1, int arg2, int arg3) {
+        called("glUniform3i");
+    }
+
+    @Override
+    public void glUniform3iv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glUniform3iv");
+    }
+
+    @Override
+    public void glUniform3iv(int arg0, int arg1, IntBuffer arg2) {
+        called("glUniform3iv");
+    }
+
+    @Override
+    public void glUniform3ui(int arg0, int arg1, int arg2, int arg3) {
+        called("glUniform3ui");
+    }
+
+    @Override
+    public void glUniform3uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glUniform3uiv");
+    }
+
+    @Override
+    public void glUniform3uiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glUniform3uiv");
+    }
+
+    @Override
+    public void glUniform4d(int arg0, double arg1, double arg2, double arg3, double arg4) {
+        called("glUniform4d");
+    }
+
+    @Override
+    public void glUniform4dv(int arg0, int arg1, double[] arg2, int arg3) {
+        called("glUniform4dv");
+    }
+
+    @Override
+    public void glUniform4dv(int arg0, int arg1, DoubleBuffer arg2) {
+        called("glUniform4dv");
+    }
+
+    @Override
+    public void glUniform4f(int arg0, float arg1, float arg2, float arg3, float arg4) {
+        called("glUniform4f");
+    }
+
+    @Override
+    public void glUniform4fv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glUniform4fv");
+    }
+
+    @Override
+    public void glUniform4fv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glUniform4fv");
+    }
+
+    @Override
+    public void glUniform4i(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glUniform4i");
+    }
+
+    @Override
+    public void glUniform4iv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glUniform4iv");
+    }
+
+    @Override
+    public void glUniform4iv(int arg0, int arg1, IntBuffer arg2) {
+        called("glUniform4iv");
+    }
+
+    @Override
+    public void glUniform4ui(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glUniform4ui");
+    }
+
+    @Override
+    public void glUniform4uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glUniform4uiv");
+    }
+
+    @Override
+    public void glUniform4uiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glUniform4uiv");
+    }
+
+    @Override
+    public void glUniformBlockBinding(int arg0, int arg1, int arg2) {
+        called("glUniformBlockBinding");
+    }
+
+    @Override
+    public void glUniformHandleui64ARB(int arg0, long arg1) {
+        called("glUniformHandleui64ARB");
+    }
+
+    @Override
+    public void glUniformHandleui64vARB(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glUniformHandleui64vARB");
+    }
+
+    @Override
+    public void glUniformHandleui64vARB(int arg0, int arg1, LongBuffer arg2) {
+        called("glUniformHandleui64vARB");
+    }
+
+    @Override
+    public void glUniformMatrix2dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        called("glUniformMatrix2dv");
+    }
+
+    @Override
+    public void glUniformMatrix2dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        called("glUniformMatrix2dv");
+    }
+
+    @Override
+    public void glUniformMatrix2fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        called("glUniformMatrix2fv");
+    }
+
+    @Override
+    public void glUniformMatrix2fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        called("glUniformMatrix2fv");
+    }
+
+    @Override
+    public void glUniformMatrix2x3dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        called("glUniformMatrix2x3dv");
+    }
+
+    @Override
+    public void glUniformMatrix2x3dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        called("glUniformMatrix2x3dv");
+    }
+
+    @Override
+    public void glUniformMatrix2x3fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        called("glUniformMatrix2x3fv");
+    }
+
+    @Override
+    public void glUniformMatrix2x3fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        called("glUniformMatrix2x3fv");
+    }
+
+    @Override
+    public void glUniformMatrix2x4dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        called("glUniformMatrix2x4dv");
+    }
+
+    @Override
+    public void glUniformMatrix2x4dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        called("glUniformMatrix2x4dv");
+    }
+
+    @Override
+    public void glUniformMatrix2x4fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        called("glUniformMatrix2x4fv");
+    }
+
+    @Override
+    public void glUniformMatrix2x4fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        called("glUniformMatrix2x4fv");
+    }
+
+    @Override
+    public void glUniformMatrix3dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        called("glUniformMatrix3dv");
+    }
+
+    @Override
+    public void glUniformMatrix3dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        called("glUniformMatrix3dv");
+    }
+
+    @Override
+    public void glUniformMatrix3fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        called("glUniformMatrix3fv");
+    }
+
+    @Override
+    public void glUniformMatrix3fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        called("glUniformMatrix3fv");
+    }
+
+    @Override
+    public void glUniformMatrix3x2dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        called("glUniformMatrix3x2dv");
+    }
+
+    @Override
+    public void glUniformMatrix3x2dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        called("glUniformMatrix3x2dv");
+    }
+
+    @Override
+    public void glUniformMatrix3x2fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        called("glUniformMatrix3x2fv");
+    }
+
+    @Override
+    public void glUniformMatrix3x2fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        called("glUniformMatrix3x2fv");
+    }
+
+    @Override
+    public void glUniformMatrix3x4dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        called("glUniformMatrix3x4dv");
+    }
+
+    @Override
+    public void glUniformMatrix3x4dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        called("glUniformMatrix3x4dv");
+    }
+
+    @Override
+    public void glUniformMatrix3x4fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        called("glUniformMatrix3x4fv");
+    }
+
+    @Override
+    public void glUniformMatrix3x4fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        called("glUniformMatrix3x4fv");
+    }
+
+    @Override
+    public void glUniformMatrix4dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        called("glUniformMatrix4dv");
+    }
+
+    @Override
+    public void glUniformMatrix4dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        called("glUniformMatrix4dv");
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        called("glUniformMatrix4fv");
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        called("glUniformMatrix4fv");
+    }
+
+    @Override
+    public void glUniformMatrix4x2dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        called("glUniformMatrix4x2dv");
+    }
+
+    @Override
+    public void glUniformMatrix4x2dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        called("glUniformMatrix4x2dv");
+    }
+
+    @Override
+    public void glUniformMatrix4x2fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        called("glUniformMatrix4x2fv");
+    }
+
+    @Override
+    public void glUniformMatrix4x2fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        called("glUniformMatrix4x2fv");
+    }
+
+    @Override
+    public void glUniformMatrix4x3dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        called("glUniformMatrix4x3dv");
+    }
+
+    @Override
+    public void glUniformMatrix4x3dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        called("glUniformMatrix4x3dv");
+    }
+
+    @Override
+    public void glUniformMatrix4x3fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        called("glUniformMatrix4x3fv");
+    }
+
+    @Override
+    public void glUniformMatrix4x3fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        called("glUniformMatrix4x3fv");
+    }
+
+    @Override
+    public void glUniformSubroutinesuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        called("glUniformSubroutinesuiv");
+    }
+
+    @Override
+    public void glUniformSubroutinesuiv(int arg0, int arg1, IntBuffer arg2) {
+        called("glUniformSubroutinesuiv");
+    }
+
+    @Override
+    public void glUniformui64NV(int arg0, long arg1) {
+        called("glUniformui64NV");
+    }
+
+    @Override
+    public void glUniformui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        called("glUniformui64vNV");
+    }
+
+    @Override
+    public void glUniformui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        called("glUniformui64vNV");
+    }
+
+    @Override
+    public boolean glUnmapBuffer(int arg0) {
+        called("glUnmapBuffer");
+        return false;
+    }
+
+    @Override
+    public boolean glUnmapNamedBuffer(int arg0) {
+        called("glUnmapNamedBuffer");
+        return false;
+    }
+
+    @Override
+    public void glUseProgram(int arg0) {
+        called("glUseProgram");
+    }
+
+    @Override
+    public void glUseProgramStages(int arg0, int arg1, int arg2) {
+        called("glUseProgramStages");
+    }
+
+    @Override
+    public void glValidateProgram(int arg0) {
+        called("glValidateProgram");
+    }
+
+    @Override
+    public void glValidateProgramPipeline(int arg0) {
+        called("glValidateProgramPipeline");
+    }
+
+    @Override
+    public void glVertexArrayAttribBinding(int arg0, int arg1, int arg2) {
+        called("glVertexArrayAttribBinding");
+    }
+
+    @Override
+    public void glVertexArrayAttribFormat(int arg0, int arg1, int arg2, int arg3, boolean arg4, int arg5) {
+        called("glVertexArrayAttribFormat");
+    }
+
+    @Override
+    public void glVertexArrayAttribIFormat(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glVertexArrayAttribIFormat");
+    }
+
+    @Override
+    public void glVertexArrayAttribLFormat(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glVertexArrayAttribLFormat");
+    }
+
+    @Override
+    public void glVertexArrayBindingDivisor(int arg0, int arg1, int arg2) {
+        called("glVertexArrayBindingDivisor");
+    }
+
+    @Override
+    public void glVertexArrayElementBuffer(int arg0, int arg1) {
+        called("glVertexArrayElementBuffer");
+    }
+
+    @Override
+    public void glVertexArrayVertexBuffer(int arg0, int arg1, int arg2, long arg3, int arg4) {
+        called("glVertexArrayVertexBuffer");
+    }
+
+    @Override
+    public void glVertexArrayVertexBuffers(int arg0, int arg1, int arg2, int[] arg3, int arg4, PointerBuffer arg5, int[] arg6, int arg7) {
+        called("glVertexArrayVertexBuffers");
+    }
+
+    @Override
+    public void glVertexArrayVertexBuffers(int arg0, int arg1, int arg2, IntBuffer arg3, PointerBuffer arg4, IntBuffer arg5) {
+        called("glVertexArrayVertexBuffers");
+    }
+
+    @Override
+    public void glVertexAttrib1d(int arg0, double arg1) {
+        called("glVertexAttrib1d");
+    }
+
+    @Override
+    public void glVertexAttrib1dv(int arg0, double[] arg1, int arg2) {
+        called("glVertexAttrib1dv");
+    }
+
+    @Override
+    public void glVertexAttrib1dv(int arg0, DoubleBuffer arg1) {
+        called("glVertexAttrib1dv");
+    }
+
+    @Override
+    public void glVertexAttrib1f(int arg0, float arg1) {
+        called("glVertexAttrib1f");
+    }
+
+    @Override
+    public void glVertexAttrib1fv(int arg0, float[] arg1, int arg2) {
+        called("glVertexAttrib1fv");
+    }
+
+    @Override
+    public void glVertexAttrib1fv(int arg0, FloatBuffer arg1) {
+        called("glVertexAttrib1fv");
+    }
+
+    @Override
+    public void glVertexAttrib1s(int arg0, short arg1) {
+        called("glVertexAttrib1s");
+    }
+
+    @Override
+    public void glVertexAttrib1sv(int arg0, short[] arg1, int arg2) {
+        called("glVertexAttrib1sv");
+    }
+
+    @Override
+    public void glVertexAttrib1sv(int arg0, ShortBuffer arg1) {
+        called("glVertexAttrib1sv");
+    }
+
+    @Override
+    public void glVertexAttrib2d(int arg0, double arg1, double arg2) {
+        called("glVertexAttrib2d");
+    }
+
+    @Override
+    public void glVertexAttrib2dv(int arg0, double[] arg1, int arg2) {
+        called("glVertexAttrib2dv");
+    }
+
+    @Override
+    public void glVertexAttrib2dv(int arg0, DoubleBuffer arg1) {
+        called("glVertexAttrib2dv");
+    }
+
+    @Override
+    public void glVertexAttrib2f(int arg0, float arg1, float arg2) {
+        called("glVertexAttrib2f");
+    }
+
+    @Override
+    public void glVertexAttrib2fv(int arg0, float[] arg1, int arg2) {
+        called("glVertexAttrib2fv");
+    }
+
+    @Override
+    public void glVertexAttrib2fv(int arg0, FloatBuffer arg1) {
+        called("glVertexAttrib2fv");
+    }
+
+    @Override
+    public void glVertexAttrib2s(int arg0, short arg1, short arg2) {
+        called("glVertexAttrib2s");
+    }
+
+    @Override
+    public void glVertexAttrib2sv(int arg0, short[] arg1, int arg2) {
+        called("glVertexAttrib2sv");
+    }
+
+    @Override
+    public void glVertexAttrib2sv(int arg0, ShortBuffer arg1) {
+        called("glVertexAttrib2sv");
+    }
+
+    @Override
+    public void glVertexAttrib3d(int arg0, double arg1, double arg2, double arg3) {
+        called("glVertexAttrib3d");
+    }
+
+    @Override
+    public void glVertexAttrib3dv(int arg0, double[] arg1, int arg2) {
+        called("glVertexAttrib3dv");
+    }
+
+    @Override
+    public void glVertexAttrib3dv(int arg0, DoubleBuffer arg1) {
+        called("glVertexAttrib3dv");
+    }
+
+    @Override
+    public void glVertexAttrib3f(int arg0, float arg1, float arg2, float arg3) {
+        called("glVertexAttrib3f");
+    }
+
+    @Override
+    public void glVertexAttrib3fv(int arg0, float[] arg1, int arg2) {
+        called("glVertexAttrib3fv");
+    }
+
+    @Override
+    public void glVertexAttrib3fv(int arg0, FloatBuffer arg1) {
+        called("glVertexAttrib3fv");
+    }
+
+    @Override
+    public void glVertexAttrib3s(int arg0, short arg1, short arg2, short arg3) {
+        called("glVertexAttrib3s");
+    }
+
+    @Override
+    public void glVertexAttrib3sv(int arg0, short[] arg1, int arg2) {
+        called("glVertexAttrib3sv");
+    }
+
+    @Override
+    public void glVertexAttrib3sv(int arg0, ShortBuffer arg1) {
+        called("glVertexAttrib3sv");
+    }
+
+    @Override
+    public void glVertexAttrib4Nbv(int arg0, byte[] arg1, int arg2) {
+        called("glVertexAttrib4Nbv");
+    }
+
+    @Override
+    public void glVertexAttrib4Nbv(int arg0, ByteBuffer arg1) {
+        called("glVertexAttrib4Nbv");
+    }
+
+    @Override
+    public void glVertexAttrib4Niv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttrib4Niv");
+    }
+
+    @Override
+    public void glVertexAttrib4Niv(int arg0, IntBuffer arg1) {
+        called("glVertexAttrib4Niv");
+    }
+
+    @Override
+    public void glVertexAttrib4Nsv(int arg0, short[] arg1, int arg2) {
+        called("glVertexAttrib4Nsv");
+    }
+
+    @Override
+    public void glVertexAttrib4Nsv(int arg0, ShortBuffer arg1) {
+        called("glVertexAttrib4Nsv");
+    }
+
+    @Override
+    public void glVertexAttrib4Nub(int arg0, byte arg1, byte arg2, byte arg3, byte arg4) {
+        called("glVertexAttrib4Nub");
+    }
+
+    @Override
+    public void glVertexAttrib4Nubv(int arg0, byte[] arg1, int arg2) {
+        called("glVertexAttrib4Nubv");
+    }
+
+    @Override
+    public void glVertexAttrib4Nubv(int arg0, ByteBuffer arg1) {
+        called("glVertexAttrib4Nubv");
+    }
+
+    @Override
+    public void glVertexAttrib4Nuiv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttrib4Nuiv");
+    }
+
+    @Override
+    public void glVertexAttrib4Nuiv(int arg0, IntBuffer arg1) {
+        called("glVertexAttrib4Nuiv");
+    }
+
+    @Override
+    public void glVertexAttrib4Nusv(int arg0, short[] arg1, int arg2) {
+        called("glVertexAttrib4Nusv");
+    }
+
+    @Override
+    public void glVertexAttrib4Nusv(int arg0, ShortBuffer arg1) {
+        called("glVertexAttrib4Nusv");
+    }
+
+    @Override
+    public void glVertexAttrib4bv(int arg0, byte[] arg1, int arg2) {
+        called("glVertexAttrib4bv");
+    }
+
+    @Override
+    public void glVertexAttrib4bv(int arg0, ByteBuffer arg1) {
+        called("glVertexAttrib4bv");
+    }
+
+    @Override
+    public void glVertexAttrib4d(int arg0, double arg1, double arg2, double arg3, double arg4) {
+        called("glVertexAttrib4d");
+    }
+
+    @Override
+    public void glVertexAttrib4dv(int arg0, double[] arg1, int arg2) {
+        called("glVertexAttrib4dv");
+    }
+
+    @Override
+    public void glVertexAttrib4dv(int arg0, DoubleBuffer arg1) {
+        called("glVertexAttrib4dv");
+    }
+
+    @Override
+    public void glVertexAttrib4f(int arg0, float arg1, float arg2, float arg3, float arg4) {
+        called("glVertexAttrib4f");
+    }
+
+    @Override
+    public void glVertexAttrib4fv(int arg0, float[] arg1, int arg2) {
+        called("glVertexAttrib4fv");
+    }
+
+    @Override
+    public void glVertexAttrib4fv(int arg0, FloatBuffer arg1) {
+        called("glVertexAttrib4fv");
+    }
+
+    @Override
+    public void glVertexAttrib4iv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttrib4iv");
+    }
+
+    @Override
+    public void glVertexAttrib4iv(int arg0, IntBuffer arg1) {
+        called("glVertexAttrib4iv");
+    }
+
+    @Override
+    public void glVertexAttrib4s(int arg0, short arg1, short arg2, short arg3, short arg4) {
+        called("glVertexAttrib4s");
+    }
+
+    @Override
+    public void glVertexAttrib4sv(int arg0, short[] arg1, int arg2) {
+        called("glVertexAttrib4sv");
+    }
+
+    @Override
+    public void glVertexAttrib4sv(int arg0, ShortBuffer arg1) {
+        called("glVertexAttrib4sv");
+    }
+
+    @Override
+    public void glVertexAttrib4ubv(int arg0, byte[] arg1, int arg2) {
+        called("glVertexAttrib4ubv");
+    }
+
+    @Override
+    public void glVertexAttrib4ubv(int arg0, ByteBuffer arg1) {
+        called("glVertexAttrib4ubv");
+    }
+
+    @Override
+    public void glVertexAttrib4uiv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttrib4uiv");
+    }
+
+    @Override
+    public void glVertexAttrib4uiv(int arg0, IntBuffer arg1) {
+        called("glVertexAttrib4uiv");
+    }
+
+    @Override
+    public void glVertexAttrib4usv(int arg0, short[] arg1, int arg2) {
+        called("glVertexAttrib4usv");
+    }
+
+    @Override
+    public void glVertexAttrib4usv(int arg0, ShortBuffer arg1) {
+        called("glVertexAttrib4usv");
+    }
+
+    @Override
+    public void glVertexAttribBinding(int arg0, int arg1) {
+        called("glVertexAttribBinding");
+    }
+
+    @Override
+    public void glVertexAttribDivisor(int arg0, int arg1) {
+        called("glVertexAttribDivisor");
+    }
+
+    @Override
+    public void glVertexAttribFormat(int arg0, int arg1, int arg2, boolean arg3, int arg4) {
+        called("glVertexAttribFormat");
+    }
+
+    @Override
+    public void glVertexAttribFormatNV(int arg0, int arg1, int arg2, boolean arg3, int arg4) {
+        called("glVertexAttribFormatNV");
+    }
+
+    @Override
+    public void glVertexAttribI1i(int arg0, int arg1) {
+        called("glVertexAttribI1i");
+    }
+
+    @Override
+    public void glVertexAttribI1iv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttribI1iv");
+    }
+
+    @Override
+    public void glVertexAttribI1iv(int arg0, IntBuffer arg1) {
+        called("glVertexAttribI1iv");
+    }
+
+    @Override
+    public void glVertexAttribI1ui(int arg0, int arg1) {
+        called("glVertexAttribI1ui");
+    }
+
+    @Override
+    public void glVertexAttribI1uiv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttribI1uiv");
+    }
+
+    @Override
+    public void glVertexAttribI1uiv(int arg0, IntBuffer arg1) {
+        called("glVertexAttribI1uiv");
+    }
+
+    @Override
+    public void glVertexAttribI2i(int arg0, int arg1, int arg2) {
+        called("glVertexAttribI2i");
+    }
+
+    @Override
+    public void glVertexAttribI2iv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttribI2iv");
+    }
+
+    @Override
+    public void glVertexAttribI2iv(int arg0, IntBuffer arg1) {
+        called("glVertexAttribI2iv");
+    }
+
+    @Override
+    public void glVertexAttribI2ui(int arg0, int arg1, int arg2) {
+        called("glVertexAttribI2ui");
+    }
+
+    @Override
+    public void glVertexAttribI2uiv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttribI2uiv");
+    }
+
+    @Override
+    public void glVertexAttribI2uiv(int arg0, IntBuffer arg1) {
+        called("glVertexAttribI2uiv");
+    }
+
+    @Override
+    public void glVertexAttribI3i(int arg0, int arg1, int arg2, int arg3) {
+        called("glVertexAttribI3i");
+    }
+
+    @Override
+    public void glVertexAttribI3iv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttribI3iv");
+    }
+
+    @Override
+    public void glVertexAttribI3iv(int arg0, IntBuffer arg1) {
+        called("glVertexAttribI3iv");
+    }
+
+    @Override
+    public void glVertexAttribI3ui(int arg0, int arg1, int arg2, int arg3) {
+        called("glVertexAttribI3ui");
+    }
+
+    @Override
+    public void glVertexAttribI3uiv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttribI3uiv");
+    }
+
+    @Override
+    public void glVertexAttribI3uiv(int arg0, IntBuffer arg1) {
+        called("glVertexAttribI3uiv");
+    }
+
+    @Override
+    public void glVertexAttribI4bv(int arg0, byte[] arg1, int arg2) {
+        called("glVertexAttribI4bv");
+    }
+
+    @Override
+    public void glVertexAttribI4bv(int arg0, ByteBuffer arg1) {
+        called("glVertexAttribI4bv");
+    }
+
+    @Override
+    public void glVertexAttribI4i(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glVertexAttribI4i");
+    }
+
+    @Override
+    public void glVertexAttribI4iv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttribI4iv");
+    }
+
+    @Override
+    public void glVertexAttribI4iv(int arg0, IntBuffer arg1) {
+        called("glVertexAttribI4iv");
+    }
+
+    @Override
+    public void glVertexAttribI4sv(int arg0, short[] arg1, int arg2) {
+        called("glVertexAttribI4sv");
+    }
+
+    @Override
+    public void glVertexAttribI4sv(int arg0, ShortBuffer arg1) {
+        called("glVertexAttribI4sv");
+    }
+
+    @Override
+    public void glVertexAttribI4ubv(int arg0, byte[] arg1, int arg2) {
+        called("glVertexAttribI4ubv");
+    }
+
+    @Override
+    public void glVertexAttribI4ubv(int arg0, ByteBuffer arg1) {
+        called("glVertexAttribI4ubv");
+    }
+
+    @Override
+    public void glVertexAttribI4ui(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        called("glVertexAttribI4ui");
+    }
+
+    @Override
+    public void glVertexAttribI4uiv(int arg0, int[] arg1, int arg2) {
+        called("glVertexAttribI4uiv");
+    }
+
+    @Override
+    public void glVertexAttribI4uiv(int arg0, IntBuffer arg1) {
+        called("glVertexAttribI4uiv");
+    }
+
+    @Override
+    public void glVertexAttribI4usv(int arg0, short[] arg1, int arg2) {
+        called("glVertexAttribI4usv");
+    }
+
+    @Override
+    public void glVertexAttribI4usv(int arg0, ShortBuffer arg1) {
+        called("glVertexAttribI4usv");
+    }
+
+    @Override
+    public void glVertexAttribIFormat(int arg0, int arg1, int arg2, int arg3) {
+        called("glVertexAttribIFormat");
+    }
+
+    @Override
+    public void glVertexAttribIFormatNV(int arg0, int arg1, int arg2, int arg3) {
+        called("glVertexAttribIFormatNV");
+    }
+
+    @Override
+    public void glVertexAttribIPointer(int arg0, int arg1, int arg2, int arg3, long arg4) {
+        called("glVertexAttribIPointer");
+    }
+
+    @Override
+    public void glVertexAttribL1d(int arg0, double arg1) {
+        called("glVertexAttribL1d");
+    }
+
+    @Override
+    public void glVertexAttribL1dv(int arg0, double[] arg1, int arg2) {
+        called("glVertexAttribL1dv");
+    }
+
+    @Override
+    public void glVertexAttribL1dv(int arg0, DoubleBuffer arg1) {
+        called("glVertexAttribL1dv");
+    }
+
+    @Override
+    public void glVertexAttribL1ui64ARB(int arg0, long arg1) {
+        called("glVertexAttribL1ui64ARB");
+    }
+
+    @Override
+    public void glVertexAttribL1ui64vARB(int arg0, long[] arg1, int arg2) {
+        called("glVertexAttribL1ui64vARB");
+    }
+
+    @Override
+    public void glVertexAttribL1ui64vARB(int arg0, LongBuffer arg1) {
+        called("glVertexAttribL1ui64vARB");
+    }
+
+    @Override
+    public void glVertexAttribL2d(int arg0, double arg1, double arg2) {
+        called("glVertexAttribL2d");
+    }
+
+    @Override
+    public void glVertexAttribL2dv(int arg0, double[] arg1, int arg2) {
+        called("glVertexAttribL2dv");
+    }
+
+    @Override
+    public void glVertexAttribL2dv(int arg0, DoubleBuffer arg1) {
+        called("glVertexAttribL2dv");
+    }
+
+    @Override
+    public void glVertexAttribL3d(int arg0, double arg1, double arg2, double arg3) {
+        called("glVertexAttribL3d");
+    }
+
+    @Override
+    public void glVertexAttribL3dv(int arg0, double[] arg1, int arg2) {
+        called("glVertexAttribL3dv");
+    }
+
+    @Override
+    public void glVertexAttribL3dv(int arg0, DoubleBuffer arg1) {
+        called("glVertexAttribL3dv");
+    }
+
+    @Override
+    public void glVertexAttribL4d(int arg0, double arg1, double arg2, double arg3, double arg4) {
+        called("glVertexAttribL4d");
+    }
+
+    @Override
+    public void glVertexAttribL4dv(int arg0, double[] arg1, int arg2) {
+        called("glVertexAttribL4dv");
+    }
+
+    @Override
+    public void glVertexAttribL4dv(int arg0, DoubleBuffer arg1) {
+        called("glVertexAttribL4dv");
+    }
+
+    @Override
+    public void glVertexAttribLFormat(int arg0, int arg1, int arg2, int arg3) {
+        called("glVertexAttribLFormat");
+    }
+
+    @Override
+    public void glVertexAttribLPointer(int arg0, int arg1, int arg2, int arg3, long arg4) {
+        called("glVertexAttribLPointer");
+    }
+
+    @Override
+    public void glVertexAttribP1ui(int arg0, int arg1, boolean arg2, int arg3) {
+        called("glVertexAttribP1ui");
+    }
+
+    @Override
+    public void glVertexAttribP1uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        called("glVertexAttribP1uiv");
+    }
+
+    @Override
+    public void glVertexAttribP1uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        called("glVertexAttribP1uiv");
+    }
+
+    @Override
+    public void glVertexAttribP2ui(int arg0, int arg1, boolean arg2, int arg3) {
+        called("glVertexAttribP2ui");
+    }
+
+    @Override
+    public void glVertexAttribP2uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        called("glVertexAttribP2uiv");
+    }
+
+    @Override
+    public void glVertexAttribP2uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        called("glVertexAttribP2uiv");
+    }
+
+    @Override
+    public void glVertexAttribP3ui(int arg0, int arg1, boolean arg2, int arg3) {
+        called("glVertexAttribP3ui");
+    }
+
+    @Override
+    public void glVertexAttribP3uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        called("glVertexAttribP3uiv");
+    }
+
+    @Override
+    public void glVertexAttribP3uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        called("glVertexAttribP3uiv");
+    }
+
+    @Override
+    public void glVertexAttribP4ui(int arg0, int arg1, boolean arg2, int arg3) {
+        called("glVertexAttribP4ui");
+    }
+
+    @Override
+    public void glVertexAttribP4uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        called("glVertexAttribP4uiv");
+    }
+
+    @Override
+    public void glVertexAttribP4uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        called("glVertexAttribP4uiv");
+    }
+
+    @Override
+    public void glVertexAttribPointer(int arg0, int arg1, int arg2, boolean arg3, int arg4, long arg5) {
+        called("glVertexAttribPointer");
+    }
+
+    @Override
+    public void glVertexAttribPointer(GLArrayData arg0) {
+        called("glVertexAttribPointer");
+    }
+
+    @Override
+    public void glVertexBindingDivisor(int arg0, int arg1) {
+        called("glVertexBindingDivisor");
+    }
+
+    @Override
+    public void glVertexFormatNV(int arg0, int arg1, int arg2) {
+        called("glVertexFormatNV");
+    }
+
+    @Override
+    public void glViewport(int arg0, int arg1, int arg2, int arg3) {
+        called("glViewport");
+    }
+
+    @Override
+    public void glViewportArrayv(int arg0, int arg1, float[] arg2, int arg3) {
+        called("glViewportArrayv");
+    }
+
+    @Override
+    public void glViewportArrayv(int arg0, int arg1, FloatBuffer arg2) {
+        called("glViewportArrayv");
+    }
+
+    @Override
+    public void glViewportIndexedf(int arg0, float arg1, float arg2, float arg3, float arg4) {
+        called("glViewportIndexedf");
+    }
+
+    @Override
+    public void glViewportIndexedfv(int arg0, float[] arg1, int arg2) {
+        called("glViewportIndexedfv");
+    }
+
+    @Override
+    public void glViewportIndexedfv(int arg0, FloatBuffer arg1) {
+        called("glViewportIndexedfv");
+    }
+
+    @Override
+    public void glWaitSync(long arg0, int arg1, long arg2) {
+        called("glWaitSync");
+    }
+}
@@ -0,0 +1,56 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3;
+import org.hihan.joglfx.GLStatistics.Counter;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class InstrumentedGLTest {
+
+    private final InstrumentedGL instrumentedGL = new InstrumentedGL(new StubGL());
+
+    private final long[] counts = new long[Counter.values().length];
+
+    @Test
+    public void countsTheCallsByKind() {
+        GL2ES3 gl = instrumentedGL.getProxy().getGL2ES3();
+        gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, 1);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 2);
+        gl.glViewport(0, 0, 10, 10);
+        gl.glGetIntegerv(GL.GL_VIEWPORT, new int[4], 0);
+        gl.glDrawArrays(GL.GL_TRIANGLES, 0, 3);
+        gl.glDrawElementsInstanced(GL.GL_TRIANGLES, 6, GL.GL_UNSIGNED_SHORT, 0, 10);
+        gl.glDrawRangeElements(GL.GL_TRIANGLES, 0, 3, 6, GL.GL_UNSIGNED_SHORT, 0);
+        instrumentedGL.takeCounts(counts);
+
+        assertEquals(7, counts[Counter.CALLS.ordinal()]);
+        assertEquals(3, counts[Counter.DRAW_CALLS.ordinal()]);
+        assertEquals(2, counts[Counter.BINDS.ordinal()]);
+        assertEquals(1, counts[Counter.FRAMEBUFFER_SWITCHES.ordinal()]);
+        assertEquals(1, counts[Counter.STATE_CHANGES.ordinal()]);
+        assertEquals(1, counts[Counter.QUERIES.ordinal()]);
+    }
+
+    @Test
+    public void selectingTheDrawBuffersIsNotADrawCall() {
+        GL3 gl = instrumentedGL.getProxy().getGL3();
+        gl.glDrawBuffer(GL.GL_BACK);
+        gl.glDrawBuffers(1, new int[]{GL.GL_COLOR_ATTACHMENT0}, 0);
+        instrumentedGL.takeCounts(counts);
+
+        assertEquals(2, counts[Counter.CALLS.ordinal()]);
+        assertEquals(0, counts[Counter.DRAW_CALLS.ordinal()]);
+    }
+
+    @Test
+    public void takingTheCountsResetsThem() {
+        instrumentedGL.getProxy().glFlush();
+        instrumentedGL.takeCounts(counts);
+        instrumentedGL.takeCounts(counts);
+
+        assertEquals(0, counts[Counter.CALLS.ordinal()]);
+    }
+}
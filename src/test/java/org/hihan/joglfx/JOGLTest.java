@@ -0,0 +1,94 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class JOGLTest {
+
+    private StubGL stub;
+
+    @Before
+    public void setUp() {
+        TestDefaults.reset();
+        stub = new StubGL();
+        JOGL.attach(stub);
+        JOGL.setStateLeakCheckEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        JOGL.setStateLeakCheckEnabled(false);
+        TestDefaults.release(stub);
+        JOGL.detach();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void runGuardedRejectsNoState() {
+        JOGL.runGuarded(stub, gl -> {
+        });
+    }
+
+    @Test
+    public void runGuardedRestoresTheGivenStates() {
+        JOGL.runGuarded(stub, gl -> gl.glViewport(1, 2, 3, 4), JOGL.VIEWPORT);
+        assertEquals(0, JOGL.getInt(stub, GL.GL_VIEWPORT));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void runGuardedDetectsUndeclaredStates() {
+        JOGL.runGuarded(stub, gl -> gl.glClearColor(1, 1, 1, 1), JOGL.VIEWPORT);
+    }
+
+    @Test
+    public void creatingAFramebufferLeavesTheTexturesUntouched() {
+        stub.glBindTexture(GL.GL_TEXTURE_2D, 42);
+        JOGL.runGuarded(stub, gl -> new Framebuffer(gl, 64, 64, false, false).dispose(gl), JOGL.BUFFERS);
+        assertEquals(42, JOGL.getInt(stub, GL.GL_TEXTURE_BINDING_2D));
+    }
+
+    @Test
+    public void nestedBindingsAreRestoredInTurn() {
+        Framebuffer outer = new Framebuffer(stub, 64, 64, false, false);
+        Framebuffer inner = new Framebuffer(stub, 32, 32, false, false);
+        try {
+            Runnable unbindOuter = outer.bind(stub);
+            Runnable unbindOuterAgain = outer.bind(stub);
+            Runnable unbindInner = inner.bind(stub);
+            unbindInner.run();
+            assertEquals(outer.getFramebufferObject(), JOGL.getInt(stub, GL.GL_FRAMEBUFFER_BINDING));
+            unbindOuterAgain.run();
+            assertEquals(outer.getFramebufferObject(), JOGL.getInt(stub, GL.GL_FRAMEBUFFER_BINDING));
+            unbindOuter.run();
+            assertEquals(0, JOGL.getInt(stub, GL.GL_FRAMEBUFFER_BINDING));
+        } finally {
+            inner.dispose(stub);
+            outer.dispose(stub);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void aBindingIsRestoredOnlyOnce() {
+        Framebuffer framebuffer = new Framebuffer(stub, 64, 64, false, false);
+        try {
+            Runnable unbind = framebuffer.bind(stub);
+            unbind.run();
+            unbind.run();
+        } finally {
+            framebuffer.dispose(stub);
+        }
+    }
+
+    @Test
+    public void renderingTouchesOnlyTheRenderStates() {
+        Main main = new Main();
+        JOGL.runGuarded(stub, main::indirectRender, Main.RENDER_STATES);
+        main.setSquareCount(100);
+        main.setFullRedraw(true);
+        JOGL.runGuarded(stub, main::indirectRender, Main.RENDER_STATES);
+        JOGL.runGuarded(stub, main::dispose, JOGL.getAllStates());
+    }
+}
@@ -0,0 +1,124 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MeshBuilderTest {
+
+    // Position only.
+    private static final int VERTEX_SIZE = 2;
+
+    @Test
+    public void weldingMergesTheIdenticalVertices() {
+        MeshBuilder builder = new MeshBuilder(VERTEX_SIZE);
+        float[] quad = {
+            0, 0, 1, 0, 1, 1,
+            0, 0, 1, 1, 0, 1
+        };
+        builder.addTriangles(quad, 0, 2);
+
+        assertEquals(4, builder.getVertexCount());
+        assertEquals(6, builder.getIndexCount());
+        assertEquals(0, builder.addVertex(new float[]{0, 0}, 0));
+        // Same value, other bits.
+        assertEquals(4, builder.addVertex(new float[]{-0f, 0}, 0));
+    }
+
+    @Test
+    public void optimizingKeepsTheTrianglesAndTheirWinding() {
+        MeshBuilder builder = createShuffledGrid(20);
+        List<String> before = getTriangles(builder);
+        builder.optimize();
+        List<String> after = getTriangles(builder);
+
+        Collections.sort(before);
+        Collections.sort(after);
+        assertEquals(before, after);
+    }
+
+    @Test
+    public void optimizingReducesTheCacheMisses() {
+        MeshBuilder builder = createShuffledGrid(50);
+        float before = builder.getAverageCacheMissRatio(16);
+        builder.optimize();
+        float after = builder.getAverageCacheMissRatio(16);
+
+        assertTrue("ACMR: " + before + " -> " + after, after < before);
+        // About 0.5 at best for a regular grid.
+        assertTrue("ACMR: " + after, after < 0.8f);
+    }
+
+    @Test
+    public void indicesAre16BitUpTo0x10000Vertices() {
+        MeshBuilder builder = new MeshBuilder(1);
+        float[] vertex = new float[1];
+        for (int i = 0; i < 0x10000; ++i) {
+            vertex[0] = i;
+            builder.addVertex(vertex, 0);
+        }
+        builder.addTriangle(0, 1, 0xFFFF);
+        assertEquals(GL.GL_UNSIGNED_SHORT, builder.getIndexType());
+        assertEquals(3 * Short.BYTES, builder.getIndexBufferSize());
+
+        vertex[0] = 0x10000;
+        builder.addVertex(vertex, 0);
+        assertEquals(GL.GL_UNSIGNED_INT, builder.getIndexType());
+        assertEquals(3 * Integer.BYTES, builder.getIndexBufferSize());
+    }
+
+    /*
+     * The triangles of a size x size grid, the cells being shuffled.
+     */
+    private static MeshBuilder createShuffledGrid(int size) {
+        List<Integer> cells = new ArrayList<>();
+        for (int i = 0; i < size * size; ++i) {
+            cells.add(i);
+        }
+        Collections.shuffle(cells, new Random(0));
+
+        MeshBuilder builder = new MeshBuilder(VERTEX_SIZE);
+        float[] soup = new float[6 * VERTEX_SIZE];
+        for (int cell : cells) {
+            int x = cell % size;
+            int y = cell / size;
+            int[] corners = {x, y, x + 1, y, x + 1, y + 1, x, y, x + 1, y + 1, x, y + 1};
+            for (int i = 0; i < corners.length; ++i) {
+                soup[i] = corners[i];
+            }
+            builder.addTriangles(soup, 0, 2);
+        }
+        return builder;
+    }
+
+    /*
+     * The triangles by the positions of their vertices, starting from the
+     * smallest one so that only the winding matters.
+     */
+    private static List<String> getTriangles(MeshBuilder builder) {
+        float[] vertices = builder.getVertices();
+        short[] indices = new short[builder.getIndexCount()];
+        ((ShortBuffer) builder.getIndexBuffer()).get(indices);
+        List<String> triangles = new ArrayList<>();
+        for (int t = 0; t < indices.length; t += 3) {
+            String[] corners = new String[3];
+            int first = 0;
+            for (int k = 0; k < 3; ++k) {
+                int vertex = indices[t + k] & 0xFFFF;
+                corners[k] = vertices[vertex * VERTEX_SIZE] + "," + vertices[vertex * VERTEX_SIZE + 1];
+                if (corners[k].compareTo(corners[first]) < 0) {
+                    first = k;
+                }
+            }
+            triangles.add(corners[first] + " " + corners[(first + 1) % 3] + " " + corners[(first + 2) % 3]);
+        }
+        return triangles;
+    }
+}
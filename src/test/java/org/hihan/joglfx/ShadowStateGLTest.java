@@ -0,0 +1,94 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ShadowStateGLTest {
+
+    private StubGL stub;
+
+    @Before
+    public void setUp() {
+        TestDefaults.reset();
+        stub = new StubGL();
+        JOGL.attach(stub);
+        JOGL.setShadowStateEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        JOGL.setShadowStateEnabled(false);
+        TestDefaults.release(stub);
+        JOGL.detach();
+    }
+
+    @Test
+    public void savingAndRestoringOnlyRevertsTheChangedStates() {
+        Consumer<GL> callback = gl -> {
+            gl.glViewport(10, 10, 100, 100);
+            gl.glClearColor(1, 0, 0, 1);
+        };
+        JOGL.State[] states = {JOGL.VIEWPORT, JOGL.CLEAR_COLOR, JOGL.BLENDING};
+
+        // Fills the shadow.
+        JOGL.runGuarded(JOGL.getGL(), callback, states);
+        stub.resetCallCounts();
+
+        JOGL.runGuarded(JOGL.getGL(), callback, states);
+        Map<String, Long> expected = new HashMap<>();
+        // The callback changes and the restoration.
+        expected.put("glViewport", 2L);
+        expected.put("glClearColor", 2L);
+        assertEquals(expected, stub.getCallCounts());
+    }
+
+    @Test
+    public void anInvalidatedShadowQueriesTheStatesAgain() {
+        Consumer<GL> callback = gl -> {
+            gl.glViewport(10, 10, 100, 100);
+            gl.glClearColor(1, 0, 0, 1);
+        };
+        JOGL.State[] states = {JOGL.VIEWPORT, JOGL.CLEAR_COLOR};
+        JOGL.runGuarded(JOGL.getGL(), callback, states);
+
+        // As after foreign code used the context.
+        JOGL.invalidateShadowState();
+        stub.resetCallCounts();
+        JOGL.runGuarded(JOGL.getGL(), callback, states);
+        Map<String, Long> expected = new HashMap<>();
+        // The save queries everything, then as above.
+        expected.put("glGetIntegerv", 1L);
+        expected.put("glGetFloatv", 1L);
+        expected.put("glViewport", 2L);
+        expected.put("glClearColor", 2L);
+        assertEquals(expected, stub.getCallCounts());
+    }
+
+    @Test
+    public void savingAndRestoringUnchangedStatesCallsNothing() {
+        JOGL.runGuarded(JOGL.getGL(), gl -> {
+        }, JOGL.getAllStates());
+        stub.resetCallCounts();
+
+        JOGL.runGuarded(JOGL.getGL(), gl -> {
+        }, JOGL.getAllStates());
+        assertEquals(Collections.emptyMap(), stub.getCallCounts());
+    }
+
+    @Test
+    public void savingAllStatesWorksWithACoreProfile() {
+        // TRANSFORM has nothing to save without the fixed function pipeline.
+        JOGL.runGuarded(JOGL.getGL(), gl -> {
+        }, JOGL.getAllStates());
+        assertEquals(0, stub.getCallCount("glPushMatrix"));
+        assertEquals(0, stub.getCallCount("glPopMatrix"));
+    }
+}
@@ -0,0 +1,610 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A headless core profile GL doing nothing but counting the calls it receives
+ * and keeping enough state to answer the queries with plausible values (the
+ * value last set, a 300 x 300 viewport, successful compilations and so on).
+ * <p>
+ * The calls don't allocate anything (once each function has been called a
+ * first time), so that the allocations measured with this stub are the ones
+ * of the code under test.
+ */
+public class StubGL extends GL4Adapter {
+
+    public static final int WIDTH = 300;
+
+    public static final int HEIGHT = 300;
+
+    private static final int TEXTURE_UNITS = 16;
+
+    /*
+     * The integer states, at the offsets below.
+     */
+    private static final int VIEWPORT = 0;
+
+    private static final int SCISSOR_BOX = VIEWPORT + 4;
+
+    private static final int ACTIVE_TEXTURE = SCISSOR_BOX + 4;
+
+    private static final int CURRENT_PROGRAM = ACTIVE_TEXTURE + 1;
+
+    private static final int VERTEX_ARRAY_BINDING = CURRENT_PROGRAM + 1;
+
+    private static final int DRAW_FRAMEBUFFER_BINDING = VERTEX_ARRAY_BINDING + 1;
+
+    private static final int READ_FRAMEBUFFER_BINDING = DRAW_FRAMEBUFFER_BINDING + 1;
+
+    private static final int ARRAY_BUFFER_BINDING = READ_FRAMEBUFFER_BINDING + 1;
+
+    private static final int ELEMENT_ARRAY_BUFFER_BINDING = ARRAY_BUFFER_BINDING + 1;
+
+    private static final int PIXEL_PACK_BUFFER_BINDING = ELEMENT_ARRAY_BUFFER_BINDING + 1;
+
+    private static final int UNIFORM_BUFFER_BINDING = PIXEL_PACK_BUFFER_BINDING + 1;
+
+    private static final int BLEND = UNIFORM_BUFFER_BINDING + 1;
+
+    private static final int BLEND_EQUATION = BLEND + 1;
+
+    private static final int BLEND_SRC = BLEND_EQUATION + 1;
+
+    private static final int BLEND_DST = BLEND_SRC + 1;
+
+    private static final int DEPTH_TEST = BLEND_DST + 1;
+
+    private static final int DEPTH_FUNC = DEPTH_TEST + 1;
+
+    private static final int CULL_FACE = DEPTH_FUNC + 1;
+
+    private static final int CULL_FACE_MODE = CULL_FACE + 1;
+
+    private static final int SCISSOR_TEST = CULL_FACE_MODE + 1;
+
+    // Per texture unit: GL_TEXTURE_2D then GL_TEXTURE_BINDING_2D.
+    private static final int TEXTURES = SCISSOR_TEST + 1;
+
+    private final int[] integers = new int[TEXTURES + 2 * TEXTURE_UNITS];
+
+    private final float[] clearColor = new float[4];
+
+    private final Map<String, long[]> callCounts = new HashMap<>();
+
+    private long callCount;
+
+    private final Set<String> extensions = new HashSet<>();
+
+    private int nextName = 1;
+
+    public StubGL() {
+        integers[VIEWPORT + 2] = WIDTH;
+        integers[VIEWPORT + 3] = HEIGHT;
+        integers[SCISSOR_BOX + 2] = WIDTH;
+        integers[SCISSOR_BOX + 3] = HEIGHT;
+        integers[ACTIVE_TEXTURE] = GL.GL_TEXTURE0;
+        integers[BLEND_EQUATION] = GL.GL_FUNC_ADD;
+        integers[BLEND_SRC] = GL.GL_ONE;
+        integers[BLEND_DST] = GL.GL_ZERO;
+        integers[DEPTH_FUNC] = GL.GL_LESS;
+        integers[CULL_FACE_MODE] = GL.GL_BACK;
+    }
+
+    /**
+     * Makes the stub report the given extensions (none by default, in order
+     * to exercise the fallback paths).
+     */
+    public StubGL withExtensions(String... names) {
+        Collections.addAll(extensions, names);
+        return this;
+    }
+
+    public long getCallCount() {
+        return callCount;
+    }
+
+    public long getCallCount(String name) {
+        long[] count = callCounts.get(name);
+        return count != null ? count[0] : 0;
+    }
+
+    /**
+     * Returns the functions called at least once since the last reset, with
+     * their number of calls.
+     */
+    public Map<String, Long> getCallCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        callCounts.forEach((name, count) -> {
+            if (count[0] > 0) {
+                counts.put(name, count[0]);
+            }
+        });
+        return counts;
+    }
+
+    public void resetCallCounts() {
+        // The counters are kept in order not to allocate them again.
+        for (long[] count : callCounts.values()) {
+            count[0] = 0;
+        }
+        callCount = 0;
+    }
+
+    @Override
+    protected void called(String name) {
+        ++callCount;
+        long[] count = callCounts.get(name);
+        if (count == null) {
+            count = new long[1];
+            callCounts.put(name, count);
+        }
+        ++count[0];
+    }
+
+    @Override
+    public StubGL getGL() {
+        return this;
+    }
+
+    @Override
+    public boolean isGL() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL4() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL3() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL2GL3() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL2ES2() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL2ES3() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL3ES3() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL4ES3() {
+        return true;
+    }
+
+    @Override
+    public boolean isGLcore() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL3core() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL4core() {
+        return true;
+    }
+
+    @Override
+    public boolean hasGLSL() {
+        return true;
+    }
+
+    @Override
+    public boolean isNPOTTextureAvailable() {
+        return true;
+    }
+
+    @Override
+    public boolean hasBasicFBOSupport() {
+        return true;
+    }
+
+    @Override
+    public boolean hasFullFBOSupport() {
+        return true;
+    }
+
+    @Override
+    public boolean isExtensionAvailable(String name) {
+        return extensions.contains(name);
+    }
+
+    @Override
+    public boolean isFunctionAvailable(String name) {
+        return extensions.contains(name);
+    }
+
+    @Override
+    public String glGetString(int name) {
+        called("glGetString");
+        return "Stub";
+    }
+
+    @Override
+    public void glGetIntegerv(int parameter, int[] values, int offset) {
+        called("glGetIntegerv");
+        int index = index(parameter);
+        int count = Math.min(size(parameter), values.length - offset);
+        for (int i = 0; i < count; ++i) {
+            values[offset + i] = index >= 0 ? integers[index + i] : 0;
+        }
+    }
+
+    @Override
+    public void glGetIntegerv(int parameter, IntBuffer values) {
+        called("glGetIntegerv");
+        int index = index(parameter);
+        int count = Math.min(size(parameter), values.remaining());
+        for (int i = 0; i < count; ++i) {
+            values.put(values.position() + i, index >= 0 ? integers[index + i] : 0);
+        }
+    }
+
+    @Override
+    public void glGetFloatv(int parameter, float[] values, int offset) {
+        called("glGetFloatv");
+        int count = Math.min(parameter == GL.GL_COLOR_CLEAR_VALUE ? 4 : 1, values.length - offset);
+        for (int i = 0; i < count; ++i) {
+            values[offset + i] = parameter == GL.GL_COLOR_CLEAR_VALUE ? clearColor[i] : 0;
+        }
+    }
+
+    @Override
+    public void glGetFloatv(int parameter, FloatBuffer values) {
+        called("glGetFloatv");
+        int count = Math.min(parameter == GL.GL_COLOR_CLEAR_VALUE ? 4 : 1, values.remaining());
+        for (int i = 0; i < count; ++i) {
+            values.put(values.position() + i, parameter == GL.GL_COLOR_CLEAR_VALUE ? clearColor[i] : 0);
+        }
+    }
+
+    @Override
+    public boolean glIsEnabled(int capability) {
+        called("glIsEnabled");
+        int index = index(capability);
+        return index >= 0 && integers[index] == 1;
+    }
+
+    @Override
+    public void glEnable(int capability) {
+        called("glEnable");
+        set(capability, 1);
+    }
+
+    @Override
+    public void glDisable(int capability) {
+        called("glDisable");
+        set(capability, 0);
+    }
+
+    @Override
+    public void glViewport(int x, int y, int width, int height) {
+        called("glViewport");
+        integers[VIEWPORT] = x;
+        integers[VIEWPORT + 1] = y;
+        integers[VIEWPORT + 2] = width;
+        integers[VIEWPORT + 3] = height;
+    }
+
+    @Override
+    public void glScissor(int x, int y, int width, int height) {
+        called("glScissor");
+        integers[SCISSOR_BOX] = x;
+        integers[SCISSOR_BOX + 1] = y;
+        integers[SCISSOR_BOX + 2] = width;
+        integers[SCISSOR_BOX + 3] = height;
+    }
+
+    @Override
+    public void glClearColor(float red, float green, float blue, float alpha) {
+        called("glClearColor");
+        clearColor[0] = red;
+        clearColor[1] = green;
+        clearColor[2] = blue;
+        clearColor[3] = alpha;
+    }
+
+    @Override
+    public void glUseProgram(int program) {
+        called("glUseProgram");
+        integers[CURRENT_PROGRAM] = program;
+    }
+
+    @Override
+    public void glBindVertexArray(int array) {
+        called("glBindVertexArray");
+        integers[VERTEX_ARRAY_BINDING] = array;
+    }
+
+    @Override
+    public void glBindFramebuffer(int target, int framebuffer) {
+        called("glBindFramebuffer");
+        if (target != GL.GL_READ_FRAMEBUFFER) {
+            integers[DRAW_FRAMEBUFFER_BINDING] = framebuffer;
+        }
+        if (target != GL.GL_DRAW_FRAMEBUFFER) {
+            integers[READ_FRAMEBUFFER_BINDING] = framebuffer;
+        }
+    }
+
+    @Override
+    public void glBindBuffer(int target, int buffer) {
+        called("glBindBuffer");
+        switch (target) {
+            case GL.GL_ARRAY_BUFFER:
+                integers[ARRAY_BUFFER_BINDING] = buffer;
+                break;
+            case GL.GL_ELEMENT_ARRAY_BUFFER:
+                integers[ELEMENT_ARRAY_BUFFER_BINDING] = buffer;
+                break;
+            case GL2ES3.GL_PIXEL_PACK_BUFFER:
+                integers[PIXEL_PACK_BUFFER_BINDING] = buffer;
+                break;
+            case GL2ES3.GL_UNIFORM_BUFFER:
+                integers[UNIFORM_BUFFER_BINDING] = buffer;
+                break;
+        }
+    }
+
+    @Override
+    public void glActiveTexture(int texture) {
+        called("glActiveTexture");
+        integers[ACTIVE_TEXTURE] = texture;
+    }
+
+    @Override
+    public void glBindTexture(int target, int texture) {
+        called("glBindTexture");
+        if (target == GL.GL_TEXTURE_2D) {
+            set(GL.GL_TEXTURE_BINDING_2D, texture);
+        }
+    }
+
+    @Override
+    public void glBlendEquation(int mode) {
+        called("glBlendEquation");
+        integers[BLEND_EQUATION] = mode;
+    }
+
+    @Override
+    public void glBlendFunc(int src, int dst) {
+        called("glBlendFunc");
+        integers[BLEND_SRC] = src;
+        integers[BLEND_DST] = dst;
+    }
+
+    @Override
+    public void glDepthFunc(int function) {
+        called("glDepthFunc");
+        integers[DEPTH_FUNC] = function;
+    }
+
+    @Override
+    public void glCullFace(int mode) {
+        called("glCullFace");
+        integers[CULL_FACE_MODE] = mode;
+    }
+
+    @Override
+    public int glCreateShader(int type) {
+        called("glCreateShader");
+        return nextName++;
+    }
+
+    @Override
+    public int glCreateProgram() {
+        called("glCreateProgram");
+        return nextName++;
+    }
+
+    @Override
+    public void glGetShaderiv(int shader, int parameter, int[] values, int offset) {
+        called("glGetShaderiv");
+        values[offset] = parameter == GL2ES2.GL_COMPILE_STATUS ? 1 : 0;
+    }
+
+    @Override
+    public void glGetShaderiv(int shader, int parameter, IntBuffer values) {
+        called("glGetShaderiv");
+        values.put(values.position(), parameter == GL2ES2.GL_COMPILE_STATUS ? 1 : 0);
+    }
+
+    @Override
+    public void glGetProgramiv(int program, int parameter, int[] values, int offset) {
+        called("glGetProgramiv");
+        values[offset] = parameter == GL2ES2.GL_LINK_STATUS ? 1 : 0;
+    }
+
+    @Override
+    public void glGetProgramiv(int program, int parameter, IntBuffer values) {
+        called("glGetProgramiv");
+        values.put(values.position(), parameter == GL2ES2.GL_LINK_STATUS ? 1 : 0);
+    }
+
+    @Override
+    public int glCheckFramebufferStatus(int target) {
+        called("glCheckFramebufferStatus");
+        return GL.GL_FRAMEBUFFER_COMPLETE;
+    }
+
+    @Override
+    public void glGenBuffers(int count, int[] names, int offset) {
+        called("glGenBuffers");
+        generate(count, names, offset);
+    }
+
+    @Override
+    public void glGenBuffers(int count, IntBuffer names) {
+        called("glGenBuffers");
+        generate(count, names);
+    }
+
+    @Override
+    public void glGenTextures(int count, int[] names, int offset) {
+        called("glGenTextures");
+        generate(count, names, offset);
+    }
+
+    @Override
+    public void glGenTextures(int count, IntBuffer names) {
+        called("glGenTextures");
+        generate(count, names);
+    }
+
+    @Override
+    public void glGenRenderbuffers(int count, int[] names, int offset) {
+        called("glGenRenderbuffers");
+        generate(count, names, offset);
+    }
+
+    @Override
+    public void glGenRenderbuffers(int count, IntBuffer names) {
+        called("glGenRenderbuffers");
+        generate(count, names);
+    }
+
+    @Override
+    public void glGenFramebuffers(int count, int[] names, int offset) {
+        called("glGenFramebuffers");
+        generate(count, names, offset);
+    }
+
+    @Override
+    public void glGenFramebuffers(int count, IntBuffer names) {
+        called("glGenFramebuffers");
+        generate(count, names);
+    }
+
+    @Override
+    public void glGenVertexArrays(int count, int[] names, int offset) {
+        called("glGenVertexArrays");
+        generate(count, names, offset);
+    }
+
+    @Override
+    public void glGenVertexArrays(int count, IntBuffer names) {
+        called("glGenVertexArrays");
+        generate(count, names);
+    }
+
+    @Override
+    public void glGenQueries(int count, int[] names, int offset) {
+        called("glGenQueries");
+        generate(count, names, offset);
+    }
+
+    @Override
+    public void glGenQueries(int count, IntBuffer names) {
+        called("glGenQueries");
+        generate(count, names);
+    }
+
+    private void generate(int count, int[] names, int offset) {
+        for (int i = 0; i < count; ++i) {
+            names[offset + i] = nextName++;
+        }
+    }
+
+    private void generate(int count, IntBuffer names) {
+        for (int i = 0; i < count; ++i) {
+            names.put(names.position() + i, nextName++);
+        }
+    }
+
+    private void set(int parameter, int value) {
+        int index = index(parameter);
+        if (index >= 0) {
+            integers[index] = value;
+        }
+    }
+
+    /*
+     * Returns the offset of the given parameter in 'integers' (-1 if not
+     * tracked).
+     */
+    private int index(int parameter) {
+        switch (parameter) {
+            case GL.GL_VIEWPORT:
+                return VIEWPORT;
+            case GL.GL_SCISSOR_BOX:
+                return SCISSOR_BOX;
+            case GL.GL_ACTIVE_TEXTURE:
+                return ACTIVE_TEXTURE;
+            case GL2ES2.GL_CURRENT_PROGRAM:
+                return CURRENT_PROGRAM;
+            case GL2ES3.GL_VERTEX_ARRAY_BINDING:
+                return VERTEX_ARRAY_BINDING;
+            case GL.GL_FRAMEBUFFER_BINDING:
+                return DRAW_FRAMEBUFFER_BINDING;
+            case GL.GL_READ_FRAMEBUFFER_BINDING:
+                return READ_FRAMEBUFFER_BINDING;
+            case GL.GL_ARRAY_BUFFER_BINDING:
+                return ARRAY_BUFFER_BINDING;
+            case GL.GL_ELEMENT_ARRAY_BUFFER_BINDING:
+                return ELEMENT_ARRAY_BUFFER_BINDING;
+            case GL2ES3.GL_PIXEL_PACK_BUFFER_BINDING:
+                return PIXEL_PACK_BUFFER_BINDING;
+            case GL2ES3.GL_UNIFORM_BUFFER_BINDING:
+                return UNIFORM_BUFFER_BINDING;
+            case GL.GL_BLEND:
+                return BLEND;
+            case GL.GL_BLEND_EQUATION:
+                return BLEND_EQUATION;
+            case GL.GL_BLEND_SRC:
+                return BLEND_SRC;
+            case GL.GL_BLEND_DST:
+                return BLEND_DST;
+            case GL.GL_DEPTH_TEST:
+                return DEPTH_TEST;
+            case GL.GL_DEPTH_FUNC:
+                return DEPTH_FUNC;
+            case GL.GL_CULL_FACE:
+                return CULL_FACE;
+            case GL.GL_CULL_FACE_MODE:
+                return CULL_FACE_MODE;
+            case GL.GL_SCISSOR_TEST:
+                return SCISSOR_TEST;
+            case GL.GL_TEXTURE_2D:
+                return TEXTURES + 2 * getTextureUnit();
+            case GL.GL_TEXTURE_BINDING_2D:
+                return TEXTURES + 2 * getTextureUnit() + 1;
+            default:
+                return -1;
+        }
+    }
+
+    private static int size(int parameter) {
+        return parameter == GL.GL_VIEWPORT || parameter == GL.GL_SCISSOR_BOX ? 4 : 1;
+    }
+
+    private int getTextureUnit() {
+        return Math.min(integers[ACTIVE_TEXTURE] - GL.GL_TEXTURE0, TEXTURE_UNITS - 1);
+    }
+}
@@ -0,0 +1,30 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+
+/*
+ * The default pool, registries and cache are process-wide while the objects
+ * of every stub are numbered from 1 in the same (null) namespace: each test
+ * gets its own ones.
+ */
+final class TestDefaults {
+
+    static void reset() {
+        FramebufferPool.setDefault(null);
+        GLResources.setDefault(null);
+        ResourceCache.setDefault(null);
+        ShaderRegistry.setDefault(null);
+    }
+
+    /*
+     * Disposes the framebuffers kept by the default pool, then forgets the
+     * defaults.
+     */
+    static void release(GL gl) {
+        FramebufferPool.getDefault().clear(gl);
+        reset();
+    }
+
+    private TestDefaults() {
+    }
+}
@@ -0,0 +1,161 @@
+package org.hihan.joglfx;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3ES3;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class VertexLayoutTest {
+
+    @Test
+    public void theAttributesAreAlignedAndDescribed() {
+        VertexLayout layout = new VertexLayout()
+                .add(0, 3, VertexLayout.Type.HALF_FLOAT)
+                .add(1, 3, VertexLayout.Type.INT_2_10_10_10_REV)
+                .add(2, 3, VertexLayout.Type.UNSIGNED_BYTE_NORMALIZED)
+                .add(3, 2, VertexLayout.Type.FLOAT);
+        assertEquals(24, layout.getStride());
+        assertEquals(11, layout.getFloatCount());
+        int[] offsets = new int[4];
+        for (int i = 0; i < offsets.length; ++i) {
+            offsets[i] = layout.getAttributes().get(i).getOffset();
+        }
+        assertEquals("[0, 8, 12, 16]", Arrays.toString(offsets));
+
+        List<String> calls = new ArrayList<>();
+        StubGL stub = new StubGL() {
+
+            @Override
+            public void glEnableVertexAttribArray(int index) {
+                calls.add("enable " + index);
+            }
+
+            @Override
+            public void glVertexAttribPointer(int index, int size, int type, boolean normalized, int stride, long offset) {
+                calls.add(String.format("%d: %d x 0x%X%s, %d, %d", index, size, type, normalized ? " normalized" : "", stride, offset));
+            }
+        };
+        layout.setup(stub, 100);
+        assertEquals(Arrays.asList(
+                "enable 0",
+                String.format("0: 3 x 0x%X, 24, 100", GL.GL_HALF_FLOAT),
+                "enable 1",
+                // The packed type is always described as 4 components.
+                String.format("1: 4 x 0x%X normalized, 24, 108", GL3ES3.GL_INT_2_10_10_10_REV),
+                "enable 2",
+                String.format("2: 3 x 0x%X normalized, 24, 112", GL.GL_UNSIGNED_BYTE),
+                "enable 3",
+                String.format("3: 2 x 0x%X, 24, 116", GL.GL_FLOAT)), calls);
+    }
+
+    @Test
+    public void halfFloatsOfExactValues() {
+        assertHalf(0x0000, 0f);
+        assertHalf(0x8000, -0f);
+        assertHalf(0x3C00, 1f);
+        assertHalf(0xC000, -2f);
+        assertHalf(0x3555, 1 / 3f);
+        // The largest and smallest normals.
+        assertHalf(0x7BFF, 65504f);
+        assertHalf(0x0400, (float) Math.pow(2, -14));
+    }
+
+    @Test
+    public void halfFloatsAreRoundedToNearestEven() {
+        float ulp = (float) Math.pow(2, -10);
+        assertHalf(0x3C00, 1 + ulp / 2);
+        assertHalf(0x3C02, 1 + 3 * ulp / 2);
+        assertHalf(0x3C01, 1 + ulp / 2 + ulp / 8);
+        assertHalf(0x3C00, 1 + ulp / 2 - ulp / 8);
+        // Carried into the exponent.
+        assertHalf(0x4000, 2 - ulp / 4);
+    }
+
+    @Test
+    public void halfFloatsOfTinyValuesAreSubnormals() {
+        float smallest = (float) Math.pow(2, -24);
+        assertHalf(0x0001, smallest);
+        assertHalf(0x03FF, 0x3FF * smallest);
+        assertHalf(0x8001, -smallest);
+        // Ties to even.
+        assertHalf(0x0000, smallest / 2);
+        assertHalf(0x0002, 3 * smallest / 2);
+        assertHalf(0x0400, 0x3FF * smallest + smallest / 2);
+        assertHalf(0x0001, smallest * 0.75f);
+        assertHalf(0x0000, smallest / 4);
+        assertHalf(0x0000, Float.MIN_VALUE);
+    }
+
+    @Test
+    public void halfFloatsOverflowToInfinity() {
+        assertHalf(0x7BFF, 65519f);
+        // Halfway to 65536, rounded to the even infinity.
+        assertHalf(0x7C00, 65520f);
+        assertHalf(0x7C00, 1e6f);
+        assertHalf(0xFC00, -Float.MAX_VALUE);
+        assertHalf(0x7C00, Float.POSITIVE_INFINITY);
+        assertHalf(0xFC00, Float.NEGATIVE_INFINITY);
+        assertHalf(0x7E00, Float.NaN);
+    }
+
+    @Test
+    public void halfFloatsAreTheNearestOnes() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; ++i) {
+            float value = (float) ((random.nextDouble() * 2 - 1) * Math.pow(2, random.nextInt(40) - 26));
+            short half = VertexLayout.toHalfFloat(value);
+            double error = Math.abs(toDouble(half) - value);
+            // Neither neighbor is closer.
+            assertEquals(0, Math.max(0, error - Math.abs(toDouble((short) (half + 1)) - value)), 0);
+            if ((half & 0x7FFF) != 0) {
+                assertEquals(0, Math.max(0, error - Math.abs(toDouble((short) (half - 1)) - value)), 0);
+            }
+        }
+    }
+
+    @Test
+    public void int2101010RevPacksTheComponents() {
+        assertEquals(0, VertexLayout.toInt2101010Rev(0, 0, 0, 0));
+        assertEquals(511 | 1 << 30, VertexLayout.toInt2101010Rev(1, 0, 0, 1));
+        assertEquals(0x201 << 20, VertexLayout.toInt2101010Rev(0, 0, -1, 0));
+        assertEquals(0x3FF << 10 | 0x3 << 30, VertexLayout.toInt2101010Rev(0, -1 / 511f, 0, -1));
+    }
+
+    @Test
+    public void int2101010RevIsRoundedSymmetrically() {
+        // 255.5 and -255.5.
+        assertEquals(256, VertexLayout.toInt2101010Rev(0.5f, 0, 0, 0));
+        assertEquals(-256 & 0x3FF, VertexLayout.toInt2101010Rev(-0.5f, 0, 0, 0));
+        // 0.5 and -0.5 on 2 bits.
+        assertEquals(1 << 30, VertexLayout.toInt2101010Rev(0, 0, 0, 0.5f));
+        assertEquals(0x3 << 30, VertexLayout.toInt2101010Rev(0, 0, 0, -0.5f));
+    }
+
+    @Test
+    public void int2101010RevClampsTheOverflows() {
+        assertEquals(VertexLayout.toInt2101010Rev(1, -1, 1, -1), VertexLayout.toInt2101010Rev(2, -3, 1e9f, -2));
+        assertEquals(0, VertexLayout.toInt2101010Rev(Float.NaN, 0, 0, 0));
+    }
+
+    private static void assertHalf(int expected, float value) {
+        assertEquals("Half of " + value, String.format("0x%04X", expected), String.format("0x%04X", VertexLayout.toHalfFloat(value) & 0xFFFF));
+    }
+
+    private static double toDouble(short half) {
+        int sign = (half & 0x8000) != 0 ? -1 : 1;
+        int exponent = (half >>> 10) & 0x1F;
+        int mantissa = half & 0x3FF;
+        if (exponent == 0x1F) {
+            return mantissa == 0 ? sign * Double.POSITIVE_INFINITY : Double.NaN;
+        } else if (exponent == 0) {
+            return sign * mantissa * Math.pow(2, -24);
+        } else {
+            return sign * (1 + mantissa / 1024.0) * Math.pow(2, exponent - 15);
+        }
+    }
+}